@@ -62,6 +62,7 @@ moduleInfo {
     version("info.picocli", "4.6.3")
     version("io.github.classgraph", "4.8.65")
     version("io.grpc", helidonVersion)
+    version("io.netty.buffer", nettyVersion)
     version("io.netty.handler", nettyVersion)
     version("io.netty.transport", nettyVersion)
     version("io.netty.transport.classes.epoll", nettyVersion)
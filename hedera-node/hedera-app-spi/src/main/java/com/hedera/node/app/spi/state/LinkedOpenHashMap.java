@@ -0,0 +1,343 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.spi.state;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A minimal map used by {@link ReadableKVStateBase} and {@link WritableKVStateBase} to cache reads and buffer
+ * modifications. A new state instance is created for every savepoint and every child transaction, so these maps are
+ * created, filled with a handful of entries, and dropped all the time. Compared to a {@link java.util.HashMap} or a
+ * {@link java.util.LinkedHashMap}, this map
+ * <ul>
+ *     <li>does not allocate an entry object per mapping, keys and values are stored in arrays,</li>
+ *     <li>does not allocate anything until the first mapping is added,</li>
+ *     <li>takes its arrays from a per-thread pool and returns them to the pool when it is cleared, and</li>
+ *     <li>is cleared in time proportional to the number of mappings, not to the capacity.</li>
+ * </ul>
+ *
+ * <p>The map uses open addressing with linear probing. The index table points into arrays that hold the mappings in
+ * insertion order, so iteration is deterministic. Mappings cannot be removed individually, which the states never
+ * need. Keys must not be {@code null}, values may be {@code null}.
+ *
+ * <p>This class is not thread-safe. Iterators are not fail-fast.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+final class LinkedOpenHashMap<K, V> {
+    /** The capacity of the index table when the first mapping is added. Only storage of this size is pooled. */
+    private static final int INITIAL_CAPACITY = 16;
+    /** The maximum number of storages kept in the pool of a thread */
+    private static final int MAX_POOLED = 256;
+
+    private static final Object[] EMPTY_OBJECTS = new Object[0];
+    private static final int[] EMPTY_INTS = new int[0];
+
+    private static final ThreadLocal<ArrayDeque<Storage>> POOL = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * The arrays backing a map. The index table has a power of two length, it holds for each slot the index of the
+     * mapping plus one, or zero if the slot is free. The other arrays are indexed by the mapping index.
+     */
+    private static final class Storage {
+        private final int[] table;
+        private final Object[] keys;
+        private final Object[] values;
+        private final int[] slots;
+
+        private Storage(final int capacity) {
+            final var maxSize = maxSize(capacity);
+            this.table = new int[capacity];
+            this.keys = new Object[maxSize];
+            this.values = new Object[maxSize];
+            this.slots = new int[maxSize];
+        }
+    }
+
+    /** The storage in use, or {@code null} if nothing was added since the map was created or cleared */
+    @Nullable
+    private Storage storage;
+
+    private int[] table = EMPTY_INTS;
+    private Object[] keys = EMPTY_OBJECTS;
+    private Object[] values = EMPTY_OBJECTS;
+    private int[] slots = EMPTY_INTS;
+    private int size;
+
+    @Nullable
+    private KeySet keySet;
+
+    /**
+     * Gets the number of mappings.
+     *
+     * @return the number of mappings
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the given key is mapped, possibly to {@code null}.
+     *
+     * @param key the key, must not be {@code null}
+     * @return {@code true} if the key is mapped, {@code false} otherwise
+     */
+    boolean containsKey(@NonNull final Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Gets the value mapped to the given key.
+     *
+     * @param key the key, must not be {@code null}
+     * @return the value, or {@code null} if the key is not mapped or mapped to {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    V get(@NonNull final Object key) {
+        final var index = indexOf(key);
+        return index < 0 ? null : (V) values[index];
+    }
+
+    /**
+     * Maps the given key to the given value, replacing a previous mapping but keeping its position in the iteration
+     * order.
+     *
+     * @param key the key, must not be {@code null}
+     * @param value the value, may be {@code null}
+     */
+    void put(@NonNull final K key, @Nullable final V value) {
+        Objects.requireNonNull(key);
+        if (table.length == 0) {
+            acquire();
+        }
+        final var mask = table.length - 1;
+        var slot = spread(key.hashCode()) & mask;
+        while (table[slot] != 0) {
+            final var index = table[slot] - 1;
+            if (key.equals(keys[index])) {
+                values[index] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (size == keys.length) {
+            grow();
+            put(key, value);
+            return;
+        }
+        table[slot] = size + 1;
+        keys[size] = key;
+        values[size] = value;
+        slots[size] = slot;
+        size++;
+    }
+
+    /**
+     * Gets the key of the mapping at the given position in insertion order.
+     *
+     * @param index the position, between {@code 0} and {@link #size()} (exclusive)
+     * @return the key
+     */
+    @SuppressWarnings("unchecked")
+    @NonNull
+    K keyAt(final int index) {
+        Objects.checkIndex(index, size);
+        return (K) keys[index];
+    }
+
+    /**
+     * Gets the value of the mapping at the given position in insertion order.
+     *
+     * @param index the position, between {@code 0} and {@link #size()} (exclusive)
+     * @return the value
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    V valueAt(final int index) {
+        Objects.checkIndex(index, size);
+        return (V) values[index];
+    }
+
+    /**
+     * Removes all mappings, touching only the slots that are in use. If the arrays have their initial size, they are
+     * returned to the pool of the current thread.
+     */
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            table[slots[i]] = 0;
+            keys[i] = null;
+            values[i] = null;
+        }
+        size = 0;
+        if (storage != null && table.length == INITIAL_CAPACITY) {
+            final var pool = POOL.get();
+            if (pool.size() < MAX_POOLED) {
+                pool.push(storage);
+            }
+        }
+        storage = null;
+        table = EMPTY_INTS;
+        keys = EMPTY_OBJECTS;
+        values = EMPTY_OBJECTS;
+        slots = EMPTY_INTS;
+    }
+
+    /**
+     * Gets an unmodifiable, live view of the keys, in insertion order.
+     *
+     * @return the keys
+     */
+    @NonNull
+    Set<K> keySet() {
+        if (keySet == null) {
+            keySet = new KeySet();
+        }
+        return keySet;
+    }
+
+    private int indexOf(@NonNull final Object key) {
+        if (size == 0) {
+            return -1;
+        }
+        final var mask = table.length - 1;
+        var slot = spread(key.hashCode()) & mask;
+        while (table[slot] != 0) {
+            final var index = table[slot] - 1;
+            if (key.equals(keys[index])) {
+                return index;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void acquire() {
+        final var pooled = POOL.get().poll();
+        use(pooled == null ? new Storage(INITIAL_CAPACITY) : pooled);
+    }
+
+    private void grow() {
+        final var grown = new Storage(table.length * 2);
+        final var mask = grown.table.length - 1;
+        for (int i = 0; i < size; i++) {
+            var slot = spread(keys[i].hashCode()) & mask;
+            while (grown.table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            grown.table[slot] = i + 1;
+            grown.slots[i] = slot;
+        }
+        System.arraycopy(keys, 0, grown.keys, 0, size);
+        System.arraycopy(values, 0, grown.values, 0, size);
+        // The old arrays are not pooled, they are still full of references
+        use(grown);
+    }
+
+    private void use(@NonNull final Storage newStorage) {
+        storage = newStorage;
+        table = newStorage.table;
+        keys = newStorage.keys;
+        values = newStorage.values;
+        slots = newStorage.slots;
+    }
+
+    /** The maximum number of mappings for an index table of the given capacity, the load factor is 3/4 */
+    private static int maxSize(final int capacity) {
+        return capacity - (capacity >>> 2);
+    }
+
+    /** Mixes the high bits of a hash code into the low bits that select the slot */
+    private static int spread(final int hashCode) {
+        final var h = hashCode * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /** The unmodifiable view returned by {@link #keySet()} */
+    private final class KeySet extends AbstractSet<K> {
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return o != null && containsKey(o);
+        }
+
+        @NonNull
+        @Override
+        public Iterator<K> iterator() {
+            return new Iterator<>() {
+                private int next;
+
+                @Override
+                public boolean hasNext() {
+                    return next < size;
+                }
+
+                @SuppressWarnings("unchecked")
+                @Override
+                public K next() {
+                    if (next >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    return (K) keys[next++];
+                }
+            };
+        }
+
+        @Override
+        public boolean add(final K k) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean remove(final Object o) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean addAll(@NonNull final Collection<? extends K> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean removeAll(@NonNull final Collection<?> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean retainAll(@NonNull final Collection<?> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -19,6 +19,7 @@ package com.hedera.node.app.spi.state;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.Iterator;
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -68,6 +69,22 @@ public interface ReadableKVState<K, V> {
     @Nullable
     V get(@NonNull K key);
 
+    /**
+     * Loads the value associated with the given key into memory, without returning it, so that a later {@link #get}
+     * does not have to wait for it. This is only a hint, the default implementation does nothing, which is
+     * appropriate for states that are kept in memory anyway. Unlike {@link #get}, the key is not added to
+     * {@link #readKeys()}.
+     *
+     * <p>This method may be called from other threads while the state is being modified. Implementations must not
+     * change the state or anything {@link #get} returns.
+     *
+     * @param key The key. Cannot be null, otherwise an exception is thrown.
+     * @throws NullPointerException if the key is null.
+     */
+    default void warm(@NonNull final K key) {
+        Objects.requireNonNull(key);
+    }
+
     /**
      * Used during migration ONLY. PLEASE DO NOT COME TO RELY ON THIS METHOD! It will be hopelessly
      * slow on large data sets like on disk!
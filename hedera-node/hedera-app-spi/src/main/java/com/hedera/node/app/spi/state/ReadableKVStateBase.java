@@ -23,6 +23,8 @@ import java.util.*;
 /**
  * A base class for implementations of {@link ReadableKVState} and {@link WritableKVState}.
  *
+ * <p>The caches of this class are not thread-safe, an instance must only be used by one thread at a time.
+ *
  * @param <K> The key type
  * @param <V> The value type
  */
@@ -38,9 +40,7 @@ public abstract class ReadableKVStateBase<K, V> implements ReadableKVState<K, V>
      * changed before we got to handle transaction. If the value is "null", this means it was NOT
      * FOUND when we looked it up.
      */
-    private final Map<K, V> readCache = new HashMap<>();
-
-    private final Set<K> unmodifiableReadKeys = Collections.unmodifiableSet(readCache.keySet());
+    private final LinkedOpenHashMap<K, V> readCache = new LinkedOpenHashMap<>();
 
     /**
      * Create a new StateBase.
@@ -79,7 +79,7 @@ public abstract class ReadableKVStateBase<K, V> implements ReadableKVState<K, V>
      */
     @NonNull
     public final Set<K> readKeys() {
-        return unmodifiableReadKeys;
+        return readCache.keySet();
     }
 
     /** {@inheritDoc} */
@@ -28,7 +28,7 @@ import java.util.*;
  */
 public abstract class WritableKVStateBase<K, V> extends ReadableKVStateBase<K, V> implements WritableKVState<K, V> {
     /** A map of all modified values buffered in this mutable state */
-    private final Map<K, V> modifications = new LinkedHashMap<>();
+    private final LinkedOpenHashMap<K, V> modifications = new LinkedOpenHashMap<>();
 
     /**
      * Create a new StateBase.
@@ -45,9 +45,9 @@ public abstract class WritableKVStateBase<K, V> extends ReadableKVStateBase<K, V
      * cast and commit unless you own the instance!
      */
     public final void commit() {
-        for (final var entry : modifications.entrySet()) {
-            final var key = entry.getKey();
-            final var value = entry.getValue();
+        for (int i = 0; i < modifications.size(); i++) {
+            final var key = modifications.keyAt(i);
+            final var value = modifications.valueAt(i);
             if (value == null) {
                 removeFromDataSource(key);
             } else {
@@ -144,9 +144,9 @@ public abstract class WritableKVStateBase<K, V> extends ReadableKVStateBase<K, V
         // Capture the set of keys that have been removed, and the set of keys that have been added.
         final var removedKeys = new HashSet<K>();
         final var maybeAddedKeys = new HashSet<K>();
-        for (final var mod : modifications.entrySet()) {
-            final var key = mod.getKey();
-            final var val = mod.getValue();
+        for (int i = 0; i < modifications.size(); i++) {
+            final var key = modifications.keyAt(i);
+            final var val = modifications.valueAt(i);
             if (val == null) {
                 removedKeys.add(key);
             } else {
@@ -190,9 +190,9 @@ public abstract class WritableKVStateBase<K, V> extends ReadableKVStateBase<K, V
         int numAdditions = 0;
         int numRemovals = 0;
 
-        for (final var mod : modifications.entrySet()) {
-            boolean isPresentInBackingMap = readFromDataSource(mod.getKey()) != null;
-            boolean isRemovedInMod = mod.getValue() == null;
+        for (int i = 0; i < modifications.size(); i++) {
+            boolean isPresentInBackingMap = readFromDataSource(modifications.keyAt(i)) != null;
+            boolean isRemovedInMod = modifications.valueAt(i) == null;
 
             if (isPresentInBackingMap && isRemovedInMod) {
                 numRemovals++;
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.spi.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LinkedOpenHashMapTest {
+
+    /** A key with a constant hash code, so all keys collide */
+    private record CollidingKey(int id) {
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+
+    @Test
+    @DisplayName("A new map is empty")
+    void newMapIsEmpty() {
+        final var map = new LinkedOpenHashMap<String, String>();
+
+        assertThat(map.size()).isZero();
+        assertThat(map.containsKey("a")).isFalse();
+        assertThat(map.get("a")).isNull();
+        assertThat(map.keySet()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Null values are mapped and can be told apart from missing keys")
+    void nullValues() {
+        final var map = new LinkedOpenHashMap<String, String>();
+        map.put("a", null);
+
+        assertThat(map.containsKey("a")).isTrue();
+        assertThat(map.get("a")).isNull();
+        assertThat(map.containsKey("b")).isFalse();
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Replacing a value keeps the insertion order")
+    void replaceKeepsOrder() {
+        final var map = new LinkedOpenHashMap<String, String>();
+        map.put("c", "1");
+        map.put("a", "2");
+        map.put("b", "3");
+        map.put("c", "4");
+
+        assertThat(map.keySet()).containsExactly("c", "a", "b");
+        assertThat(map.valueAt(0)).isEqualTo("4");
+        assertThat(map.get("c")).isEqualTo("4");
+    }
+
+    @Test
+    @DisplayName("The map grows and keeps all mappings in insertion order")
+    void grow() {
+        final var map = new LinkedOpenHashMap<CollidingKey, Integer>();
+        final var expected = new ArrayList<CollidingKey>();
+        for (int i = 0; i < 1000; i++) {
+            final var key = new CollidingKey(i);
+            map.put(key, i);
+            expected.add(key);
+        }
+
+        assertThat(map.size()).isEqualTo(1000);
+        assertThat(map.keySet()).containsExactlyElementsOf(expected);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(map.get(new CollidingKey(i))).isEqualTo(i);
+            assertThat(map.keyAt(i)).isEqualTo(new CollidingKey(i));
+        }
+    }
+
+    @Test
+    @DisplayName("A cleared map is empty and can be used again")
+    void clear() {
+        final var map = new LinkedOpenHashMap<String, String>();
+        map.put("a", "1");
+        map.put("b", "2");
+        final var keys = map.keySet();
+
+        map.clear();
+
+        assertThat(map.size()).isZero();
+        assertThat(map.containsKey("a")).isFalse();
+        assertThat(keys).isEmpty();
+
+        map.put("b", "3");
+        assertThat(map.get("b")).isEqualTo("3");
+        assertThat(map.containsKey("a")).isFalse();
+        assertThat(keys).containsExactly("b");
+    }
+
+    @Test
+    @DisplayName("Maps cleared on the same thread do not share their storage")
+    void pooledStorageIsNotShared() {
+        final var first = new LinkedOpenHashMap<String, String>();
+        final var second = new LinkedOpenHashMap<String, String>();
+        first.put("a", "1");
+        first.clear();
+        second.put("b", "2");
+        first.put("c", "3");
+
+        assertThat(first.keySet()).containsExactly("c");
+        assertThat(second.keySet()).containsExactly("b");
+    }
+
+    @Test
+    @DisplayName("The key set is an unmodifiable set")
+    void keySetIsUnmodifiable() {
+        final var map = new LinkedOpenHashMap<String, String>();
+        map.put("a", "1");
+        final Set<String> keys = map.keySet();
+
+        assertThat(keys).isEqualTo(Set.of("a"));
+        assertThatThrownBy(() -> keys.add("b")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> keys.remove("b")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> keys.removeAll(List.of("a"))).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(keys::clear).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
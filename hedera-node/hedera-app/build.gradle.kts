@@ -109,6 +109,7 @@ jmhModuleInfo {
     requires("com.hedera.node.hapi")
     requires("com.hedera.pbj.runtime")
     requires("com.swirlds.common")
+    requires("io.grpc")
     requires("jmh.core")
 }
 
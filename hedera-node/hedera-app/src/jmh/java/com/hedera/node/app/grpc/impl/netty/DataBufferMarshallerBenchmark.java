@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.grpc.impl.netty;
+
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import io.grpc.HasByteBuffer;
+import io.grpc.KnownLength;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the throughput of turning incoming gRPC messages into the request {@code Bytes} handed to the ingest
+ * workflow, for messages that arrive in a single network buffer (handed over without copying) and messages that arrive
+ * as a plain stream (copied into the per-thread buffer). Run with {@code -prof gc} to compare allocation rates.
+ */
+@State(Scope.Thread)
+@Fork(value = 1, warmups = 1)
+@Threads(4)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DataBufferMarshallerBenchmark {
+    private static final DataBufferMarshaller MARSHALLER = new DataBufferMarshaller();
+
+    @Param({"256", "1024", "6144"})
+    public int messageSize;
+
+    private ByteBuffer networkBuffer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var bytes = new byte[messageSize];
+        new Random(messageSize).nextBytes(bytes);
+        networkBuffer = ByteBuffer.allocateDirect(messageSize);
+        networkBuffer.put(bytes).flip();
+    }
+
+    @Benchmark
+    public void parseNetworkBuffer(final Blackhole blackhole) {
+        ingest(new NetworkBufferStream(networkBuffer.duplicate(), true), blackhole);
+    }
+
+    @Benchmark
+    public void parseCopiedStream(final Blackhole blackhole) {
+        ingest(new NetworkBufferStream(networkBuffer.duplicate(), false), blackhole);
+    }
+
+    /** Does what the gRPC method does with a request before handing it to the ingest workflow */
+    private static void ingest(final InputStream stream, final Blackhole blackhole) {
+        final BufferedData request = MARSHALLER.parse(stream);
+        blackhole.consume(request.getBytes(0, request.length()));
+    }
+
+    /** A stream over a network buffer, similar to the one the gRPC server passes to the marshaller */
+    private static final class NetworkBufferStream extends InputStream implements KnownLength, HasByteBuffer {
+        private final ByteBuffer buffer;
+        private final boolean byteBufferSupported;
+
+        private NetworkBufferStream(final ByteBuffer buffer, final boolean byteBufferSupported) {
+            this.buffer = buffer;
+            this.byteBufferSupported = byteBufferSupported;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? Byte.toUnsignedInt(buffer.get()) : -1;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final int count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public boolean byteBufferSupported() {
+            return byteBufferSupported;
+        }
+
+        @Override
+        public ByteBuffer getByteBuffer() {
+            return buffer.hasRemaining() ? buffer.duplicate() : null;
+        }
+    }
+}
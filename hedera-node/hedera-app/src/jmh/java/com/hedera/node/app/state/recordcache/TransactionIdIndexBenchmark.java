@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.state.recordcache;
+
+import static com.hedera.node.app.spi.HapiUtils.ACCOUNT_ID_COMPARATOR;
+import static com.hedera.node.app.spi.HapiUtils.TIMESTAMP_COMPARATOR;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.Timestamp;
+import com.hedera.hapi.node.base.TransactionID;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the heap that the deduplication cache retains per transaction ID, for the {@link TransactionIdIndex} and
+ * for the {@link ConcurrentSkipListSet} the cache used before. Each iteration fills a new structure with the
+ * transaction IDs of {@code seconds} seconds at {@code tps} transactions per second, spread over {@code payers} payers,
+ * and prints the heap used after a full GC, compared to before, divided by the number of transaction IDs. The time
+ * reported by JMH is the time to fill the structure.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TransactionIdIndexBenchmark {
+    private static final long FIRST_SECOND = 1_700_000_000L;
+
+    public enum Structure {
+        INDEX,
+        SKIP_LIST
+    }
+
+    @Param({"INDEX", "SKIP_LIST"})
+    public Structure structure;
+
+    @Param({"10000"})
+    public int tps;
+
+    @Param({"180"})
+    public int seconds;
+
+    @Param({"10000"})
+    public int payers;
+
+    /** The structure filled by the current iteration, kept until the heap it uses was measured */
+    private Object filled;
+
+    private long usedBefore;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        filled = null;
+        usedBefore = usedAfterGc();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        final long retained = usedAfterGc() - usedBefore;
+        final long count = (long) tps * seconds;
+        System.out.printf(
+                "%n%s retains %d bytes for %d transaction IDs, %.1f bytes per transaction ID%n",
+                structure, retained, count, (double) retained / count);
+        filled = null;
+    }
+
+    @Benchmark
+    public Object fill() {
+        if (structure == Structure.INDEX) {
+            final var index = new TransactionIdIndex<Boolean>(TransactionIdIndex.DEFAULT_BUCKET_COUNT);
+            forEachTransactionId(id -> index.computeIfAbsent(id, ignored -> Boolean.TRUE));
+            filled = index;
+        } else {
+            // The set and comparator DeduplicationCacheImpl used before it was backed by a TransactionIdIndex
+            final var set = new ConcurrentSkipListSet<TransactionID>(
+                    (t1, t2) -> Comparator.comparing(TransactionID::transactionValidStartOrThrow, TIMESTAMP_COMPARATOR)
+                            .thenComparing(TransactionID::accountID, ACCOUNT_ID_COMPARATOR)
+                            .compare(t1, t2));
+            forEachTransactionId(set::add);
+            filled = set;
+        }
+        return filled;
+    }
+
+    /**
+     * Creates new transaction IDs, in the order of their valid start time. Every payer submits transactions evenly
+     * over each second.
+     */
+    private void forEachTransactionId(final Consumer<TransactionID> consumer) {
+        final int nanosBetween = 1_000_000_000 / tps;
+        for (int second = 0; second < seconds; second++) {
+            for (int i = 0; i < tps; i++) {
+                consumer.accept(TransactionID.newBuilder()
+                        .accountID(AccountID.newBuilder().accountNum(1_001L + (i % payers)).build())
+                        .transactionValidStart(Timestamp.newBuilder()
+                                .seconds(FIRST_SECOND + second)
+                                .nanos(i * nanosBetween)
+                                .build())
+                        .build());
+            }
+        }
+    }
+
+    private static long usedAfterGc() {
+        final var runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
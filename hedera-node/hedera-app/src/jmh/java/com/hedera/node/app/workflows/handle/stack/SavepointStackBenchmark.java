@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.handle.stack;
+
+import com.hedera.node.app.spi.fixtures.state.MapWritableKVState;
+import com.hedera.node.app.spi.fixtures.state.MapWritableStates;
+import com.hedera.node.app.spi.state.ReadableStates;
+import com.hedera.node.app.spi.state.WritableStates;
+import com.hedera.node.app.state.HederaState;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures what a handled transaction does with its {@link SavepointStackImpl}: create the stack, open a savepoint
+ * (as a child transaction would), read and modify a few keys, and then either commit or roll back. Run with
+ * {@code -prof gc} to compare the allocation rate per operation.
+ */
+@State(Scope.Thread)
+@Fork(value = 1, warmups = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SavepointStackBenchmark {
+    private static final String SERVICE_NAME = "BenchmarkService";
+    private static final String STATE_KEY = "ACCOUNTS";
+    private static final int STATE_SIZE = 1_000;
+
+    @Param({"2", "8", "32"})
+    public int modifiedKeys;
+
+    private String[] keys;
+    private HederaState state;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var backingStore = new HashMap<String, String>();
+        keys = new String[STATE_SIZE];
+        for (int i = 0; i < STATE_SIZE; i++) {
+            keys[i] = "key" + i;
+            backingStore.put(keys[i], "value" + i);
+        }
+        final var writableStates = MapWritableStates.builder()
+                .state(new MapWritableKVState<>(STATE_KEY, backingStore))
+                .build();
+        state = new HederaState() {
+            @NonNull
+            @Override
+            public ReadableStates createReadableStates(@NonNull final String serviceName) {
+                return writableStates;
+            }
+
+            @NonNull
+            @Override
+            public WritableStates createWritableStates(@NonNull final String serviceName) {
+                return writableStates;
+            }
+        };
+    }
+
+    @Benchmark
+    public void commit(final Blackhole blackhole) {
+        final var stack = new SavepointStackImpl(state);
+        modify(stack, blackhole);
+        stack.createSavepoint();
+        modify(stack, blackhole);
+        stack.commit();
+        // The same values are written back, so the backing store does not change between invocations
+        stack.commitFullStack();
+    }
+
+    @Benchmark
+    public void rollback(final Blackhole blackhole) {
+        final var stack = new SavepointStackImpl(state);
+        modify(stack, blackhole);
+        stack.createSavepoint();
+        modify(stack, blackhole);
+        stack.rollback();
+        stack.rollbackFullStack();
+    }
+
+    private void modify(final SavepointStackImpl stack, final Blackhole blackhole) {
+        final var kvState = stack.createWritableStates(SERVICE_NAME).<String, String>get(STATE_KEY);
+        for (int i = 0; i < modifiedKeys; i++) {
+            final var value = kvState.getForModify(keys[i]);
+            kvState.put(keys[i], value);
+        }
+        blackhole.consume(kvState.modifiedKeys().size());
+    }
+}
@@ -620,7 +620,9 @@ public final class Hedera implements SwirldMain {
     private void onHandleConsensusRound(
             @NonNull final Round round, @NonNull final SwirldDualState dualState, @NonNull final HederaState state) {
         daggerApp.workingStateAccessor().setHederaState(state);
+        daggerApp.statePrefetcher().prefetch(state, round);
         daggerApp.handleWorkflow().handleRound(state, dualState, round);
+        daggerApp.queryResultCache().invalidate();
     }
 
     /*==================================================================================================================
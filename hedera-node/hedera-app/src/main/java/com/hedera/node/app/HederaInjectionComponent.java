@@ -48,9 +48,11 @@ import com.hedera.node.app.throttle.ThrottleManager;
 import com.hedera.node.app.workflows.WorkflowsInjectionModule;
 import com.hedera.node.app.workflows.handle.DualStateUpdateFacility;
 import com.hedera.node.app.workflows.handle.HandleWorkflow;
+import com.hedera.node.app.workflows.handle.StatePrefetcher;
 import com.hedera.node.app.workflows.handle.SystemFileUpdateFacility;
 import com.hedera.node.app.workflows.handle.record.GenesisRecordsConsensusHook;
 import com.hedera.node.app.workflows.prehandle.PreHandleWorkflow;
+import com.hedera.node.app.workflows.query.QueryResultCache;
 import com.hedera.node.config.ConfigProvider;
 import com.swirlds.common.crypto.Cryptography;
 import com.swirlds.common.system.InitTrigger;
@@ -123,6 +125,10 @@ public interface HederaInjectionComponent {
 
     GenesisRecordsConsensusHook genesisRecordsConsensusHook();
 
+    QueryResultCache queryResultCache();
+
+    StatePrefetcher statePrefetcher();
+
     @Component.Builder
     interface Builder {
 
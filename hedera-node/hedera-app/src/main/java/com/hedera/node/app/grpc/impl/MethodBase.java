@@ -120,13 +120,41 @@ public abstract class MethodBase implements ServerCalls.UnaryMethod<BufferedData
                 throw new RuntimeException("More than " + MAX_MESSAGE_SIZE + " received");
             }
 
+            // Copy the request into a Bytes instance, so it stays valid after the request buffer is reused
+            final var requestBytes = requestBuffer.getBytes(0, requestBuffer.length());
+
+            dispatch(requestBytes, responseObserver);
+        } catch (final Exception e) {
+            fail(e, responseObserver);
+        }
+    }
+
+    /**
+     * Called to decide where the method invocation is handled. By default, it is handled right away on the calling
+     * thread. Implementations that hand the request over to another thread must call {@link #respond(Bytes,
+     * StreamObserver)} on that thread. The request is a copy of the received bytes, so it can be passed on as is.
+     *
+     * @param requestBytes The {@link Bytes} containing the protobuf bytes for the request
+     * @param responseObserver The {@link StreamObserver} to send the response to
+     */
+    protected void dispatch(
+            @NonNull final Bytes requestBytes, @NonNull final StreamObserver<BufferedData> responseObserver) {
+        respond(requestBytes, responseObserver);
+    }
+
+    /**
+     * Handles the method invocation on the current thread and sends the response to the client.
+     *
+     * @param requestBytes The {@link Bytes} containing the protobuf bytes for the request
+     * @param responseObserver The {@link StreamObserver} to send the response to
+     */
+    protected final void respond(
+            @NonNull final Bytes requestBytes, @NonNull final StreamObserver<BufferedData> responseObserver) {
+        try {
             // Prepare the response buffer
             final var responseBuffer = BUFFER_THREAD_LOCAL.get();
             responseBuffer.reset();
 
-            // Convert the request BufferedData to a Bytes instance without copying the bytes
-            final var requestBytes = requestBuffer.getBytes(0, requestBuffer.length());
-
             // Call the workflow
             handle(requestBytes, responseBuffer);
 
@@ -139,13 +167,17 @@ public abstract class MethodBase implements ServerCalls.UnaryMethod<BufferedData
             callsHandledCounter.increment();
             callsHandledSpeedometer.cycle();
         } catch (final Exception e) {
-            // Track the number of times we failed to handle a call
-            logger.error("Failed to handle call! Unexpected exception", e);
-            callsFailedCounter.increment();
-            responseObserver.onError(e);
+            fail(e, responseObserver);
         }
     }
 
+    private void fail(@NonNull final Exception e, @NonNull final StreamObserver<BufferedData> responseObserver) {
+        // Track the number of times we failed to handle a call
+        logger.error("Failed to handle call! Unexpected exception", e);
+        callsFailedCounter.increment();
+        responseObserver.onError(e);
+    }
+
     /**
      * Called to handle the method invocation. Implementations should <b>only</b> throw a {@link RuntimeException}
      * if a gRPC <b>ERROR</b> is to be returned.
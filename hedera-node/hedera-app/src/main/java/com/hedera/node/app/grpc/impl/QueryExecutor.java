@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2022-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.grpc.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.node.config.data.GrpcConfig;
+import com.swirlds.common.metrics.Counter;
+import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.common.metrics.HistogramMetric;
+import com.swirlds.common.metrics.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded pool of threads that answers queries, so that slow queries (e.g. queries that read accounts or NFTs from
+ * disk) do not block the gRPC transport threads, which also receive transactions.
+ *
+ * <p>The number of waiting queries is bounded. A query that does not fit is rejected right away, instead of waiting
+ * for a thread while the client times out. Each {@link QueryMethod} additionally limits the number of its own queries
+ * in this executor to {@link #maxConcurrentPerType()}, so that a spike of a single expensive query type cannot occupy
+ * all threads.
+ *
+ * <p>The threads are daemon threads that terminate when idle, so the executor never has to be shut down.
+ *
+ * <p>This class is thread-safe.
+ */
+public final class QueryExecutor {
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    private static final HistogramMetric.Config QUEUE_TIME_CONFIG = new HistogramMetric.Config("app", "queryQueueTime")
+            .withDescription("time a query waited for a query thread")
+            .withUnit("ns");
+    private static final HistogramMetric.Config EXECUTION_TIME_CONFIG = new HistogramMetric.Config(
+                    "app", "queryExecutionTime")
+            .withDescription("time a query thread spent answering a query")
+            .withUnit("ns");
+    private static final Counter.Config REJECTED_CONFIG = new Counter.Config("app", "queryRejected")
+            .withDescription("number of queries rejected because too many queries were waiting");
+
+    private final ThreadPoolExecutor executor;
+    private final int maxConcurrentPerType;
+    private final HistogramMetric queueTime;
+    private final HistogramMetric executionTime;
+    private final Counter rejectedCounter;
+
+    /**
+     * Create a new instance.
+     *
+     * @param config the {@link GrpcConfig} with the size of the pool and its limits
+     * @param metrics used to create the metrics of the pool
+     * @throws NullPointerException if one of the arguments is {@code null}
+     */
+    public QueryExecutor(@NonNull final GrpcConfig config, @NonNull final Metrics metrics) {
+        requireNonNull(config);
+        requireNonNull(metrics);
+        this.maxConcurrentPerType = config.queryMaxConcurrentPerType();
+
+        final var threadCount = new AtomicInteger();
+        final ThreadFactory threadFactory = runnable -> {
+            final var thread = new Thread(runnable, "query-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.executor = new ThreadPoolExecutor(
+                config.queryThreads(),
+                config.queryThreads(),
+                KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(config.queryMaxQueued()),
+                threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+
+        this.queueTime = metrics.getOrCreate(QUEUE_TIME_CONFIG);
+        this.executionTime = metrics.getOrCreate(EXECUTION_TIME_CONFIG);
+        this.rejectedCounter = metrics.getOrCreate(REJECTED_CONFIG);
+        metrics.getOrCreate(new FunctionGauge.Config<>(
+                        "app", "queryQueueSize", Integer.class, () -> executor.getQueue().size())
+                .withDescription("number of queries waiting for a query thread"));
+    }
+
+    /**
+     * Get the maximum number of queries of a single type that may wait for a thread or be answered at the same time.
+     *
+     * @return the maximum number of queries of a single type
+     */
+    public int maxConcurrentPerType() {
+        return maxConcurrentPerType;
+    }
+
+    /**
+     * Answer a query on one of the query threads.
+     *
+     * @param task the task that answers the query and sends the response
+     * @return {@code true} if the task was accepted, {@code false} if too many queries are waiting already
+     * @throws NullPointerException if {@code task} is {@code null}
+     */
+    public boolean execute(@NonNull final Runnable task) {
+        requireNonNull(task);
+        final long submitted = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                final long started = System.nanoTime();
+                queueTime.update(started - submitted);
+                try {
+                    task.run();
+                } finally {
+                    executionTime.update(System.nanoTime() - started);
+                }
+            });
+            return true;
+        } catch (final RejectedExecutionException e) {
+            rejectedCounter.increment();
+            return false;
+        }
+    }
+}
@@ -26,6 +26,10 @@ import com.swirlds.common.metrics.Counter;
 import com.swirlds.common.metrics.Metrics;
 import com.swirlds.common.metrics.SpeedometerMetric;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Handles gRPC duties for processing {@link Query} gRPC calls. A single instance of this class is
@@ -51,6 +55,13 @@ public final class QueryMethod extends MethodBase {
     /** A metric for the calls per second that queries were answered */
     private final SpeedometerMetric queriesAnsweredSpeedometer;
 
+    /** The executor that answers the queries, or {@code null} if they are answered on the gRPC threads */
+    @Nullable
+    private final QueryExecutor executor;
+
+    /** The number of queries of this method that were handed to the executor and have not been answered yet */
+    private final AtomicInteger pendingQueries = new AtomicInteger();
+
     /**
      * Create a new QueryMethod.
      *
@@ -63,13 +74,67 @@ public final class QueryMethod extends MethodBase {
             @NonNull final String methodName,
             @NonNull final QueryWorkflow workflow,
             @NonNull final Metrics metrics) {
+        this(serviceName, methodName, workflow, metrics, null);
+    }
+
+    /**
+     * Create a new QueryMethod that answers queries with the given executor.
+     *
+     * @param serviceName a non-null reference to the service name
+     * @param methodName a non-null reference to the method name
+     * @param workflow a non-null {@link QueryWorkflow}
+     * @param executor the {@link QueryExecutor} to answer queries with, or {@code null} to answer them on the calling
+     *     thread
+     */
+    public QueryMethod(
+            @NonNull final String serviceName,
+            @NonNull final String methodName,
+            @NonNull final QueryWorkflow workflow,
+            @NonNull final Metrics metrics,
+            @Nullable final QueryExecutor executor) {
         super(serviceName, methodName, metrics);
         this.workflow = requireNonNull(workflow);
+        this.executor = executor;
         this.queriesAnsweredCounter = counter(metrics, COUNTER_ANSWERED_NAME_TPL, COUNTER_ANSWERED_DESC_TPL);
         this.queriesAnsweredSpeedometer =
                 speedometer(metrics, SPEEDOMETER_ANSWERED_NAME_TPL, SPEEDOMETER_ANSWERED_DESC_TPL);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void dispatch(
+            @NonNull final Bytes requestBytes, @NonNull final StreamObserver<BufferedData> responseObserver) {
+        if (executor == null) {
+            respond(requestBytes, responseObserver);
+            return;
+        }
+
+        // Limit the queries of this type, so a spike of expensive queries cannot occupy all query threads
+        if (pendingQueries.incrementAndGet() > executor.maxConcurrentPerType()) {
+            pendingQueries.decrementAndGet();
+            reject(responseObserver);
+            return;
+        }
+
+        final var accepted = executor.execute(() -> {
+            try {
+                respond(requestBytes, responseObserver);
+            } finally {
+                pendingQueries.decrementAndGet();
+            }
+        });
+        if (!accepted) {
+            pendingQueries.decrementAndGet();
+            reject(responseObserver);
+        }
+    }
+
+    private void reject(@NonNull final StreamObserver<BufferedData> responseObserver) {
+        responseObserver.onError(Status.RESOURCE_EXHAUSTED
+                .withDescription("Too many queries of type " + methodName)
+                .asRuntimeException());
+    }
+
     /** {@inheritDoc} */
     @Override
     protected void handle(@NonNull final Bytes requestBuffer, @NonNull final BufferedData responseBuffer) {
@@ -21,13 +21,25 @@ import static java.util.Objects.requireNonNull;
 import com.hedera.node.app.Hedera;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.grpc.HasByteBuffer;
+import io.grpc.KnownLength;
 import io.grpc.MethodDescriptor;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 
 /**
  * A thread-safe implementation of a gRPC marshaller which does nothing but pass through byte arrays as {@link
  * BufferedData}s. A single implementation of this class is designed to be used by multiple threads,
  * including by multiple app instances within a single JVM!
+ *
+ * <p>When the gRPC server hands over a message that is held in a single network buffer, the returned
+ * {@link BufferedData} wraps that buffer directly instead of copying it. The network buffer is released when
+ * {@link io.grpc.ServerCall.Listener#onMessage(Object)} returns, which is fine because the request is handled
+ * synchronously within that callback, and the request buffer was never valid beyond it anyway: the per-thread buffer
+ * used for all other messages is overwritten by the next request on the same thread.
  */
 /*@ThreadSafe*/
 final class DataBufferMarshaller implements MethodDescriptor.Marshaller<BufferedData> {
@@ -67,6 +79,12 @@ final class DataBufferMarshaller implements MethodDescriptor.Marshaller<Buffered
         // of the Google protobuf implementation.
         requireNonNull(stream);
 
+        // Hand the network buffer over without copying, if the message is in a single buffer
+        final var networkBuffer = singleNetworkBuffer(stream);
+        if (networkBuffer != null) {
+            return BufferedData.wrap(networkBuffer);
+        }
+
         // Each thread has a single buffer instance that gets reused over and over.
         final var buffer = BUFFER_THREAD_LOCAL.get();
         buffer.reset();
@@ -85,4 +103,34 @@ final class DataBufferMarshaller implements MethodDescriptor.Marshaller<Buffered
         buffer.flip();
         return buffer;
     }
+
+    /**
+     * Get the buffer that holds the whole message, if the stream exposes its buffers and the message is held in a
+     * single buffer that is not too big.
+     *
+     * @param stream the stream of the message
+     * @return the buffer that holds the message, or {@code null} if the message has to be copied
+     */
+    @Nullable
+    private static ByteBuffer singleNetworkBuffer(@NonNull final InputStream stream) {
+        if (!(stream instanceof KnownLength)
+                || !(stream instanceof HasByteBuffer hasByteBuffer)
+                || !hasByteBuffer.byteBufferSupported()) {
+            return null;
+        }
+        try {
+            final int length = stream.available();
+            if (length > MAX_MESSAGE_SIZE) {
+                return null;
+            }
+            // The position and limit of the returned buffer may be changed, but not its content
+            final var buffer = hasByteBuffer.getByteBuffer();
+            if (buffer == null) {
+                return length == 0 ? ByteBuffer.allocate(0) : null;
+            }
+            return buffer.remaining() == length ? buffer : null;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -21,6 +21,7 @@ import static java.util.Objects.requireNonNull;
 import com.hedera.hapi.node.base.Transaction;
 import com.hedera.hapi.node.transaction.Query;
 import com.hedera.node.app.grpc.impl.MethodBase;
+import com.hedera.node.app.grpc.impl.QueryExecutor;
 import com.hedera.node.app.grpc.impl.QueryMethod;
 import com.hedera.node.app.grpc.impl.TransactionMethod;
 import com.hedera.node.app.workflows.ingest.IngestWorkflow;
@@ -28,6 +29,7 @@ import com.hedera.node.app.workflows.query.QueryWorkflow;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.swirlds.common.metrics.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import io.grpc.Metadata;
 import io.grpc.MethodDescriptor;
 import io.grpc.MethodDescriptor.MethodType;
@@ -88,6 +90,14 @@ final class GrpcServiceBuilder {
      */
     private final QueryWorkflow queryWorkflow;
 
+    /**
+     * The {@link QueryExecutor} that answers queries, or {@code null} if queries are answered on the gRPC threads.
+     *
+     * <p>This instance is set in the constructor and shared by all query handlers defined on this service builder.
+     */
+    @Nullable
+    private final QueryExecutor queryExecutor;
+
     /**
      * The set of transaction method names that need corresponding service method definitions generated.
      *
@@ -117,6 +127,25 @@ final class GrpcServiceBuilder {
             @NonNull final String serviceName,
             @NonNull final IngestWorkflow ingestWorkflow,
             @NonNull final QueryWorkflow queryWorkflow) {
+        this(serviceName, ingestWorkflow, queryWorkflow, null);
+    }
+
+    /**
+     * Creates a new builder whose query methods answer queries with the given {@link QueryExecutor}.
+     *
+     * @param serviceName The name of the service. Cannot be null or blank.
+     * @param ingestWorkflow The workflow to use for handling all transaction ingestion API calls
+     * @param queryWorkflow The workflow to use for handling all queries
+     * @param queryExecutor The executor to answer queries with, or null to answer them on the gRPC threads
+     * @throws NullPointerException if any of the non-nullable parameters are null
+     * @throws IllegalArgumentException if the serviceName is blank
+     */
+    public GrpcServiceBuilder(
+            @NonNull final String serviceName,
+            @NonNull final IngestWorkflow ingestWorkflow,
+            @NonNull final QueryWorkflow queryWorkflow,
+            @Nullable final QueryExecutor queryExecutor) {
+        this.queryExecutor = queryExecutor;
         this.ingestWorkflow = requireNonNull(ingestWorkflow);
         this.queryWorkflow = requireNonNull(queryWorkflow);
         this.serviceName = requireNonNull(serviceName);
@@ -177,7 +206,7 @@ final class GrpcServiceBuilder {
         });
         queryMethodNames.forEach(methodName -> {
             logger.debug("Registering gRPC query method {}.{}", serviceName, methodName);
-            final var method = new QueryMethod(serviceName, methodName, queryWorkflow, metrics);
+            final var method = new QueryMethod(serviceName, methodName, queryWorkflow, metrics, queryExecutor);
             addMethod(builder, serviceName, methodName, method);
         });
         return builder.build();
@@ -21,12 +21,14 @@ import static java.util.Objects.requireNonNull;
 
 import com.hedera.hapi.node.base.Transaction;
 import com.hedera.node.app.grpc.GrpcServerManager;
+import com.hedera.node.app.grpc.impl.QueryExecutor;
 import com.hedera.node.app.services.ServicesRegistry;
 import com.hedera.node.app.workflows.ingest.IngestWorkflow;
 import com.hedera.node.app.workflows.query.QueryWorkflow;
 import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.data.GrpcConfig;
 import com.hedera.node.config.data.NettyConfig;
+import com.swirlds.common.metrics.FunctionGauge;
 import com.swirlds.common.metrics.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -35,6 +37,8 @@ import io.grpc.ServerServiceDefinition;
 import io.grpc.ServiceDescriptor;
 import io.grpc.netty.GrpcSslContexts;
 import io.grpc.netty.NettyServerBuilder;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollServerSocketChannel;
 import io.netty.handler.ssl.SslContextBuilder;
@@ -68,6 +72,12 @@ public final class NettyGrpcServerManager implements GrpcServerManager {
     /** The supported protocols for TLS */
     private static final List<String> SUPPORTED_PROTOCOLS = List.of("TLSv1.2", "TLSv1.3");
 
+    /**
+     * The allocator shared by both servers. Pooled direct buffers are reused across connections instead of being
+     * allocated per message, and since the servers share the allocator, its metrics cover all gRPC traffic.
+     */
+    private final PooledByteBufAllocator allocator = new PooledByteBufAllocator(true);
+
     /** The set of {@link ServiceDescriptor}s for services that the gRPC server will expose */
     private final Set<ServerServiceDefinition> services;
     /** The configuration provider, so we can figure out ports and other information. */
@@ -98,12 +108,28 @@ public final class NettyGrpcServerManager implements GrpcServerManager {
         requireNonNull(queryWorkflow);
         requireNonNull(metrics);
 
+        final var allocatorMetric = allocator.metric();
+        metrics.getOrCreate(new FunctionGauge.Config<>(
+                        "app", "nettyDirectMemoryUsed", Long.class, allocatorMetric::usedDirectMemory)
+                .withDescription("bytes of direct memory held by the gRPC buffer pool"));
+        metrics.getOrCreate(new FunctionGauge.Config<>(
+                        "app", "nettyDirectMemoryPinned", Long.class, allocator::pinnedDirectMemory)
+                .withDescription("bytes of direct memory in use by gRPC buffers that have not been released"));
+        metrics.getOrCreate(new FunctionGauge.Config<>(
+                        "app", "nettyHeapMemoryUsed", Long.class, allocatorMetric::usedHeapMemory)
+                .withDescription("bytes of heap memory held by the gRPC buffer pool"));
+
+        // Queries are answered on the gRPC threads, unless a dedicated pool of query threads is enabled
+        final var grpcConfig = configProvider.getConfiguration().getConfigData(GrpcConfig.class);
+        final var queryExecutor = grpcConfig.queryExecutionEnabled() ? new QueryExecutor(grpcConfig, metrics) : null;
+
         // Convert the various RPC service definitions into transaction or query endpoints using the GrpcServiceBuilder.
         services = servicesRegistry.registrations().stream()
                 .map(ServicesRegistry.Registration::service)
                 .flatMap(s -> s.rpcDefinitions().stream())
                 .map(d -> {
-                    final var builder = new GrpcServiceBuilder(d.basePath(), ingestWorkflow, queryWorkflow);
+                    final var builder =
+                            new GrpcServiceBuilder(d.basePath(), ingestWorkflow, queryWorkflow, queryExecutor);
                     d.methods().forEach(m -> {
                         if (Transaction.class.equals(m.requestType())) {
                             builder.transaction(m.path());
@@ -266,6 +292,8 @@ public final class NettyGrpcServerManager implements GrpcServerManager {
                     .maxConcurrentCallsPerConnection(config.prodMaxConcurrentCalls())
                     .flowControlWindow(config.prodFlowControlWindow())
                     .directExecutor()
+                    .withOption(ChannelOption.ALLOCATOR, allocator)
+                    .withChildOption(ChannelOption.ALLOCATOR, allocator)
                     .channelType(EpollServerSocketChannel.class)
                     .bossEventLoopGroup(new EpollEventLoopGroup())
                     .workerEventLoopGroup(new EpollEventLoopGroup());
@@ -282,7 +310,9 @@ public final class NettyGrpcServerManager implements GrpcServerManager {
                     .maxConnectionIdle(config.prodMaxConnectionIdle(), TimeUnit.SECONDS)
                     .maxConcurrentCallsPerConnection(config.prodMaxConcurrentCalls())
                     .flowControlWindow(config.prodFlowControlWindow())
-                    .directExecutor();
+                    .directExecutor()
+                    .withOption(ChannelOption.ALLOCATOR, allocator)
+                    .withChildOption(ChannelOption.ALLOCATOR, allocator);
         } catch (final Exception unexpected) {
             logger.info("Unexpected exception initializing Netty", unexpected);
         }
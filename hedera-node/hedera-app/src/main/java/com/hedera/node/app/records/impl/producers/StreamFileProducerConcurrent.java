@@ -46,6 +46,10 @@ import org.apache.logging.log4j.Logger;
  * the handle transaction thread, so they are single threaded and executed in the correct order. The information
  * provided by calls to the public methods are then processed into files by the background threads. All async task are
  * done with {@link CompletableFuture}s.
+ *
+ * <p>Closing a block, which writes the footer, waits for the file hash and writes the signature file, is a background
+ * task of its own. Creating the file for the next block and writing its items does not wait for it, only the closes of
+ * consecutive blocks are ordered.
  */
 @Singleton
 public final class StreamFileProducerConcurrent implements BlockRecordStreamProducer {
@@ -75,6 +79,8 @@ public final class StreamFileProducerConcurrent implements BlockRecordStreamProd
      * being written
      */
     private CompletableFuture<BlockRecordWriter> currentRecordFileWriter = null;
+    /** Future for closing the writer of the previous block, completes when its signature file has been written */
+    private CompletableFuture<Void> lastRecordFileWriterClose = completedFuture(null);
     /** Set in {@link #switchBlocks(long, long, Instant)}, keeps track of the current block number. */
     private long currentBlockNumber;
 
@@ -153,25 +159,20 @@ public final class StreamFileProducerConcurrent implements BlockRecordStreamProd
         this.currentBlockNumber = newBlockNumber;
         requireNonNull(newBlockFirstTransactionConsensusTime);
 
-        if (currentRecordFileWriter == null) {
-            // We are at the start of a new block and there is no old one to close or wait for. So just create a new one
-            // which creates a new file and writes initializes it in the background
-            currentRecordFileWriter = lastRecordHashingResult.thenApply(lastRunningHash ->
-                    createBlockRecordWriter(lastRunningHash, newBlockFirstTransactionConsensusTime, newBlockNumber));
-        } else {
-            // wait for all background threads to finish, then in new background task finish the current block
-            currentRecordFileWriter = currentRecordFileWriter
-                    .thenCombine(lastRecordHashingResult, TwoResults::new)
-                    .thenApplyAsync(
-                            twoResults -> {
-                                final var writer = twoResults.a();
-                                final var lastRunningHash = twoResults.b();
-                                closeWriter(writer, lastRunningHash);
-                                return createBlockRecordWriter(
-                                        lastRunningHash, newBlockFirstTransactionConsensusTime, newBlockNumber);
-                            },
-                            executorService);
+        if (currentRecordFileWriter != null) {
+            // when all items are written and the running hash is computed, finish the current block in a background
+            // task, after the block before it has been finished. Nothing waits for this until close().
+            final var blockToClose = currentRecordFileWriter.thenCombine(lastRecordHashingResult, TwoResults::new);
+            lastRecordFileWriterClose = lastRecordFileWriterClose
+                    .exceptionally(e -> null)
+                    .thenCombine(blockToClose, (previousClose, twoResults) -> twoResults)
+                    .thenAcceptAsync(twoResults -> closeWriter(twoResults.a(), twoResults.b()), executorService);
         }
+        // create the writer for the new block, which creates a new file and initializes it in the background
+        currentRecordFileWriter = lastRecordHashingResult.thenApplyAsync(
+                lastRunningHash ->
+                        createBlockRecordWriter(lastRunningHash, newBlockFirstTransactionConsensusTime, newBlockNumber),
+                executorService);
     }
 
     /**
@@ -227,7 +228,10 @@ public final class StreamFileProducerConcurrent implements BlockRecordStreamProd
     @Override
     public void close() {
         if (currentRecordFileWriter != null) {
-            CompletableFuture.allOf(currentRecordFileWriter, lastRecordHashingResult)
+            CompletableFuture.allOf(
+                            currentRecordFileWriter,
+                            lastRecordHashingResult,
+                            lastRecordFileWriterClose.exceptionally(e -> null))
                     .thenAccept(aVoid -> {
                         final var writer = currentRecordFileWriter.join();
                         final var lastRunningHash = lastRecordHashingResult.join();
@@ -240,6 +244,7 @@ public final class StreamFileProducerConcurrent implements BlockRecordStreamProd
             lastRecordHashingResultNMinus2 = null;
             lastRecordHashingResultNMinus3 = null;
             currentRecordFileWriter = null;
+            lastRecordFileWriterClose = completedFuture(null);
         }
     }
 
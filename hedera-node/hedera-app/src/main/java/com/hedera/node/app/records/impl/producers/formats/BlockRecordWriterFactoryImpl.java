@@ -18,6 +18,7 @@ package com.hedera.node.app.records.impl.producers.formats;
 
 import static java.util.Objects.requireNonNull;
 
+import com.hedera.node.app.annotations.CommonExecutor;
 import com.hedera.node.app.records.impl.producers.BlockRecordWriter;
 import com.hedera.node.app.records.impl.producers.BlockRecordWriterFactory;
 import com.hedera.node.app.records.impl.producers.formats.v6.BlockRecordWriterV6;
@@ -27,6 +28,7 @@ import com.hedera.node.config.data.BlockRecordStreamConfig;
 import com.swirlds.common.stream.Signer;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.nio.file.FileSystem;
+import java.util.concurrent.ExecutorService;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -36,23 +38,28 @@ public class BlockRecordWriterFactoryImpl implements BlockRecordWriterFactory {
     private final Signer signer;
     private final SelfNodeInfo nodeInfo;
     private final FileSystem fileSystem;
+    /** The executor that compresses record and sidecar files, shared by all writers */
+    private final ExecutorService fileWriterExecutor;
 
     /**
      *
      * @param configProvider
      * @param fileSystem the file system to use, needed for testing to be able to use a non-standard file
      *                   system. If null default is used.
+     * @param fileWriterExecutor the executor used to compress record and sidecar files
      */
     @Inject
     public BlockRecordWriterFactoryImpl(
             @NonNull final ConfigProvider configProvider,
             @NonNull final SelfNodeInfo nodeInfo,
             @NonNull final Signer signer,
-            @NonNull final FileSystem fileSystem) {
+            @NonNull final FileSystem fileSystem,
+            @CommonExecutor @NonNull final ExecutorService fileWriterExecutor) {
         this.configProvider = requireNonNull(configProvider);
         this.fileSystem = requireNonNull(fileSystem);
         this.nodeInfo = requireNonNull(nodeInfo);
         this.signer = requireNonNull(signer);
+        this.fileWriterExecutor = requireNonNull(fileWriterExecutor);
     }
 
     @Override
@@ -68,7 +75,8 @@ public class BlockRecordWriterFactoryImpl implements BlockRecordWriterFactory {
                     configProvider.getConfiguration().getConfigData(BlockRecordStreamConfig.class),
                     nodeInfo,
                     signer,
-                    fileSystem);
+                    fileSystem,
+                    fileWriterExecutor);
             case 7 -> throw new IllegalArgumentException("Record file version 7 is not yet supported");
             default -> throw new IllegalArgumentException("Unknown record file version: " + recordFileVersion);
         };
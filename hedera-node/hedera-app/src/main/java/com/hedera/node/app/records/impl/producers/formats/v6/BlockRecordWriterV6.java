@@ -45,6 +45,7 @@ import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.hedera.pbj.runtime.io.stream.WritableStreamingData;
 import com.swirlds.common.crypto.DigestType;
 import com.swirlds.common.crypto.HashingOutputStream;
+import com.swirlds.common.io.streams.DoubleBufferedOutputStream;
 import com.swirlds.common.stream.Signer;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.BufferedOutputStream;
@@ -60,7 +61,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.zip.GZIPOutputStream;
+import java.util.concurrent.Executor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -68,7 +69,9 @@ import org.apache.logging.log4j.Logger;
  * An incremental file-based {@link BlockRecordWriter} that writes a single {@link RecordStreamItem} at a time. It also
  * writes to sidecars if needed, and when closed, creates and writes a signature file.
  *
- * <p>All methods are expected to be called on a single thread other than those specified.
+ * <p>All methods are expected to be called on a single thread other than those specified. Compression of record and
+ * sidecar files is done on the {@link Executor} given to the constructor, and each file is written to disk by a
+ * {@link DoubleBufferedOutputStream}, so that the calling thread only serializes items and hashes the file contents.
  */
 public final class BlockRecordWriterV6 implements BlockRecordWriter {
     private static final Logger logger = LogManager.getLogger(BlockRecordWriterV6.class);
@@ -77,6 +80,8 @@ public final class BlockRecordWriterV6 implements BlockRecordWriter {
     public static final String RECORD_EXTENSION = "rcd";
     /** The suffix added to RECORD_EXTENSION when they are compressed as per the v6 specification */
     public static final String COMPRESSION_ALGORITHM_EXTENSION = ".gz";
+    /** The size of each of the two buffers of the {@link DoubleBufferedOutputStream} of a record or sidecar file */
+    static final int FILE_BUFFER_SIZE = 256 * 1024;
 
     private enum State {
         UNINITIALIZED,
@@ -86,6 +91,8 @@ public final class BlockRecordWriterV6 implements BlockRecordWriter {
 
     /** The {@link Signer} used to sign the hashed bytes of the record file to write as the signature file */
     private final Signer signer;
+    /** The executor used to compress the record file and sidecar files */
+    private final Executor fileWriterExecutor;
     /** The maximum size of a sidecar file in bytes. */
     private final int maxSideCarSizeInBytes;
     /** Whether to compress the record file and sidecar files. */
@@ -131,10 +138,10 @@ public final class BlockRecordWriterV6 implements BlockRecordWriter {
     private SidecarWriterV6 sidecarFileWriter;
     /** The path to the record file we are writing */
     private Path recordFilePath;
-    /** The file output stream we are writing to, which writes to {@link #recordFilePath} */
+    /** The double buffered output stream we are writing to, which writes to {@link #recordFilePath} */
     private OutputStream fileOutputStream;
-    /** The gzip output stream we are writing to, wraps {@link #fileOutputStream} */
-    private GZIPOutputStream gzipOutputStream = null;
+    /** The parallel gzip output stream we are writing to, wraps {@link #fileOutputStream} */
+    private ParallelGzipOutputStream gzipOutputStream = null;
     /** HashingOutputStream for hashing the file contents, wraps {@link #gzipOutputStream} or {@link #fileOutputStream} */
     private HashingOutputStream hashingOutputStream;
     /** The buffered output stream we are writing to, wraps {@link #hashingOutputStream} */
@@ -153,12 +160,14 @@ public final class BlockRecordWriterV6 implements BlockRecordWriter {
      *                 where the file will be written.
      * @param signer The signer to use to sign the file bytes to produce the signature file
      * @param fileSystem The file system to use to write the file
+     * @param fileWriterExecutor The executor used to compress the record file and sidecar files
      */
     public BlockRecordWriterV6(
             @NonNull final BlockRecordStreamConfig config,
             @NonNull final NodeInfo nodeInfo,
             @NonNull final Signer signer,
-            @NonNull final FileSystem fileSystem) {
+            @NonNull final FileSystem fileSystem,
+            @NonNull final Executor fileWriterExecutor) {
 
         if (config.recordFileVersion() != 6) {
             logger.fatal(
@@ -176,6 +185,7 @@ public final class BlockRecordWriterV6 implements BlockRecordWriter {
 
         this.state = State.UNINITIALIZED;
         this.signer = requireNonNull(signer);
+        this.fileWriterExecutor = requireNonNull(fileWriterExecutor);
         this.compressFiles = config.compressFilesOnCreation();
         this.maxSideCarSizeInBytes = config.sidecarMaxSizeMb() * 1024 * 1024;
 
@@ -221,9 +231,10 @@ public final class BlockRecordWriterV6 implements BlockRecordWriter {
         // need to close all these streams individually, which means we have to maintain references to them.
         this.recordFilePath = getRecordFilePath(startConsensusTime);
         try {
-            fileOutputStream = Files.newOutputStream(recordFilePath);
+            fileOutputStream =
+                    new DoubleBufferedOutputStream(Files.newOutputStream(recordFilePath), FILE_BUFFER_SIZE);
             if (compressFiles) {
-                gzipOutputStream = new GZIPOutputStream(fileOutputStream);
+                gzipOutputStream = new ParallelGzipOutputStream(fileOutputStream, fileWriterExecutor);
                 hashingOutputStream = new HashingOutputStream(createWholeFileMessageDigest(), gzipOutputStream);
             } else {
                 hashingOutputStream = new HashingOutputStream(createWholeFileMessageDigest(), fileOutputStream);
@@ -403,7 +414,8 @@ public final class BlockRecordWriterV6 implements BlockRecordWriter {
 
     @NonNull
     private SidecarWriterV6 createSidecarFileWriter(final int id) throws IOException {
-        return new SidecarWriterV6(getSidecarFilePath(id), compressFiles, maxSideCarSizeInBytes, id);
+        return new SidecarWriterV6(
+                getSidecarFilePath(id), compressFiles, maxSideCarSizeInBytes, id, fileWriterExecutor);
     }
 
     private void closeSidecarFileWriter() {
@@ -0,0 +1,256 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.records.impl.producers.formats.v6;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * An {@link OutputStream} that writes a standard gzip stream, like {@link GZIPOutputStream}, but compresses fixed-size
+ * blocks of the input in parallel on an {@link Executor}.
+ *
+ * <p>Each block is compressed by its own raw {@link Deflater}, primed with the last 32 KiB of the previous block as
+ * dictionary so the compression ratio is close to that of a single deflater. Every block but the last ends with a
+ * sync flush, which byte-aligns the output without ending the deflate stream, so the compressed blocks can simply be
+ * concatenated. The compressed blocks are written to the underlying stream in order by the thread calling the write
+ * methods, at most {@link #MAX_BLOCKS_IN_FLIGHT} blocks are compressed at the same time. The CRC-32 of the gzip
+ * trailer is computed on the calling thread as the data is written.
+ *
+ * <p>This class is not thread-safe, all methods are expected to be called on a single thread.
+ */
+final class ParallelGzipOutputStream extends OutputStream {
+    /** The number of uncompressed bytes in a block */
+    static final int BLOCK_SIZE = 128 * 1024;
+    /** The maximum number of blocks that are compressed at the same time */
+    static final int MAX_BLOCKS_IN_FLIGHT = 8;
+    /** The size of the deflate window, the amount of the previous block used as dictionary */
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+    /**
+     * The gzip header, the same bytes {@link GZIPOutputStream} writes: magic number, deflate, no flags, no modification
+     * time and no extra flags. It is taken from {@link GZIPOutputStream} itself because the OS byte that it writes
+     * depends on the Java version, 0 before Java 16 and 255 (unknown) since.
+     */
+    private static final byte[] HEADER = gzipHeader();
+
+    /** The stream the compressed data is written to */
+    private final OutputStream out;
+    /** The executor that compresses the blocks */
+    private final Executor executor;
+    /** The blocks that are being compressed, in the order they have to be written */
+    private final ArrayDeque<CompletableFuture<byte[]>> blocksInFlight = new ArrayDeque<>();
+    /** The CRC-32 of all uncompressed bytes written so far */
+    private final CRC32 crc = new CRC32();
+    /** The block that is being filled */
+    private byte[] block = new byte[BLOCK_SIZE];
+    /** The number of bytes in {@link #block} */
+    private int blockLength;
+    /** The previous block, its tail is the dictionary for the next block. {@code null} before the first block */
+    private byte[] previousBlock;
+    /** The total number of uncompressed bytes written so far */
+    private long totalLength;
+    /** Whether this stream has been closed */
+    private boolean closed;
+
+    /**
+     * Creates a new {@link ParallelGzipOutputStream} and writes the gzip header.
+     *
+     * @param out the stream to write the compressed data to
+     * @param executor the executor to compress blocks on
+     * @throws IOException if the header could not be written
+     */
+    ParallelGzipOutputStream(@NonNull final OutputStream out, @NonNull final Executor executor) throws IOException {
+        this.out = requireNonNull(out);
+        this.executor = requireNonNull(executor);
+        out.write(HEADER);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void write(final int b) throws IOException {
+        ensureOpen();
+        block[blockLength++] = (byte) b;
+        crc.update(b);
+        totalLength++;
+        if (blockLength == BLOCK_SIZE) {
+            submitBlock(false);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void write(@NonNull final byte[] b, final int off, final int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        ensureOpen();
+        crc.update(b, off, len);
+        totalLength += len;
+        int offset = off;
+        int remaining = len;
+        while (remaining > 0) {
+            final int chunk = Math.min(remaining, BLOCK_SIZE - blockLength);
+            System.arraycopy(b, offset, block, blockLength, chunk);
+            blockLength += chunk;
+            offset += chunk;
+            remaining -= chunk;
+            if (blockLength == BLOCK_SIZE) {
+                submitBlock(false);
+            }
+        }
+    }
+
+    /**
+     * Writes all blocks that have been handed off for compression to the underlying stream and flushes it. Like
+     * {@link java.util.zip.GZIPOutputStream} without sync flush, the bytes of the current block are not compressed
+     * until the block is full or the stream is closed.
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        while (!blocksInFlight.isEmpty()) {
+            writeNextBlock();
+        }
+        out.flush();
+    }
+
+    /**
+     * Compresses the last block, writes the gzip trailer and closes the underlying stream.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try (out) {
+            submitBlock(true);
+            while (!blocksInFlight.isEmpty()) {
+                writeNextBlock();
+            }
+            writeIntLittleEndian((int) crc.getValue());
+            writeIntLittleEndian((int) totalLength);
+            out.flush();
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    /**
+     * Hands the current block off for compression and starts a new one. Blocks that are already compressed are
+     * written, and if too many blocks are in flight, waits for the oldest one.
+     */
+    private void submitBlock(final boolean last) throws IOException {
+        final byte[] input = block;
+        final int length = blockLength;
+        final byte[] dictionary = previousBlock;
+        blocksInFlight.add(CompletableFuture.supplyAsync(() -> deflate(input, length, dictionary, last), executor));
+        previousBlock = input;
+        block = new byte[BLOCK_SIZE];
+        blockLength = 0;
+
+        while (!blocksInFlight.isEmpty()
+                && (blocksInFlight.size() > MAX_BLOCKS_IN_FLIGHT || blocksInFlight.peek().isDone())) {
+            writeNextBlock();
+        }
+    }
+
+    private void writeNextBlock() throws IOException {
+        try {
+            out.write(blocksInFlight.remove().get());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while compressing block");
+        } catch (final ExecutionException e) {
+            throw new IOException("Failed to compress block", e.getCause());
+        }
+    }
+
+    @NonNull
+    private static byte[] gzipHeader() {
+        final ByteArrayOutputStream empty = new ByteArrayOutputStream();
+        try {
+            new GZIPOutputStream(empty).close();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Arrays.copyOf(empty.toByteArray(), 10);
+    }
+
+    private void writeIntLittleEndian(final int value) throws IOException {
+        out.write(value);
+        out.write(value >>> 8);
+        out.write(value >>> 16);
+        out.write(value >>> 24);
+    }
+
+    /**
+     * Compresses a single block into a piece of a raw deflate stream.
+     *
+     * @param input the uncompressed block, which must not be modified anymore
+     * @param length the number of bytes in the block
+     * @param dictionary the previous (full) block, or {@code null} if this is the first block
+     * @param last whether this is the last block, which finishes the deflate stream
+     * @return the compressed bytes
+     */
+    @NonNull
+    static byte[] deflate(
+            @NonNull final byte[] input, final int length, @Nullable final byte[] dictionary, final boolean last) {
+        final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary, dictionary.length - DICTIONARY_SIZE, DICTIONARY_SIZE);
+            }
+            deflater.setInput(input, 0, length);
+            final ByteArrayOutputStream result = new ByteArrayOutputStream(length / 2 + 64);
+            final byte[] buffer = new byte[16 * 1024];
+            if (last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    result.write(buffer, 0, deflater.deflate(buffer));
+                }
+            } else {
+                // Per the Deflater documentation, a sync flush is complete when the buffer is not filled entirely
+                int count;
+                do {
+                    count = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                    result.write(buffer, 0, count);
+                } while (count == buffer.length);
+            }
+            return result.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+}
@@ -25,8 +25,8 @@ import com.hedera.hapi.streams.TransactionSidecarRecord;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.hedera.pbj.runtime.io.stream.WritableStreamingData;
 import com.swirlds.common.crypto.HashingOutputStream;
+import com.swirlds.common.io.streams.DoubleBufferedOutputStream;
 import edu.umd.cs.findbugs.annotations.NonNull;
-import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
@@ -35,7 +35,7 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.EnumSet;
 import java.util.List;
-import java.util.zip.GZIPOutputStream;
+import java.util.concurrent.Executor;
 
 /**
  * An incremental sidecar file writer that writes a single {@link TransactionSidecarRecord} at a time. It also maintains
@@ -64,9 +64,16 @@ final class SidecarWriterV6 implements AutoCloseable {
      * @param file path to the file to write
      * @param compressFile true if the file should be gzip compressed
      * @param maxSideCarSizeInBytes the maximum size of a sidecar file in bytes before compression
+     * @param id the id of this sidecar file within its block
+     * @param fileWriterExecutor the executor used to compress the file
      * @throws IOException If there was a problem creating the file
      */
-    SidecarWriterV6(@NonNull final Path file, final boolean compressFile, final int maxSideCarSizeInBytes, final int id)
+    SidecarWriterV6(
+            @NonNull final Path file,
+            final boolean compressFile,
+            final int maxSideCarSizeInBytes,
+            final int id,
+            @NonNull final Executor fileWriterExecutor)
             throws IOException {
         this.id = id;
         this.maxSideCarSizeInBytes = maxSideCarSizeInBytes;
@@ -82,9 +89,9 @@ final class SidecarWriterV6 implements AutoCloseable {
         // create streams
         OutputStream fout = Files.newOutputStream(file);
         hashingOutputStream = new HashingOutputStream(wholeFileDigest, fout);
-        BufferedOutputStream bout = new BufferedOutputStream(fout);
+        OutputStream bout = new DoubleBufferedOutputStream(fout, BlockRecordWriterV6.FILE_BUFFER_SIZE);
         if (compressFile) {
-            GZIPOutputStream gout = new GZIPOutputStream(bout);
+            OutputStream gout = new ParallelGzipOutputStream(bout, fileWriterExecutor);
             outputStream = new WritableStreamingData(gout);
         } else {
             outputStream = new WritableStreamingData(bout);
@@ -29,6 +29,9 @@ import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.crypto.Cryptography;
 import com.swirlds.common.crypto.SignatureType;
 import com.swirlds.common.crypto.TransactionSignature;
+import com.swirlds.common.crypto.VerificationCache;
+import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.common.metrics.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -44,15 +47,42 @@ import javax.inject.Singleton;
 @Singleton
 public final class SignatureVerifierImpl implements SignatureVerifier {
 
+    private static final String METRIC_CATEGORY = "app";
+
     /** The {@link Cryptography} engine to use for signature verification. */
     private final Cryptography cryptoEngine;
 
     /** Create a new instance with the given {@link Cryptography} engine. */
-    @Inject
     public SignatureVerifierImpl(@NonNull final Cryptography cryptoEngine) {
         this.cryptoEngine = requireNonNull(cryptoEngine);
     }
 
+    /**
+     * Create a new instance with the given {@link Cryptography} engine, and export the hit rate of its verification
+     * cache (if it has one) as metrics.
+     *
+     * @param cryptoEngine the engine used for signature verification
+     * @param metrics the metrics system used to report the cache hit rate
+     */
+    @Inject
+    public SignatureVerifierImpl(@NonNull final Cryptography cryptoEngine, @NonNull final Metrics metrics) {
+        this(cryptoEngine);
+        requireNonNull(metrics);
+        final VerificationCache cache = cryptoEngine.getVerificationCache();
+        if (cache != null) {
+            metrics.getOrCreate(new FunctionGauge.Config<>(
+                            METRIC_CATEGORY, "sigVerificationCacheHits", Long.class, cache::getHitCount)
+                    .withDescription("number of signatures found in the verification cache"));
+            metrics.getOrCreate(new FunctionGauge.Config<>(
+                            METRIC_CATEGORY, "sigVerificationCacheMisses", Long.class, cache::getMissCount)
+                    .withDescription("number of signatures not found in the verification cache"));
+            metrics.getOrCreate(new FunctionGauge.Config<>(
+                            METRIC_CATEGORY, "sigVerificationCacheHitRatio", Double.class, cache::getHitRatio)
+                    .withDescription("fraction of signature lookups found in the verification cache")
+                    .withFormat("%.3f"));
+        }
+    }
+
     @NonNull
     @Override
     public Map<Key, SignatureVerificationFuture> verify(
@@ -65,6 +65,19 @@ public final class OnDiskReadableKVState<K, V> extends ReadableKVStateBase<K, V>
         return value;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>{@link VirtualMap#warm} only looks the leaf up in the node cache and, if it is not there, in the data source.
+     * It never adds the leaf to the cache. Both lookups may run concurrently with modifications of the map, so this
+     * method is safe to call while the handle thread is modifying the mutable copy.
+     */
+    @Override
+    public void warm(@NonNull final K key) {
+        Objects.requireNonNull(key);
+        virtualMap.warm(new OnDiskKey<>(md, key));
+    }
+
     /** {@inheritDoc} */
     @NonNull
     @Override
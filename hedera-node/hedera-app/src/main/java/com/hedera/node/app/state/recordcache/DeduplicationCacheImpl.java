@@ -16,8 +16,6 @@
 
 package com.hedera.node.app.state.recordcache;
 
-import static com.hedera.node.app.spi.HapiUtils.ACCOUNT_ID_COMPARATOR;
-import static com.hedera.node.app.spi.HapiUtils.TIMESTAMP_COMPARATOR;
 import static com.hedera.node.app.spi.HapiUtils.asTimestamp;
 import static com.hedera.node.app.spi.HapiUtils.minus;
 import static java.util.Objects.requireNonNull;
@@ -28,9 +26,6 @@ import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.data.HederaConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.time.Instant;
-import java.util.Comparator;
-import java.util.Set;
-import java.util.concurrent.ConcurrentSkipListSet;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -38,13 +33,12 @@ import javax.inject.Singleton;
 @Singleton
 public final class DeduplicationCacheImpl implements DeduplicationCache {
     /**
-     * The {@link TransactionID}s that this node has already submitted to the platform, sorted by transaction start
-     * time, such that earlier start times come first. We guard this data structure within a synchronized block.
+     * The {@link TransactionID}s that this node has already submitted to the platform, bucketed by the second of their
+     * transaction start time, such that all transactions of an expired second are dropped at once. Only the keys are
+     * used, every value is {@link Boolean#TRUE}.
      */
-    private final Set<TransactionID> submittedTxns = new ConcurrentSkipListSet<>(
-            (t1, t2) -> Comparator.comparing(TransactionID::transactionValidStartOrThrow, TIMESTAMP_COMPARATOR)
-                    .thenComparing(TransactionID::accountID, ACCOUNT_ID_COMPARATOR)
-                    .compare(t1, t2));
+    private final TransactionIdIndex<Boolean> submittedTxns =
+            new TransactionIdIndex<>(TransactionIdIndex.DEFAULT_BUCKET_COUNT);
 
     /** Used for looking up the max transaction duration window. */
     private final ConfigProvider configProvider;
@@ -62,11 +56,11 @@ public final class DeduplicationCacheImpl implements DeduplicationCache {
         // Remember that at this point we have passed through all the throttles, so this method is only called
         // at most 10,000 / (Number of nodes) times per second, which is not a lot.
         final var epochSeconds = earliestEpicSecond();
-        removeTransactionsOlderThan(epochSeconds);
+        submittedTxns.expireBefore(epochSeconds);
 
         // If the transaction is within the max transaction duration window, then add it to the set.
         if (transactionID.transactionValidStartOrThrow().seconds() >= epochSeconds) {
-            submittedTxns.add(transactionID);
+            submittedTxns.computeIfAbsent(transactionID, ignored -> Boolean.TRUE);
         }
     }
 
@@ -75,9 +69,8 @@ public final class DeduplicationCacheImpl implements DeduplicationCache {
     public boolean contains(@NonNull final TransactionID transactionID) {
         // We will prune the set here as well. By pruning before looking up, we are sure that we only return true
         // if the transactionID is still valid
-        final var epochSeconds = earliestEpicSecond();
-        removeTransactionsOlderThan(epochSeconds);
-        return submittedTxns.contains(transactionID);
+        submittedTxns.expireBefore(earliestEpicSecond());
+        return submittedTxns.get(transactionID) != null;
     }
 
     /** {@inheritDoc} */
@@ -97,22 +90,4 @@ public final class DeduplicationCacheImpl implements DeduplicationCache {
         final var earliestValidState = minus(now, config.transactionMaxValidDuration());
         return earliestValidState.seconds();
     }
-
-    /**
-     * Removes all expired {@link TransactionID}s from the cache. This method is not threadsafe and should only be
-     * called from within a block synchronized on {@link #submittedTxns}.
-     *
-     * @param earliestEpochSecond The earliest epoch second that should be kept in the cache.
-     */
-    private void removeTransactionsOlderThan(final long earliestEpochSecond) {
-        final var itr = submittedTxns.iterator();
-        while (itr.hasNext()) {
-            final var txId = itr.next();
-            if (txId.transactionValidStartOrThrow().seconds() < earliestEpochSecond) {
-                itr.remove();
-            } else {
-                return;
-            }
-        }
-    }
 }
@@ -41,11 +41,12 @@ import com.hedera.node.config.data.LedgerConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -61,7 +62,8 @@ import javax.inject.Singleton;
  *
  * <p>However, storing them in a queue of this nature does not provide efficient access to the data itself. For this
  * reason, in-memory data structures are used to provide efficient access to the data. These data structures are rebuilt
- * after reconnect or restart, and kept in sync with the data in state.
+ * after reconnect or restart, and kept in sync with the data in state. The histories are kept in a
+ * {@link TransactionIdIndex}, which drops all histories of a valid start second at once when they expire.
  *
  * <p>Mutation methods must be called during startup, reconnect, or on the "handle" thread. Getters may be called from
  * any thread.
@@ -69,15 +71,67 @@ import javax.inject.Singleton;
 @Singleton
 public class RecordCacheImpl implements HederaRecordCache {
     /**
-     * An item stored in the {@link #histories} cache. These histories are stored in a map keyed by transaction ID.
-     *
-     * @param nodeIds The IDs of every node that submitted a transaction with the txId that came to consensus and was
-     *                handled.
-     * @param records Every {@link TransactionRecord} handled for every transaction that came to consensus with the txId
+     * An item stored in the {@link #histories} cache. These histories are stored in an index keyed by transaction ID.
+     * Almost all transaction IDs come to consensus once, so a history starts out sized for a single node and record.
      */
-    private record History(@NonNull Set<Long> nodeIds, @NonNull List<TransactionRecord> records) {
-        History() {
-            this(new HashSet<>(), new ArrayList<>());
+    private static final class History {
+        /** The transaction ID of all records of this history */
+        private final TransactionID transactionId;
+        /**
+         * The IDs of every node that submitted a transaction with the txId that came to consensus and was handled. Only
+         * the first {@link #nodeCount} entries are used.
+         */
+        private long[] nodeIds = new long[1];
+        /** The number of used entries in {@link #nodeIds} */
+        private int nodeCount;
+        /** Every {@link TransactionRecord} handled for every transaction that came to consensus with the txId */
+        private final List<TransactionRecord> records = new ArrayList<>(1);
+        /** The payer of the first record, this history is in the {@link #payerToTransactionIndex} of every payer */
+        private AccountID payer;
+        /** The payers of later records that differ from {@link #payer}, or {@code null} if there are none */
+        private List<AccountID> otherPayers;
+
+        private History(@NonNull final TransactionID transactionId) {
+            this.transactionId = transactionId;
+        }
+
+        private boolean hasNode(final long nodeId) {
+            for (int i = 0; i < nodeCount; i++) {
+                if (nodeIds[i] == nodeId) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Adds the payer of a record.
+         *
+         * @return {@code true} if the payer was not known yet, {@code false} otherwise
+         */
+        private boolean addPayer(@NonNull final AccountID payerAccountId) {
+            if (payer == null) {
+                payer = payerAccountId;
+                return true;
+            }
+            if (payer.equals(payerAccountId) || (otherPayers != null && otherPayers.contains(payerAccountId))) {
+                return false;
+            }
+            if (otherPayers == null) {
+                otherPayers = new ArrayList<>(1);
+            }
+            otherPayers.add(payerAccountId);
+            return true;
+        }
+
+        private void addNode(final long nodeId) {
+            if (hasNode(nodeId)) {
+                return;
+            }
+            if (nodeCount == nodeIds.length) {
+                nodeIds = Arrays.copyOf(nodeIds, nodeCount * 2);
+            }
+            nodeIds[nodeCount++] = nodeId;
         }
     }
 
@@ -88,16 +142,16 @@ public class RecordCacheImpl implements HederaRecordCache {
     /** Used for answering queries about receipts to include those that have not been handled but are known */
     private final DeduplicationCache deduplicationCache;
     /**
-     * A map of transaction IDs to the histories of all transactions that came to consensus with that ID. This data
+     * An index of transaction IDs to the histories of all transactions that came to consensus with that ID. This data
      * structure is rebuilt during reconnect or restart.
      */
-    private final Map<TransactionID, History> histories;
+    private final TransactionIdIndex<History> histories;
     /**
-     * A secondary index that maps from an AccountID of the payer account to a set of transaction IDs that were
-     * submitted by this payer. This is only needed for answering such queries. Ideally such queries would exist on the
-     * mirror node instead.
+     * A secondary index that maps from an AccountID of the payer account to the histories of the transactions that
+     * were submitted by this payer, in consensus order. A history is added once for every payer of one of its records.
+     * This is only needed for answering such queries. Ideally such queries would exist on the mirror node instead.
      */
-    private final Map<AccountID, Set<TransactionID>> payerToTransactionIndex = new ConcurrentHashMap<>();
+    private final Map<AccountID, Deque<History>> payerToTransactionIndex = new ConcurrentHashMap<>();
 
     @Inject
     public RecordCacheImpl(
@@ -107,7 +161,7 @@ public class RecordCacheImpl implements HederaRecordCache {
         this.deduplicationCache = requireNonNull(deduplicationCache);
         this.workingStateAccessor = requireNonNull(workingStateAccessor);
         this.configProvider = requireNonNull(configProvider);
-        this.histories = new ConcurrentHashMap<>();
+        this.histories = new TransactionIdIndex<>(TransactionIdIndex.DEFAULT_BUCKET_COUNT);
 
         rebuild();
     }
@@ -144,11 +198,11 @@ public class RecordCacheImpl implements HederaRecordCache {
         requireNonNull(payerAccountId);
         requireNonNull(transactionRecord);
         requireNonNull(consensusTimestamp);
-        addToInMemoryCache(nodeId, payerAccountId, transactionRecord);
 
         final var queue = getQueue();
         removeExpiredTransactions(queue, consensusTimestamp);
         queue.add(new TransactionRecordEntry(nodeId, payerAccountId, transactionRecord));
+        addToInMemoryCache(nodeId, payerAccountId, transactionRecord);
     }
 
     @NonNull
@@ -159,7 +213,7 @@ public class RecordCacheImpl implements HederaRecordCache {
             return DuplicateCheckResult.NO_DUPLICATE;
         }
 
-        return history.nodeIds().contains(nodeId) ? DuplicateCheckResult.SAME_NODE : DuplicateCheckResult.OTHER_NODE;
+        return history.hasNode(nodeId) ? DuplicateCheckResult.SAME_NODE : DuplicateCheckResult.OTHER_NODE;
     }
 
     /**
@@ -175,16 +229,20 @@ public class RecordCacheImpl implements HederaRecordCache {
             @NonNull final TransactionRecord transactionRecord) {
         // Add to the main histories cache
         final var txId = transactionRecord.transactionIDOrThrow();
-        final var cacheItem = histories.computeIfAbsent(txId, ignored -> new History());
-        cacheItem.nodeIds().add(nodeId);
-        cacheItem.records().add(transactionRecord);
-        // Add to the payer to transaction index
-        final var transactionIDs = payerToTransactionIndex.computeIfAbsent(payerAccountId, ignored -> new HashSet<>());
-        transactionIDs.add(txId);
+        final var cacheItem = histories.computeIfAbsent(txId, History::new);
+        cacheItem.addNode(nodeId);
+        cacheItem.records.add(transactionRecord);
+        // Add the history to the payer to transaction index, unless it is already there for this payer
+        if (cacheItem.addPayer(payerAccountId)) {
+            payerToTransactionIndex
+                    .computeIfAbsent(payerAccountId, ignored -> new ConcurrentLinkedDeque<>())
+                    .addLast(cacheItem);
+        }
     }
 
     /**
-     * Removes all expired {@link TransactionID}s from the cache.
+     * Removes all expired {@link TransactionID}s from the cache. The queue in state is pruned entry by entry, while the
+     * histories are dropped for every valid start second that is entirely before the max transaction duration window.
      */
     private void removeExpiredTransactions(
             @NonNull final WritableQueueState<TransactionRecordEntry> queue,
@@ -203,20 +261,28 @@ public class RecordCacheImpl implements HederaRecordCache {
             final var txId = rec.transactionIDOrThrow();
             // If the timestamp is before the current time, then it has expired
             if (isBefore(txId.transactionValidStartOrThrow(), earliestValidState)) {
-                // Remove from the histories
+                // Remove from the queue
                 itr.remove();
-                // Remove from the payer to transaction index
-                final var payerAccountId = txId.accountIDOrThrow(); // NOTE: Not accurate if the payer was the node
-                final var transactionIDs =
-                        payerToTransactionIndex.computeIfAbsent(payerAccountId, ignored -> new HashSet<>());
-                transactionIDs.remove(txId);
-                if (transactionIDs.isEmpty()) {
-                    payerToTransactionIndex.remove(payerAccountId);
+                // Remove from the payer to transaction index. A history is added for the first entry of each of its
+                // payers, in consensus order, so it is at the head of the payer's histories when that entry expires.
+                final var payerAccountId = entry.payerAccountIdOrThrow();
+                final var payerHistories = payerToTransactionIndex.get(payerAccountId);
+                if (payerHistories != null) {
+                    final var oldest = payerHistories.peekFirst();
+                    if (oldest != null && oldest.transactionId.equals(txId)) {
+                        payerHistories.pollFirst();
+                    }
+                    if (payerHistories.isEmpty()) {
+                        payerToTransactionIndex.remove(payerAccountId);
+                    }
                 }
             } else {
-                return;
+                break;
             }
         }
+
+        // Drop the histories of all seconds that have expired entirely
+        histories.expireBefore(earliestValidState.seconds());
     }
 
     // ---------------------------------------------------------------------------------------------------------------
@@ -227,14 +293,14 @@ public class RecordCacheImpl implements HederaRecordCache {
     @Override
     public List<TransactionRecord> getRecords(@NonNull final TransactionID transactionID) {
         final var history = histories.get(transactionID);
-        return history == null ? emptyList() : history.records();
+        return history == null ? emptyList() : history.records;
     }
 
     @NonNull
     @Override
     public List<TransactionRecord> getRecords(@NonNull final AccountID accountID) {
-        final var transactionIDs = payerToTransactionIndex.get(accountID);
-        if (transactionIDs == null) {
+        final var payerHistories = payerToTransactionIndex.get(accountID);
+        if (payerHistories == null) {
             return emptyList();
         }
 
@@ -247,14 +313,11 @@ public class RecordCacheImpl implements HederaRecordCache {
 
         // While we still need to gather more records, collect them from the different histories.
         final var records = new ArrayList<TransactionRecord>(maxRemaining);
-        for (final var transactionID : transactionIDs) {
-            final var history = histories.get(transactionID);
-            if (history != null) {
-                final var recs = history.records();
-                records.addAll(recs.size() > maxRemaining ? recs.subList(0, maxRemaining) : recs);
-                maxRemaining -= recs.size();
-                if (maxRemaining <= 0) break;
-            }
+        for (final var history : payerHistories) {
+            final var recs = history.records;
+            records.addAll(recs.size() > maxRemaining ? recs.subList(0, maxRemaining) : recs);
+            maxRemaining -= recs.size();
+            if (maxRemaining <= 0) break;
         }
 
         return records;
@@ -0,0 +1,481 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.state.recordcache;
+
+import static com.hedera.node.app.spi.HapiUtils.TIMESTAMP_COMPARATOR;
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.Timestamp;
+import com.hedera.hapi.node.base.TransactionID;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * A compact map from {@link TransactionID} to a value, for the caches that hold every transaction of the last
+ * {@code maxTxnDuration} seconds.
+ *
+ * <p>Entries are grouped in buckets by the second of their valid start time. The buckets form a ring, the bucket for a
+ * second is found by the second modulo the number of buckets. Each bucket is split into stripes by the hash of the
+ * key, and each stripe is an open-addressing hash table over primitive arrays, keyed on the payer account number, the
+ * shard and realm of the payer, and the nanos, scheduled flag and nonce of the transaction ID. No objects are
+ * allocated per entry, other than the value. Expiring all entries that are older than a given second drops whole
+ * buckets, without looking at their entries.
+ *
+ * <p>Transaction IDs that cannot be packed into primitives, such as those with an alias as payer, transaction IDs
+ * whose bucket is still in use by another second, and transaction IDs that are already expired, are kept in a regular
+ * map. That map is empty in the common case.
+ *
+ * <p>This class is thread-safe. Like in a {@link ConcurrentHashMap}, lookups and insertions only lock the stripe of
+ * their key, so threads working on different keys rarely contend. Only creating the bucket of a new second, expiry,
+ * and clearing lock the whole index, which happens about once per second.
+ */
+final class TransactionIdIndex<V> {
+    /** The default number of buckets, enough for the default {@code maxTxnDuration} both in the past and future */
+    static final int DEFAULT_BUCKET_COUNT = 512;
+    /** Means that no second has been expired yet */
+    private static final long UNUSED = Long.MIN_VALUE;
+    /** The number of bits of the hash that select the stripe of a bucket */
+    private static final int STRIPE_BITS = 4;
+    /** The initial number of entries of a stripe */
+    private static final int INITIAL_CAPACITY = 16;
+    /** The largest nanos value that can be packed, larger values are invalid anyway */
+    private static final int MAX_PACKED_NANOS = (1 << 30) - 1;
+
+    /** The ring of buckets, the bucket for a second is at the second modulo the length, {@code null} if unused */
+    private final AtomicReferenceArray<Bucket<V>> buckets;
+    /** The transaction IDs that are not stored in a bucket */
+    private final Map<TransactionID, V> overflow = new ConcurrentHashMap<>();
+    /** All seconds before this one have been expired, only modified while holding the lock of this index */
+    private volatile long earliestSecond = UNUSED;
+    /** Whether {@link #overflow} may hold transaction IDs that were already expired when they were added */
+    private volatile boolean overflowHasExpired;
+
+    /**
+     * Creates a new, empty {@link TransactionIdIndex}.
+     *
+     * @param bucketCount the number of buckets, which is the number of distinct seconds that can be stored in buckets
+     */
+    TransactionIdIndex(final int bucketCount) {
+        if (bucketCount <= 0) {
+            throw new IllegalArgumentException("bucketCount must be positive");
+        }
+        buckets = new AtomicReferenceArray<>(bucketCount);
+    }
+
+    /**
+     * Gets the value for a transaction ID.
+     *
+     * @param transactionId the transaction ID to look up
+     * @return the value, or {@code null} if there is none
+     */
+    @Nullable
+    V get(@NonNull final TransactionID transactionId) {
+        if (isPackable(transactionId)) {
+            final long second = transactionId.transactionValidStartOrThrow().seconds();
+            final var bucket = buckets.get(slot(second));
+            if (bucket != null && bucket.second == second) {
+                final var payer = transactionId.accountIDOrThrow();
+                final var value =
+                        bucket.get(payer.accountNumOrThrow(), shardRealm(payer), startAndNonce(transactionId));
+                if (value != null) {
+                    return value;
+                }
+            }
+        }
+        return overflow.isEmpty() ? null : overflow.get(transactionId);
+    }
+
+    /**
+     * Gets the value for a transaction ID, and if there is none, creates and stores a new one.
+     *
+     * @param transactionId the transaction ID to look up
+     * @param factory creates the value if there is none, called while holding a lock of this index
+     * @return the existing or new value
+     * @throws NullPointerException if the transaction ID has no valid start time
+     */
+    @NonNull
+    V computeIfAbsent(@NonNull final TransactionID transactionId, @NonNull final Function<TransactionID, V> factory) {
+        if (!overflow.isEmpty()) {
+            // A transaction ID that was added to the overflow while its bucket was busy stays there
+            final var existing = overflow.get(transactionId);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        final long second = transactionId.transactionValidStartOrThrow().seconds();
+        final boolean packable = isPackable(transactionId);
+        if (packable) {
+            final var bucket = buckets.get(slot(second));
+            if (bucket != null && bucket.second == second) {
+                return computeIfAbsent(bucket, transactionId, factory);
+            }
+        }
+        synchronized (this) {
+            // The first transaction ID of a second, or one that goes to the overflow, decides under the lock of this
+            // index, so that a transaction ID never ends up both in a bucket and in the overflow
+            final var existing = overflow.get(transactionId);
+            if (existing != null) {
+                return existing;
+            }
+            final long earliest = earliestSecond;
+            if (packable && second >= earliest) {
+                final int slot = slot(second);
+                final var current = buckets.get(slot);
+                if (current != null && current.second == second) {
+                    return computeIfAbsent(current, transactionId, factory);
+                }
+                if (current == null || current.second < earliest) {
+                    final var created = new Bucket<V>(second);
+                    buckets.set(slot, created);
+                    return computeIfAbsent(created, transactionId, factory);
+                }
+            }
+            // Either the transaction ID cannot be packed, or it is already expired, or its bucket still holds entries
+            // of another second that have not expired
+            final var value = requireNonNull(factory.apply(transactionId));
+            overflow.put(transactionId, value);
+            overflowHasExpired |= second < earliest;
+            return value;
+        }
+    }
+
+    /**
+     * Removes all entries with a valid start time before the given second. Whole buckets are dropped, so entries are
+     * expired with second granularity. Returns right away if there is nothing to expire.
+     *
+     * @param epochSecond the earliest second to keep
+     */
+    void expireBefore(final long epochSecond) {
+        if (epochSecond <= earliestSecond && !overflowHasExpired) {
+            return;
+        }
+        synchronized (this) {
+            final long previous = earliestSecond;
+            final boolean advanced = epochSecond > previous;
+            if (advanced) {
+                final int bucketCount = buckets.length();
+                if (previous != UNUSED && epochSecond - previous < bucketCount) {
+                    // Only the buckets of the seconds that just expired can hold expired entries
+                    for (long second = previous; second < epochSecond; second++) {
+                        dropIfBefore(slot(second), epochSecond);
+                    }
+                } else {
+                    for (int slot = 0; slot < bucketCount; slot++) {
+                        dropIfBefore(slot, epochSecond);
+                    }
+                }
+                earliestSecond = epochSecond;
+            }
+            // Transaction IDs that were already expired when they were added are pruned right away, all others only
+            // once per second
+            if (!overflow.isEmpty() && (advanced || overflowHasExpired)) {
+                overflowHasExpired = false;
+                final long earliest = earliestSecond;
+                overflow.keySet().removeIf(id -> id.transactionValidStartOrThrow().seconds() < earliest);
+            }
+        }
+    }
+
+    /** Removes all entries. */
+    synchronized void clear() {
+        for (int slot = 0; slot < buckets.length(); slot++) {
+            buckets.set(slot, null);
+        }
+        overflow.clear();
+        overflowHasExpired = false;
+        earliestSecond = UNUSED;
+    }
+
+    /**
+     * Gets the number of entries. Entries that are added or removed concurrently may or may not be counted.
+     *
+     * @return the number of entries
+     */
+    int size() {
+        int size = overflow.size();
+        for (int slot = 0; slot < buckets.length(); slot++) {
+            final var bucket = buckets.get(slot);
+            if (bucket != null) {
+                size += bucket.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Gets all transaction IDs, ordered by valid start time. This is meant for testing and debugging, the transaction
+     * IDs stored in buckets are recreated from their primitive keys.
+     *
+     * @return the transaction IDs
+     */
+    @NonNull
+    List<TransactionID> transactionIds() {
+        final var ids = new ArrayList<TransactionID>(size());
+        for (int slot = 0; slot < buckets.length(); slot++) {
+            final var bucket = buckets.get(slot);
+            if (bucket != null) {
+                bucket.collectTransactionIds(ids);
+            }
+        }
+        ids.addAll(overflow.keySet());
+        ids.sort(Comparator.comparing(TransactionID::transactionValidStartOrThrow, TIMESTAMP_COMPARATOR));
+        return ids;
+    }
+
+    private int slot(final long second) {
+        return (int) Math.floorMod(second, (long) buckets.length());
+    }
+
+    @NonNull
+    private static <V> V computeIfAbsent(
+            @NonNull final Bucket<V> bucket,
+            @NonNull final TransactionID transactionId,
+            @NonNull final Function<TransactionID, V> factory) {
+        final var payer = transactionId.accountIDOrThrow();
+        return bucket.computeIfAbsent(
+                payer.accountNumOrThrow(), shardRealm(payer), startAndNonce(transactionId), transactionId, factory);
+    }
+
+    /** Drops the bucket at the given slot if it holds a second before the given one. Needs the lock of this index. */
+    private void dropIfBefore(final int slot, final long epochSecond) {
+        final var bucket = buckets.get(slot);
+        if (bucket != null && bucket.second < epochSecond) {
+            buckets.set(slot, null);
+        }
+    }
+
+    /**
+     * Gets whether a transaction ID can be stored in a bucket. Its payer must be given by account number, its shard
+     * and realm must fit into 31 bits and the nanos of its valid start must be valid.
+     */
+    private static boolean isPackable(@NonNull final TransactionID transactionId) {
+        final AccountID payer = transactionId.accountID();
+        final Timestamp validStart = transactionId.transactionValidStart();
+        return payer != null
+                && payer.hasAccountNum()
+                && (payer.shardNum() >>> 31) == 0
+                && (payer.realmNum() >>> 31) == 0
+                && validStart != null
+                && validStart.nanos() >= 0
+                && validStart.nanos() <= MAX_PACKED_NANOS;
+    }
+
+    private static long shardRealm(@NonNull final AccountID payer) {
+        return payer.shardNum() << 32 | payer.realmNum();
+    }
+
+    /** Packs the nanos of the valid start into the upper 30 bits, the scheduled flag and the nonce into the rest. */
+    private static long startAndNonce(@NonNull final TransactionID transactionId) {
+        final long nanos = transactionId.transactionValidStartOrThrow().nanos();
+        final long scheduled = transactionId.scheduled() ? 1L << 32 : 0L;
+        return nanos << 33 | scheduled | (transactionId.nonce() & 0xFFFFFFFFL);
+    }
+
+    @NonNull
+    private static TransactionID unpack(
+            final long second, final long payer, final long shardRealm, final long startAndNonce) {
+        return TransactionID.newBuilder()
+                .accountID(AccountID.newBuilder()
+                        .shardNum(shardRealm >>> 32)
+                        .realmNum(shardRealm & 0xFFFFFFFFL)
+                        .accountNum(payer)
+                        .build())
+                .transactionValidStart(Timestamp.newBuilder()
+                        .seconds(second)
+                        .nanos((int) (startAndNonce >>> 33))
+                        .build())
+                .scheduled((startAndNonce & (1L << 32)) != 0)
+                .nonce((int) startAndNonce)
+                .build();
+    }
+
+    private static int hash(final long payer, final long shardRealm, final long startAndNonce) {
+        long hash = payer * 0x9E3779B97F4A7C15L;
+        hash = (hash ^ startAndNonce) * 0xC2B2AE3D27D4EB4FL;
+        hash = (hash ^ shardRealm) * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * The entries of one second, split into stripes by the upper bits of the hash of their key. A bucket is never
+     * reused for another second, an expired bucket is replaced by a new one.
+     */
+    private static final class Bucket<V> {
+        /** The second this bucket is used for */
+        private final long second;
+
+        private final Stripe<V>[] stripes;
+
+        @SuppressWarnings("unchecked")
+        private Bucket(final long second) {
+            this.second = second;
+            this.stripes = new Stripe[1 << STRIPE_BITS];
+            for (int i = 0; i < stripes.length; i++) {
+                stripes[i] = new Stripe<>();
+            }
+        }
+
+        @Nullable
+        private V get(final long payer, final long shardRealm, final long startAndNonce) {
+            final int hash = hash(payer, shardRealm, startAndNonce);
+            return stripes[hash >>> (Integer.SIZE - STRIPE_BITS)].get(payer, shardRealm, startAndNonce, hash);
+        }
+
+        @NonNull
+        private V computeIfAbsent(
+                final long payer,
+                final long shardRealm,
+                final long startAndNonce,
+                @NonNull final TransactionID transactionId,
+                @NonNull final Function<TransactionID, V> factory) {
+            final int hash = hash(payer, shardRealm, startAndNonce);
+            return stripes[hash >>> (Integer.SIZE - STRIPE_BITS)].computeIfAbsent(
+                    payer, shardRealm, startAndNonce, hash, transactionId, factory);
+        }
+
+        private int size() {
+            int size = 0;
+            for (final var stripe : stripes) {
+                size += stripe.size();
+            }
+            return size;
+        }
+
+        private void collectTransactionIds(@NonNull final List<TransactionID> ids) {
+            for (final var stripe : stripes) {
+                stripe.collectTransactionIds(second, ids);
+            }
+        }
+    }
+
+    /**
+     * Part of the entries of one second. Keys and values are stored in insertion order in parallel arrays, the hash
+     * table holds the index of an entry plus one, so that zero marks an empty slot. All methods are synchronized.
+     */
+    private static final class Stripe<V> {
+        /** The number of entries */
+        private int size;
+
+        private long[] payers;
+        private long[] shardRealms;
+        private long[] startsAndNonces;
+        private V[] values;
+        /** Open-addressing hash table with linear probing, twice the capacity of the entry arrays */
+        private int[] table;
+
+        @Nullable
+        private synchronized V get(final long payer, final long shardRealm, final long startAndNonce, final int hash) {
+            final int index = indexOf(payer, shardRealm, startAndNonce, hash);
+            return index < 0 ? null : values[index];
+        }
+
+        @NonNull
+        private synchronized V computeIfAbsent(
+                final long payer,
+                final long shardRealm,
+                final long startAndNonce,
+                final int hash,
+                @NonNull final TransactionID transactionId,
+                @NonNull final Function<TransactionID, V> factory) {
+            final int index = indexOf(payer, shardRealm, startAndNonce, hash);
+            if (index >= 0) {
+                return values[index];
+            }
+            final var value = requireNonNull(factory.apply(transactionId));
+            add(payer, shardRealm, startAndNonce, value);
+            return value;
+        }
+
+        private synchronized int size() {
+            return size;
+        }
+
+        private synchronized void collectTransactionIds(final long second, @NonNull final List<TransactionID> ids) {
+            for (int i = 0; i < size; i++) {
+                ids.add(unpack(second, payers[i], shardRealms[i], startsAndNonces[i]));
+            }
+        }
+
+        private int indexOf(final long payer, final long shardRealm, final long startAndNonce, final int hash) {
+            if (table == null) {
+                return -1;
+            }
+            final int mask = table.length - 1;
+            for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+                final int index = table[slot] - 1;
+                if (index < 0) {
+                    return -1;
+                }
+                if (payers[index] == payer
+                        && startsAndNonces[index] == startAndNonce
+                        && shardRealms[index] == shardRealm) {
+                    return index;
+                }
+            }
+        }
+
+        /** Adds an entry, which must not be present yet. */
+        @SuppressWarnings("unchecked")
+        private void add(final long payer, final long shardRealm, final long startAndNonce, @NonNull final V value) {
+            if (table == null) {
+                payers = new long[INITIAL_CAPACITY];
+                shardRealms = new long[INITIAL_CAPACITY];
+                startsAndNonces = new long[INITIAL_CAPACITY];
+                values = (V[]) new Object[INITIAL_CAPACITY];
+                table = new int[INITIAL_CAPACITY * 2];
+            } else if (size == payers.length) {
+                grow();
+            }
+            payers[size] = payer;
+            shardRealms[size] = shardRealm;
+            startsAndNonces[size] = startAndNonce;
+            values[size] = value;
+            size++;
+            insert(size - 1);
+        }
+
+        private void grow() {
+            final int capacity = payers.length * 2;
+            payers = Arrays.copyOf(payers, capacity);
+            shardRealms = Arrays.copyOf(shardRealms, capacity);
+            startsAndNonces = Arrays.copyOf(startsAndNonces, capacity);
+            values = Arrays.copyOf(values, capacity);
+            table = new int[capacity * 2];
+            for (int index = 0; index < size; index++) {
+                insert(index);
+            }
+        }
+
+        private void insert(final int index) {
+            final int mask = table.length - 1;
+            int slot = hash(payers[index], shardRealms[index], startsAndNonces[index]) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = index + 1;
+        }
+    }
+}
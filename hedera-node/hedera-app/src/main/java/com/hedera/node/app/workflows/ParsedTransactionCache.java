@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows;
+
+import static java.util.Objects.requireNonNull;
+
+import com.swirlds.common.metrics.Counter;
+import com.swirlds.common.metrics.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Remembers the {@link TransactionInfo} of transactions this node has parsed, checked and submitted to the platform
+ * during ingest, so that pre-handle on this node does not have to parse the same bytes again when the transaction
+ * comes back in one of this node's events.
+ *
+ * <p>Entries are keyed by the exact bytes submitted to the platform, so a transaction with the same
+ * {@link com.hedera.hapi.node.base.TransactionID} but different bytes (e.g. submitted to another node) never matches.
+ * Each entry is used at most once. Entries of transactions that never come back (which should be very rare) are
+ * dropped when the cache fills up, so the cache never grows beyond {@link #MAX_ENTRIES}.
+ *
+ * <p>This cache is not part of state and only affects performance: parsing and checking the same bytes again would
+ * produce an equal {@link TransactionInfo}.
+ *
+ * <p>This class is a thread-safe singleton.
+ */
+@Singleton
+public class ParsedTransactionCache {
+    /** The maximum number of entries in the cache. */
+    static final int MAX_ENTRIES = 50_000;
+
+    private static final String COUNTER_HITS_NAME = "ParsedTxnCacheHits";
+    private static final String COUNTER_HITS_DESC = "number of txns pre-handled without parsing them again";
+
+    /** The cached transactions, keyed by the bytes submitted to the platform */
+    private final Map<Key, TransactionInfo> cache = new ConcurrentHashMap<>();
+    /** The {@link Counter} used to track the number of transactions that did not have to be parsed again */
+    private final Counter hitCounter;
+
+    /**
+     * Create a new {@link ParsedTransactionCache}
+     *
+     * @param metrics metrics related to workflows
+     * @throws NullPointerException if {@code metrics} is {@code null}
+     */
+    @Inject
+    public ParsedTransactionCache(@NonNull final Metrics metrics) {
+        requireNonNull(metrics);
+        this.hitCounter =
+                metrics.getOrCreate(new Counter.Config("app", COUNTER_HITS_NAME).withDescription(COUNTER_HITS_DESC));
+    }
+
+    /**
+     * Remember a transaction that is about to be submitted to the platform.
+     *
+     * @param txBytes the bytes that are submitted to the platform, must not be modified afterwards
+     * @param txInfo the result of parsing and checking {@code txBytes}
+     * @throws NullPointerException if one of the arguments is {@code null}
+     */
+    public void put(@NonNull final byte[] txBytes, @NonNull final TransactionInfo txInfo) {
+        requireNonNull(txBytes);
+        requireNonNull(txInfo);
+        if (cache.size() >= MAX_ENTRIES) {
+            // Entries normally live only until this node's next event is pre-handled, so the cache can only fill up
+            // with transactions that never came back. Throwing them all away is cheap and simple.
+            cache.clear();
+        }
+        cache.put(new Key(txBytes), txInfo);
+    }
+
+    /**
+     * Remove and return the transaction that was remembered for the given bytes.
+     *
+     * @param txBytes the bytes of the transaction
+     * @return the {@link TransactionInfo} of the transaction, or {@code null} if it is not cached
+     * @throws NullPointerException if {@code txBytes} is {@code null}
+     */
+    @Nullable
+    public TransactionInfo remove(@NonNull final byte[] txBytes) {
+        requireNonNull(txBytes);
+        if (cache.isEmpty()) {
+            // avoid hashing the bytes of transactions that were submitted to other nodes
+            return null;
+        }
+        final var txInfo = cache.remove(new Key(txBytes));
+        if (txInfo != null) {
+            hitCounter.increment();
+        }
+        return txInfo;
+    }
+
+    /**
+     * Forget a transaction that could not be submitted to the platform after all.
+     *
+     * @param txBytes the bytes of the transaction
+     * @throws NullPointerException if {@code txBytes} is {@code null}
+     */
+    public void discard(@NonNull final byte[] txBytes) {
+        requireNonNull(txBytes);
+        cache.remove(new Key(txBytes));
+    }
+
+    /**
+     * Compares transaction bytes by content. The hash code is computed once, since it is needed for both insertion
+     * and lookup.
+     */
+    private static final class Key {
+        private final byte[] bytes;
+        private final int hashCode;
+
+        private Key(@NonNull final byte[] bytes) {
+            this.bytes = bytes;
+            this.hashCode = Arrays.hashCode(bytes);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof Key that && hashCode == that.hashCode && Arrays.equals(bytes, that.bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -93,6 +93,9 @@ public class TransactionChecker {
     private static final String COUNTER_SUPER_DEPRECATED_TXNS_NAME = "SuperDeprTxnsRcv";
     private static final String COUNTER_RECEIVED_SUPER_DEPRECATED_DESC =
             "number of super-deprecated txns (body, sigs) received";
+    // Metric config for keeping track of the number of transaction bytes parsed
+    private static final String COUNTER_BYTES_PARSED_NAME = "TxnBytesParsed";
+    private static final String COUNTER_BYTES_PARSED_DESC = "number of txn bytes parsed by ingest and pre-handle";
 
     /** The maximum number of bytes that can exist in the transaction */
     private final int maxSignedTxnSize;
@@ -102,6 +105,8 @@ public class TransactionChecker {
     private final Counter deprecatedCounter;
     /** The {@link Counter} used to track the number of super deprecated transactions (body, sigs) received. */
     private final Counter superDeprecatedCounter;
+    /** The {@link Counter} used to track the number of transaction bytes parsed. */
+    private final Counter bytesParsedCounter;
     /** The account ID of the node running this software */
     private final AccountID nodeAccount;
 
@@ -135,6 +140,8 @@ public class TransactionChecker {
                 .withDescription(COUNTER_RECEIVED_DEPRECATED_DESC));
         this.superDeprecatedCounter = metrics.getOrCreate(new Counter.Config("app", COUNTER_SUPER_DEPRECATED_TXNS_NAME)
                 .withDescription(COUNTER_RECEIVED_SUPER_DEPRECATED_DESC));
+        this.bytesParsedCounter = metrics.getOrCreate(new Counter.Config("app", COUNTER_BYTES_PARSED_NAME)
+                .withDescription(COUNTER_BYTES_PARSED_DESC));
     }
 
     /**
@@ -168,6 +175,7 @@ public class TransactionChecker {
             throw new PreCheckException(TRANSACTION_OVERSIZE);
         }
 
+        bytesParsedCounter.add(buffer.length());
         return parseStrict(buffer.toReadableSequentialData(), Transaction.PROTOBUF, INVALID_TRANSACTION);
     }
 
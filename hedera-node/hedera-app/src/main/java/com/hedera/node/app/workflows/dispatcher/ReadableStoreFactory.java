@@ -48,12 +48,17 @@ import com.hedera.node.app.service.token.impl.ReadableNftStoreImpl;
 import com.hedera.node.app.service.token.impl.ReadableStakingInfoStoreImpl;
 import com.hedera.node.app.service.token.impl.ReadableTokenRelationStoreImpl;
 import com.hedera.node.app.service.token.impl.ReadableTokenStoreImpl;
+import com.hedera.node.app.spi.state.ReadableKVState;
+import com.hedera.node.app.spi.state.ReadableQueueState;
+import com.hedera.node.app.spi.state.ReadableSingletonState;
 import com.hedera.node.app.spi.state.ReadableStates;
 import com.hedera.node.app.state.HederaState;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 /**
@@ -98,18 +103,67 @@ public class ReadableStoreFactory {
 
     private final HederaState state;
 
+    /**
+     * The readable states created by this factory, by service name, or {@code null} if this factory does not record
+     * the keys read through its stores.
+     */
+    @Nullable
+    private final Map<String, RecordingReadableStates> recordedStates;
+
     /**
      * Constructor of {@code ReadableStoreFactory}
      *
      * @param state the {@link HederaState} to use
      */
     public ReadableStoreFactory(@NonNull final HederaState state) {
+        this(state, null);
+    }
+
+    private ReadableStoreFactory(
+            @NonNull final HederaState state, @Nullable final Map<String, RecordingReadableStates> recordedStates) {
         this.state = requireNonNull(state, "The supplied argument 'state' cannot be null!");
+        this.recordedStates = recordedStates;
+    }
+
+    /**
+     * Creates a factory for the same state, which records the keys read through its stores (see {@link #readKeys()}).
+     * All stores of a service that are created by the returned factory share their states, and therefore also the
+     * values they have read. The returned factory must only be used by a single thread.
+     *
+     * @return a new factory that records the keys read through its stores
+     */
+    @NonNull
+    public ReadableStoreFactory recordingReads() {
+        return new ReadableStoreFactory(state, new HashMap<>());
+    }
+
+    /**
+     * Gets the keys of all key/value states that were read through the stores created by this factory.
+     *
+     * @return the keys read, by service name and state key. This is empty if this factory was not created with
+     *     {@link #recordingReads()}.
+     */
+    @NonNull
+    public Map<String, Map<String, Set<?>>> readKeys() {
+        if (recordedStates == null) {
+            return Map.of();
+        }
+        final var result = new HashMap<String, Map<String, Set<?>>>();
+        recordedStates.forEach((serviceName, states) -> {
+            final var keysByState = states.readKeys();
+            if (!keysByState.isEmpty()) {
+                result.put(serviceName, keysByState);
+            }
+        });
+        return Collections.unmodifiableMap(result);
     }
 
     /**
      * Create a new store given the store's interface. This gives read-only access to the store.
      *
+     * <p>Stores cache the values they read and are not thread-safe. Unless this factory records the keys read, every
+     * call creates a store with its own states, so threads must each get their own store instead of sharing one.
+     *
      * @param storeInterface The store interface to find and create a store for
      * @param <C>            Interface class for a Store
      * @return An implementation of the provided store interface
@@ -121,7 +175,10 @@ public class ReadableStoreFactory {
         requireNonNull(storeInterface, "The supplied argument 'storeInterface' cannot be null!");
         final var entry = STORE_FACTORY.get(storeInterface);
         if (entry != null) {
-            final var readableStates = state.createReadableStates(entry.name);
+            final var readableStates = recordedStates == null
+                    ? state.createReadableStates(entry.name)
+                    : recordedStates.computeIfAbsent(
+                            entry.name, name -> new RecordingReadableStates(state.createReadableStates(name)));
             final var store = entry.factory.apply(readableStates);
             if (!storeInterface.isInstance(store)) {
                 throw new IllegalArgumentException("No instance " + storeInterface
@@ -133,4 +190,59 @@ public class ReadableStoreFactory {
     }
 
     private record StoreEntry(@NonNull String name, @NonNull Function<ReadableStates, ?> factory) {}
+
+    /**
+     * A {@link ReadableStates} that remembers the key/value states it handed out, so the keys read from them can be
+     * collected later.
+     */
+    private static final class RecordingReadableStates implements ReadableStates {
+        private final ReadableStates delegate;
+        private final Map<String, ReadableKVState<?, ?>> kvStates = new HashMap<>();
+
+        private RecordingReadableStates(@NonNull final ReadableStates delegate) {
+            this.delegate = delegate;
+        }
+
+        @NonNull
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> ReadableKVState<K, V> get(@NonNull final String stateKey) {
+            return (ReadableKVState<K, V>) kvStates.computeIfAbsent(stateKey, delegate::get);
+        }
+
+        @NonNull
+        @Override
+        public <T> ReadableSingletonState<T> getSingleton(@NonNull final String stateKey) {
+            return delegate.getSingleton(stateKey);
+        }
+
+        @NonNull
+        @Override
+        public <E> ReadableQueueState<E> getQueue(@NonNull final String stateKey) {
+            return delegate.getQueue(stateKey);
+        }
+
+        @Override
+        public boolean contains(@NonNull final String stateKey) {
+            return delegate.contains(stateKey);
+        }
+
+        @NonNull
+        @Override
+        public Set<String> stateKeys() {
+            return delegate.stateKeys();
+        }
+
+        @NonNull
+        private Map<String, Set<?>> readKeys() {
+            final var result = new HashMap<String, Set<?>>();
+            kvStates.forEach((stateKey, kvState) -> {
+                final var keys = kvState.readKeys();
+                if (!keys.isEmpty()) {
+                    result.put(stateKey, Set.copyOf(keys));
+                }
+            });
+            return Collections.unmodifiableMap(result);
+        }
+    }
 }
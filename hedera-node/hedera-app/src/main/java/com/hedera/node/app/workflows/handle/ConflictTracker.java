@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.handle;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.node.app.state.HederaState;
+import com.hedera.node.app.workflows.handle.TrackingHederaState.StateAccess;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.HederaConfig;
+import com.swirlds.common.metrics.Counter;
+import com.swirlds.common.metrics.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Measures how many transactions of a round could have been executed in parallel. While a round is handled, the keys
+ * every transaction reads and writes through its savepoint stack are recorded. A transaction conflicts if it read a
+ * key that an earlier transaction of the same round wrote. A transaction without conflicts would have produced the
+ * same state changes if it had been executed in parallel with the transactions before it, so the share of conflicting
+ * transactions bounds what an optimistic parallel execution of the round could gain.
+ *
+ * <p>The keys are recorded while the {@link HandleWorkflow} handles the transactions, including fee charging and the
+ * time hooks, so nothing is executed twice. State that the handle workflow changes without going through the savepoint
+ * stack, like the throttles, the record cache and the running hashes, is not tracked.
+ *
+ * <p>Tracking is disabled by default and enabled with {@code hedera.conflictTracking.enabled}. This class is not
+ * thread-safe, it must only be used by the handle thread.
+ */
+@Singleton
+public class ConflictTracker {
+
+    private static final String COUNTER_TRANSACTIONS_NAME = "ConflictTrackedTxns";
+    private static final String COUNTER_TRANSACTIONS_DESC = "number of transactions whose state accesses were tracked";
+    private static final String COUNTER_CONFLICTS_NAME = "ConflictingTxns";
+    private static final String COUNTER_CONFLICTS_DESC =
+            "number of tracked transactions that read state written by an earlier transaction of the same round";
+
+    private final boolean enabled;
+    private final Counter transactionCounter;
+    private final Counter conflictCounter;
+
+    /** Everything written by the transactions of the current round that were handled so far */
+    private final Set<StateAccess> writtenInRound = new HashSet<>();
+
+    private long transactionsInRound;
+    private long conflictsInRound;
+
+    @Inject
+    public ConflictTracker(@NonNull final ConfigProvider configProvider, @NonNull final Metrics metrics) {
+        requireNonNull(configProvider, "configProvider must not be null");
+        requireNonNull(metrics, "metrics must not be null");
+        this.enabled =
+                configProvider.getConfiguration().getConfigData(HederaConfig.class).conflictTrackingEnabled();
+        this.transactionCounter = metrics.getOrCreate(
+                new Counter.Config("app", COUNTER_TRANSACTIONS_NAME).withDescription(COUNTER_TRANSACTIONS_DESC));
+        this.conflictCounter = metrics.getOrCreate(
+                new Counter.Config("app", COUNTER_CONFLICTS_NAME).withDescription(COUNTER_CONFLICTS_DESC));
+    }
+
+    /**
+     * Returns whether conflicts are tracked. If not, the other methods must not be called.
+     *
+     * @return {@code true} if conflicts are tracked
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Wraps the state a transaction is handled with, so that the keys it accesses are recorded.
+     *
+     * @param state the {@link HederaState} the transaction is handled with
+     * @return the {@link HederaState} the savepoint stack of the transaction must be created with
+     * @throws NullPointerException if {@code state} is {@code null}
+     */
+    @NonNull
+    public HederaState track(@NonNull final HederaState state) {
+        return new TrackingHederaState(requireNonNull(state, "state must not be null"));
+    }
+
+    /**
+     * Checks a transaction for conflicts with the transactions handled before it in the same round. This method must
+     * be called after the savepoint stack of the transaction was committed.
+     *
+     * @param trackedState the {@link HederaState} that was returned by {@link #track(HederaState)}
+     * @throws NullPointerException if {@code trackedState} is {@code null}
+     * @throws IllegalArgumentException if {@code trackedState} was not returned by {@link #track(HederaState)}
+     */
+    public void transactionHandled(@NonNull final HederaState trackedState) {
+        requireNonNull(trackedState, "trackedState must not be null");
+        if (!(trackedState instanceof TrackingHederaState tracking)) {
+            throw new IllegalArgumentException("The state was not returned by track()");
+        }
+        transactionsInRound++;
+        if (!Collections.disjoint(tracking.reads(), writtenInRound)) {
+            conflictsInRound++;
+        }
+        writtenInRound.addAll(tracking.writes());
+    }
+
+    /**
+     * Reports the transactions of the round that was just handled and starts the next round.
+     */
+    public void roundHandled() {
+        if (transactionsInRound > 0) {
+            transactionCounter.add(transactionsInRound);
+            if (conflictsInRound > 0) {
+                conflictCounter.add(conflictsInRound);
+            }
+        }
+        writtenInRound.clear();
+        transactionsInRound = 0;
+        conflictsInRound = 0;
+    }
+}
@@ -132,6 +132,7 @@ public class HandleWorkflow {
     private final SolvencyPreCheck solvencyPreCheck;
     private final Authorizer authorizer;
     private final NetworkUtilizationManager networkUtilizationManager;
+    private final ConflictTracker conflictTracker;
 
     @Inject
     public HandleWorkflow(
@@ -154,7 +155,8 @@ public class HandleWorkflow {
             @NonNull final DualStateUpdateFacility dualStateUpdateFacility,
             @NonNull final SolvencyPreCheck solvencyPreCheck,
             @NonNull final Authorizer authorizer,
-            @NonNull final NetworkUtilizationManager networkUtilizationManager) {
+            @NonNull final NetworkUtilizationManager networkUtilizationManager,
+            @NonNull final ConflictTracker conflictTracker) {
         this.networkInfo = requireNonNull(networkInfo, "networkInfo must not be null");
         this.preHandleWorkflow = requireNonNull(preHandleWorkflow, "preHandleWorkflow must not be null");
         this.dispatcher = requireNonNull(dispatcher, "dispatcher must not be null");
@@ -178,6 +180,7 @@ public class HandleWorkflow {
         this.authorizer = requireNonNull(authorizer, "authorizer must not be null");
         this.networkUtilizationManager =
                 requireNonNull(networkUtilizationManager, "networkUtilizationManager must not be null");
+        this.conflictTracker = requireNonNull(conflictTracker, "conflictTracker must not be null");
     }
 
     /**
@@ -205,6 +208,9 @@ public class HandleWorkflow {
                 // address book must have an account ID, since you cannot delete an account belonging to a node and
                 // you cannot change the address book non-deterministically.
                 logger.warn("Received event from node {} which is not in the address book", event.getCreatorId());
+                if (conflictTracker.isEnabled()) {
+                    conflictTracker.roundHandled();
+                }
                 return;
             }
 
@@ -236,6 +242,10 @@ public class HandleWorkflow {
         if (userTransactionsHandled.get()) {
             blockRecordManager.endRound(state);
         }
+
+        if (conflictTracker.isEnabled()) {
+            conflictTracker.roundHandled();
+        }
     }
 
     private void handlePlatformTransaction(
@@ -265,7 +275,9 @@ public class HandleWorkflow {
 
         // Setup helpers
         final var configuration = configProvider.getConfiguration();
-        final var stack = new SavepointStackImpl(state);
+        // If conflicts are tracked, the stack records which keys the transaction accesses
+        final var stackRoot = conflictTracker.isEnabled() ? conflictTracker.track(state) : state;
+        final var stack = new SavepointStackImpl(stackRoot);
         final var readableStoreFactory = new ReadableStoreFactory(stack);
         final var feeAccumulator = createFeeAccumulator(stack, configuration, recordBuilder);
 
@@ -467,6 +479,9 @@ public class HandleWorkflow {
 
         // Commit all state changes
         stack.commitFullStack();
+        if (conflictTracker.isEnabled()) {
+            conflictTracker.transactionHandled(stackRoot);
+        }
 
         // store all records at once, build() records end of transaction to log
         final var recordListResult = recordListBuilder.build();
@@ -715,7 +730,8 @@ public class HandleWorkflow {
                 context.requiredHollowAccounts(),
                 verifications,
                 previousResult.innerResult(),
-                previousResult.configVersion());
+                previousResult.configVersion(),
+                previousResult.readSet());
     }
 
     /**
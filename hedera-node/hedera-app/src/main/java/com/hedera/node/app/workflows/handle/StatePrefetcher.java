@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.handle;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.node.app.spi.state.ReadableKVState;
+import com.hedera.node.app.state.HederaState;
+import com.hedera.node.app.workflows.prehandle.PreHandleResult;
+import com.hedera.node.app.workflows.prehandle.ReadSet;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.CacheConfig;
+import com.swirlds.common.system.Round;
+import com.swirlds.common.system.events.ConsensusEvent;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Prefetches the state that the transactions of a round will read, so that the handle thread does not have to wait
+ * for disk reads. The keys to prefetch are the {@link ReadSet}s that were recorded when the transactions were
+ * pre-handled. Handling a transaction will usually read the same accounts, tokens, NFTs, etc. again.
+ *
+ * <p>Prefetching is only a hint. It happens in background threads, and handle does not wait for it. If a round starts
+ * before the previous round was prefetched completely, the prefetching of the previous round is cancelled and its
+ * remaining keys are skipped.
+ *
+ * <p>The keys are warmed against the working state while the handle thread modifies it. This is safe because
+ * {@link ReadableKVState#warm} must not change the state: states kept in memory ignore it, and on-disk states only
+ * look the leaf up without adding it to the node cache of the virtual map, which may be done concurrently with
+ * modifications. Creating the {@link com.hedera.node.app.spi.state.ReadableStates} of a service only reads the
+ * structure of the merkle tree, which does not change while a round is handled.
+ */
+@Singleton
+public class StatePrefetcher {
+    private static final Logger logger = LogManager.getLogger(StatePrefetcher.class);
+
+    /** The threads doing the prefetching, or {@code null} if prefetching is disabled */
+    @Nullable
+    private final ThreadPoolExecutor executor;
+
+    /** The prefetching of the round that was started last */
+    private volatile Batch current = new Batch();
+
+    /**
+     * The prefetching of one round. Tasks that are still queued or running when the batch is cancelled skip their
+     * remaining keys.
+     */
+    private static final class Batch {
+        private volatile boolean cancelled;
+
+        private void cancel() {
+            cancelled = true;
+        }
+
+        private boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    /**
+     * Create a new {@link StatePrefetcher}
+     *
+     * @param configProvider the {@link ConfigProvider} to get the number of threads
+     * @throws NullPointerException if {@code configProvider} is {@code null}
+     */
+    @Inject
+    public StatePrefetcher(@NonNull final ConfigProvider configProvider) {
+        requireNonNull(configProvider);
+        final var threads = configProvider.getConfiguration().getConfigData(CacheConfig.class).prefetchThreads();
+        if (threads <= 0) {
+            this.executor = null;
+            return;
+        }
+
+        final var threadCount = new AtomicInteger();
+        final ThreadFactory threadFactory = runnable -> {
+            final var thread = new Thread(runnable, "state-prefetch-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), threadFactory);
+    }
+
+    /**
+     * Starts prefetching the state read by the transactions of a round. This method returns right away, it must be
+     * called before the round is handled, because handling a transaction clears its {@link PreHandleResult}.
+     *
+     * @param state the {@link HederaState} the round will be handled with
+     * @param round the {@link Round} to prefetch the state for
+     * @throws NullPointerException if one of the arguments is {@code null}
+     */
+    public void prefetch(@NonNull final HederaState state, @NonNull final Round round) {
+        requireNonNull(state);
+        requireNonNull(round);
+        if (executor == null) {
+            return;
+        }
+
+        // Whatever was not prefetched for the previous round is not needed anymore
+        current.cancel();
+        final var batch = new Batch();
+        current = batch;
+
+        for (final ConsensusEvent event : round) {
+            for (final var it = event.consensusTransactionIterator(); it.hasNext(); ) {
+                final var platformTxn = it.next();
+                if (platformTxn.getMetadata() instanceof PreHandleResult result
+                        && result.readSet() != null
+                        && !result.readSet().isEmpty()) {
+                    final var readSet = result.readSet();
+                    executor.execute(() -> warm(batch, state, readSet));
+                }
+            }
+        }
+    }
+
+    private static void warm(
+            @NonNull final Batch batch, @NonNull final HederaState state, @NonNull final ReadSet readSet) {
+        if (batch.isCancelled()) {
+            return;
+        }
+        try {
+            readSet.keys().forEach((serviceName, keysByState) -> {
+                final var readableStates = state.createReadableStates(serviceName);
+                keysByState.forEach((stateKey, keys) -> warm(batch, readableStates.get(stateKey), keys));
+            });
+        } catch (final RuntimeException e) {
+            // Prefetching is only an optimization, e.g. the state may have been released in the meantime
+            logger.debug("Failed to prefetch state", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> void warm(
+            @NonNull final Batch batch, @NonNull final ReadableKVState<K, ?> kvState, @NonNull final Set<?> keys) {
+        for (final var key : keys) {
+            if (batch.isCancelled()) {
+                return;
+            }
+            kvState.warm((K) key);
+        }
+    }
+}
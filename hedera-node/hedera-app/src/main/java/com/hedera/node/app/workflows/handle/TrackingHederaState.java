@@ -0,0 +1,272 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.handle;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.node.app.spi.state.CommittableWritableStates;
+import com.hedera.node.app.spi.state.ReadableKVState;
+import com.hedera.node.app.spi.state.ReadableQueueState;
+import com.hedera.node.app.spi.state.ReadableSingletonState;
+import com.hedera.node.app.spi.state.ReadableStates;
+import com.hedera.node.app.spi.state.WritableKVState;
+import com.hedera.node.app.spi.state.WritableQueueState;
+import com.hedera.node.app.spi.state.WritableQueueStateBase;
+import com.hedera.node.app.spi.state.WritableSingletonState;
+import com.hedera.node.app.spi.state.WritableStates;
+import com.hedera.node.app.state.HederaState;
+import com.hedera.node.app.workflows.handle.stack.SavepointStackImpl;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link HederaState} that passes everything through to another {@link HederaState} and records which keys were read
+ * and written through it. It is used as the root of the {@link SavepointStackImpl} of a single transaction.
+ *
+ * <p>The key/value states of the underlying state already remember the keys read and modified until they are
+ * committed, so nothing is recorded per access. The keys are collected when the {@link WritableStates} are committed,
+ * and for everything that was only read, when {@link #reads()} is called. Reads of a savepoint that was rolled back
+ * are included, because they still influenced what the transaction did. Writes that were rolled back never reach the
+ * underlying states and are not included.
+ *
+ * <p>Queues do not track reads, getting a queue counts as reading it. A queue that cannot tell whether it was modified
+ * counts as written.
+ *
+ * <p>This class is not thread-safe. Each transaction gets its own instance.
+ */
+final class TrackingHederaState implements HederaState {
+
+    /**
+     * A key of the state that was read or written.
+     *
+     * @param serviceName the name of the service owning the state
+     * @param stateKey the key of the state
+     * @param key the key within a key/value state, or {@code null} for singletons and queues
+     */
+    record StateAccess(@NonNull String serviceName, @NonNull String stateKey, @Nullable Object key) {}
+
+    private final HederaState delegate;
+    private final Map<String, TrackingWritableStates> writableStatesMap = new HashMap<>();
+    private final List<TrackingReadableStates> readableStates = new ArrayList<>();
+    private final Set<StateAccess> reads = new HashSet<>();
+    private final Set<StateAccess> writes = new HashSet<>();
+
+    /**
+     * Constructs a {@link TrackingHederaState} that passes everything through to the given {@link HederaState}.
+     *
+     * @param delegate the {@link HederaState} to track
+     * @throws NullPointerException if {@code delegate} is {@code null}
+     */
+    TrackingHederaState(@NonNull final HederaState delegate) {
+        this.delegate = requireNonNull(delegate, "delegate must not be null");
+    }
+
+    @Override
+    @NonNull
+    public ReadableStates createReadableStates(@NonNull final String serviceName) {
+        final var states = new TrackingReadableStates(serviceName, delegate.createReadableStates(serviceName));
+        readableStates.add(states);
+        return states;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The same {@link WritableStates} instance is returned for the same {@code serviceName}, so the keys read by a
+     * savepoint that was rolled back are kept.
+     */
+    @Override
+    @NonNull
+    public WritableStates createWritableStates(@NonNull final String serviceName) {
+        return writableStatesMap.computeIfAbsent(
+                serviceName, s -> new TrackingWritableStates(s, delegate.createWritableStates(s)));
+    }
+
+    /**
+     * Returns everything that was read, including the keys read through {@code getForModify()}.
+     *
+     * @return the {@link StateAccess}es of all reads
+     */
+    @NonNull
+    Set<StateAccess> reads() {
+        final var result = new HashSet<>(reads);
+        writableStatesMap.values().forEach(states -> states.collectReads(result));
+        readableStates.forEach(states -> states.collectReads(result));
+        return result;
+    }
+
+    /**
+     * Returns everything that was written and committed to the underlying state.
+     *
+     * @return the {@link StateAccess}es of all writes
+     */
+    @NonNull
+    Set<StateAccess> writes() {
+        return Set.copyOf(writes);
+    }
+
+    private static void collectKVReads(
+            @NonNull final String serviceName,
+            @NonNull final Map<String, ? extends ReadableKVState<?, ?>> kvStates,
+            @NonNull final Set<StateAccess> result) {
+        kvStates.forEach((stateKey, kvState) ->
+                kvState.readKeys().forEach(key -> result.add(new StateAccess(serviceName, stateKey, key))));
+    }
+
+    private static void collectSingletonReads(
+            @NonNull final String serviceName,
+            @NonNull final Map<String, ? extends ReadableSingletonState<?>> singletonStates,
+            @NonNull final Set<StateAccess> result) {
+        singletonStates.forEach((stateKey, singleton) -> {
+            if (singleton.isRead()) {
+                result.add(new StateAccess(serviceName, stateKey, null));
+            }
+        });
+    }
+
+    private static final class TrackingReadableStates implements ReadableStates {
+        private final String serviceName;
+        private final ReadableStates delegate;
+        private final Map<String, ReadableKVState<?, ?>> kvStates = new HashMap<>();
+        private final Map<String, ReadableSingletonState<?>> singletonStates = new HashMap<>();
+        private final Set<String> queueStates = new HashSet<>();
+
+        private TrackingReadableStates(@NonNull final String serviceName, @NonNull final ReadableStates delegate) {
+            this.serviceName = serviceName;
+            this.delegate = delegate;
+        }
+
+        @SuppressWarnings("unchecked")
+        @NonNull
+        @Override
+        public <K, V> ReadableKVState<K, V> get(@NonNull final String stateKey) {
+            return (ReadableKVState<K, V>) kvStates.computeIfAbsent(stateKey, delegate::get);
+        }
+
+        @SuppressWarnings("unchecked")
+        @NonNull
+        @Override
+        public <T> ReadableSingletonState<T> getSingleton(@NonNull final String stateKey) {
+            return (ReadableSingletonState<T>) singletonStates.computeIfAbsent(stateKey, delegate::getSingleton);
+        }
+
+        @NonNull
+        @Override
+        public <E> ReadableQueueState<E> getQueue(@NonNull final String stateKey) {
+            queueStates.add(stateKey);
+            return delegate.getQueue(stateKey);
+        }
+
+        @Override
+        public boolean contains(@NonNull final String stateKey) {
+            return delegate.contains(stateKey);
+        }
+
+        @NonNull
+        @Override
+        public Set<String> stateKeys() {
+            return delegate.stateKeys();
+        }
+
+        private void collectReads(@NonNull final Set<StateAccess> result) {
+            collectKVReads(serviceName, kvStates, result);
+            collectSingletonReads(serviceName, singletonStates, result);
+            queueStates.forEach(stateKey -> result.add(new StateAccess(serviceName, stateKey, null)));
+        }
+    }
+
+    private final class TrackingWritableStates implements WritableStates, CommittableWritableStates {
+        private final String serviceName;
+        private final WritableStates delegate;
+        private final Map<String, WritableKVState<?, ?>> kvStates = new HashMap<>();
+        private final Map<String, WritableSingletonState<?>> singletonStates = new HashMap<>();
+        private final Map<String, WritableQueueState<?>> queueStates = new HashMap<>();
+
+        private TrackingWritableStates(@NonNull final String serviceName, @NonNull final WritableStates delegate) {
+            this.serviceName = serviceName;
+            this.delegate = delegate;
+        }
+
+        @SuppressWarnings("unchecked")
+        @NonNull
+        @Override
+        public <K, V> WritableKVState<K, V> get(@NonNull final String stateKey) {
+            return (WritableKVState<K, V>) kvStates.computeIfAbsent(stateKey, delegate::get);
+        }
+
+        @SuppressWarnings("unchecked")
+        @NonNull
+        @Override
+        public <T> WritableSingletonState<T> getSingleton(@NonNull final String stateKey) {
+            return (WritableSingletonState<T>) singletonStates.computeIfAbsent(stateKey, delegate::getSingleton);
+        }
+
+        @SuppressWarnings("unchecked")
+        @NonNull
+        @Override
+        public <E> WritableQueueState<E> getQueue(@NonNull final String stateKey) {
+            return (WritableQueueState<E>) queueStates.computeIfAbsent(stateKey, delegate::getQueue);
+        }
+
+        @Override
+        public boolean contains(@NonNull final String stateKey) {
+            return delegate.contains(stateKey);
+        }
+
+        @NonNull
+        @Override
+        public Set<String> stateKeys() {
+            return delegate.stateKeys();
+        }
+
+        /**
+         * Collects the keys read and written, then commits the underlying states, which forgets them.
+         */
+        @Override
+        public void commit() {
+            collectReads(reads);
+            kvStates.forEach((stateKey, kvState) ->
+                    kvState.modifiedKeys().forEach(key -> writes.add(new StateAccess(serviceName, stateKey, key))));
+            singletonStates.forEach((stateKey, singleton) -> {
+                if (singleton.isModified()) {
+                    writes.add(new StateAccess(serviceName, stateKey, null));
+                }
+            });
+            queueStates.forEach((stateKey, queue) -> {
+                if (!(queue instanceof WritableQueueStateBase<?> base) || base.isModified()) {
+                    writes.add(new StateAccess(serviceName, stateKey, null));
+                }
+            });
+
+            if (delegate instanceof CommittableWritableStates terminalStates) {
+                terminalStates.commit();
+            }
+        }
+
+        private void collectReads(@NonNull final Set<StateAccess> result) {
+            collectKVReads(serviceName, kvStates, result);
+            collectSingletonReads(serviceName, singletonStates, result);
+            queueStates.keySet().forEach(stateKey -> result.add(new StateAccess(serviceName, stateKey, null)));
+        }
+    }
+}
@@ -16,31 +16,86 @@
 
 package com.hedera.node.app.workflows.ingest;
 
+import static com.hedera.hapi.node.base.ResponseCodeEnum.BUSY;
+import static com.hedera.hapi.node.base.ResponseCodeEnum.FAIL_INVALID;
 import static java.util.Objects.requireNonNull;
 
 import com.hedera.hapi.node.base.ResponseCodeEnum;
+import com.hedera.hapi.node.transaction.TransactionBody;
 import com.hedera.hapi.node.transaction.TransactionResponse;
 import com.hedera.node.app.spi.workflows.InsufficientBalanceException;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.state.HederaState;
+import com.hedera.node.app.workflows.ParsedTransactionCache;
 import com.hedera.node.app.workflows.TransactionChecker;
+import com.hedera.node.app.workflows.TransactionInfo;
 import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.GrpcConfig;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.utility.AutoCloseableWrapper;
+import com.swirlds.config.api.Configuration;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntConsumer;
 import java.util.function.Supplier;
 import javax.inject.Inject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
-/** Implementation of {@link IngestWorkflow} */
+/**
+ * Implementation of {@link IngestWorkflow}
+ *
+ * <p>If batching is enabled with {@link GrpcConfig#ingestBatchingEnabled()}, concurrent submissions are gathered into
+ * batches. There is no dedicated batching thread: whichever submitting thread gets hold of the batch lock processes
+ * the queued submissions of all threads, while the others wait for their response. A batch is checked against a single
+ * state and submitted to the platform in a single call, which takes as many transactions as the transaction pool has
+ * room for. If too many submissions are queued already, a submission is answered with {@link ResponseCodeEnum#BUSY}
+ * right away.
+ *
+ * <p>The batching thread parses and checks the transactions of a batch together with a small pool of daemon threads
+ * (see {@link GrpcConfig#ingestCheckThreads()}). The pool is owned by the workflow, so checking a batch neither waits
+ * for nor delays other work that runs on the common fork-join pool. Its threads terminate when idle, so the pool never
+ * has to be shut down.
+ */
 public final class IngestWorkflowImpl implements IngestWorkflow {
+    private static final Logger logger = LogManager.getLogger(IngestWorkflowImpl.class);
+
+    /** How long a waiting thread parks before it checks whether the batch lock has become available */
+    private static final long BATCH_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    /** How long an idle check thread is kept before it terminates */
+    private static final long CHECK_THREAD_KEEP_ALIVE_SECONDS = 60L;
+
     private final Supplier<AutoCloseableWrapper<HederaState>> stateAccessor;
     private final TransactionChecker transactionChecker;
     private final IngestChecker ingestChecker;
     private final SubmissionManager submissionManager;
     private final ConfigProvider configProvider;
+    private final ParsedTransactionCache parsedTransactionCache;
+
+    /** Submissions waiting to be processed in a batch */
+    private final Queue<PendingSubmission> pendingSubmissions = new ConcurrentLinkedQueue<>();
+    /** The number of entries in {@link #pendingSubmissions}, its size() is not a constant time operation */
+    private final AtomicInteger pendingSubmissionCount = new AtomicInteger();
+    /** Held by the thread that currently processes batches */
+    private final ReentrantLock batchLock = new ReentrantLock();
+    /** Helps the batching thread to check the transactions of a batch, or {@code null} if it checks them alone */
+    @Nullable
+    private final ThreadPoolExecutor checkExecutor;
 
     /**
      * Constructor of {@code IngestWorkflowImpl}
@@ -50,6 +105,7 @@ public final class IngestWorkflowImpl implements IngestWorkflow {
      * @param ingestChecker the {@link IngestChecker} with specific checks of an ingest-workflow
      * @param submissionManager the {@link SubmissionManager} to submit transactions to the platform
      * @param configProvider the {@link ConfigProvider} to provide the configuration
+     * @param parsedTransactionCache the {@link ParsedTransactionCache} that hands parsed transactions to pre-handle
      * @throws NullPointerException if one of the arguments is {@code null}
      */
     @Inject
@@ -58,12 +114,34 @@ public final class IngestWorkflowImpl implements IngestWorkflow {
             @NonNull final TransactionChecker transactionChecker,
             @NonNull final IngestChecker ingestChecker,
             @NonNull final SubmissionManager submissionManager,
-            @NonNull final ConfigProvider configProvider) {
+            @NonNull final ConfigProvider configProvider,
+            @NonNull final ParsedTransactionCache parsedTransactionCache) {
         this.stateAccessor = requireNonNull(stateAccessor);
         this.transactionChecker = requireNonNull(transactionChecker);
         this.ingestChecker = requireNonNull(ingestChecker);
         this.submissionManager = requireNonNull(submissionManager);
         this.configProvider = requireNonNull(configProvider);
+        this.parsedTransactionCache = requireNonNull(parsedTransactionCache);
+
+        final var checkThreads = configProvider.getConfiguration().getConfigData(GrpcConfig.class).ingestCheckThreads();
+        if (checkThreads <= 0) {
+            this.checkExecutor = null;
+        } else {
+            final var threadCount = new AtomicInteger();
+            final ThreadFactory threadFactory = runnable -> {
+                final var thread = new Thread(runnable, "ingest-check-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            this.checkExecutor = new ThreadPoolExecutor(
+                    checkThreads,
+                    checkThreads,
+                    CHECK_THREAD_KEEP_ALIVE_SECONDS,
+                    TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(),
+                    threadFactory);
+            checkExecutor.allowCoreThreadTimeOut(true);
+        }
     }
 
     @Override
@@ -71,6 +149,25 @@ public final class IngestWorkflowImpl implements IngestWorkflow {
         requireNonNull(requestBuffer);
         requireNonNull(responseBuffer);
 
+        final var grpcConfig = configProvider.getConfiguration().getConfigData(GrpcConfig.class);
+        final var transactionResponse = grpcConfig.ingestBatchingEnabled()
+                ? submitBatched(requestBuffer, grpcConfig)
+                : submitSingle(requestBuffer);
+
+        try {
+            TransactionResponse.PROTOBUF.write(transactionResponse, responseBuffer);
+        } catch (IOException ex) {
+            // It may be that the response couldn't be written because the response buffer was
+            // too small, which would be an internal server error.
+            throw new UncheckedIOException("Failed to write bytes to response buffer", ex);
+        }
+    }
+
+    /**
+     * Check and submit a single transaction on the calling thread.
+     */
+    @NonNull
+    private TransactionResponse submitSingle(@NonNull final Bytes requestBuffer) {
         ResponseCodeEnum result = ResponseCodeEnum.OK;
         long estimatedFee = 0L;
 
@@ -85,8 +182,19 @@ public final class IngestWorkflowImpl implements IngestWorkflow {
             final var configuration = configProvider.getConfiguration();
             final var transactionInfo = ingestChecker.runAllChecks(state, tx, configuration);
 
-            // 7. Submit to platform
-            submissionManager.submit(transactionInfo.txBody(), requestBuffer);
+            // 7. Submit to platform. The parsed transaction is remembered, so that pre-handle on this node does not
+            // have to parse it again. Unchecked submits are not remembered, since other bytes are submitted for them.
+            final var txBody = transactionInfo.txBody();
+            final var txBytes = rememberParsed(requestBuffer, transactionInfo);
+            boolean submitted = false;
+            try {
+                submissionManager.submit(txBody, requestBuffer);
+                submitted = true;
+            } finally {
+                if (!submitted && txBytes != null) {
+                    parsedTransactionCache.discard(txBytes);
+                }
+            }
         } catch (final InsufficientBalanceException e) {
             estimatedFee = e.getEstimatedFee();
             result = e.responseCode();
@@ -95,17 +203,224 @@ public final class IngestWorkflowImpl implements IngestWorkflow {
         }
 
         // 8. Return PreCheck code and estimated fee
-        final var transactionResponse = TransactionResponse.newBuilder()
+        return response(result, estimatedFee);
+    }
+
+    /**
+     * Queue a transaction to be checked and submitted in a batch, and wait for its response.
+     */
+    @NonNull
+    private TransactionResponse submitBatched(@NonNull final Bytes requestBuffer, @NonNull final GrpcConfig config) {
+        // Refuse early if the backlog is already too large, rather than letting the client wait for a BUSY later
+        if (pendingSubmissionCount.incrementAndGet() > config.ingestMaxQueuedTransactions()) {
+            pendingSubmissionCount.decrementAndGet();
+            return response(BUSY, 0L);
+        }
+
+        final var pending = new PendingSubmission(requestBuffer);
+        pendingSubmissions.add(pending);
+
+        // Submissions are processed in the order they were queued, so the thread holding the lock will get to its own
+        // submission after at most a few batches. A thread that finds the lock taken waits for a while and tries
+        // again, so that a submission queued just after the lock holder has finished is not left behind.
+        while (pending.response == null) {
+            if (batchLock.tryLock()) {
+                try {
+                    while (pending.response == null) {
+                        processBatch(config.ingestMaxBatchSize());
+                    }
+                } finally {
+                    batchLock.unlock();
+                }
+            } else {
+                LockSupport.parkNanos(this, BATCH_WAIT_NANOS);
+            }
+        }
+        return pending.response;
+    }
+
+    /**
+     * Check and submit the oldest queued submissions. Must only be called while holding {@link #batchLock}.
+     */
+    private void processBatch(final int maxBatchSize) {
+        final List<PendingSubmission> batch = new ArrayList<>(maxBatchSize);
+        PendingSubmission next;
+        while (batch.size() < maxBatchSize && (next = pendingSubmissions.poll()) != null) {
+            batch.add(next);
+        }
+        pendingSubmissionCount.addAndGet(-batch.size());
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            checkAndSubmit(batch);
+        } catch (final RuntimeException e) {
+            logger.error("Unexpected failure while processing a batch of {} transactions", batch.size(), e);
+        } finally {
+            // No submission may be left without a response, or its thread would wait forever
+            for (final var pending : batch) {
+                if (pending.response == null) {
+                    pending.complete(response(FAIL_INVALID, 0L));
+                }
+            }
+        }
+    }
+
+    private void checkAndSubmit(@NonNull final List<PendingSubmission> batch) {
+        // Grab (and reference count) the state once for the whole batch
+        try (final var wrappedState = stateAccessor.get()) {
+            // 0. Node state pre-checks, they are the same for all transactions
+            try {
+                ingestChecker.checkNodeState();
+            } catch (final PreCheckException e) {
+                batch.forEach(pending -> pending.complete(response(e.responseCode(), 0L)));
+                return;
+            }
+
+            // 1.-6. Parse and check the transactions in parallel
+            final var state = wrappedState.get();
+            final var configuration = configProvider.getConfiguration();
+            final var transactionInfos = new TransactionInfo[batch.size()];
+            checkAll(batch, i -> transactionInfos[i] = check(batch.get(i), state, configuration));
+
+            // 7. Submit all transactions that passed the checks to the platform in a single call
+            final var submitted = new ArrayList<PendingSubmission>(batch.size());
+            final var txBodies = new ArrayList<TransactionBody>(batch.size());
+            final var txBuffers = new ArrayList<Bytes>(batch.size());
+            final var txBytes = new ArrayList<byte[]>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                if (transactionInfos[i] != null) {
+                    final var pending = batch.get(i);
+                    submitted.add(pending);
+                    txBodies.add(transactionInfos[i].txBody());
+                    txBuffers.add(pending.requestBuffer);
+                    txBytes.add(rememberParsed(pending.requestBuffer, transactionInfos[i]));
+                }
+            }
+            if (submitted.isEmpty()) {
+                return;
+            }
+
+            final var results = submissionManager.submitAll(txBodies, txBuffers);
+            for (int j = 0; j < submitted.size(); j++) {
+                final var result = results.get(j);
+                if (result != ResponseCodeEnum.OK && txBytes.get(j) != null) {
+                    parsedTransactionCache.discard(txBytes.get(j));
+                }
+                // 8. Return PreCheck code
+                submitted.get(j).complete(response(result, 0L));
+            }
+        }
+    }
+
+    /**
+     * Run a check for every submission of a batch. The calling thread checks the first submission and whatever the
+     * check threads have not picked up yet, so a batch never waits for a check thread to become available.
+     */
+    private void checkAll(@NonNull final List<PendingSubmission> batch, @NonNull final IntConsumer check) {
+        if (checkExecutor == null || batch.size() == 1) {
+            for (int i = 0; i < batch.size(); i++) {
+                check.accept(i);
+            }
+            return;
+        }
+
+        final var next = new AtomicInteger();
+        final var remaining = new CountDownLatch(batch.size());
+        final Runnable worker = () -> {
+            int i;
+            while ((i = next.getAndIncrement()) < batch.size()) {
+                try {
+                    check.accept(i);
+                } catch (final RuntimeException e) {
+                    logger.error("Unexpected failure while checking a transaction of a batch", e);
+                } finally {
+                    remaining.countDown();
+                }
+            }
+        };
+        final var helpers = Math.min(batch.size() - 1, checkExecutor.getMaximumPoolSize());
+        for (int h = 0; h < helpers; h++) {
+            checkExecutor.execute(worker);
+        }
+        worker.run();
+
+        // Wait for the checks that are still running on the check threads
+        boolean interrupted = false;
+        while (true) {
+            try {
+                remaining.await();
+                break;
+            } catch (final InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Parse and check a single submission of a batch. If it fails a check, it is answered right away.
+     *
+     * @return the {@link TransactionInfo} of the transaction, or {@code null} if it failed a check
+     */
+    @Nullable
+    private TransactionInfo check(
+            @NonNull final PendingSubmission pending,
+            @NonNull final HederaState state,
+            @NonNull final Configuration configuration) {
+        try {
+            final var tx = transactionChecker.parse(pending.requestBuffer);
+            return ingestChecker.runAllChecks(state, tx, configuration);
+        } catch (final InsufficientBalanceException e) {
+            pending.complete(response(e.responseCode(), e.getEstimatedFee()));
+        } catch (final PreCheckException e) {
+            pending.complete(response(e.responseCode(), 0L));
+        }
+        return null;
+    }
+
+    /**
+     * Remember a parsed transaction so that pre-handle on this node does not have to parse it again. Unchecked submits
+     * are not remembered, since other bytes are submitted for them.
+     *
+     * @return the bytes under which the transaction was remembered, or {@code null} if it was not
+     */
+    @Nullable
+    private byte[] rememberParsed(@NonNull final Bytes requestBuffer, @NonNull final TransactionInfo transactionInfo) {
+        if (transactionInfo.txBody().hasUncheckedSubmit()) {
+            return null;
+        }
+        final var txBytes = requestBuffer.toByteArray();
+        parsedTransactionCache.put(txBytes, transactionInfo);
+        return txBytes;
+    }
+
+    @NonNull
+    private static TransactionResponse response(@NonNull final ResponseCodeEnum result, final long estimatedFee) {
+        return TransactionResponse.newBuilder()
                 .nodeTransactionPrecheckCode(result)
                 .cost(estimatedFee)
                 .build();
+    }
 
-        try {
-            TransactionResponse.PROTOBUF.write(transactionResponse, responseBuffer);
-        } catch (IOException ex) {
-            // It may be that the response couldn't be written because the response buffer was
-            // too small, which would be an internal server error.
-            throw new UncheckedIOException("Failed to write bytes to response buffer", ex);
+    /**
+     * A transaction waiting to be processed in a batch.
+     */
+    private static final class PendingSubmission {
+        private final Bytes requestBuffer;
+        private final Thread submitter = Thread.currentThread();
+        private volatile TransactionResponse response;
+
+        private PendingSubmission(@NonNull final Bytes requestBuffer) {
+            this.requestBuffer = requestBuffer;
+        }
+
+        private void complete(@NonNull final TransactionResponse response) {
+            this.response = response;
+            LockSupport.unpark(submitter);
         }
     }
 }
@@ -16,10 +16,15 @@
 
 package com.hedera.node.app.workflows.ingest;
 
+import static com.hedera.hapi.node.base.ResponseCodeEnum.BUSY;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.DUPLICATE_TRANSACTION;
+import static com.hedera.hapi.node.base.ResponseCodeEnum.OK;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.PLATFORM_TRANSACTION_NOT_CREATED;
+import static com.swirlds.common.utility.BatchPrefix.forEachOutcome;
 import static java.util.Objects.requireNonNull;
 
+import com.hedera.hapi.node.base.ResponseCodeEnum;
+import com.hedera.hapi.node.base.TransactionID;
 import com.hedera.hapi.node.transaction.TransactionBody;
 import com.hedera.node.app.service.mono.context.properties.Profile;
 import com.hedera.node.app.service.mono.pbj.PbjConverter;
@@ -33,6 +38,11 @@ import com.swirlds.common.metrics.Metrics;
 import com.swirlds.common.metrics.SpeedometerMetric;
 import com.swirlds.common.system.Platform;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -123,20 +133,7 @@ public class SubmissionManager {
         requireNonNull(txBody);
         requireNonNull(txBytes);
 
-        Bytes payload = txBytes;
-
-        // Unchecked submits are a mechanism to inject transaction to the system, that bypass all
-        // pre-checks. This is used in tests to check the reaction to illegal input.
-        // FUTURE This should be deprecated and removed. We do not want this in our production system.
-        if (txBody.hasUncheckedSubmit()) {
-            // We do NOT allow this call in production!
-            if (isProduction) {
-                throw new PreCheckException(PLATFORM_TRANSACTION_NOT_CREATED);
-            }
-
-            // We allow it outside of prod, but it really shouldn't be used.
-            payload = txBody.uncheckedSubmitOrThrow().transactionBytes();
-        }
+        final var payload = payloadOf(txBody, txBytes);
 
         // This method is not called at a super high rate, so synchronizing here is perfectly fine. We need to check
         // for containment and then do a bunch of logic that might throw an exception before doing the `add` and we
@@ -163,4 +160,101 @@ public class SubmissionManager {
             }
         }
     }
+
+    /**
+     * Submit a batch of transactions to the {@link Platform} in a single call, see
+     * {@link #submit(TransactionBody, Bytes)}. Instead of throwing, the outcome of each transaction is returned.
+     *
+     * <p>The platform accepts the leading transactions of the batch for which its transaction pool has room. If the
+     * platform accepts some but not all transactions, then the pool filled up and the remaining transactions are
+     * answered with {@link ResponseCodeEnum#BUSY}, so the clients know to retry. If the platform accepts none of them,
+     * then they are answered with {@link ResponseCodeEnum#PLATFORM_TRANSACTION_NOT_CREATED}, as for a single
+     * transaction.
+     *
+     * @param txBodies the {@link TransactionBody}s that should be submitted to the platform
+     * @param txBytes  the bytes of each transaction, in the same order as {@code txBodies}
+     * @return the response code of each transaction, {@link ResponseCodeEnum#OK} if it was submitted
+     * @throws NullPointerException if one of the arguments is {@code null}
+     * @throws IllegalArgumentException if the lists have different sizes
+     */
+    @NonNull
+    public List<ResponseCodeEnum> submitAll(
+            @NonNull final List<TransactionBody> txBodies, @NonNull final List<Bytes> txBytes) {
+        requireNonNull(txBodies);
+        requireNonNull(txBytes);
+        if (txBodies.size() != txBytes.size()) {
+            throw new IllegalArgumentException("txBodies and txBytes must have the same size");
+        }
+
+        final var results = new ResponseCodeEnum[txBodies.size()];
+        final var payloads = new byte[txBodies.size()][];
+        for (int i = 0; i < txBodies.size(); i++) {
+            try {
+                payloads[i] = PbjConverter.asBytes(payloadOf(txBodies.get(i), txBytes.get(i)));
+            } catch (final PreCheckException e) {
+                results[i] = e.responseCode();
+            }
+        }
+
+        synchronized (submittedTxns) {
+            // Duplicates are answered without being submitted, including duplicates within the batch itself
+            final Set<TransactionID> batchTxIds = new HashSet<>();
+            final var indices = new ArrayList<Integer>(txBodies.size());
+            final var txIds = new ArrayList<TransactionID>(txBodies.size());
+            final var submittedPayloads = new ArrayList<byte[]>(txBodies.size());
+            for (int i = 0; i < txBodies.size(); i++) {
+                if (payloads[i] == null) {
+                    continue;
+                }
+                final var txId = txBodies.get(i).transactionIDOrThrow();
+                if (submittedTxns.contains(txId) || !batchTxIds.add(txId)) {
+                    results[i] = DUPLICATE_TRANSACTION;
+                } else {
+                    indices.add(i);
+                    txIds.add(txId);
+                    submittedPayloads.add(payloads[i]);
+                }
+            }
+
+            final int accepted = submittedPayloads.isEmpty() ? 0 : platform.createTransactions(submittedPayloads);
+            final var rejectionCode = accepted == 0 ? PLATFORM_TRANSACTION_NOT_CREATED : BUSY;
+            forEachOutcome(
+                    indices.size(),
+                    accepted,
+                    j -> {
+                        submittedTxns.add(txIds.get(j));
+                        results[indices.get(j)] = OK;
+                    },
+                    j -> {
+                        platformTxnRejections.cycle();
+                        results[indices.get(j)] = rejectionCode;
+                    });
+        }
+
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Get the bytes to submit for a transaction. If the transaction is an unchecked submit, the given tx bytes are
+     * ignored and the bytes of the unchecked submit are returned instead.
+     */
+    @NonNull
+    private Bytes payloadOf(@NonNull final TransactionBody txBody, @NonNull final Bytes txBytes)
+            throws PreCheckException {
+        Bytes payload = txBytes;
+
+        // Unchecked submits are a mechanism to inject transaction to the system, that bypass all
+        // pre-checks. This is used in tests to check the reaction to illegal input.
+        // FUTURE This should be deprecated and removed. We do not want this in our production system.
+        if (txBody.hasUncheckedSubmit()) {
+            // We do NOT allow this call in production!
+            if (isProduction) {
+                throw new PreCheckException(PLATFORM_TRANSACTION_NOT_CREATED);
+            }
+
+            // We allow it outside of prod, but it really shouldn't be used.
+            payload = txBody.uncheckedSubmitOrThrow().transactionBytes();
+        }
+        return payload;
+    }
 }
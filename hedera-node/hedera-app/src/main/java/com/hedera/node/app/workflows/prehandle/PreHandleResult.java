@@ -51,6 +51,8 @@ import java.util.concurrent.Future;
  *                            are used as the key of this map.
  * @param innerResult {@link PreHandleResult} of the inner transaction (where appropriate)
  * @param configVersion The version of the configuration that was used during pre-handle
+ * @param readSet The keys read while pre-handling the transaction, which may be prefetched before it is handled. This
+ *                is {@code null} if pre-handle did not get far enough to dispatch the transaction.
  */
 public record PreHandleResult(
         @Nullable AccountID payer,
@@ -62,7 +64,8 @@ public record PreHandleResult(
         @Nullable Set<Account> hollowAccounts,
         @Nullable Map<Key, SignatureVerificationFuture> verificationResults,
         @Nullable PreHandleResult innerResult,
-        long configVersion) {
+        long configVersion,
+        @Nullable ReadSet readSet) {
 
     /**
      * An enumeration of all possible types of pre-handle results.
@@ -108,7 +111,7 @@ public record PreHandleResult(
     @NonNull
     public static PreHandleResult unknownFailure() {
         return new PreHandleResult(
-                null, null, Status.UNKNOWN_FAILURE, UNKNOWN, null, null, null, null, null, UNKNOWN_VERSION);
+                null, null, Status.UNKNOWN_FAILURE, UNKNOWN, null, null, null, null, null, UNKNOWN_VERSION, null);
     }
 
     /**
@@ -137,7 +140,8 @@ public record PreHandleResult(
                 null,
                 null,
                 null,
-                UNKNOWN_VERSION);
+                UNKNOWN_VERSION,
+                null);
     }
 
     /**
@@ -170,6 +174,7 @@ public record PreHandleResult(
                 hollowAccounts,
                 verificationResults,
                 null,
-                UNKNOWN_VERSION);
+                UNKNOWN_VERSION,
+                null);
     }
 }
@@ -40,6 +40,7 @@ import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
 import com.hedera.node.app.spi.workflows.TransactionHandler;
 import com.hedera.node.app.state.DeduplicationCache;
+import com.hedera.node.app.workflows.ParsedTransactionCache;
 import com.hedera.node.app.workflows.TransactionChecker;
 import com.hedera.node.app.workflows.TransactionInfo;
 import com.hedera.node.app.workflows.dispatcher.ReadableStoreFactory;
@@ -81,6 +82,8 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
     private final ConfigProvider configProvider;
     /** Used for registering notice of transactionIDs seen by this node */
     private final DeduplicationCache deduplicationCache;
+    /** Provides transactions that this node already parsed during ingest */
+    private final ParsedTransactionCache parsedTransactionCache;
 
     /**
      * Creates a new instance of {@code PreHandleWorkflowImpl}.
@@ -89,6 +92,7 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
      *                   transaction.
      * @param transactionChecker the {@link TransactionChecker} for parsing and verifying the transaction
      * @param signatureVerifier the {@link SignatureVerifier} to verify signatures
+     * @param parsedTransactionCache the {@link ParsedTransactionCache} with transactions parsed during ingest
      * @throws NullPointerException if any of the parameters is {@code null}
      */
     @Inject
@@ -98,13 +102,15 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
             @NonNull final SignatureVerifier signatureVerifier,
             @NonNull final SignatureExpander signatureExpander,
             @NonNull final ConfigProvider configProvider,
-            @NonNull final DeduplicationCache deduplicationCache) {
+            @NonNull final DeduplicationCache deduplicationCache,
+            @NonNull final ParsedTransactionCache parsedTransactionCache) {
         this.dispatcher = requireNonNull(dispatcher);
         this.transactionChecker = requireNonNull(transactionChecker);
         this.signatureVerifier = requireNonNull(signatureVerifier);
         this.signatureExpander = requireNonNull(signatureExpander);
         this.configProvider = requireNonNull(configProvider);
         this.deduplicationCache = requireNonNull(deduplicationCache);
+        this.parsedTransactionCache = requireNonNull(parsedTransactionCache);
     }
 
     /** {@inheritDoc} */
@@ -118,13 +124,13 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
         requireNonNull(creator);
         requireNonNull(transactions);
 
-        // Used for looking up payer account information.
-        final var accountStore = readableStoreFactory.getStore(ReadableAccountStore.class);
-
         // In parallel, we will pre-handle each transaction.
         transactions.parallel().forEach(tx -> {
             if (tx.isSystem()) return;
             try {
+                // Used for looking up payer account information. The states behind a store cache what they read and
+                // are not thread-safe, so every transaction gets its own store instead of sharing one across threads.
+                final var accountStore = readableStoreFactory.getStore(ReadableAccountStore.class);
                 tx.setMetadata(preHandleTransaction(creator, readableStoreFactory, accountStore, tx));
             } catch (final Exception unexpectedException) {
                 // If some random exception happened, then we should not charge the node for it. Instead,
@@ -147,11 +153,15 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
             @NonNull final ReadableAccountStore accountStore,
             @NonNull final Transaction platformTx) {
 
-        // 1. Parse the Transaction and check the syntax
-        final var txBytes = Bytes.wrap(platformTx.getContents());
+        // 1. Parse the Transaction and check the syntax. If this node submitted the transaction, then it has already
+        // been parsed and checked during ingest. The parsed transaction is used for everything that follows, including
+        // signature expansion and dispatch.
         final TransactionInfo txInfo;
         try {
-            txInfo = transactionChecker.parseAndCheck(txBytes);
+            final var cachedTxInfo = parsedTransactionCache.remove(platformTx.getContents());
+            txInfo = cachedTxInfo != null
+                    ? cachedTxInfo
+                    : transactionChecker.parseAndCheck(Bytes.wrap(platformTx.getContents()));
 
             // The transaction account ID MUST have matched the creator!
             if (!creator.equals(txInfo.txBody().nodeAccountID())) {
@@ -182,8 +192,8 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
             // deleted, we skip the signature verification.
             return preHandleFailure(creator, null, PAYER_ACCOUNT_DELETED, txInfo, null, null, null);
         }
-        // 3. Expand and verify signatures
-        return expandAndVerifySignatures(txInfo, payer, payerAccount, storeFactory);
+        // 3. Expand and verify signatures. The stores used for this record what they read, so handle can prefetch it.
+        return expandAndVerifySignatures(txInfo, payer, payerAccount, storeFactory.recordingReads());
     }
 
     /**
@@ -266,6 +276,7 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
                 context.requiredHollowAccounts(),
                 results,
                 null,
-                configuration.getVersion());
+                configuration.getVersion(),
+                new ReadSet(storeFactory.readKeys()));
     }
 }
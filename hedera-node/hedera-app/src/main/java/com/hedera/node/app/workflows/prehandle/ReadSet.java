@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.prehandle;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The keys of key/value states that were read while a transaction was pre-handled. Handling the transaction will most
+ * likely read the same keys again, so they can be prefetched before the transaction is handled.
+ *
+ * @param keys the keys that were read, by service name and state key
+ */
+public record ReadSet(@NonNull Map<String, Map<String, Set<?>>> keys) {
+
+    /** A {@link ReadSet} without any keys */
+    public static final ReadSet EMPTY = new ReadSet(Map.of());
+
+    /** Create a new instance. */
+    public ReadSet {
+        requireNonNull(keys);
+    }
+
+    /**
+     * Checks whether no keys were read.
+     *
+     * @return {@code true} if no keys were read, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return keys.isEmpty();
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.query;
+
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.transaction.Response;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.CacheConfig;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.metrics.Counter;
+import com.swirlds.common.metrics.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Caches the responses of free, answer-only queries, so that clients polling for the same answer (e.g. a receipt or an
+ * account balance) do not cause the answer to be computed again and again.
+ *
+ * <p>Responses are keyed by the bytes of the query, which identify both the type of the query and the entity it is
+ * about. Each response is tagged with the version of the state it was computed from. The version changes whenever a
+ * round has been handled, and a response is only returned for the version it was computed from. Therefore, a cached
+ * response is never older than the end of the previous round, which is the same guarantee a query answered from the
+ * latest immutable state would give.
+ *
+ * <p>This cache is not part of state and only affects performance.
+ *
+ * <p>This class is a thread-safe singleton.
+ */
+@Singleton
+public class QueryResultCache {
+    private static final String COUNTER_HITS_NAME = "QueryCacheHits";
+    private static final String COUNTER_HITS_DESC = "number of free queries answered from the query cache";
+    private static final String COUNTER_MISSES_NAME = "QueryCacheMisses";
+    private static final String COUNTER_MISSES_DESC = "number of free queries not found in the query cache";
+
+    private final ConfigProvider configProvider;
+    /** The cached responses, keyed by the bytes of the query */
+    private final Map<Bytes, Entry> cache = new ConcurrentHashMap<>();
+    /** The version of the state, incremented whenever a round has been handled */
+    private final AtomicLong stateVersion = new AtomicLong();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    /**
+     * Create a new {@link QueryResultCache}
+     *
+     * @param configProvider the {@link ConfigProvider} to get the maximum size of the cache
+     * @param metrics metrics related to queries
+     * @throws NullPointerException if one of the arguments is {@code null}
+     */
+    @Inject
+    public QueryResultCache(@NonNull final ConfigProvider configProvider, @NonNull final Metrics metrics) {
+        this.configProvider = requireNonNull(configProvider);
+        requireNonNull(metrics);
+        this.hitCounter =
+                metrics.getOrCreate(new Counter.Config("app", COUNTER_HITS_NAME).withDescription(COUNTER_HITS_DESC));
+        this.missCounter = metrics.getOrCreate(
+                new Counter.Config("app", COUNTER_MISSES_NAME).withDescription(COUNTER_MISSES_DESC));
+    }
+
+    /**
+     * Get the current version of the state. A caller has to get the version <em>before</em> reading the state to
+     * compute a response, and pass it to {@link #put(Bytes, long, Response)}.
+     *
+     * @return the current version
+     */
+    public long currentVersion() {
+        return stateVersion.get();
+    }
+
+    /**
+     * Get the cached response for a query, if it was computed from the current version of the state.
+     *
+     * @param query the bytes of the query
+     * @return the cached response, or {@code null} if there is none
+     * @throws NullPointerException if {@code query} is {@code null}
+     */
+    @Nullable
+    public Response get(@NonNull final Bytes query) {
+        requireNonNull(query);
+        final var entry = cache.get(query);
+        if (entry != null && entry.version() == stateVersion.get()) {
+            hitCounter.increment();
+            return entry.response();
+        }
+        missCounter.increment();
+        return null;
+    }
+
+    /**
+     * Remember the response for a query.
+     *
+     * @param query the bytes of the query, must not be modified afterwards
+     * @param version the version of the state when the computation of the response started
+     * @param response the response
+     * @throws NullPointerException if one of the arguments is {@code null}
+     */
+    public void put(@NonNull final Bytes query, final long version, @NonNull final Response response) {
+        requireNonNull(query);
+        requireNonNull(response);
+        if (version != stateVersion.get()) {
+            // A round has been handled while the response was computed, so it may already be outdated
+            return;
+        }
+        final var maxEntries = configProvider.getConfiguration().getConfigData(CacheConfig.class).queriesMaxEntries();
+        if (maxEntries <= 0) {
+            return;
+        }
+        if (cache.size() >= maxEntries) {
+            cache.clear();
+        }
+        cache.put(query, new Entry(version, response));
+    }
+
+    /**
+     * Invalidate all cached responses. Must be called whenever a round has been handled.
+     */
+    public void invalidate() {
+        stateVersion.incrementAndGet();
+        // Outdated entries would never be returned anyway, but they should not use memory until the cache fills up
+        cache.clear();
+    }
+
+    private record Entry(long version, @NonNull Response response) {}
+}
@@ -22,6 +22,7 @@ import static com.hedera.hapi.node.base.ResponseCodeEnum.BUSY;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.NOT_SUPPORTED;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.OK;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.PAYER_ACCOUNT_NOT_FOUND;
+import static com.hedera.hapi.node.base.ResponseType.ANSWER_ONLY;
 import static com.hedera.hapi.node.base.ResponseType.ANSWER_STATE_PROOF;
 import static com.hedera.hapi.node.base.ResponseType.COST_ANSWER_STATE_PROOF;
 import static java.util.Objects.requireNonNull;
@@ -93,6 +94,7 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
     private final Authorizer authorizer;
     private final ExchangeRateManager exchangeRateManager;
     private final FeeManager feeManager;
+    private final QueryResultCache queryResultCache;
 
     /**
      * Constructor of {@code QueryWorkflowImpl}
@@ -110,6 +112,7 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
      * @param authorizer the {@link Authorizer} to check permissions and special privileges
      * @param exchangeRateManager the {@link ExchangeRateManager} to get the {@link ExchangeRateInfo}
      * @param feeManager the {@link FeeManager} to calculate the fees
+     * @param queryResultCache the {@link QueryResultCache} with the responses of free queries
      * @throws NullPointerException if one of the arguments is {@code null}
      */
     @Inject
@@ -125,7 +128,8 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
             @NonNull final RecordCache recordCache,
             @NonNull final Authorizer authorizer,
             @NonNull final ExchangeRateManager exchangeRateManager,
-            @NonNull final FeeManager feeManager) {
+            @NonNull final FeeManager feeManager,
+            @NonNull final QueryResultCache queryResultCache) {
         this.stateAccessor = requireNonNull(stateAccessor, "stateAccessor must not be null");
         this.throttleAccumulator = requireNonNull(throttleAccumulator, "throttleAccumulator must not be null");
         this.submissionManager = requireNonNull(submissionManager, "submissionManager must not be null");
@@ -138,6 +142,7 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
         this.exchangeRateManager = requireNonNull(exchangeRateManager, "exchangeRateManager must not be null");
         this.authorizer = requireNonNull(authorizer, "authorizer must not be null");
         this.feeManager = requireNonNull(feeManager, "feeManager must not be null");
+        this.queryResultCache = requireNonNull(queryResultCache, "queryResultCache must not be null");
     }
 
     @Override
@@ -175,9 +180,23 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
                 throw new PreCheckException(BUSY);
             }
 
+            // Free answer-only queries may have been answered from the same state already. The version has to be
+            // taken before the state is read, so that a response computed from an outdated state is not cached.
+            final var paymentRequired = handler.requiresNodePayment(responseType);
+            final var cacheable = responseType == ANSWER_ONLY
+                    && !paymentRequired
+                    && !RESTRICTED_FUNCTIONALITIES.contains(function);
+            final var stateVersion = queryResultCache.currentVersion();
+            if (cacheable) {
+                final var cachedResponse = queryResultCache.get(requestBuffer);
+                if (cachedResponse != null) {
+                    writeResponse(cachedResponse, responseBuffer);
+                    return;
+                }
+            }
+
             final var state = wrappedState.get();
             final var storeFactory = new ReadableStoreFactory(state);
-            final var paymentRequired = handler.requiresNodePayment(responseType);
             final var feeCalculator = feeManager.createFeeCalculator(function, consensusTime);
             final QueryContext context;
             Transaction allegedPayment = null;
@@ -259,6 +278,9 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
                 // 6.ii Find response
                 final var header = createResponseHeader(responseType, OK, 0L);
                 response = handler.findResponse(context, header);
+                if (cacheable) {
+                    queryResultCache.put(requestBuffer, stateVersion, response);
+                }
             }
         } catch (InsufficientBalanceException e) {
             final var header = createResponseHeader(responseType, e.responseCode(), e.getEstimatedFee());
@@ -268,6 +290,10 @@ public final class QueryWorkflowImpl implements QueryWorkflow {
             response = handler.createEmptyResponse(header);
         }
 
+        writeResponse(response, responseBuffer);
+    }
+
+    private static void writeResponse(@NonNull final Response response, @NonNull final BufferedData responseBuffer) {
         try {
             Response.PROTOBUF.write(response, responseBuffer);
             logger.debug("Finished handling a query request in Query workflow");
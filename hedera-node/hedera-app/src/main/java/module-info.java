@@ -37,6 +37,7 @@ module com.hedera.node.app {
     requires com.swirlds.platform.core;
     requires grpc.netty;
     requires io.grpc;
+    requires io.netty.buffer;
     requires io.netty.handler;
     requires io.netty.transport.classes.epoll;
     requires io.netty.transport;
@@ -24,17 +24,24 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 import com.hedera.node.app.utils.TestUtils;
+import com.hedera.node.config.data.GrpcConfig;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
 import com.hedera.node.app.workflows.query.QueryWorkflow;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.metrics.Counter;
 import com.swirlds.common.metrics.Metrics;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -159,6 +166,93 @@ final class QueryMethodTest {
         verify(streamObserver).onError(Mockito.any());
     }
 
+    @Test
+    void handleOnQueryExecutor() throws InterruptedException {
+        // Given a QueryMethod that answers queries with a QueryExecutor
+        final var answeredOn = new AtomicReference<Thread>();
+        final QueryWorkflow w = (req, res) -> {
+            answeredOn.set(Thread.currentThread());
+            res.writeBytes(req);
+        };
+        final var method = new QueryMethod(SERVICE_NAME, METHOD_NAME, w, metrics, queryExecutor(1, 10, 10));
+        final var observer = new StubbedStreamObserver();
+
+        // When the method is invoked
+        method.invoke(BufferedData.wrap("Query".getBytes(StandardCharsets.UTF_8)), observer);
+
+        // Then the query is answered on a query thread
+        assertThat(observer.completed.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(observer.responseData).isEqualTo("Query");
+        assertThat(answeredOn.get()).isNotSameAs(Thread.currentThread());
+        assertThat(counter("Sub").get()).isEqualTo(1L);
+    }
+
+    @Test
+    void queryExecutorDoesNotSeeReusedRequestBuffer() throws InterruptedException {
+        // Given a QueryMethod that answers queries with a QueryExecutor, and a query that is blocked
+        final var release = new CountDownLatch(1);
+        final QueryWorkflow w = (req, res) -> {
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            res.writeBytes(req);
+        };
+        final var method = new QueryMethod(SERVICE_NAME, METHOD_NAME, w, metrics, queryExecutor(1, 10, 10));
+        final var observer = new StubbedStreamObserver();
+        final var requestBuffer = BufferedData.wrap("Query".getBytes(StandardCharsets.UTF_8));
+        method.invoke(requestBuffer, observer);
+
+        // When the request buffer is reused for another call before the query is answered
+        requestBuffer.reset();
+        requestBuffer.writeBytes("Other".getBytes(StandardCharsets.UTF_8));
+        release.countDown();
+
+        // Then the query is answered with the original request
+        assertThat(observer.completed.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(observer.responseData).isEqualTo("Query");
+    }
+
+    @Test
+    void rejectTooManyQueriesOfSameType(@Mock final StreamObserver<BufferedData> streamObserver)
+            throws InterruptedException {
+        // Given a QueryMethod that allows a single pending query, and a query that is blocked
+        final var release = new CountDownLatch(1);
+        final QueryWorkflow w = (req, res) -> {
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        final var method = new QueryMethod(SERVICE_NAME, METHOD_NAME, w, metrics, queryExecutor(2, 10, 1));
+        final var blockedObserver = new StubbedStreamObserver();
+        method.invoke(BufferedData.allocate(10), blockedObserver);
+
+        // When another query of the same type arrives
+        method.invoke(BufferedData.allocate(10), streamObserver);
+
+        // Then it is rejected right away
+        verify(streamObserver)
+                .onError(Mockito.argThat(e -> e instanceof StatusRuntimeException sre
+                        && sre.getStatus().getCode() == Status.Code.RESOURCE_EXHAUSTED));
+
+        // And the blocked query is still answered once it can proceed
+        release.countDown();
+        assertThat(blockedObserver.completed.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private QueryExecutor queryExecutor(final int threads, final int maxQueued, final int maxConcurrentPerType) {
+        final var config = HederaTestConfigBuilder.create()
+                .withValue("grpc.queryThreads", threads)
+                .withValue("grpc.queryMaxQueued", maxQueued)
+                .withValue("grpc.queryMaxConcurrentPerType", maxConcurrentPerType)
+                .getOrCreateConfig()
+                .getConfigData(GrpcConfig.class);
+        return new QueryExecutor(config, metrics);
+    }
+
     private Counter counter(String suffix) {
         return (Counter) metrics.getMetric("app", SERVICE_NAME + "/" + METHOD_NAME + suffix);
     }
@@ -198,7 +292,8 @@ final class QueryMethodTest {
     }
 
     private static final class StubbedStreamObserver implements StreamObserver<BufferedData> {
-        private String responseData;
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile String responseData;
 
         @Override
         public void onNext(BufferedData value) {
@@ -212,7 +307,7 @@ final class QueryMethodTest {
 
         @Override
         public void onCompleted() {
-            // No-op
+            completed.countDown();
         }
     }
 }
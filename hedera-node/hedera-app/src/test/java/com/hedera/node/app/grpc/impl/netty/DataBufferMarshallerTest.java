@@ -22,9 +22,12 @@ import static org.junit.jupiter.api.Assertions.*;
 import com.hedera.node.app.Hedera;
 import com.hedera.node.app.utils.TestUtils;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import io.grpc.HasByteBuffer;
+import io.grpc.KnownLength;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
@@ -158,4 +161,71 @@ final class DataBufferMarshallerTest {
             }
         }
     }
+
+    @Test
+    @DisplayName("A message in a single network buffer is wrapped instead of copied")
+    void parseNetworkBufferWithoutCopying() {
+        final var arr1 = TestUtils.randomBytes(100);
+        final var arr2 = TestUtils.randomBytes(100);
+
+        final var buf1 = marshaller.parse(new NetworkBufferStream(ByteBuffer.wrap(arr1)));
+        final var buf2 = marshaller.parse(new NetworkBufferStream(ByteBuffer.wrap(arr2)));
+
+        // Unlike the per-thread buffer, parsing the second message does not overwrite the first one
+        assertEquals(arr1.length, buf1.remaining());
+        for (byte b : arr1) {
+            assertEquals(b, buf1.readByte());
+        }
+        assertEquals(arr2.length, buf2.remaining());
+        for (byte b : arr2) {
+            assertEquals(b, buf2.readByte());
+        }
+    }
+
+    @Test
+    @DisplayName("A message in a network buffer that is too big is still truncated")
+    void parseNetworkBufferThatIsTooBig() {
+        final var arr = TestUtils.randomBytes(Hedera.MAX_SIGNED_TXN_SIZE + 100);
+        final var buff = marshaller.parse(new NetworkBufferStream(ByteBuffer.wrap(arr)));
+        assertThat(buff.length()).isEqualTo(Hedera.MAX_SIGNED_TXN_SIZE + 1);
+    }
+
+    /** A stream that exposes its buffer, like the streams the gRPC server passes to the marshaller */
+    private static final class NetworkBufferStream extends InputStream implements KnownLength, HasByteBuffer {
+        private final ByteBuffer buffer;
+
+        private NetworkBufferStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? Byte.toUnsignedInt(buffer.get()) : -1;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final int count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public boolean byteBufferSupported() {
+            return true;
+        }
+
+        @Override
+        public ByteBuffer getByteBuffer() {
+            return buffer.hasRemaining() ? buffer.duplicate() : null;
+        }
+    }
 }
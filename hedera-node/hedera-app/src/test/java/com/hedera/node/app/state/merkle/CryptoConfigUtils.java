@@ -19,7 +19,7 @@ package com.hedera.node.app.state.merkle;
 import com.swirlds.common.crypto.config.CryptoConfig;
 
 public class CryptoConfigUtils {
-    public static CryptoConfig MINIMAL_CRYPTO_CONFIG = new CryptoConfig(1, 1, 5, 5, "keystorePass");
+    public static CryptoConfig MINIMAL_CRYPTO_CONFIG = new CryptoConfig(1, 1, 5, 5, 256, 0, "keystorePass");
 
     private CryptoConfigUtils() {}
 }
@@ -24,6 +24,12 @@ import com.hedera.node.app.spi.state.StateDefinition;
 import com.hedera.node.app.state.merkle.MerkleTestBase;
 import com.hedera.node.app.state.merkle.StateMetadata;
 import com.swirlds.virtualmap.VirtualMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -107,4 +113,76 @@ class OnDiskReadableStateTest extends MerkleTestBase {
             assertThat(state.get(G_KEY)).isNull();
         }
     }
+
+    @Nested
+    @DisplayName("Warm Tests")
+    final class WarmTest {
+        private static final int KEY_COUNT = 50;
+
+        @Test
+        @DisplayName("Warming keys does not change the state")
+        void warmDoesNotChangeState() {
+            add(virtualMap, md, A_KEY, APPLE);
+            add(virtualMap, md, B_KEY, BANANA);
+            final var state = new OnDiskReadableKVState<>(md, virtualMap);
+
+            state.warm(A_KEY);
+            state.warm(C_KEY);
+
+            assertThat(state.readKeys()).isEmpty();
+            assertThat(virtualMap.size()).isEqualTo(2);
+            assertThat(state.get(A_KEY)).isEqualTo(APPLE);
+            assertThat(state.get(C_KEY)).isNull();
+        }
+
+        @Test
+        @DisplayName("Keys can be warmed while the virtual map is modified")
+        void warmConcurrentlyWithModifications() throws Exception {
+            for (int i = 0; i < KEY_COUNT; i++) {
+                add(virtualMap, md, "key" + i, "initial" + i);
+            }
+            final var state = new OnDiskReadableKVState<>(md, virtualMap);
+            final var done = new AtomicBoolean();
+            final var started = new CountDownLatch(2);
+            final ExecutorService warmers = Executors.newFixedThreadPool(2);
+            try {
+                final Future<?> first = warmers.submit(() -> warmUntilDone(state, started, done));
+                final Future<?> second = warmers.submit(() -> warmUntilDone(state, started, done));
+                assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+                for (int round = 0; round < 20; round++) {
+                    for (int i = 0; i < KEY_COUNT; i++) {
+                        if ((i + round) % 3 == 0) {
+                            virtualMap.remove(new OnDiskKey<>(md, "key" + i));
+                        } else {
+                            add(virtualMap, md, "key" + i, "round" + round + "-" + i);
+                        }
+                    }
+                }
+                done.set(true);
+                first.get(10, TimeUnit.SECONDS);
+                second.get(10, TimeUnit.SECONDS);
+            } finally {
+                done.set(true);
+                warmers.shutdownNow();
+            }
+
+            for (int i = 0; i < KEY_COUNT; i++) {
+                final var expected = (i + 19) % 3 == 0 ? null : "round19-" + i;
+                assertThat(state.get("key" + i)).isEqualTo(expected);
+            }
+        }
+
+        private void warmUntilDone(
+                final OnDiskReadableKVState<String, String> state,
+                final CountDownLatch started,
+                final AtomicBoolean done) {
+            started.countDown();
+            while (!done.get()) {
+                for (int i = 0; i < KEY_COUNT; i++) {
+                    state.warm("key" + i);
+                }
+            }
+        }
+    }
 }
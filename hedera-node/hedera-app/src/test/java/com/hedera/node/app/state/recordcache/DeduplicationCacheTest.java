@@ -27,7 +27,7 @@ import com.hedera.node.config.ConfigProvider;
 import com.hedera.node.config.VersionedConfiguration;
 import com.hedera.node.config.data.HederaConfig;
 import java.time.Instant;
-import java.util.Set;
+import java.util.List;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -76,7 +76,7 @@ final class DeduplicationCacheTest {
         cache.add(txId);
 
         // Then it is not added!
-        assertThat(internalSet()).isEmpty();
+        assertThat(internalTransactionIds()).isEmpty();
         assertThat(cache.contains(txId)).isFalse();
     }
 
@@ -96,7 +96,7 @@ final class DeduplicationCacheTest {
 
         // We allow it to be added. The TransactionChecker is responsible for filtering out future transactions,
         // not this cache.
-        assertThat(internalSet()).containsExactly(txId);
+        assertThat(internalTransactionIds()).containsExactly(txId);
         assertThat(cache.contains(txId)).isTrue();
     }
 
@@ -115,7 +115,7 @@ final class DeduplicationCacheTest {
         cache.add(txId);
 
         // Then it is added
-        assertThat(internalSet()).containsExactly(txId);
+        assertThat(internalTransactionIds()).containsExactly(txId);
         assertThat(cache.contains(txId)).isTrue();
     }
 
@@ -136,7 +136,7 @@ final class DeduplicationCacheTest {
         txIds.forEach(cache::add);
 
         // Then they are added in order
-        assertThat(internalSet())
+        assertThat(internalTransactionIds())
                 .containsExactly(
                         txIds.get(2),
                         txIds.get(6),
@@ -160,7 +160,7 @@ final class DeduplicationCacheTest {
                         .seconds(now.getEpochSecond() - MAX_TXN_DURATION - 1)
                         .build())
                 .build();
-        internalSet().add(txId);
+        addInternally(txId);
 
         // When we add a new transaction ID that is in the right time window
         final var txId2 = TransactionID.newBuilder()
@@ -171,7 +171,7 @@ final class DeduplicationCacheTest {
         cache.add(txId2);
 
         // Then we find that the expired transaction ID is gone
-        assertThat(internalSet()).containsExactly(txId2);
+        assertThat(internalTransactionIds()).containsExactly(txId2);
     }
 
     @Test
@@ -184,14 +184,14 @@ final class DeduplicationCacheTest {
                         .seconds(now.getEpochSecond() - MAX_TXN_DURATION - 1)
                         .build())
                 .build();
-        internalSet().add(txId);
+        addInternally(txId);
 
         // When we check to see if it is in the cache
         final var result = cache.contains(txId);
 
         // Then we find that the expired transaction ID is gone
         assertThat(result).isFalse();
-        assertThat(internalSet()).isEmpty();
+        assertThat(internalTransactionIds()).isEmpty();
     }
 
     @Test
@@ -210,24 +210,34 @@ final class DeduplicationCacheTest {
         cache.add(txId);
 
         // Then it is added only once
-        assertThat(internalSet()).containsExactly(txId);
+        assertThat(internalTransactionIds()).containsExactly(txId);
         assertThat(cache.contains(txId)).isTrue();
     }
 
     /**
-     * Utility method for testing purposes that gets at the internal Set used by the cache. This makes it possible to
+     * Utility method for testing purposes that gets at the internal index used by the cache. This makes it possible to
      * test more completely without having to open the access permissions on the cache itself.
      *
-     * @return The internal Set of the cache.
+     * @return The internal index of the cache.
      */
-    private Set<TransactionID> internalSet() {
+    private TransactionIdIndex<Boolean> internalIndex() {
         try {
             final var field = DeduplicationCacheImpl.class.getDeclaredField("submittedTxns");
             field.setAccessible(true);
             //noinspection unchecked
-            return (Set<TransactionID>) field.get(cache);
+            return (TransactionIdIndex<Boolean>) field.get(cache);
         } catch (NoSuchFieldException | IllegalAccessException e) {
             throw new RuntimeException(e);
         }
     }
+
+    /** Gets all transaction IDs in the internal index, ordered by valid start time. */
+    private List<TransactionID> internalTransactionIds() {
+        return internalIndex().transactionIds();
+    }
+
+    /** Adds a transaction ID to the internal index, bypassing the expiry check of the cache. */
+    private void addInternally(final TransactionID txId) {
+        internalIndex().computeIfAbsent(txId, ignored -> Boolean.TRUE);
+    }
 }
@@ -699,4 +699,83 @@ final class RecordCacheImplTest {
             assertThat(cache.hasDuplicate(txId, currentNodeId)).isEqualTo(SAME_NODE);
         }
     }
+
+    @Nested
+    @DisplayName("Expiry")
+    final class ExpiryTests {
+        @Test
+        @DisplayName("Records are dropped once the valid start of their transaction leaves the max duration window")
+        void expiredRecordsAreDropped() {
+            // Given a record for a transaction that started more than maxTxnDuration before the consensus time
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props);
+            final var consensusTime = Instant.now();
+            final var oldTxId = TransactionID.newBuilder()
+                    .transactionValidStart(Timestamp.newBuilder()
+                            .seconds(consensusTime.getEpochSecond() - 200)
+                            .build())
+                    .accountID(PAYER_ACCOUNT_ID)
+                    .build();
+            final var oldRecord = TransactionRecord.newBuilder()
+                    .transactionID(oldTxId)
+                    .receipt(TransactionReceipt.newBuilder().status(OK))
+                    .build();
+            cache.add(0, PAYER_ACCOUNT_ID, oldRecord, consensusTime);
+            assertThat(cache.getRecords(oldTxId)).containsExactly(oldRecord);
+
+            // When a later record is added
+            final var txId = transactionID();
+            final var record = TransactionRecord.newBuilder()
+                    .transactionID(txId)
+                    .receipt(TransactionReceipt.newBuilder().status(OK))
+                    .build();
+            cache.add(0, PAYER_ACCOUNT_ID, record, consensusTime.plusNanos(1));
+
+            // Then the old record is gone from every index, and the new one is there
+            assertThat(cache.getRecords(oldTxId)).isEmpty();
+            assertThat(cache.hasDuplicate(oldTxId, 0)).isEqualTo(NO_DUPLICATE);
+            assertThat(cache.getRecords(PAYER_ACCOUNT_ID)).containsExactly(record);
+            assertThat(cache.getRecords(txId)).containsExactly(record);
+        }
+
+        @Test
+        @DisplayName("Records of a transaction paid by different payers are found and expired for every payer")
+        void recordsOfEveryPayerAreExpired() {
+            // Given a transaction with a record paid by the payer and a duplicate paid by another account
+            final var cache = new RecordCacheImpl(dedupeCache, wsa, props);
+            final var consensusTime = Instant.now();
+            final var otherPayer = AccountID.newBuilder().accountNum(1002).build();
+            final var oldTxId = TransactionID.newBuilder()
+                    .transactionValidStart(Timestamp.newBuilder()
+                            .seconds(consensusTime.getEpochSecond() - 200)
+                            .build())
+                    .accountID(PAYER_ACCOUNT_ID)
+                    .build();
+            final var oldRecord = TransactionRecord.newBuilder()
+                    .transactionID(oldTxId)
+                    .receipt(TransactionReceipt.newBuilder().status(OK))
+                    .build();
+            final var duplicateRecord = TransactionRecord.newBuilder()
+                    .transactionID(oldTxId)
+                    .receipt(TransactionReceipt.newBuilder().status(DUPLICATE_TRANSACTION))
+                    .build();
+            cache.add(0, PAYER_ACCOUNT_ID, oldRecord, consensusTime);
+            cache.add(1, otherPayer, duplicateRecord, consensusTime);
+            cache.add(2, otherPayer, duplicateRecord, consensusTime);
+            assertThat(cache.getRecords(PAYER_ACCOUNT_ID)).containsExactly(oldRecord, duplicateRecord, duplicateRecord);
+            assertThat(cache.getRecords(otherPayer)).containsExactly(oldRecord, duplicateRecord, duplicateRecord);
+
+            // When a later record is added
+            final var txId = transactionID();
+            final var record = TransactionRecord.newBuilder()
+                    .transactionID(txId)
+                    .receipt(TransactionReceipt.newBuilder().status(OK))
+                    .build();
+            cache.add(0, PAYER_ACCOUNT_ID, record, consensusTime.plusNanos(1));
+
+            // Then the old records are gone for both payers
+            assertThat(cache.getRecords(oldTxId)).isEmpty();
+            assertThat(cache.getRecords(PAYER_ACCOUNT_ID)).containsExactly(record);
+            assertThat(cache.getRecords(otherPayer)).isEmpty();
+        }
+    }
 }
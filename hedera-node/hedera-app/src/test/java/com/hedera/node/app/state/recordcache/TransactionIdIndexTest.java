@@ -0,0 +1,273 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.state.recordcache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.Timestamp;
+import com.hedera.hapi.node.base.TransactionID;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+final class TransactionIdIndexTest {
+    private static final long NOW = 1_700_000_000L;
+
+    private static TransactionID txId(final AccountID payer, final long seconds, final int nanos, final int nonce) {
+        return TransactionID.newBuilder()
+                .accountID(payer)
+                .transactionValidStart(
+                        Timestamp.newBuilder().seconds(seconds).nanos(nanos).build())
+                .nonce(nonce)
+                .build();
+    }
+
+    private static TransactionID txId(final long payerNum, final long seconds, final int nanos) {
+        return txId(AccountID.newBuilder().accountNum(payerNum).build(), seconds, nanos, 0);
+    }
+
+    @Test
+    @DisplayName("The number of buckets must be positive")
+    void bucketCountMustBePositive() {
+        assertThatThrownBy(() -> new TransactionIdIndex<>(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Every part of the transaction ID is part of the key")
+    void allPartsOfTheTransactionIdAreKeys() {
+        final var index = new TransactionIdIndex<String>(TransactionIdIndex.DEFAULT_BUCKET_COUNT);
+        final var payer = AccountID.newBuilder().accountNum(1001).build();
+        final var base = txId(payer, NOW, 5, 0);
+        final var ids = List.of(
+                base,
+                base.copyBuilder().nonce(1).build(),
+                base.copyBuilder().nonce(-1).build(),
+                base.copyBuilder().scheduled(true).build(),
+                base.copyBuilder()
+                        .transactionValidStart(
+                                Timestamp.newBuilder().seconds(NOW).nanos(6).build())
+                        .build(),
+                base.copyBuilder()
+                        .transactionValidStart(
+                                Timestamp.newBuilder().seconds(NOW + 1).nanos(5).build())
+                        .build(),
+                base.copyBuilder()
+                        .accountID(payer.copyBuilder().accountNum(1002).build())
+                        .build(),
+                base.copyBuilder()
+                        .accountID(payer.copyBuilder().shardNum(1).build())
+                        .build(),
+                base.copyBuilder()
+                        .accountID(payer.copyBuilder().realmNum(2).build())
+                        .build());
+
+        for (int i = 0; i < ids.size(); i++) {
+            final var value = "value" + i;
+            assertThat(index.computeIfAbsent(ids.get(i), ignored -> value)).isEqualTo(value);
+        }
+
+        assertThat(index.size()).isEqualTo(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            assertThat(index.get(ids.get(i))).isEqualTo("value" + i);
+            assertThat(index.computeIfAbsent(ids.get(i), ignored -> "other")).isEqualTo("value" + i);
+        }
+        assertThat(index.transactionIds()).containsExactlyInAnyOrderElementsOf(ids);
+    }
+
+    @Test
+    @DisplayName("Buckets grow to hold many transactions of the same second")
+    void bucketsGrow() {
+        final var index = new TransactionIdIndex<Integer>(TransactionIdIndex.DEFAULT_BUCKET_COUNT);
+        final var ids = new ArrayList<TransactionID>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(txId(1000 + i % 7, NOW, i));
+        }
+        for (int i = 0; i < ids.size(); i++) {
+            final int value = i;
+            index.computeIfAbsent(ids.get(i), ignored -> value);
+        }
+
+        assertThat(index.size()).isEqualTo(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            assertThat(index.get(ids.get(i))).isEqualTo(i);
+        }
+        assertThat(index.get(txId(999, NOW, 0))).isNull();
+    }
+
+    @Test
+    @DisplayName("Expiry drops all transactions of the seconds before the given second")
+    void expiryDropsWholeSeconds() {
+        final var index = new TransactionIdIndex<String>(TransactionIdIndex.DEFAULT_BUCKET_COUNT);
+        final var old = txId(1001, NOW - 1, 999_999_999);
+        final var current = txId(1001, NOW, 0);
+        final var future = txId(1001, NOW + 100, 0);
+        index.computeIfAbsent(old, ignored -> "old");
+        index.computeIfAbsent(current, ignored -> "current");
+        index.computeIfAbsent(future, ignored -> "future");
+
+        index.expireBefore(NOW);
+
+        assertThat(index.get(old)).isNull();
+        assertThat(index.get(current)).isEqualTo("current");
+        assertThat(index.get(future)).isEqualTo("future");
+        assertThat(index.transactionIds()).containsExactly(current, future);
+
+        // Expiring an earlier second again does nothing
+        index.expireBefore(NOW - 10);
+        assertThat(index.size()).isEqualTo(2);
+
+        // Expiring far ahead drops everything
+        index.expireBefore(NOW + 10_000);
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Transaction IDs that cannot be packed are kept and expired as well")
+    void unpackableTransactionIds() {
+        final var index = new TransactionIdIndex<String>(TransactionIdIndex.DEFAULT_BUCKET_COUNT);
+        final var aliasPayer =
+                AccountID.newBuilder().alias(Bytes.wrap(new byte[] {1, 2, 3})).build();
+        final var alias = txId(aliasPayer, NOW, 0, 0);
+        final var noPayer = TransactionID.newBuilder()
+                .transactionValidStart(Timestamp.newBuilder().seconds(NOW + 1).build())
+                .build();
+        final var hugeRealm = txId(
+                AccountID.newBuilder().realmNum(1L << 40).accountNum(1001).build(), NOW, 0, 0);
+        index.computeIfAbsent(alias, ignored -> "alias");
+        index.computeIfAbsent(noPayer, ignored -> "noPayer");
+        index.computeIfAbsent(hugeRealm, ignored -> "hugeRealm");
+
+        assertThat(index.get(alias)).isEqualTo("alias");
+        assertThat(index.get(noPayer)).isEqualTo("noPayer");
+        assertThat(index.get(hugeRealm)).isEqualTo("hugeRealm");
+        assertThat(index.transactionIds()).containsExactlyInAnyOrder(alias, noPayer, hugeRealm);
+
+        index.expireBefore(NOW + 1);
+
+        assertThat(index.get(alias)).isNull();
+        assertThat(index.get(hugeRealm)).isNull();
+        assertThat(index.get(noPayer)).isEqualTo("noPayer");
+    }
+
+    @Test
+    @DisplayName("Seconds that share a bucket with a second that has not expired are still found")
+    void bucketCollisions() {
+        final var index = new TransactionIdIndex<String>(4);
+        index.expireBefore(NOW);
+        final var first = txId(1001, NOW, 0);
+        final var sameBucket = txId(1001, NOW + 4, 0);
+        index.computeIfAbsent(first, ignored -> "first");
+        index.computeIfAbsent(sameBucket, ignored -> "sameBucket");
+
+        assertThat(index.get(first)).isEqualTo("first");
+        assertThat(index.get(sameBucket)).isEqualTo("sameBucket");
+
+        index.expireBefore(NOW + 1);
+
+        assertThat(index.get(first)).isNull();
+        assertThat(index.get(sameBucket)).isEqualTo("sameBucket");
+
+        // Now the bucket is free again for the later second
+        final var another = txId(1002, NOW + 4, 0);
+        index.computeIfAbsent(another, ignored -> "another");
+        assertThat(index.get(another)).isEqualTo("another");
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Transaction IDs that are already expired are kept until the next expiry")
+    void alreadyExpiredTransactionIds() {
+        final var index = new TransactionIdIndex<String>(TransactionIdIndex.DEFAULT_BUCKET_COUNT);
+        index.expireBefore(NOW);
+        final var expired = txId(1001, NOW - 1, 0);
+        index.computeIfAbsent(expired, ignored -> "expired");
+
+        assertThat(index.get(expired)).isEqualTo("expired");
+
+        index.expireBefore(NOW + 1);
+
+        assertThat(index.get(expired)).isNull();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Clear removes everything")
+    void clear() {
+        final var index = new TransactionIdIndex<String>(TransactionIdIndex.DEFAULT_BUCKET_COUNT);
+        final var id = txId(1001, NOW, 0);
+        index.computeIfAbsent(id, ignored -> "value");
+        index.expireBefore(NOW);
+
+        index.clear();
+
+        assertThat(index.size()).isZero();
+        assertThat(index.get(id)).isNull();
+        assertThat(index.transactionIds()).isEmpty();
+        // After clearing, old seconds are accepted into buckets again
+        final var old = txId(1001, NOW - 100, 0);
+        index.computeIfAbsent(old, ignored -> "old");
+        assertThat(index.get(old)).isEqualTo("old");
+    }
+
+    @Test
+    @DisplayName("Concurrent inserts of the same transaction IDs agree on a single value for each of them")
+    void concurrentInserts() throws Exception {
+        final var index = new TransactionIdIndex<Integer>(4);
+        index.expireBefore(NOW);
+        final int threads = 4;
+        final int idsPerThread = 2_000;
+        final var winners = new ConcurrentHashMap<TransactionID, Integer>();
+        final var start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final var futures = new ArrayList<Future<?>>();
+            for (int t = 0; t < threads; t++) {
+                final int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    // Every thread inserts the same transaction IDs, spread over more seconds than there are buckets
+                    for (int i = 0; i < idsPerThread; i++) {
+                        final var id = txId(1001 + i % 7, NOW + i % 6, i);
+                        final var value = index.computeIfAbsent(id, ignored -> thread);
+                        final var previous = winners.putIfAbsent(id, value);
+                        assertThat(previous == null ? value : previous).isEqualTo(value);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (final var future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(index.size()).isEqualTo(idsPerThread);
+        winners.forEach((id, value) -> assertThat(index.get(id)).isEqualTo(value));
+    }
+}
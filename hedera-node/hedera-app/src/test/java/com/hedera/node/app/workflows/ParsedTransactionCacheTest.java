@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.HederaFunctionality;
+import com.hedera.hapi.node.base.SignatureMap;
+import com.hedera.hapi.node.base.Transaction;
+import com.hedera.hapi.node.base.TransactionID;
+import com.hedera.hapi.node.transaction.TransactionBody;
+import com.hedera.node.app.AppTestBase;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+final class ParsedTransactionCacheTest extends AppTestBase {
+    private ParsedTransactionCache cache;
+    private TransactionInfo txInfo;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ParsedTransactionCache(metrics);
+        final var txBody = TransactionBody.newBuilder()
+                .transactionID(TransactionID.newBuilder()
+                        .accountID(AccountID.newBuilder().accountNum(1001L).build())
+                        .build())
+                .build();
+        txInfo = new TransactionInfo(
+                Transaction.newBuilder().body(txBody).build(),
+                txBody,
+                SignatureMap.newBuilder().build(),
+                Bytes.EMPTY,
+                HederaFunctionality.CRYPTO_TRANSFER);
+    }
+
+    @Test
+    @SuppressWarnings("ConstantConditions")
+    @DisplayName("Null arguments are not permitted")
+    void nullArgsThrow() {
+        assertThatThrownBy(() -> new ParsedTransactionCache(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> cache.put(null, txInfo)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> cache.put(new byte[] {1}, null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> cache.remove(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> cache.discard(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("A cached transaction is found by equal bytes exactly once")
+    void cachedTransactionIsFoundOnce() {
+        cache.put(new byte[] {1, 2, 3}, txInfo);
+
+        assertThat(cache.remove(new byte[] {1, 2, 4})).isNull();
+        assertThat(cache.remove(new byte[] {1, 2, 3})).isSameAs(txInfo);
+        assertThat(cache.remove(new byte[] {1, 2, 3})).isNull();
+    }
+
+    @Test
+    @DisplayName("A discarded transaction is not found")
+    void discardedTransactionIsNotFound() {
+        cache.put(new byte[] {1, 2, 3}, txInfo);
+        cache.discard(new byte[] {1, 2, 3});
+
+        assertThat(cache.remove(new byte[] {1, 2, 3})).isNull();
+    }
+
+    @Test
+    @DisplayName("The cache is cleared when it is full")
+    void cacheIsClearedWhenFull() {
+        for (int i = 0; i < ParsedTransactionCache.MAX_ENTRIES; i++) {
+            cache.put(Integer.toString(i).getBytes(), txInfo);
+        }
+        cache.put(new byte[] {1, 2, 3}, txInfo);
+
+        assertThat(cache.remove("0".getBytes())).isNull();
+        assertThat(cache.remove(new byte[] {1, 2, 3})).isSameAs(txInfo);
+    }
+}
@@ -19,6 +19,8 @@ package com.hedera.node.app.workflows.dispatcher;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.hedera.node.app.service.consensus.ReadableTopicStore;
 import com.hedera.node.app.service.file.ReadableFileStore;
@@ -29,9 +31,12 @@ import com.hedera.node.app.service.token.ReadableNftStore;
 import com.hedera.node.app.service.token.ReadableStakingInfoStore;
 import com.hedera.node.app.service.token.ReadableTokenRelationStore;
 import com.hedera.node.app.service.token.ReadableTokenStore;
+import com.hedera.node.app.service.token.TokenService;
 import com.hedera.node.app.spi.state.ReadableKVState;
 import com.hedera.node.app.spi.state.ReadableStates;
 import com.hedera.node.app.state.HederaState;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -76,4 +81,39 @@ class ReadableStoreFactoryTest {
         // then
         assertThat(store).isInstanceOf(storeClass);
     }
+
+    @Test
+    void recordingFactoryReportsKeysRead() {
+        // given
+        given(readableStates.get(anyString())).willReturn(readableKVState);
+        given(state.createReadableStates(anyString())).willReturn(readableStates);
+        given(readableKVState.readKeys()).willReturn(Set.of("key"));
+        final ReadableStoreFactory subject = new ReadableStoreFactory(state).recordingReads();
+
+        // when
+        subject.getStore(ReadableAccountStore.class);
+        subject.getStore(ReadableTokenStore.class);
+
+        // then
+        verify(state, times(1)).createReadableStates(TokenService.NAME);
+        final var readKeys = subject.readKeys();
+        assertThat(readKeys).containsOnlyKeys(TokenService.NAME);
+        assertThat(readKeys.get(TokenService.NAME))
+                .isNotEmpty()
+                .allSatisfy((stateKey, keys) -> assertThat(keys).isEqualTo(Set.of("key")));
+    }
+
+    @Test
+    void nonRecordingFactoryReportsNoKeys() {
+        // given
+        given(readableStates.get(anyString())).willReturn(readableKVState);
+        given(state.createReadableStates(anyString())).willReturn(readableStates);
+        final ReadableStoreFactory subject = new ReadableStoreFactory(state);
+
+        // when
+        subject.getStore(ReadableAccountStore.class);
+
+        // then
+        assertThat(subject.readKeys()).isEmpty();
+    }
 }
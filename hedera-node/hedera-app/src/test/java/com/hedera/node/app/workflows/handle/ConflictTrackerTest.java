@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.handle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.node.app.fixtures.state.FakeHederaState;
+import com.hedera.node.app.spi.fixtures.state.StateTestBase;
+import com.hedera.node.app.spi.state.WritableKVState;
+import com.hedera.node.app.utils.TestUtils;
+import com.hedera.node.app.workflows.handle.stack.SavepointStackImpl;
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.swirlds.common.metrics.Counter;
+import com.swirlds.common.metrics.Metrics;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConflictTrackerTest extends StateTestBase {
+
+    private static final String FOOD_SERVICE = "FOOD_SERVICE";
+
+    private Metrics metrics;
+    private FakeHederaState state;
+
+    @BeforeEach
+    void setup() {
+        metrics = TestUtils.metrics();
+        state = new FakeHederaState()
+                .addService(
+                        FOOD_SERVICE,
+                        Map.of(FRUIT_STATE_KEY, new HashMap<>(Map.of(A_KEY, APPLE, B_KEY, BANANA, C_KEY, CHERRY))));
+    }
+
+    private ConflictTracker createTracker(final boolean enabled) {
+        final var config = HederaTestConfigBuilder.create()
+                .withValue("hedera.conflictTracking.enabled", enabled)
+                .getOrCreateConfig();
+        return new ConflictTracker(() -> new VersionedConfigImpl(config, 1), metrics);
+    }
+
+    private void handle(final ConflictTracker tracker, final Consumer<WritableKVState<String, String>> transaction) {
+        final var trackedState = tracker.track(state);
+        final var stack = new SavepointStackImpl(trackedState);
+        transaction.accept(stack.createWritableStates(FOOD_SERVICE).get(FRUIT_STATE_KEY));
+        stack.commitFullStack();
+        tracker.transactionHandled(trackedState);
+    }
+
+    private long counter(final String name) {
+        return ((Counter) metrics.getMetric("app", name)).get();
+    }
+
+    @Test
+    void testConstructorWithInvalidArguments() {
+        final var config = HederaTestConfigBuilder.createConfig();
+        //noinspection DataFlowIssue
+        assertThatThrownBy(() -> new ConflictTracker(null, metrics)).isInstanceOf(NullPointerException.class);
+        //noinspection DataFlowIssue
+        assertThatThrownBy(() -> new ConflictTracker(() -> new VersionedConfigImpl(config, 1), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("Tracking is disabled by default")
+    void testDisabledByDefault() {
+        final var config = HederaTestConfigBuilder.createConfig();
+        final var tracker = new ConflictTracker(() -> new VersionedConfigImpl(config, 1), metrics);
+
+        assertThat(tracker.isEnabled()).isFalse();
+        assertThat(createTracker(true).isEnabled()).isTrue();
+    }
+
+    @Test
+    @DisplayName("A transaction conflicts if it reads what an earlier transaction of the round wrote")
+    void testConflictsAreCounted() {
+        // given
+        final var tracker = createTracker(true);
+
+        // when
+        handle(tracker, fruits -> fruits.put(A_KEY, ACAI));
+        // reads what the first transaction wrote
+        handle(tracker, fruits -> fruits.put(B_KEY, fruits.get(A_KEY) + BANANA));
+        // writes what the first transaction wrote, but reads nothing of it
+        handle(tracker, fruits -> fruits.put(A_KEY, fruits.get(C_KEY)));
+        // reads only what no transaction wrote
+        handle(tracker, fruits -> fruits.get(D_KEY));
+        // reads what the second transaction wrote
+        handle(tracker, fruits -> fruits.getForModify(B_KEY));
+
+        // then
+        assertThat(counter("ConflictTrackedTxns")).isZero();
+        tracker.roundHandled();
+        assertThat(counter("ConflictTrackedTxns")).isEqualTo(5);
+        assertThat(counter("ConflictingTxns")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Transactions of different rounds do not conflict")
+    void testRoundsAreIndependent() {
+        // given
+        final var tracker = createTracker(true);
+        handle(tracker, fruits -> fruits.put(A_KEY, ACAI));
+        tracker.roundHandled();
+
+        // when
+        handle(tracker, fruits -> fruits.get(A_KEY));
+        tracker.roundHandled();
+
+        // then
+        assertThat(counter("ConflictTrackedTxns")).isEqualTo(2);
+        assertThat(counter("ConflictingTxns")).isZero();
+    }
+
+    @Test
+    @DisplayName("A rolled back write does not cause a conflict")
+    void testRolledBackWritesDoNotConflict() {
+        // given
+        final var tracker = createTracker(true);
+        final var trackedState = tracker.track(state);
+        final var stack = new SavepointStackImpl(trackedState);
+        stack.createWritableStates(FOOD_SERVICE).<String, String>get(FRUIT_STATE_KEY).put(A_KEY, ACAI);
+        stack.rollbackFullStack();
+        stack.commitFullStack();
+        tracker.transactionHandled(trackedState);
+
+        // when
+        handle(tracker, fruits -> fruits.get(A_KEY));
+        tracker.roundHandled();
+
+        // then
+        assertThat(counter("ConflictTrackedTxns")).isEqualTo(2);
+        assertThat(counter("ConflictingTxns")).isZero();
+    }
+
+    @Test
+    @DisplayName("Only states returned by track() are accepted")
+    void testUntrackedStateIsRejected() {
+        final var tracker = createTracker(true);
+
+        assertThatThrownBy(() -> tracker.transactionHandled(state)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -130,7 +130,8 @@ class HandleWorkflowTest extends AppTestBase {
                 Set.of(),
                 Map.of(key, FakeSignatureVerificationFuture.goodFuture(key)),
                 null,
-                CONFIG_VERSION);
+                CONFIG_VERSION,
+                null);
     }
 
     @Mock(strictness = LENIENT)
@@ -193,6 +194,9 @@ class HandleWorkflowTest extends AppTestBase {
     @Mock
     private NetworkUtilizationManager networkUtilizationManager;
 
+    @Mock
+    private ConflictTracker conflictTracker;
+
     @Mock
     private DualStateUpdateFacility dualStateUpdateFacility;
 
@@ -275,7 +279,8 @@ class HandleWorkflowTest extends AppTestBase {
                 dualStateUpdateFacility,
                 solvencyPreCheck,
                 authorizer,
-                networkUtilizationManager);
+                networkUtilizationManager,
+                conflictTracker);
     }
 
     @SuppressWarnings("ConstantConditions")
@@ -301,7 +306,8 @@ class HandleWorkflowTest extends AppTestBase {
                         dualStateUpdateFacility,
                         solvencyPreCheck,
                         authorizer,
-                        networkUtilizationManager))
+                        networkUtilizationManager,
+                        conflictTracker))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new HandleWorkflow(
                         networkInfo,
@@ -323,7 +329,8 @@ class HandleWorkflowTest extends AppTestBase {
                         dualStateUpdateFacility,
                         solvencyPreCheck,
                         authorizer,
-                        networkUtilizationManager))
+                        networkUtilizationManager,
+                        conflictTracker))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new HandleWorkflow(
                         networkInfo,
@@ -345,7 +352,8 @@ class HandleWorkflowTest extends AppTestBase {
                         dualStateUpdateFacility,
                         solvencyPreCheck,
                         authorizer,
-                        networkUtilizationManager))
+                        networkUtilizationManager,
+                        conflictTracker))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new HandleWorkflow(
                         networkInfo,
@@ -367,7 +375,8 @@ class HandleWorkflowTest extends AppTestBase {
                         dualStateUpdateFacility,
                         solvencyPreCheck,
                         authorizer,
-                        networkUtilizationManager))
+                        networkUtilizationManager,
+                        conflictTracker))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new HandleWorkflow(
                         networkInfo,
@@ -389,7 +398,8 @@ class HandleWorkflowTest extends AppTestBase {
                         dualStateUpdateFacility,
                         solvencyPreCheck,
                         authorizer,
-                        networkUtilizationManager))
+                        networkUtilizationManager,
+                        conflictTracker))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new HandleWorkflow(
                         networkInfo,
@@ -411,7 +421,8 @@ class HandleWorkflowTest extends AppTestBase {
                         dualStateUpdateFacility,
                         solvencyPreCheck,
                         authorizer,
-                        networkUtilizationManager))
+                        networkUtilizationManager,
+                        conflictTracker))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new HandleWorkflow(
                         networkInfo,
@@ -433,7 +444,8 @@ class HandleWorkflowTest extends AppTestBase {
                         dualStateUpdateFacility,
                         solvencyPreCheck,
                         authorizer,
-                        networkUtilizationManager))
+                        networkUtilizationManager,
+                        conflictTracker))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new HandleWorkflow(
                         networkInfo,
@@ -455,7 +467,8 @@ class HandleWorkflowTest extends AppTestBase {
                         dualStateUpdateFacility,
                         solvencyPreCheck,
                         authorizer,
-                        networkUtilizationManager))
+                        networkUtilizationManager,
+                        conflictTracker))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new HandleWorkflow(
                         networkInfo,
@@ -477,7 +490,8 @@ class HandleWorkflowTest extends AppTestBase {
                         dualStateUpdateFacility,
                         solvencyPreCheck,
                         authorizer,
-                        networkUtilizationManager))
+                        networkUtilizationManager,
+                        conflictTracker))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new HandleWorkflow(
                         networkInfo,
@@ -499,7 +513,8 @@ class HandleWorkflowTest extends AppTestBase {
                         dualStateUpdateFacility,
                         solvencyPreCheck,
                         authorizer,
-                        networkUtilizationManager))
+                        networkUtilizationManager,
+                        conflictTracker))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new HandleWorkflow(
                         networkInfo,
@@ -521,7 +536,8 @@ class HandleWorkflowTest extends AppTestBase {
                         dualStateUpdateFacility,
                         solvencyPreCheck,
                         authorizer,
-                        networkUtilizationManager))
+                        networkUtilizationManager,
+                        conflictTracker))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new HandleWorkflow(
                         networkInfo,
@@ -543,7 +559,8 @@ class HandleWorkflowTest extends AppTestBase {
                         dualStateUpdateFacility,
                         solvencyPreCheck,
                         authorizer,
-                        networkUtilizationManager))
+                        networkUtilizationManager,
+                        conflictTracker))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new HandleWorkflow(
                         networkInfo,
@@ -565,7 +582,8 @@ class HandleWorkflowTest extends AppTestBase {
                         dualStateUpdateFacility,
                         solvencyPreCheck,
                         authorizer,
-                        networkUtilizationManager))
+                        networkUtilizationManager,
+                        conflictTracker))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new HandleWorkflow(
                         networkInfo,
@@ -587,7 +605,8 @@ class HandleWorkflowTest extends AppTestBase {
                         dualStateUpdateFacility,
                         solvencyPreCheck,
                         authorizer,
-                        networkUtilizationManager))
+                        networkUtilizationManager,
+                        conflictTracker))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new HandleWorkflow(
                         networkInfo,
@@ -609,7 +628,8 @@ class HandleWorkflowTest extends AppTestBase {
                         dualStateUpdateFacility,
                         solvencyPreCheck,
                         authorizer,
-                        networkUtilizationManager))
+                        networkUtilizationManager,
+                        conflictTracker))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new HandleWorkflow(
                         networkInfo,
@@ -631,7 +651,8 @@ class HandleWorkflowTest extends AppTestBase {
                         dualStateUpdateFacility,
                         solvencyPreCheck,
                         authorizer,
-                        networkUtilizationManager))
+                        networkUtilizationManager,
+                        conflictTracker))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new HandleWorkflow(
                         networkInfo,
@@ -653,7 +674,8 @@ class HandleWorkflowTest extends AppTestBase {
                         null,
                         solvencyPreCheck,
                         authorizer,
-                        networkUtilizationManager))
+                        networkUtilizationManager,
+                        conflictTracker))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new HandleWorkflow(
                         networkInfo,
@@ -675,7 +697,31 @@ class HandleWorkflowTest extends AppTestBase {
                         dualStateUpdateFacility,
                         null,
                         authorizer,
-                        networkUtilizationManager))
+                        networkUtilizationManager,
+                        conflictTracker))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new HandleWorkflow(
+                        networkInfo,
+                        preHandleWorkflow,
+                        dispatcher,
+                        blockRecordManager,
+                        signatureExpander,
+                        signatureVerifier,
+                        checker,
+                        serviceLookup,
+                        configProvider,
+                        recordCache,
+                        genesisRecordsTimeHook,
+                        stakingPeriodTimeHook,
+                        feeManager,
+                        exchangeRateManager,
+                        finalizer,
+                        systemFileUpdateFacility,
+                        dualStateUpdateFacility,
+                        solvencyPreCheck,
+                        null,
+                        networkUtilizationManager,
+                        conflictTracker))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new HandleWorkflow(
                         networkInfo,
@@ -696,8 +742,9 @@ class HandleWorkflowTest extends AppTestBase {
                         systemFileUpdateFacility,
                         dualStateUpdateFacility,
                         solvencyPreCheck,
+                        authorizer,
                         null,
-                        networkUtilizationManager))
+                        conflictTracker))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new HandleWorkflow(
                         networkInfo,
@@ -719,6 +766,7 @@ class HandleWorkflowTest extends AppTestBase {
                         dualStateUpdateFacility,
                         solvencyPreCheck,
                         authorizer,
+                        networkUtilizationManager,
                         null))
                 .isInstanceOf(NullPointerException.class);
     }
@@ -817,7 +865,8 @@ class HandleWorkflowTest extends AppTestBase {
                     Set.of(),
                     Map.of(key, FakeSignatureVerificationFuture.goodFuture(key)),
                     null,
-                    CONFIG_VERSION - 1L);
+                    CONFIG_VERSION - 1L,
+                    null);
             when(platformTxn.getMetadata()).thenReturn(preHandleResult);
 
             // when
@@ -927,7 +976,8 @@ class HandleWorkflowTest extends AppTestBase {
                     Set.of(),
                     verificationResults,
                     null,
-                    CONFIG_VERSION);
+                    CONFIG_VERSION,
+                    null);
             when(platformTxn.getMetadata()).thenReturn(preHandleResult);
             doAnswer(invocation -> {
                         final var context = invocation.getArgument(0, PreHandleContext.class);
@@ -981,7 +1031,8 @@ class HandleWorkflowTest extends AppTestBase {
                     Set.of(),
                     verificationResults,
                     null,
-                    CONFIG_VERSION);
+                    CONFIG_VERSION,
+                    null);
             when(platformTxn.getMetadata()).thenReturn(preHandleResult);
             doAnswer(invocation -> {
                         final var context = invocation.getArgument(0, PreHandleContext.class);
@@ -1104,7 +1155,8 @@ class HandleWorkflowTest extends AppTestBase {
                     Set.of(),
                     verificationResults,
                     null,
-                    CONFIG_VERSION);
+                    CONFIG_VERSION,
+                    null);
             when(platformTxn.getMetadata()).thenReturn(preHandleResult);
             doAnswer(invocation -> {
                         final var context = invocation.getArgument(0, PreHandleContext.class);
@@ -1158,7 +1210,8 @@ class HandleWorkflowTest extends AppTestBase {
                     Set.of(),
                     verificationResults,
                     null,
-                    CONFIG_VERSION);
+                    CONFIG_VERSION,
+                    null);
             when(platformTxn.getMetadata()).thenReturn(preHandleResult);
             doAnswer(invocation -> {
                         final var context = invocation.getArgument(0, PreHandleContext.class);
@@ -1306,7 +1359,8 @@ class HandleWorkflowTest extends AppTestBase {
                     Set.of(),
                     preHandleVerificationResults,
                     null,
-                    CONFIG_VERSION);
+                    CONFIG_VERSION,
+                    null);
             when(platformTxn.getMetadata()).thenReturn(preHandleResult);
             doAnswer(invocation -> {
                         final var context = invocation.getArgument(0, PreHandleContext.class);
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.workflows.handle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.node.app.fixtures.state.FakeHederaState;
+import com.hedera.node.app.spi.fixtures.state.StateTestBase;
+import com.hedera.node.app.workflows.handle.TrackingHederaState.StateAccess;
+import com.hedera.node.app.workflows.handle.stack.SavepointStackImpl;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TrackingHederaStateTest extends StateTestBase {
+
+    private static final String FOOD_SERVICE = "FOOD_SERVICE";
+
+    private Map<String, String> fruits;
+    private AtomicReference<String> country;
+    private FakeHederaState baseState;
+
+    @BeforeEach
+    void setup() {
+        fruits = new HashMap<>(Map.of(A_KEY, APPLE, B_KEY, BANANA, C_KEY, CHERRY));
+        country = new AtomicReference<>("Chile");
+        baseState = new FakeHederaState()
+                .addService(FOOD_SERVICE, Map.of(FRUIT_STATE_KEY, fruits, COUNTRY_STATE_KEY, country));
+    }
+
+    @Test
+    void testConstructorWithInvalidArguments() {
+        //noinspection DataFlowIssue
+        assertThatThrownBy(() -> new TrackingHederaState(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("Reads and committed writes are recorded and passed through")
+    void testReadsAndWritesAreRecorded() {
+        // given
+        final var trackingState = new TrackingHederaState(baseState);
+        final var stack = new SavepointStackImpl(trackingState);
+        final var writableStates = stack.createWritableStates(FOOD_SERVICE);
+        final var fruitState = writableStates.<String, String>get(FRUIT_STATE_KEY);
+
+        // when
+        assertThat(fruitState.get(A_KEY)).isEqualTo(APPLE);
+        assertThat(fruitState.getForModify(B_KEY)).isEqualTo(BANANA);
+        fruitState.put(B_KEY, BLUEBERRY);
+        fruitState.put(D_KEY, DATE);
+        writableStates.<String>getSingleton(COUNTRY_STATE_KEY).put("Peru");
+        stack.commitFullStack();
+
+        // then
+        assertThat(trackingState.reads())
+                .containsExactlyInAnyOrder(
+                        new StateAccess(FOOD_SERVICE, FRUIT_STATE_KEY, A_KEY),
+                        new StateAccess(FOOD_SERVICE, FRUIT_STATE_KEY, B_KEY));
+        assertThat(trackingState.writes())
+                .containsExactlyInAnyOrder(
+                        new StateAccess(FOOD_SERVICE, FRUIT_STATE_KEY, B_KEY),
+                        new StateAccess(FOOD_SERVICE, FRUIT_STATE_KEY, D_KEY),
+                        new StateAccess(FOOD_SERVICE, COUNTRY_STATE_KEY, null));
+        assertThat(fruits).containsEntry(B_KEY, BLUEBERRY).containsEntry(D_KEY, DATE);
+        assertThat(country.get()).isEqualTo("Peru");
+    }
+
+    @Test
+    @DisplayName("A rollback keeps the reads but drops the writes")
+    void testRollbackKeepsReads() {
+        // given
+        final var trackingState = new TrackingHederaState(baseState);
+        final var stack = new SavepointStackImpl(trackingState);
+        final var fruitState = stack.createWritableStates(FOOD_SERVICE).<String, String>get(FRUIT_STATE_KEY);
+
+        // when
+        fruitState.put(C_KEY, fruitState.get(C_KEY) + FIG);
+        stack.rollbackFullStack();
+        stack.createWritableStates(FOOD_SERVICE).<String, String>get(FRUIT_STATE_KEY).get(E_KEY);
+        stack.commitFullStack();
+
+        // then
+        assertThat(trackingState.reads())
+                .containsExactlyInAnyOrder(
+                        new StateAccess(FOOD_SERVICE, FRUIT_STATE_KEY, C_KEY),
+                        new StateAccess(FOOD_SERVICE, FRUIT_STATE_KEY, E_KEY));
+        assertThat(trackingState.writes()).isEmpty();
+        assertThat(fruits).containsEntry(C_KEY, CHERRY);
+    }
+
+    @Test
+    @DisplayName("Reads through readable states are recorded")
+    void testReadableStatesAreRecorded() {
+        // given
+        final var trackingState = new TrackingHederaState(baseState);
+        final var readableStates = trackingState.createReadableStates(FOOD_SERVICE);
+
+        // when
+        assertThat(readableStates.<String, String>get(FRUIT_STATE_KEY).get(B_KEY))
+                .isEqualTo(BANANA);
+        assertThat(readableStates.<String>getSingleton(COUNTRY_STATE_KEY).get())
+                .isEqualTo("Chile");
+
+        // then
+        assertThat(trackingState.reads())
+                .containsExactlyInAnyOrder(
+                        new StateAccess(FOOD_SERVICE, FRUIT_STATE_KEY, B_KEY),
+                        new StateAccess(FOOD_SERVICE, COUNTRY_STATE_KEY, null));
+        assertThat(trackingState.writes()).isEmpty();
+    }
+}
@@ -104,7 +104,7 @@ final class BlockRecordManagerTest extends AppTestBase {
                 .commit();
 
         blockRecordWriterFactory = new BlockRecordWriterFactoryImpl(
-                app.configProvider(), app.networkInfo().selfNodeInfo(), SIGNER, fs);
+                app.configProvider(), app.networkInfo().selfNodeInfo(), SIGNER, fs, ForkJoinPool.commonPool());
     }
 
     @AfterEach
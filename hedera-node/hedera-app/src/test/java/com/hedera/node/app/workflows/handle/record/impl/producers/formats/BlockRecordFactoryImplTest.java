@@ -23,14 +23,15 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import com.hedera.node.app.AppTestBase;
 import com.hedera.node.app.records.impl.producers.formats.v6.BlockRecordWriterV6;
 import java.nio.file.FileSystems;
+import java.util.concurrent.ForkJoinPool;
 import org.junit.jupiter.api.Test;
 
 final class BlockRecordFactoryImplTest extends AppTestBase {
     @Test
     void createV6BasedOnConfig() throws Exception {
         final var app = appBuilder().build();
-        final var factory =
-                new BlockRecordWriterFactoryImpl(app.configProvider(), selfNodeInfo, SIGNER, FileSystems.getDefault());
+        final var factory = new BlockRecordWriterFactoryImpl(
+                app.configProvider(), selfNodeInfo, SIGNER, FileSystems.getDefault(), ForkJoinPool.commonPool());
         final var writer = factory.create();
         assertThat(writer).isInstanceOf(BlockRecordWriterV6.class);
     }
@@ -41,8 +42,8 @@ final class BlockRecordFactoryImplTest extends AppTestBase {
                 .withConfigValue("hedera.recordStream.recordFileVersion", 7)
                 .build();
 
-        final var factory =
-                new BlockRecordWriterFactoryImpl(app.configProvider(), selfNodeInfo, SIGNER, FileSystems.getDefault());
+        final var factory = new BlockRecordWriterFactoryImpl(
+                app.configProvider(), selfNodeInfo, SIGNER, FileSystems.getDefault(), ForkJoinPool.commonPool());
         assertThatThrownBy(factory::create)
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Record file version 7 is not yet supported");
@@ -54,8 +55,8 @@ final class BlockRecordFactoryImplTest extends AppTestBase {
                 .withConfigValue("hedera.recordStream.recordFileVersion", 99999)
                 .build();
 
-        final var factory =
-                new BlockRecordWriterFactoryImpl(app.configProvider(), selfNodeInfo, SIGNER, FileSystems.getDefault());
+        final var factory = new BlockRecordWriterFactoryImpl(
+                app.configProvider(), selfNodeInfo, SIGNER, FileSystems.getDefault(), ForkJoinPool.commonPool());
         assertThatThrownBy(factory::create)
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Unknown record file version");
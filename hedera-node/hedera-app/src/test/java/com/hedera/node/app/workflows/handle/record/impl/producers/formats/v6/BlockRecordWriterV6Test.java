@@ -47,6 +47,7 @@ import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 import java.util.zip.GZIPInputStream;
 import org.apache.logging.log4j.LogManager;
@@ -102,7 +103,7 @@ final class BlockRecordWriterV6Test extends AppTestBase {
                 .build();
         config = app.configProvider().getConfiguration().getConfigData(BlockRecordStreamConfig.class);
         hapiVersion = app.softwareVersion().getHapiVersion();
-        writer = new BlockRecordWriterV6(config, selfNodeInfo, SIGNER, fileSystem);
+        writer = new BlockRecordWriterV6(config, selfNodeInfo, SIGNER, fileSystem, ForkJoinPool.commonPool());
         final var ext = compress ? ".rcd.gz" : ".rcd";
         final var recordDir = fileSystem.getPath(config.logDir(), "record" + selfNodeInfo.memo() + "/");
         recordPath = recordDir.resolve("2018-08-24T16_25_42.000000890Z" + ext);
@@ -121,13 +122,16 @@ final class BlockRecordWriterV6Test extends AppTestBase {
         @SuppressWarnings("DataFlowIssue")
         void nullArgsToConstructorThrows() {
             final var config = buildAndGetConfig();
-            assertThatThrownBy(() -> new BlockRecordWriterV6(null, selfNodeInfo, signer, fileSystem))
+            final var executor = ForkJoinPool.commonPool();
+            assertThatThrownBy(() -> new BlockRecordWriterV6(null, selfNodeInfo, signer, fileSystem, executor))
                     .isInstanceOf(NullPointerException.class);
-            assertThatThrownBy(() -> new BlockRecordWriterV6(config, null, signer, fileSystem))
+            assertThatThrownBy(() -> new BlockRecordWriterV6(config, null, signer, fileSystem, executor))
                     .isInstanceOf(NullPointerException.class);
-            assertThatThrownBy(() -> new BlockRecordWriterV6(config, selfNodeInfo, null, fileSystem))
+            assertThatThrownBy(() -> new BlockRecordWriterV6(config, selfNodeInfo, null, fileSystem, executor))
                     .isInstanceOf(NullPointerException.class);
-            assertThatThrownBy(() -> new BlockRecordWriterV6(config, selfNodeInfo, signer, null))
+            assertThatThrownBy(() -> new BlockRecordWriterV6(config, selfNodeInfo, signer, null, executor))
+                    .isInstanceOf(NullPointerException.class);
+            assertThatThrownBy(() -> new BlockRecordWriterV6(config, selfNodeInfo, signer, fileSystem, null))
                     .isInstanceOf(NullPointerException.class);
         }
 
@@ -136,7 +140,8 @@ final class BlockRecordWriterV6Test extends AppTestBase {
         void recordFileVersionMustBeV6() {
             appBuilder.withConfigValue("hedera.recordStream.recordFileVersion", 5);
             final var config = buildAndGetConfig();
-            assertThatThrownBy(() -> new BlockRecordWriterV6(config, selfNodeInfo, SIGNER, fileSystem))
+            assertThatThrownBy(() -> new BlockRecordWriterV6(
+                            config, selfNodeInfo, SIGNER, fileSystem, ForkJoinPool.commonPool()))
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessageContaining("record file version");
         }
@@ -146,7 +151,8 @@ final class BlockRecordWriterV6Test extends AppTestBase {
         void signatureFileVersionMustBeV6() {
             appBuilder.withConfigValue("hedera.recordStream.signatureFileVersion", 5);
             final var config = buildAndGetConfig();
-            assertThatThrownBy(() -> new BlockRecordWriterV6(config, selfNodeInfo, SIGNER, fileSystem))
+            assertThatThrownBy(() -> new BlockRecordWriterV6(
+                            config, selfNodeInfo, SIGNER, fileSystem, ForkJoinPool.commonPool()))
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessageContaining("signature file version");
         }
@@ -157,7 +163,8 @@ final class BlockRecordWriterV6Test extends AppTestBase {
             // A path cannot have the null character in it
             appBuilder.withConfigValue("hedera.recordStream.logDir", "\0IllegalPath/records");
             final var config = buildAndGetConfig();
-            assertThatThrownBy(() -> new BlockRecordWriterV6(config, selfNodeInfo, SIGNER, fileSystem))
+            assertThatThrownBy(() -> new BlockRecordWriterV6(
+                            config, selfNodeInfo, SIGNER, fileSystem, ForkJoinPool.commonPool()))
                     .isInstanceOf(InvalidPathException.class);
         }
 
@@ -173,7 +180,8 @@ final class BlockRecordWriterV6Test extends AppTestBase {
 
             // When we attempt to create the writer, then it fails AND logs!
             final var logCaptor = new LogCaptor(LogManager.getLogger(BlockRecordWriterV6.class));
-            assertThatThrownBy(() -> new BlockRecordWriterV6(config, selfNodeInfo, SIGNER, fileSystem))
+            assertThatThrownBy(() -> new BlockRecordWriterV6(
+                            config, selfNodeInfo, SIGNER, fileSystem, ForkJoinPool.commonPool()))
                     .isInstanceOf(UncheckedIOException.class);
             assertThat(logCaptor.fatalLogs()).hasSize(1);
             assertThat(logCaptor.fatalLogs()).allMatch(msg -> msg.contains("Could not create record directory"));
@@ -222,7 +230,7 @@ final class BlockRecordWriterV6Test extends AppTestBase {
             Files.createDirectories(recordDir);
 
             // When we create a new writer and initialize it
-            writer = new BlockRecordWriterV6(config, selfNodeInfo, SIGNER, fileSystem);
+            writer = new BlockRecordWriterV6(config, selfNodeInfo, SIGNER, fileSystem, ForkJoinPool.commonPool());
             writer.init(hapiVersion, STARTING_RUNNING_HASH_OBJ, consensusTime, blockNumber);
 
             // Then it didn't throw, and the record file exists
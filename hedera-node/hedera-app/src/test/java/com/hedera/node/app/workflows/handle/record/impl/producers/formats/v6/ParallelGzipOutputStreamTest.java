@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.node.app.records.impl.producers.formats.v6;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class ParallelGzipOutputStreamTest {
+
+    @ParameterizedTest
+    @ValueSource(
+            ints = {
+                0,
+                1,
+                ParallelGzipOutputStream.BLOCK_SIZE - 1,
+                ParallelGzipOutputStream.BLOCK_SIZE,
+                ParallelGzipOutputStream.BLOCK_SIZE * (ParallelGzipOutputStream.MAX_BLOCKS_IN_FLIGHT + 3) + 17
+            })
+    void compressedStreamCanBeReadByGzipInputStream(final int length) throws IOException {
+        // Compressible data, with some randomness so the blocks are not trivial
+        final var random = new Random(length);
+        final byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) (random.nextInt(16) + (i / 1000) % 64);
+        }
+
+        final var compressed = new ByteArrayOutputStream();
+        try (final var out = new ParallelGzipOutputStream(compressed, ForkJoinPool.commonPool())) {
+            // Mix single byte and array writes of varying sizes
+            int offset = 0;
+            while (offset < length) {
+                if (offset % 3 == 0) {
+                    out.write(data[offset++]);
+                } else {
+                    final int chunk = Math.min(length - offset, random.nextInt(50_000));
+                    out.write(data, offset, chunk);
+                    offset += chunk;
+                }
+            }
+        }
+
+        try (final var in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(data);
+        }
+    }
+
+    @Test
+    void flushWritesCompletedBlocksAndKeepsStreamValid() throws IOException {
+        final byte[] data = new byte[ParallelGzipOutputStream.BLOCK_SIZE * 2 + 5];
+        new Random(42).nextBytes(data);
+        final var compressed = new ByteArrayOutputStream();
+        final var out = new ParallelGzipOutputStream(compressed, ForkJoinPool.commonPool());
+        out.write(data, 0, ParallelGzipOutputStream.BLOCK_SIZE + 1);
+        out.flush();
+        out.write(data, ParallelGzipOutputStream.BLOCK_SIZE + 1, data.length - ParallelGzipOutputStream.BLOCK_SIZE - 1);
+        out.close();
+        out.close();
+
+        try (final var in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(data);
+        }
+        assertThatThrownBy(() -> out.write(1)).isInstanceOf(IOException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 1000, ParallelGzipOutputStream.BLOCK_SIZE - 1})
+    void singleBlockIsIdenticalToGzipOutputStream(final int length) throws IOException {
+        final byte[] data = compressibleData(length);
+
+        assertThat(parallelGzip(data)).isEqualTo(gzip(data));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {ParallelGzipOutputStream.BLOCK_SIZE, ParallelGzipOutputStream.BLOCK_SIZE * 5 + 17})
+    void severalBlocksHaveTheSameHeaderAndTrailerAsGzipOutputStream(final int length) throws IOException {
+        // The deflate data differs because of the sync flush at the end of each block, everything else is the same
+        final byte[] data = compressibleData(length);
+        final byte[] parallel = parallelGzip(data);
+        final byte[] expected = gzip(data);
+
+        assertThat(Arrays.copyOfRange(parallel, 0, 10)).isEqualTo(Arrays.copyOfRange(expected, 0, 10));
+        assertThat(Arrays.copyOfRange(parallel, parallel.length - 8, parallel.length))
+                .isEqualTo(Arrays.copyOfRange(expected, expected.length - 8, expected.length));
+    }
+
+    private static byte[] compressibleData(final int length) {
+        final var random = new Random(length);
+        final byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) (random.nextInt(16) + (i / 1000) % 64);
+        }
+        return data;
+    }
+
+    private static byte[] parallelGzip(final byte[] data) throws IOException {
+        final var compressed = new ByteArrayOutputStream();
+        try (final var out = new ParallelGzipOutputStream(compressed, ForkJoinPool.commonPool())) {
+            out.write(data);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static byte[] gzip(final byte[] data) throws IOException {
+        final var compressed = new ByteArrayOutputStream();
+        try (final var out = new GZIPOutputStream(compressed)) {
+            out.write(data);
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -45,6 +45,7 @@ import com.hedera.hapi.node.transaction.TransactionResponse;
 import com.hedera.node.app.AppTestBase;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.state.HederaState;
+import com.hedera.node.app.workflows.ParsedTransactionCache;
 import com.hedera.node.app.workflows.TransactionChecker;
 import com.hedera.node.app.workflows.TransactionInfo;
 import com.hedera.node.config.ConfigProvider;
@@ -57,6 +58,17 @@ import com.swirlds.common.system.status.PlatformStatus;
 import com.swirlds.common.utility.AutoCloseableWrapper;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
@@ -76,6 +88,12 @@ class IngestWorkflowImplTest extends AppTestBase {
     /** The workflow to be tested. */
     private IngestWorkflowImpl workflow;
 
+    /** The cache that hands parsed transactions to pre-handle */
+    private ParsedTransactionCache parsedTransactionCache;
+
+    /** The result of parsing and checking the request */
+    private TransactionInfo transactionInfo;
+
     /**
      * The request. For testing purposes, the bytes in this buffer are not important. The {@link TransactionChecker} is
      * stubbed to always return a valid parsed object.
@@ -135,7 +153,7 @@ class IngestWorkflowImplTest extends AppTestBase {
         // Mock out the onset to always return a valid parsed object
         transaction = Transaction.newBuilder().body(transactionBody).build();
         when(transactionChecker.parse(requestBuffer)).thenReturn(transaction);
-        final var transactionInfo = new TransactionInfo(
+        transactionInfo = new TransactionInfo(
                 transaction,
                 transactionBody,
                 SignatureMap.newBuilder().build(),
@@ -144,27 +162,51 @@ class IngestWorkflowImplTest extends AppTestBase {
         when(ingestChecker.runAllChecks(state, transaction, configuration)).thenReturn(transactionInfo);
 
         // Create the workflow we are going to test with
+        parsedTransactionCache = new ParsedTransactionCache(metrics);
         workflow = new IngestWorkflowImpl(
-                stateAccessor, transactionChecker, ingestChecker, submissionManager, configProvider);
+                stateAccessor,
+                transactionChecker,
+                ingestChecker,
+                submissionManager,
+                configProvider,
+                parsedTransactionCache);
     }
 
     @SuppressWarnings("ConstantConditions")
     @Test
     void testConstructorWithInvalidArguments() {
         assertThatThrownBy(() -> new IngestWorkflowImpl(
-                        null, transactionChecker, ingestChecker, submissionManager, configProvider))
+                        null,
+                        transactionChecker,
+                        ingestChecker,
+                        submissionManager,
+                        configProvider,
+                        parsedTransactionCache))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new IngestWorkflowImpl(
+                        stateAccessor, null, ingestChecker, submissionManager, configProvider, parsedTransactionCache))
                 .isInstanceOf(NullPointerException.class);
-        assertThatThrownBy(() ->
-                        new IngestWorkflowImpl(stateAccessor, null, ingestChecker, submissionManager, configProvider))
+        assertThatThrownBy(() -> new IngestWorkflowImpl(
+                        stateAccessor,
+                        transactionChecker,
+                        null,
+                        submissionManager,
+                        configProvider,
+                        parsedTransactionCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new IngestWorkflowImpl(
-                        stateAccessor, transactionChecker, null, submissionManager, configProvider))
+                        stateAccessor, transactionChecker, ingestChecker, null, configProvider, parsedTransactionCache))
                 .isInstanceOf(NullPointerException.class);
-        assertThatThrownBy(() ->
-                        new IngestWorkflowImpl(stateAccessor, transactionChecker, ingestChecker, null, configProvider))
+        assertThatThrownBy(() -> new IngestWorkflowImpl(
+                        stateAccessor,
+                        transactionChecker,
+                        ingestChecker,
+                        submissionManager,
+                        null,
+                        parsedTransactionCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new IngestWorkflowImpl(
-                        stateAccessor, transactionChecker, ingestChecker, submissionManager, null))
+                        stateAccessor, transactionChecker, ingestChecker, submissionManager, configProvider, null))
                 .isInstanceOf(NullPointerException.class);
     }
 
@@ -181,6 +223,104 @@ class IngestWorkflowImplTest extends AppTestBase {
         assertThat(response.cost()).isZero();
         // And that the transaction and its bytes were actually passed to the submission manager
         verify(submissionManager).submit(transactionBody, requestBuffer);
+        // And the parsed transaction is available to pre-handle
+        assertThat(parsedTransactionCache.remove(requestBuffer.toByteArray())).isSameAs(transactionInfo);
+    }
+
+    @Test
+    @DisplayName("When batching is enabled, the transaction is submitted as part of a batch")
+    void testBatchedSuccess() throws PreCheckException, IOException {
+        // Given a workflow that batches submissions
+        configuration = new VersionedConfigImpl(
+                HederaTestConfigBuilder.create()
+                        .withValue("grpc.ingestBatchingEnabled", true)
+                        .getOrCreateConfig(),
+                1L);
+        when(configProvider.getConfiguration()).thenReturn(configuration);
+        when(ingestChecker.runAllChecks(state, transaction, configuration)).thenReturn(transactionInfo);
+        when(submissionManager.submitAll(List.of(transactionBody), List.of(requestBuffer)))
+                .thenReturn(List.of(OK));
+
+        // When the transaction is submitted
+        workflow.submitTransaction(requestBuffer, responseBuffer);
+
+        // Then we get a response that is OK
+        final TransactionResponse response = parseResponse(responseBuffer);
+        assertThat(response.nodeTransactionPrecheckCode()).isEqualTo(OK);
+        // And the transaction was submitted in a batch instead of on its own
+        verify(submissionManager).submitAll(List.of(transactionBody), List.of(requestBuffer));
+        verify(submissionManager, never()).submit(any(), any());
+        assertThat(parsedTransactionCache.remove(requestBuffer.toByteArray())).isSameAs(transactionInfo);
+    }
+
+    @Test
+    @DisplayName("When batching is enabled, the check threads help to check a batch")
+    void testBatchIsCheckedOnCheckThreads() throws Exception {
+        // Given a workflow that batches submissions, and a first submission whose checks block until released
+        configuration = new VersionedConfigImpl(
+                HederaTestConfigBuilder.create()
+                        .withValue("grpc.ingestBatchingEnabled", true)
+                        .getOrCreateConfig(),
+                1L);
+        when(configProvider.getConfiguration()).thenReturn(configuration);
+        final var release = new CountDownLatch(1);
+        final var helped = new CountDownLatch(1);
+        final var first = new AtomicBoolean(true);
+        final Set<String> checkingThreads = ConcurrentHashMap.newKeySet();
+        when(ingestChecker.runAllChecks(state, transaction, configuration)).thenAnswer(invocation -> {
+            final var name = Thread.currentThread().getName();
+            checkingThreads.add(name);
+            if (first.getAndSet(false)) {
+                release.await();
+            } else if (name.startsWith("ingest-check-")) {
+                helped.countDown();
+            } else {
+                // the batching thread waits, so that it cannot check the whole batch on its own
+                helped.await(10, TimeUnit.SECONDS);
+            }
+            return transactionInfo;
+        });
+        when(submissionManager.submitAll(any(), any()))
+                .thenAnswer(invocation -> Collections.nCopies(invocation.<List<?>>getArgument(0).size(), OK));
+        final var responses = new ConcurrentLinkedQueue<ResponseCodeEnum>();
+        final var submitters = new ArrayList<Thread>();
+        for (int i = 0; i < 3; i++) {
+            final var submitter = new Thread(() -> {
+                final var buffer = BufferedData.allocate(1024);
+                workflow.submitTransaction(requestBuffer, buffer);
+                try {
+                    responses.add(parseResponse(buffer).nodeTransactionPrecheckCode());
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            submitters.add(submitter);
+        }
+
+        // When the first submission is being checked while two more are queued behind it
+        submitters.get(0).start();
+        awaitCondition(() -> !checkingThreads.isEmpty());
+        submitters.get(1).start();
+        submitters.get(2).start();
+        awaitCondition(() -> submitters.get(1).getState() == Thread.State.TIMED_WAITING
+                && submitters.get(2).getState() == Thread.State.TIMED_WAITING);
+        release.countDown();
+        for (final var submitter : submitters) {
+            submitter.join(10_000);
+        }
+
+        // Then all transactions are submitted, and the second batch was checked with the help of a check thread
+        assertThat(responses).containsExactly(OK, OK, OK);
+        assertThat(helped.getCount()).isZero();
+        assertThat(checkingThreads).anyMatch(name -> name.startsWith("ingest-check-"));
+    }
+
+    private static void awaitCondition(@NonNull final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition was not met in time").isLessThan(deadline);
+            Thread.sleep(1);
+        }
     }
 
     @Nested
@@ -330,6 +470,8 @@ class IngestWorkflowImplTest extends AppTestBase {
             assertThat(response.nodeTransactionPrecheckCode()).isEqualTo(PLATFORM_TRANSACTION_NOT_CREATED);
             // And the cost will be zero
             assertThat(response.cost()).isZero();
+            // And the parsed transaction is not kept around
+            assertThat(parsedTransactionCache.remove(requestBuffer.toByteArray())).isNull();
         }
 
         @Test
@@ -16,8 +16,11 @@
 
 package com.hedera.node.app.workflows.ingest;
 
+import static com.hedera.hapi.node.base.ResponseCodeEnum.BUSY;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.DUPLICATE_TRANSACTION;
+import static com.hedera.hapi.node.base.ResponseCodeEnum.OK;
 import static com.hedera.hapi.node.base.ResponseCodeEnum.PLATFORM_TRANSACTION_NOT_CREATED;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
@@ -40,6 +43,7 @@ import com.swirlds.common.metrics.Metrics;
 import com.swirlds.common.metrics.SpeedometerMetric;
 import com.swirlds.common.system.Platform;
 import java.time.Instant;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -177,6 +181,30 @@ final class SubmissionManagerTest extends AppTestBase {
             // And the deduplication cache is updated just once
             verify(deduplicationCache).add(txBody.transactionIDOrThrow());
         }
+
+        @Test
+        @DisplayName("A batch is submitted in one call, duplicates and transactions without room are rejected")
+        void testSubmittingBatch() {
+            // Given a platform that only has room for one transaction
+            when(platform.createTransactions(any())).thenReturn(1);
+            final var otherTxBody = TransactionBody.newBuilder()
+                    .transactionID(TransactionID.newBuilder()
+                            .transactionValidStart(asTimestamp(Instant.now().plusSeconds(1)))
+                            .build())
+                    .build();
+
+            // When we submit a batch with a duplicate in it
+            final var results = submissionManager.submitAll(
+                    List.of(txBody, txBody, otherTxBody), List.of(bytes, bytes, randomBytes(25)));
+
+            // Then the duplicate is not submitted, and the transaction the platform had no room for is BUSY
+            assertThat(results).containsExactly(OK, DUPLICATE_TRANSACTION, BUSY);
+            verify(platform).createTransactions(any());
+            verify(platformTxnRejections).cycle();
+            // And only the accepted transaction is added to the deduplication cache
+            verify(deduplicationCache).add(txBody.transactionIDOrThrow());
+            verify(deduplicationCache, never()).add(otherTxBody.transactionIDOrThrow());
+        }
     }
 
     @Nested
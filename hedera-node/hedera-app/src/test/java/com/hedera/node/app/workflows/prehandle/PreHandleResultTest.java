@@ -72,7 +72,8 @@ final class PreHandleResultTest implements Scenarios {
                             Set.of(),
                             DEFAULT_VERIFICATION_RESULTS,
                             innerResult,
-                            DEFAULT_CONFIG_VERSION))
+                            DEFAULT_CONFIG_VERSION,
+                            null))
                     .isInstanceOf(NullPointerException.class);
         }
 
@@ -92,7 +93,8 @@ final class PreHandleResultTest implements Scenarios {
                             Set.of(),
                             DEFAULT_VERIFICATION_RESULTS,
                             innerResult,
-                            DEFAULT_CONFIG_VERSION))
+                            DEFAULT_CONFIG_VERSION,
+                            null))
                     .isInstanceOf(NullPointerException.class);
         }
 
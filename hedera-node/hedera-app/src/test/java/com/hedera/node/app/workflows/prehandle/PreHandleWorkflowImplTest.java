@@ -32,6 +32,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -49,6 +50,7 @@ import com.hedera.node.app.spi.fixtures.Scenarios;
 import com.hedera.node.app.spi.workflows.PreCheckException;
 import com.hedera.node.app.spi.workflows.PreHandleContext;
 import com.hedera.node.app.state.DeduplicationCache;
+import com.hedera.node.app.workflows.ParsedTransactionCache;
 import com.hedera.node.app.workflows.TransactionChecker;
 import com.hedera.node.app.workflows.dispatcher.ReadableStoreFactory;
 import com.hedera.node.app.workflows.dispatcher.TransactionDispatcher;
@@ -114,6 +116,10 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
     @Mock
     private DeduplicationCache deduplicationCache;
 
+    /** We use a mocked {@link ParsedTransactionCache}, so it is easy to fake out transactions parsed by ingest. */
+    @Mock
+    private ParsedTransactionCache parsedTransactionCache;
+
     /** We use a real functional store factory with our standard test data set. Needed by the workflow. */
     private ReadableStoreFactory storeFactory;
 
@@ -149,7 +155,8 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
                 signatureVerifier,
                 signatureExpander,
                 configProvider,
-                deduplicationCache);
+                deduplicationCache,
+                parsedTransactionCache);
     }
 
     /** Null arguments are not permitted to the constructor. */
@@ -163,22 +170,62 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
                         signatureVerifier,
                         signatureExpander,
                         configProvider,
-                        deduplicationCache))
+                        deduplicationCache,
+                        parsedTransactionCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new PreHandleWorkflowImpl(
-                        dispatcher, null, signatureVerifier, signatureExpander, configProvider, deduplicationCache))
+                        dispatcher,
+                        null,
+                        signatureVerifier,
+                        signatureExpander,
+                        configProvider,
+                        deduplicationCache,
+                        parsedTransactionCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new PreHandleWorkflowImpl(
-                        dispatcher, transactionChecker, null, signatureExpander, configProvider, deduplicationCache))
+                        dispatcher,
+                        transactionChecker,
+                        null,
+                        signatureExpander,
+                        configProvider,
+                        deduplicationCache,
+                        parsedTransactionCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new PreHandleWorkflowImpl(
-                        dispatcher, transactionChecker, signatureVerifier, null, configProvider, deduplicationCache))
+                        dispatcher,
+                        transactionChecker,
+                        signatureVerifier,
+                        null,
+                        configProvider,
+                        deduplicationCache,
+                        parsedTransactionCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new PreHandleWorkflowImpl(
-                        dispatcher, transactionChecker, signatureVerifier, signatureExpander, null, deduplicationCache))
+                        dispatcher,
+                        transactionChecker,
+                        signatureVerifier,
+                        signatureExpander,
+                        null,
+                        deduplicationCache,
+                        parsedTransactionCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new PreHandleWorkflowImpl(
-                        dispatcher, transactionChecker, signatureVerifier, signatureExpander, configProvider, null))
+                        dispatcher,
+                        transactionChecker,
+                        signatureVerifier,
+                        signatureExpander,
+                        configProvider,
+                        null,
+                        parsedTransactionCache))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new PreHandleWorkflowImpl(
+                        dispatcher,
+                        transactionChecker,
+                        signatureVerifier,
+                        signatureExpander,
+                        configProvider,
+                        deduplicationCache,
+                        null))
                 .isInstanceOf(NullPointerException.class);
     }
 
@@ -591,10 +638,36 @@ final class PreHandleWorkflowImplTest extends AppTestBase implements Scenarios {
             assertThat(result.txInfo()).isNotNull();
             assertThat(result.txInfo()).isSameAs(txInfo);
             assertThat(result.configVersion()).isEqualTo(DEFAULT_CONFIG_VERSION);
+            // And the payer account is part of the read set, so it can be prefetched
+            assertThat(result.readSet()).isNotNull();
+            final var accountsRead = result.readSet().keys().get(TokenService.NAME).get("ACCOUNTS");
+            assertThat(accountsRead.contains(ALICE.accountID())).isTrue();
             // And we do see this transaction registered with the deduplication cache
             verify(deduplicationCache).add(txInfo.txBody().transactionIDOrThrow());
         }
 
+        @Test
+        @DisplayName("Transactions parsed during ingest are not parsed again")
+        void transactionParsedDuringIngest(@Mock SignatureVerificationFuture sigFuture) throws Exception {
+            // Given a transaction that this node parsed and submitted during ingest
+            final var payerKey = ALICE.keyInfo().publicKey();
+            final var txInfo = scenario().withPayer(ALICE.accountID()).txInfo();
+            final var txBytes = asByteArray(txInfo.transaction());
+            final Transaction platformTx = new SwirldTransaction(txBytes);
+            when(parsedTransactionCache.remove(txBytes)).thenReturn(txInfo);
+            when(sigFuture.get(anyLong(), any())).thenReturn(new SignatureVerificationImpl(payerKey, null, true));
+            when(signatureVerifier.verify(any(), any())).thenReturn(Map.of(payerKey, sigFuture));
+
+            // When we pre-handle the transaction
+            workflow.preHandle(storeFactory, NODE_1.nodeAccountID(), Stream.of(platformTx));
+
+            // Then the parsed transaction is used, and the bytes are not parsed again
+            final PreHandleResult result = platformTx.getMetadata();
+            assertThat(result.status()).isEqualTo(SO_FAR_SO_GOOD);
+            assertThat(result.txInfo()).isSameAs(txInfo);
+            verify(transactionChecker, never()).parseAndCheck(any());
+        }
+
         @Test
         @DisplayName("Happy path with a Hollow Account payer")
         void happyPathHollowAccountAsPayer(@Mock SignatureVerificationFuture sigFuture) throws Exception {
@@ -37,6 +37,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -143,6 +144,7 @@ class QueryWorkflowImplTest extends AppTestBase {
     private FeeManager feeManager;
 
     private VersionedConfiguration configuration;
+    private QueryResultCache queryResultCache;
     private Transaction payment;
     private TransactionBody txBody;
     private Bytes requestBuffer;
@@ -165,6 +167,7 @@ class QueryWorkflowImplTest extends AppTestBase {
 
         configuration = new VersionedConfigImpl(HederaTestConfigBuilder.createConfig(), DEFAULT_CONFIG_VERSION);
         when(configProvider.getConfiguration()).thenReturn(configuration);
+        queryResultCache = new QueryResultCache(configProvider, metrics);
 
         when(feeManager.createFeeCalculator(eq(FILE_GET_INFO), any())).thenReturn(feeCalculator);
 
@@ -208,7 +211,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                 recordCache,
                 authorizer,
                 exchangeRateManager,
-                feeManager);
+                feeManager,
+                queryResultCache);
     }
 
     @SuppressWarnings("ConstantConditions")
@@ -226,7 +230,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                         recordCache,
                         authorizer,
                         exchangeRateManager,
-                        feeManager))
+                        feeManager,
+                        queryResultCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
                         stateAccessor,
@@ -240,7 +245,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                         recordCache,
                         authorizer,
                         exchangeRateManager,
-                        feeManager))
+                        feeManager,
+                        queryResultCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
                         stateAccessor,
@@ -254,7 +260,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                         recordCache,
                         authorizer,
                         exchangeRateManager,
-                        feeManager))
+                        feeManager,
+                        queryResultCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
                         stateAccessor,
@@ -268,7 +275,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                         recordCache,
                         authorizer,
                         exchangeRateManager,
-                        feeManager))
+                        feeManager,
+                        queryResultCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
                         stateAccessor,
@@ -282,7 +290,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                         recordCache,
                         authorizer,
                         exchangeRateManager,
-                        feeManager))
+                        feeManager,
+                        queryResultCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
                         stateAccessor,
@@ -296,7 +305,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                         recordCache,
                         authorizer,
                         exchangeRateManager,
-                        feeManager))
+                        feeManager,
+                        queryResultCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
                         stateAccessor,
@@ -310,7 +320,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                         recordCache,
                         authorizer,
                         exchangeRateManager,
-                        feeManager))
+                        feeManager,
+                        queryResultCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
                         stateAccessor,
@@ -324,7 +335,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                         recordCache,
                         authorizer,
                         exchangeRateManager,
-                        feeManager))
+                        feeManager,
+                        queryResultCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
                         stateAccessor,
@@ -338,7 +350,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                         null,
                         authorizer,
                         exchangeRateManager,
-                        feeManager))
+                        feeManager,
+                        queryResultCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
                         stateAccessor,
@@ -352,7 +365,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                         recordCache,
                         null,
                         exchangeRateManager,
-                        feeManager))
+                        feeManager,
+                        queryResultCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
                         stateAccessor,
@@ -366,7 +380,8 @@ class QueryWorkflowImplTest extends AppTestBase {
                         recordCache,
                         authorizer,
                         null,
-                        feeManager))
+                        feeManager,
+                        queryResultCache))
                 .isInstanceOf(NullPointerException.class);
         assertThatThrownBy(() -> new QueryWorkflowImpl(
                         stateAccessor,
@@ -380,6 +395,22 @@ class QueryWorkflowImplTest extends AppTestBase {
                         recordCache,
                         authorizer,
                         exchangeRateManager,
+                        null,
+                        queryResultCache))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new QueryWorkflowImpl(
+                        stateAccessor,
+                        throttleAccumulator,
+                        submissionManager,
+                        queryChecker,
+                        ingestChecker,
+                        dispatcher,
+                        queryParser,
+                        configProvider,
+                        recordCache,
+                        authorizer,
+                        exchangeRateManager,
+                        feeManager,
                         null))
                 .isInstanceOf(NullPointerException.class);
     }
@@ -411,6 +442,34 @@ class QueryWorkflowImplTest extends AppTestBase {
         assertThat(header.cost()).isZero();
     }
 
+    @Test
+    void testFreeQueryIsAnsweredFromCache() throws IOException {
+        // given
+        final var firstResponseBuffer = newEmptyBuffer();
+        final var secondResponseBuffer = newEmptyBuffer();
+
+        // when
+        workflow.handleQuery(requestBuffer, firstResponseBuffer);
+        workflow.handleQuery(requestBuffer, secondResponseBuffer);
+
+        // then
+        verify(handler, times(1)).findResponse(any(), any());
+        assertThat(parseResponse(secondResponseBuffer)).isEqualTo(parseResponse(firstResponseBuffer));
+    }
+
+    @Test
+    void testCachedQueryIsAnsweredAgainAfterRound() throws IOException {
+        // given
+        workflow.handleQuery(requestBuffer, newEmptyBuffer());
+
+        // when
+        queryResultCache.invalidate();
+        workflow.handleQuery(requestBuffer, newEmptyBuffer());
+
+        // then
+        verify(handler, times(2)).findResponse(any(), any());
+    }
+
     @Test
     void testSuccessIfPaymentRequired() throws IOException {
         // given
@@ -17,11 +17,23 @@
 package com.hedera.node.config.data;
 
 import com.hedera.node.config.NetworkProperty;
+import com.hedera.node.config.NodeProperty;
 import com.swirlds.config.api.ConfigData;
 import com.swirlds.config.api.ConfigProperty;
+import com.swirlds.config.api.validation.annotation.Min;
 
+/**
+ * @param recordsTtl The number of seconds records are kept in the record cache
+ * @param cryptoTransferWarmThreads The number of threads used to warm the caches for crypto transfers
+ * @param queriesMaxEntries The maximum number of free query responses that are cached until the next round has been
+ *                          handled. A value of 0 disables the query response cache.
+ * @param prefetchThreads The number of threads used to prefetch the state read during pre-handle, before the
+ *                        transactions of a round are handled. A value of 0 disables prefetching.
+ */
 @ConfigData("cache")
 public record CacheConfig(
         @ConfigProperty(value = "records.ttl", defaultValue = "180") @NetworkProperty int recordsTtl,
         @ConfigProperty(value = "cryptoTransfer.warmThreads", defaultValue = "30") @NetworkProperty
-                int cryptoTransferWarmThreads) {}
+                int cryptoTransferWarmThreads,
+        @ConfigProperty(value = "queries.maxEntries", defaultValue = "10000") @NodeProperty int queriesMaxEntries,
+        @ConfigProperty(value = "prefetch.threads", defaultValue = "8") @Min(0) @NodeProperty int prefetchThreads) {}
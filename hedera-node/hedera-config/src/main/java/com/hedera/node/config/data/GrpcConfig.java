@@ -31,13 +31,36 @@ import com.swirlds.config.api.validation.annotation.Min;
  *                unless both are 0. Must be a value between 0 and 65535, inclusive.
  * @param workflowsPort Deprecated
  * @param workflowsTlsPort Deprecated
+ * @param ingestBatchingEnabled Whether concurrent transaction submissions are gathered into batches, which are checked
+ *                              against a single state and submitted to the platform in a single call
+ * @param ingestMaxBatchSize The maximum number of transactions in a batch, when batching is enabled
+ * @param ingestMaxQueuedTransactions The maximum number of transactions waiting to be batched, when batching is
+ *                                    enabled. Further transactions are answered with BUSY right away.
+ * @param ingestCheckThreads The number of threads that help the batching thread to parse and check the transactions of
+ *                           a batch, when batching is enabled
+ * @param queryExecutionEnabled Whether queries are answered on a dedicated pool of threads instead of the gRPC
+ *                              transport threads
+ * @param queryThreads The number of threads answering queries, when query execution is enabled
+ * @param queryMaxQueued The maximum number of queries waiting for a thread, when query execution is enabled. Further
+ *                       queries are rejected with RESOURCE_EXHAUSTED right away.
+ * @param queryMaxConcurrentPerType The maximum number of queries of a single type that are waiting for a thread or
+ *                                  are being answered, when query execution is enabled. Further queries of that type
+ *                                  are rejected with RESOURCE_EXHAUSTED right away.
  */
 @ConfigData("grpc")
 public record GrpcConfig(
         @ConfigProperty(defaultValue = "50211") @Min(0) @Max(65535) @NodeProperty int port,
         @ConfigProperty(defaultValue = "50212") @Min(0) @Max(65535) @NodeProperty int tlsPort,
         @ConfigProperty(defaultValue = "60211") @Min(0) @Max(65535) @NodeProperty int workflowsPort,
-        @ConfigProperty(defaultValue = "60212") @Min(0) @Max(65535) @NodeProperty int workflowsTlsPort) {
+        @ConfigProperty(defaultValue = "60212") @Min(0) @Max(65535) @NodeProperty int workflowsTlsPort,
+        @ConfigProperty(defaultValue = "false") @NodeProperty boolean ingestBatchingEnabled,
+        @ConfigProperty(defaultValue = "64") @Min(1) @NodeProperty int ingestMaxBatchSize,
+        @ConfigProperty(defaultValue = "4096") @Min(1) @NodeProperty int ingestMaxQueuedTransactions,
+        @ConfigProperty(defaultValue = "4") @Min(0) @NodeProperty int ingestCheckThreads,
+        @ConfigProperty(defaultValue = "false") @NodeProperty boolean queryExecutionEnabled,
+        @ConfigProperty(defaultValue = "16") @Min(1) @NodeProperty int queryThreads,
+        @ConfigProperty(defaultValue = "1024") @Min(1) @NodeProperty int queryMaxQueued,
+        @ConfigProperty(defaultValue = "64") @Min(1) @NodeProperty int queryMaxConcurrentPerType) {
 
     public GrpcConfig {
         if (port == tlsPort && port != 0) {
@@ -25,6 +25,7 @@ jmhModuleInfo {
     requires("com.swirlds.common")
     requires("com.swirlds.config.api")
     requires("com.swirlds.fchashmap")
+    requires("com.swirlds.merkle")
     requires("com.swirlds.merkledb")
     requires("com.swirlds.virtualmap")
     requires("jmh.core")
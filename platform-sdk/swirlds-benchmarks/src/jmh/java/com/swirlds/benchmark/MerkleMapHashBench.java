@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.benchmark;
+
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.merkle.crypto.MerkleCryptoFactory;
+import com.swirlds.common.merkle.crypto.MerkleCryptography;
+import com.swirlds.common.merkle.utility.KeyedMerkleLong;
+import com.swirlds.common.merkle.utility.SerializableLong;
+import com.swirlds.merkle.map.MerkleMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long it takes to hash a {@link MerkleMap} after each round of updates, the way the platform hashes the
+ * non-virtual part of the state after each round. Run with different values of {@code crypto.cpuDigestThreadRatio} to
+ * see how hashing time scales with the number of cores.
+ */
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+public class MerkleMapHashBench extends BaseBench {
+
+    String benchmarkName() {
+        return "MerkleMapHashBench";
+    }
+
+    /* The map is pre-created on demand, reused between benchmarks/iterations */
+    private MerkleMap<SerializableLong, KeyedMerkleLong<SerializableLong>> merkleMap;
+
+    @TearDown
+    public void destroyMap() {
+        if (merkleMap != null) {
+            merkleMap.release();
+            merkleMap = null;
+        }
+    }
+
+    private void preCreateMap() throws Exception {
+        if (merkleMap != null) return;
+        merkleMap = new MerkleMap<>();
+
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < maxKey; i++) {
+            final SerializableLong key = new SerializableLong(i);
+            merkleMap.put(key, new KeyedMerkleLong<>(key, nextValue()));
+        }
+        System.out.println("Pre-created " + maxKey + " records in " + (System.currentTimeMillis() - start) + " ms");
+
+        start = System.currentTimeMillis();
+        MerkleCryptoFactory.getInstance().digestTreeAsync(merkleMap).get();
+        System.out.println("Hashed " + maxKey + " records in " + (System.currentTimeMillis() - start) + " ms");
+    }
+
+    /**
+     * Modify random entries, make a copy, and hash the old copy. Only the modified entries and their ancestors need
+     * to be rehashed.
+     */
+    @Benchmark
+    public void hashAfterUpdates() throws Exception {
+        beforeTest("hashAfterUpdates");
+        preCreateMap();
+
+        final MerkleCryptography cryptography = MerkleCryptoFactory.getInstance();
+        long hashTime = 0;
+        for (int i = 0; i < numFiles; i++) {
+            for (int j = 0; j < numRecords; ++j) {
+                final SerializableLong key = new SerializableLong(Utils.randomLong(maxKey));
+                final KeyedMerkleLong<SerializableLong> value = merkleMap.getForModify(key);
+                value.increment();
+            }
+
+            final MerkleMap<SerializableLong, KeyedMerkleLong<SerializableLong>> copy = merkleMap.copy();
+            final long start = System.nanoTime();
+            final Hash hash = cryptography.digestTreeAsync(merkleMap).get();
+            hashTime += System.nanoTime() - start;
+            if (hash == null) {
+                throw new RuntimeException("Missing hash");
+            }
+            merkleMap.release();
+            merkleMap = copy;
+        }
+        System.out.println("Hashed " + numFiles + " rounds of " + numRecords + " updates in "
+                + hashTime / 1_000_000 + " ms, " + hashTime / 1_000 / numFiles + " us per round");
+
+        afterTest();
+    }
+
+    /**
+     * Hash a map in which every entry has changed.
+     */
+    @Benchmark
+    public void hashFullTree() throws Exception {
+        beforeTest("hashFullTree");
+        preCreateMap();
+
+        for (int i = 0; i < maxKey; i++) {
+            merkleMap.getForModify(new SerializableLong(i)).increment();
+        }
+
+        final MerkleMap<SerializableLong, KeyedMerkleLong<SerializableLong>> copy = merkleMap.copy();
+        final long start = System.currentTimeMillis();
+        MerkleCryptoFactory.getInstance().digestTreeAsync(merkleMap).get();
+        System.out.println("Hashed " + maxKey + " modified records in " + (System.currentTimeMillis() - start) + " ms");
+        merkleMap.release();
+        merkleMap = copy;
+
+        afterTest();
+    }
+}
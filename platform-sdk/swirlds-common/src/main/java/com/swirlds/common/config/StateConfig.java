@@ -92,6 +92,18 @@ import java.time.Duration;
  *                                      careful enabling this network wide. If this is enabled and all states on disk
  *                                      have deserialization bugs, then all nodes will delete all state copies and the
  *                                      network will restart from genesis.
+ * @param stateWriteBufferSize          The size in bytes of each of the two buffers used when writing the signed state
+ *                                      file. The state is serialized into one buffer while the other is written to
+ *                                      disk by a background thread. If 0 then the state is written on the state saving
+ *                                      thread with an ordinary buffered stream.
+ * @param stateWriteBytesPerSecond      The maximum rate, in bytes per second, at which the signed state file is
+ *                                      written to disk, to limit the impact on other disk users such as the
+ *                                      preconsensus event stream. Only used if stateWriteBufferSize is positive. If 0
+ *                                      then the rate is not limited.
+ * @param startupHashSampleSize         The number of randomly chosen paths of each virtual map whose persisted hash is
+ *                                      recomputed and checked after the initial state is loaded. Virtual maps are not
+ *                                      fully rehashed at startup, so this is a cheap check that the persisted hashes
+ *                                      can be trusted. If 0 then no paths are checked.
  */
 @ConfigData("state")
 public record StateConfig(
@@ -117,7 +129,10 @@ public record StateConfig(
         @ConfigProperty(defaultValue = "false") boolean debugStackTracesEnabled,
         @ConfigProperty(defaultValue = "emergencyRecovery.yaml") String emergencyStateFileName,
         @ConfigProperty(defaultValue = "1") int signedStateFreq,
-        @ConfigProperty(defaultValue = "false") boolean deleteInvalidStateFiles) {
+        @ConfigProperty(defaultValue = "false") boolean deleteInvalidStateFiles,
+        @ConfigProperty(defaultValue = "8388608") int stateWriteBufferSize,
+        @ConfigProperty(defaultValue = "0") long stateWriteBytesPerSecond,
+        @ConfigProperty(defaultValue = "1024") int startupHashSampleSize) {
 
     /**
      * Get the main class name that should be used for signed states.
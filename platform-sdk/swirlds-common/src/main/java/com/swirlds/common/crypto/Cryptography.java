@@ -17,6 +17,7 @@
 package com.swirlds.common.crypto;
 
 import com.swirlds.common.io.SelfSerializable;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.List;
 import java.util.concurrent.Future;
 
@@ -342,4 +343,14 @@ public interface Cryptography {
      * @return calculated running Hash
      */
     Hash calcRunningHash(final Hash runningHash, final Hash newHashToAdd, final DigestType digestType);
+
+    /**
+     * Get the cache of successfully verified signatures used by this instance, e.g. to report its hit rate.
+     *
+     * @return the cache, or {@code null} if verification results are not cached
+     */
+    @Nullable
+    default VerificationCache getVerificationCache() {
+        return null;
+    }
 }
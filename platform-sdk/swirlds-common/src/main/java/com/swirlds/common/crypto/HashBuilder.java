@@ -190,6 +190,26 @@ public class HashBuilder {
         return this;
     }
 
+    /**
+     * hash a range of the given array of bytes, not including its length
+     *
+     * @param data
+     * 		the array of bytes
+     * @param offset
+     * 		the offset to start from in the array of bytes
+     * @param length
+     * 		the number of bytes to use, starting at {@code offset}
+     * @return the HashBuilder object after digesting the bytes
+     */
+    public HashBuilder updateRaw(final byte[] data, final int offset, final int length) {
+        if (data == null) {
+            throw new IllegalArgumentException("data");
+        }
+
+        digest.update(data, offset, length);
+        return this;
+    }
+
     /**
      * resets the digest
      *
@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.crypto;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of signatures that were successfully verified. Verifying the same signature again, e.g. once during
+ * ingest, once during pre-handle, and once more during handle, then only costs a digest computation and a lookup.
+ * <p>
+ * Entries are keyed by a {@link DigestType#SHA_384} digest of the signature type, public key, signature, and message,
+ * so a cache hit proves that exactly this (key, message, signature) combination was verified before. Only valid
+ * signatures are cached; an invalid signature is verified again every time it is seen.
+ * <p>
+ * The cache is a fixed size, direct mapped table: each key has exactly one slot, and adding a key replaces whatever
+ * key was in its slot before. Lookups and additions never lock and never allocate beyond the key itself.
+ */
+public class VerificationCache {
+
+    private static final DigestType KEY_DIGEST_TYPE = DigestType.SHA_384;
+
+    private static final ThreadLocal<MessageDigest> KEY_DIGEST = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance(KEY_DIGEST_TYPE.algorithmName());
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("no provider for " + KEY_DIGEST_TYPE.algorithmName(), e);
+        }
+    });
+
+    private final AtomicReferenceArray<Hash> slots;
+    private final int mask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Create a new cache.
+     *
+     * @param capacity
+     * 		the maximum number of signatures in the cache, rounded up to a power of two
+     * @throws IllegalArgumentException
+     * 		if {@code capacity} is not positive or larger than {@code 2^30}
+     */
+    public VerificationCache(final int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30: " + capacity);
+        }
+        final int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(Math.max(1, size));
+        this.mask = slots.length() - 1;
+    }
+
+    /**
+     * Get the number of slots in the cache.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return slots.length();
+    }
+
+    /**
+     * Check if a signature was verified successfully before.
+     *
+     * @param signature
+     * 		the signature to look up
+     * @return true if the signature is known to be valid, false if it is unknown
+     */
+    public boolean contains(@NonNull final TransactionSignature signature) {
+        final Hash key = keyOf(signature);
+        if (key.equals(slots.get(slotOf(key)))) {
+            hits.increment();
+            return true;
+        }
+        misses.increment();
+        return false;
+    }
+
+    /**
+     * Record that a signature was verified successfully. Must not be called for invalid signatures.
+     *
+     * @param signature
+     * 		the valid signature
+     */
+    public void add(@NonNull final TransactionSignature signature) {
+        final Hash key = keyOf(signature);
+        slots.set(slotOf(key), key);
+    }
+
+    /**
+     * Remove all entries from the cache. The hit and miss counts are not reset.
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+
+    /**
+     * Get the number of lookups that found the signature in the cache.
+     *
+     * @return the number of cache hits
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of lookups that did not find the signature in the cache.
+     *
+     * @return the number of cache misses
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Get the fraction of lookups that found the signature in the cache.
+     *
+     * @return the hit ratio between {@code 0.0} and {@code 1.0}, or {@code 0.0} if there were no lookups
+     */
+    public double getHitRatio() {
+        final long hitCount = getHitCount();
+        final long total = hitCount + getMissCount();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    private int slotOf(final Hash key) {
+        // the key is a cryptographic digest, so any of its bits are evenly distributed
+        final byte[] bytes = key.getValue();
+        final int bits = (bytes[0] & 0xFF) << 24 | (bytes[1] & 0xFF) << 16 | (bytes[2] & 0xFF) << 8 | (bytes[3] & 0xFF);
+        return bits & mask;
+    }
+
+    private static Hash keyOf(final TransactionSignature signature) {
+        Objects.requireNonNull(signature, "signature must not be null");
+        final byte[] contents = signature.getContentsDirect();
+        final byte[] expandedPublicKey = signature.getExpandedPublicKeyDirect();
+        final byte[] publicKeySource =
+                (expandedPublicKey != null && expandedPublicKey.length > 0) ? expandedPublicKey : contents;
+
+        final MessageDigest digest = KEY_DIGEST.get();
+        digest.reset();
+        digest.update((byte) signature.getSignatureType().ordinal());
+        updateLength(digest, signature.getPublicKeyLength());
+        digest.update(publicKeySource, signature.getPublicKeyOffset(), signature.getPublicKeyLength());
+        updateLength(digest, signature.getSignatureLength());
+        digest.update(contents, signature.getSignatureOffset(), signature.getSignatureLength());
+        updateLength(digest, signature.getMessageLength());
+        digest.update(contents, signature.getMessageOffset(), signature.getMessageLength());
+        return new Hash(digest.digest(), KEY_DIGEST_TYPE);
+    }
+
+    private static void updateLength(final MessageDigest digest, final int length) {
+        digest.update((byte) (length >>> 24));
+        digest.update((byte) (length >>> 16));
+        digest.update((byte) (length >>> 8));
+        digest.update((byte) length);
+    }
+}
@@ -34,6 +34,13 @@ import com.swirlds.config.api.ConfigProperty;
  * @param cpuDigestQueueSize
  * 		the fixed size of the CPU hashing queue. A value greater than zero representing the upper bound of the CPU
  * 		hashing queue.
+ * @param cpuVerifierMaxBatchSize
+ * 		the maximum number of signatures verified by a single task. Signatures waiting in the CPU verifier queue are
+ * 		regrouped into batches that are spread evenly across the verifier threads, up to this size. A value of zero
+ * 		disables batching and dispatches signatures in the lists they were submitted in.
+ * @param verificationCacheSize
+ * 		the number of successfully verified signatures to remember, rounded up to a power of two. A signature found in
+ * 		the cache is not verified again. A value of zero disables the cache.
  * @param keystorePassword
  * 		the password used to protect the PKCS12 key stores containing the nodes RSA keys. The password used to protect
  * 		the PKCS12 key stores containing the node RSA public/private key pairs.
@@ -44,6 +51,8 @@ public record CryptoConfig(
         @ConfigProperty(defaultValue = "0.5") double cpuDigestThreadRatio,
         @ConfigProperty(defaultValue = "100") int cpuVerifierQueueSize,
         @ConfigProperty(defaultValue = "100") int cpuDigestQueueSize,
+        @ConfigProperty(defaultValue = "256") int cpuVerifierMaxBatchSize,
+        @ConfigProperty(defaultValue = "65536") int verificationCacheSize,
         @ConfigProperty(defaultValue = "password") String keystorePassword) {
 
     /**
@@ -18,7 +18,9 @@ package com.swirlds.common.crypto.engine;
 
 import com.swirlds.common.crypto.SignatureType;
 import com.swirlds.common.crypto.TransactionSignature;
+import com.swirlds.common.crypto.VerificationCache;
 import com.swirlds.common.crypto.VerificationStatus;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.security.NoSuchAlgorithmException;
 import java.util.List;
 
@@ -32,6 +34,12 @@ import java.util.List;
 public class AsyncVerificationHandler
         extends AsyncOperationHandler<
                 TransactionSignature, OperationProvider<TransactionSignature, Void, Boolean, ?, SignatureType>> {
+
+    /**
+     * Valid signatures are added to this cache, may be null.
+     */
+    private final VerificationCache cache;
+
     /**
      * Constructs an {@link AsyncOperationHandler} which will operate on the provided {@link List} of items using the
      * specified algorithm provider. This method does not make a copy of the list provided and expects exclusive access
@@ -45,7 +53,27 @@ public class AsyncVerificationHandler
     public AsyncVerificationHandler(
             final List<TransactionSignature> workItems,
             final OperationProvider<TransactionSignature, Void, Boolean, ?, SignatureType> provider) {
+        this(workItems, provider, null);
+    }
+
+    /**
+     * Constructs an {@link AsyncOperationHandler} which will operate on the provided {@link List} of items using the
+     * specified algorithm provider, and adds each valid signature to a cache. This method does not make a copy of the
+     * list provided and expects exclusive access to the list.
+     *
+     * @param workItems
+     * 		the list of items to be asynchronously processed by the algorithm provider
+     * @param provider
+     * 		the algorithm provider used to perform cryptographic transformations on each item
+     * @param cache
+     * 		the cache of valid signatures, or null if results should not be cached
+     */
+    public AsyncVerificationHandler(
+            final List<TransactionSignature> workItems,
+            final OperationProvider<TransactionSignature, Void, Boolean, ?, SignatureType> provider,
+            @Nullable final VerificationCache cache) {
         super(workItems, provider);
+        this.cache = cache;
     }
 
     /**
@@ -64,6 +92,7 @@ public class AsyncVerificationHandler
             final boolean shouldCopy,
             final OperationProvider<TransactionSignature, Void, Boolean, ?, SignatureType> provider) {
         super(workItems, shouldCopy, provider);
+        this.cache = null;
     }
 
     /**
@@ -84,6 +113,9 @@ public class AsyncVerificationHandler
             throws NoSuchAlgorithmException {
         item.setFuture(this);
         final boolean isValid = provider.compute(item, item.getSignatureType());
+        if (isValid && cache != null) {
+            cache.add(item);
+        }
         item.setSignatureStatus(isValid ? VerificationStatus.VALID : VerificationStatus.INVALID);
     }
 }
@@ -25,6 +25,7 @@ import com.swirlds.common.crypto.Message;
 import com.swirlds.common.crypto.SerializableHashable;
 import com.swirlds.common.crypto.SignatureType;
 import com.swirlds.common.crypto.TransactionSignature;
+import com.swirlds.common.crypto.VerificationCache;
 import com.swirlds.common.crypto.VerificationStatus;
 import com.swirlds.common.crypto.config.CryptoConfig;
 import com.swirlds.common.io.SelfSerializable;
@@ -34,6 +35,7 @@ import com.swirlds.logging.LogMarker;
 import java.nio.ByteBuffer;
 import java.security.NoSuchAlgorithmException;
 import java.security.Security;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -113,6 +115,11 @@ public class CryptoEngine implements Cryptography {
      */
     private volatile BlockingQueue<List<Message>> digestQueue;
 
+    /**
+     * the cache of successfully verified signatures, or null if the cache is disabled
+     */
+    private volatile VerificationCache verificationCache;
+
     /**
      * the current configuration settings
      */
@@ -163,10 +170,10 @@ public class CryptoEngine implements Cryptography {
      * 		the {@link List} of items to be processed by the created {@link AsyncOperationHandler} implementation
      * @return an {@link AsyncOperationHandler} implementation
      */
-    private static AsyncVerificationHandler verificationHandler(
+    private AsyncVerificationHandler verificationHandler(
             final OperationProvider<TransactionSignature, Void, Boolean, ?, SignatureType> provider,
             final List<TransactionSignature> workItems) {
-        return new AsyncVerificationHandler(workItems, provider);
+        return new AsyncVerificationHandler(workItems, provider, verificationCache);
     }
 
     /**
@@ -245,14 +252,24 @@ public class CryptoEngine implements Cryptography {
      * 		the {@link Future} to be associated with the {@link TransactionSignature}
      * @return true if the signature is valid; otherwise false
      */
-    private static boolean verifySyncInternal(
+    private boolean verifySyncInternal(
             final TransactionSignature signature,
             final OperationProvider<TransactionSignature, Void, Boolean, ?, SignatureType> provider,
             final StandardFuture<Void> future) {
         final boolean isValid;
 
+        final VerificationCache cache = verificationCache;
+        if (cache != null && cache.contains(signature)) {
+            signature.setSignatureStatus(VerificationStatus.VALID);
+            signature.setFuture(future);
+            return true;
+        }
+
         try {
             isValid = provider.compute(signature, signature.getSignatureType());
+            if (isValid && cache != null) {
+                cache.add(signature);
+            }
             signature.setSignatureStatus(isValid ? VerificationStatus.VALID : VerificationStatus.INVALID);
             signature.setFuture(future);
         } catch (final NoSuchAlgorithmException ex) {
@@ -445,6 +462,11 @@ public class CryptoEngine implements Cryptography {
      */
     @Override
     public void verifyAsync(final TransactionSignature signature) {
+        final VerificationCache cache = verificationCache;
+        if (cache != null && cache.contains(signature)) {
+            completeFromCache(signature);
+            return;
+        }
         try {
             verificationQueue.put(Collections.singletonList(signature));
         } catch (final InterruptedException ex) {
@@ -457,13 +479,67 @@ public class CryptoEngine implements Cryptography {
      */
     @Override
     public void verifyAsync(final List<TransactionSignature> signatures) {
+        final List<TransactionSignature> uncached = removeCached(signatures);
+        if (uncached.isEmpty()) {
+            return;
+        }
         try {
-            verificationQueue.put(signatures);
+            verificationQueue.put(uncached);
         } catch (final InterruptedException ex) {
             Thread.currentThread().interrupt();
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VerificationCache getVerificationCache() {
+        return verificationCache;
+    }
+
+    /**
+     * Complete every signature that is found in the verification cache, and return the signatures that still need to
+     * be verified. The provided list is returned as is if none of the signatures are cached.
+     *
+     * @param signatures
+     * 		the signatures to look up
+     * @return the signatures that were not found in the cache
+     */
+    private List<TransactionSignature> removeCached(final List<TransactionSignature> signatures) {
+        final VerificationCache cache = verificationCache;
+        if (cache == null) {
+            return signatures;
+        }
+
+        List<TransactionSignature> uncached = null;
+        for (int index = 0; index < signatures.size(); index++) {
+            final TransactionSignature signature = signatures.get(index);
+            if (cache.contains(signature)) {
+                completeFromCache(signature);
+                if (uncached == null) {
+                    uncached = new ArrayList<>(signatures.subList(0, index));
+                }
+            } else if (uncached != null) {
+                uncached.add(signature);
+            }
+        }
+        return uncached == null ? signatures : uncached;
+    }
+
+    /**
+     * Mark a signature found in the verification cache as valid and complete its future.
+     *
+     * @param signature
+     * 		the cached signature
+     */
+    private static void completeFromCache(final TransactionSignature signature) {
+        final StandardFuture<Void> future = new StandardFuture<>();
+        future.complete(null);
+        signature.setSignatureStatus(VerificationStatus.VALID);
+        signature.setFuture(future);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -586,6 +662,9 @@ public class CryptoEngine implements Cryptography {
             this.digestQueue.addAll(oldDigestQueue);
         }
 
+        this.verificationCache =
+                config.verificationCacheSize() > 0 ? new VerificationCache(config.verificationCacheSize()) : null;
+
         // Launch new background threads with the new settings
         this.verificationDispatcher = new IntakeDispatcher<>(
                 threadManager,
@@ -593,7 +672,8 @@ public class CryptoEngine implements Cryptography {
                 this.verificationQueue,
                 this.delegatingVerificationProvider,
                 config.computeCpuVerifierThreadCount(),
-                CryptoEngine::verificationHandler);
+                Math.max(0, config.cpuVerifierMaxBatchSize()),
+                this::verificationHandler);
 
         this.digestDispatcher = new IntakeDispatcher<>(
                 threadManager,
@@ -131,7 +131,34 @@ public class Ed25519VerificationProvider
             final byte[] message,
             final byte[] signature,
             final byte[] publicKey) {
-        final boolean isValid = algorithm.cryptoSignVerifyDetached(signature, message, message.length, publicKey);
+        return compute(algorithm, algorithmType, message, message.length, signature, publicKey);
+    }
+
+    /**
+     * Computes the result of the cryptographic transformation using the provided item and algorithm.
+     *
+     * @param algorithm
+     * 		the concrete instance of the required algorithm
+     * @param algorithmType
+     * 		the type of algorithm to be used when performing the transformation
+     * @param message
+     * 		an array that starts with the original message that was signed
+     * @param messageLength
+     * 		the length of the message, may be less than the length of the array
+     * @param signature
+     * 		the signature to be verified
+     * @param publicKey
+     * 		the public key used to verify the signature
+     * @return true if the provided signature is valid; false otherwise
+     */
+    private boolean compute(
+            final Sign.Native algorithm,
+            final SignatureType algorithmType,
+            final byte[] message,
+            final int messageLength,
+            final byte[] signature,
+            final byte[] publicKey) {
+        final boolean isValid = algorithm.cryptoSignVerifyDetached(signature, message, messageLength, publicKey);
 
         if (!isValid && logger.isDebugEnabled()) {
             logger.debug(
@@ -168,14 +195,20 @@ public class Ed25519VerificationProvider
                 : buffer;
         final byte[] signature = new byte[sig.getSignatureLength()];
         final byte[] publicKey = new byte[sig.getPublicKeyLength()];
-        final byte[] message = new byte[sig.getMessageLength()];
 
-        buffer.position(sig.getMessageOffset())
-                .get(message)
-                .position(sig.getSignatureOffset())
-                .get(signature);
+        buffer.position(sig.getSignatureOffset()).get(signature);
         pkBuffer.position(sig.getPublicKeyOffset()).get(publicKey);
 
-        return compute(algorithm, algorithmType, message, signature, publicKey);
+        // The message is usually at the start of the contents, in which case it does not need to be copied since the
+        // native verification only reads the given number of bytes.
+        final int messageLength = sig.getMessageLength();
+        if (sig.getMessageOffset() == 0) {
+            return compute(algorithm, algorithmType, payload, messageLength, signature, publicKey);
+        }
+
+        final byte[] message = new byte[messageLength];
+        buffer.position(sig.getMessageOffset()).get(message);
+
+        return compute(algorithm, algorithmType, message, messageLength, signature, publicKey);
     }
 }
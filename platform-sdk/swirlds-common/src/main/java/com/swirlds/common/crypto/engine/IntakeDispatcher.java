@@ -21,6 +21,7 @@ import static com.swirlds.logging.LogMarker.EXCEPTION;
 
 import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.common.threading.manager.ThreadManager;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.BlockingQueue;
@@ -35,6 +36,11 @@ import org.apache.logging.log4j.Logger;
 /**
  * Implementation of a reusable background thread that dispatches asynchronous work items to the provided {@link
  * AsyncOperationHandler} by removing the work items from the provided {@link Queue}.
+ * <p>
+ * If a maximum batch size is given, the dispatcher regroups the work items into batches whose size adapts to the
+ * backlog: everything waiting in the queue is drained and split evenly across the thread pool, so that a light load is
+ * handled with small batches (low latency) while a heavy load is handled with larger batches (less per-task overhead).
+ * No batch is larger than the maximum batch size.
  */
 public class IntakeDispatcher<Element, Provider extends OperationProvider, Handler extends AsyncOperationHandler> {
 
@@ -70,6 +76,16 @@ public class IntakeDispatcher<Element, Provider extends OperationProvider, Handl
      */
     private final ExecutorService executorService;
 
+    /**
+     * The number of threads in the pool.
+     */
+    private final int parallelism;
+
+    /**
+     * The maximum number of work items in a single batch, or zero if work items are dispatched as they were queued.
+     */
+    private final int maxBatchSize;
+
     /**
      * Flag indicating the current execution state of the {@code worker} thread.
      */
@@ -103,9 +119,44 @@ public class IntakeDispatcher<Element, Provider extends OperationProvider, Handl
             final Provider provider,
             final int parallelism,
             final BiFunction<Provider, List<Element>, Handler> handlerSupplier) {
+        this(threadManager, elementType, backingQueue, provider, parallelism, 0, handlerSupplier);
+    }
+
+    /**
+     * Constructor that initializes all internal variables and launches the background thread. Work items are regrouped
+     * into batches of at most {@code maxBatchSize} items, see the class documentation.
+     *
+     * @param threadManager
+     * 		responsible for managing thread lifecycles
+     * @param elementType
+     * 		the type of Element
+     * @param backingQueue
+     * 		the queue of Elements to be processed
+     * @param provider
+     * 		the cryptographic transformation provider
+     * @param parallelism
+     * 		the number of threads in the pool
+     * @param maxBatchSize
+     * 		the maximum number of items handled by a single handler, or zero to disable batching
+     * @param handlerSupplier
+     * 		the supplier of the handler
+     */
+    public IntakeDispatcher(
+            final ThreadManager threadManager,
+            final Class<Element> elementType,
+            final BlockingQueue<List<Element>> backingQueue,
+            final Provider provider,
+            final int parallelism,
+            final int maxBatchSize,
+            final BiFunction<Provider, List<Element>, Handler> handlerSupplier) {
+        if (maxBatchSize < 0) {
+            throw new IllegalArgumentException("maxBatchSize must not be negative");
+        }
         this.backingQueue = backingQueue;
         this.provider = provider;
         this.handlerSupplier = handlerSupplier;
+        this.parallelism = parallelism;
+        this.maxBatchSize = maxBatchSize;
 
         final ThreadFactory threadFactory = new ThreadConfiguration(threadManager)
                 .setDaemon(true)
@@ -155,8 +206,18 @@ public class IntakeDispatcher<Element, Provider extends OperationProvider, Handl
         while (running) {
             try {
                 final List<Element> workItems = backingQueue.take();
-                if (!workItems.isEmpty()) {
-                    executorService.submit(handlerSupplier.apply(provider, workItems));
+                if (maxBatchSize == 0) {
+                    if (!workItems.isEmpty()) {
+                        executorService.submit(handlerSupplier.apply(provider, workItems));
+                    }
+                    continue;
+                }
+
+                final List<List<Element>> pending = new ArrayList<>();
+                pending.add(workItems);
+                backingQueue.drainTo(pending);
+                for (final List<Element> batch : partition(pending, parallelism, maxBatchSize)) {
+                    executorService.submit(handlerSupplier.apply(provider, batch));
                 }
             } catch (InterruptedException ex) {
                 Thread.currentThread().interrupt();
@@ -164,6 +225,60 @@ public class IntakeDispatcher<Element, Provider extends OperationProvider, Handl
         }
     }
 
+    /**
+     * Regroup lists of work items into batches. The batch size is chosen so that the items are spread evenly over
+     * {@code parallelism} threads, but no batch has more than {@code maxBatchSize} items. Items keep their order, and
+     * lists that already have the right size are reused instead of being copied.
+     *
+     * @param pending
+     * 		the lists of work items taken from the queue
+     * @param parallelism
+     * 		the number of threads that will handle the batches
+     * @param maxBatchSize
+     * 		the maximum number of items in a batch
+     * @param <E>
+     * 		the type of the work items
+     * @return the batches, none of them empty
+     */
+    static <E> List<List<E>> partition(final List<List<E>> pending, final int parallelism, final int maxBatchSize) {
+        int total = 0;
+        for (final List<E> items : pending) {
+            total += items.size();
+        }
+        final int threads = Math.max(1, parallelism);
+        final int batchSize = Math.max(1, Math.min(maxBatchSize, (total + threads - 1) / threads));
+
+        final List<List<E>> batches = new ArrayList<>();
+        List<E> current = null;
+        for (final List<E> items : pending) {
+            if (items.size() == batchSize && current == null) {
+                batches.add(items);
+                continue;
+            }
+            for (int start = 0; start < items.size(); ) {
+                if (current == null && items.size() - start >= batchSize) {
+                    batches.add(items.subList(start, start + batchSize));
+                    start += batchSize;
+                    continue;
+                }
+                if (current == null) {
+                    current = new ArrayList<>(batchSize);
+                }
+                final int end = Math.min(items.size(), start + batchSize - current.size());
+                current.addAll(items.subList(start, end));
+                start = end;
+                if (current.size() == batchSize) {
+                    batches.add(current);
+                    current = null;
+                }
+            }
+        }
+        if (current != null) {
+            batches.add(current);
+        }
+        return batches;
+    }
+
     /**
      * An {@link java.lang.Thread.UncaughtExceptionHandler} implementation to ensure that all uncaught exceptions on the
      * dispatcher threads are properly logged.
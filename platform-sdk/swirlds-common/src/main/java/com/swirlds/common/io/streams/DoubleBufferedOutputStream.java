@@ -0,0 +1,238 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.io.streams;
+
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * An output stream that writes to the underlying stream on a background thread, so that the thread producing the data
+ * (e.g. serializing a merkle tree) does not wait for the disk. Data is collected in one of two buffers; when that
+ * buffer is full it is handed to the background thread and the producer continues with the other buffer. The producer
+ * only blocks if it fills a buffer before the background thread has finished writing the previous one.
+ * <p>
+ * An exception thrown by the underlying stream is rethrown to the producer by the next call to a write method,
+ * {@link #flush()}, or {@link #close()}. This stream is not thread safe, it must be used by a single producer.
+ */
+public class DoubleBufferedOutputStream extends OutputStream {
+
+    /**
+     * The length of a chunk that asks the background thread to flush the underlying stream.
+     */
+    private static final int FLUSH = -1;
+
+    /**
+     * The length of a chunk that asks the background thread to stop.
+     */
+    private static final int STOP = -2;
+
+    private record Chunk(byte[] data, int length) {}
+
+    private final OutputStream out;
+    private final BlockingQueue<Chunk> filledChunks = new ArrayBlockingQueue<>(2);
+    private final BlockingQueue<byte[]> emptyBuffers = new ArrayBlockingQueue<>(2);
+    private final Semaphore flushed = new Semaphore(0);
+    private final Thread writer;
+
+    private byte[] buffer;
+    private int position;
+    private boolean closed;
+    private volatile IOException writeFailure;
+
+    /**
+     * Create a new stream.
+     *
+     * @param out
+     * 		the stream to write to, it is only used by the background thread
+     * @param bufferSize
+     * 		the size of each of the two buffers
+     * @throws IllegalArgumentException
+     * 		if {@code bufferSize} is not positive
+     */
+    public DoubleBufferedOutputStream(@NonNull final OutputStream out, final int bufferSize) {
+        this.out = Objects.requireNonNull(out, "out must not be null");
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize must be positive");
+        }
+        this.buffer = new byte[bufferSize];
+        emptyBuffers.add(new byte[bufferSize]);
+
+        writer = new ThreadConfiguration(getStaticThreadManager())
+                .setDaemon(true)
+                .setComponent("io")
+                .setThreadName("double-buffered-writer")
+                .setRunnable(this::writeChunks)
+                .build(true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(final int b) throws IOException {
+        ensureOpen();
+        if (position == buffer.length) {
+            handOff();
+        }
+        buffer[position++] = (byte) b;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(@NonNull final byte[] bytes, final int offset, final int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        ensureOpen();
+        int written = 0;
+        while (written < length) {
+            if (position == buffer.length) {
+                handOff();
+            }
+            final int count = Math.min(length - written, buffer.length - position);
+            System.arraycopy(bytes, offset + written, buffer, position, count);
+            position += count;
+            written += count;
+        }
+    }
+
+    /**
+     * Write all buffered data to the underlying stream and flush it. Blocks until the background thread is done.
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        if (position > 0) {
+            handOff();
+        }
+        put(new Chunk(null, FLUSH));
+        try {
+            flushed.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while flushing");
+        }
+        throwIfFailed();
+    }
+
+    /**
+     * Flush all buffered data, stop the background thread, and close the underlying stream.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            closed = true;
+            put(new Chunk(null, STOP));
+            try {
+                writer.join();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            out.close();
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("stream is closed");
+        }
+        throwIfFailed();
+    }
+
+    private void throwIfFailed() throws IOException {
+        final IOException failure = writeFailure;
+        if (failure != null) {
+            throw new IOException("background write failed", failure);
+        }
+    }
+
+    /**
+     * Hand the current buffer to the background thread and continue with an empty buffer.
+     */
+    private void handOff() throws IOException {
+        put(new Chunk(buffer, position));
+        try {
+            buffer = emptyBuffers.take();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while waiting for a buffer");
+        }
+        position = 0;
+        throwIfFailed();
+    }
+
+    private void put(final Chunk chunk) throws IOException {
+        try {
+            filledChunks.put(chunk);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while handing off a buffer");
+        }
+    }
+
+    /**
+     * The body of the background thread. After a failure, chunks are still consumed so that the producer never
+     * blocks forever, but nothing more is written.
+     */
+    private void writeChunks() {
+        while (true) {
+            final Chunk chunk;
+            try {
+                chunk = filledChunks.take();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (chunk.length() == STOP) {
+                return;
+            }
+            try {
+                if (writeFailure == null) {
+                    if (chunk.length() == FLUSH) {
+                        out.flush();
+                    } else {
+                        out.write(chunk.data(), 0, chunk.length());
+                    }
+                }
+            } catch (final IOException e) {
+                writeFailure = e;
+            } catch (final RuntimeException e) {
+                writeFailure = new IOException(e);
+            } finally {
+                if (chunk.length() == FLUSH) {
+                    flushed.release();
+                } else {
+                    emptyBuffers.add(chunk.data());
+                }
+            }
+        }
+    }
+}
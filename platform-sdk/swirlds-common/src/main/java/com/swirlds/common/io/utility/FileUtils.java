@@ -16,17 +16,21 @@
 
 package com.swirlds.common.io.utility;
 
+import static com.swirlds.common.io.extendable.ExtendableOutputStream.extendOutputStream;
 import static com.swirlds.common.io.utility.TemporaryFileBuilder.buildTemporaryDirectory;
 import static com.swirlds.logging.LogMarker.EXCEPTION;
 import static com.swirlds.logging.LogMarker.STATE_TO_DISK;
 import static java.nio.file.Files.exists;
 
+import com.swirlds.common.io.extendable.extensions.ThrottleStreamExtension;
+import com.swirlds.common.io.streams.DoubleBufferedOutputStream;
 import com.swirlds.common.io.streams.MerkleDataOutputStream;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.BufferedOutputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.FileSystems;
@@ -287,6 +291,43 @@ public final class FileUtils {
         }
     }
 
+    /**
+     * Same as {@link #writeAndFlush(Path, IOConsumer)}, but the data is written to the file by a background thread
+     * while {@code writeMethod} produces more data, see {@link DoubleBufferedOutputStream}. The rate at which data is
+     * written to the file may be limited, to reduce the impact of a large write on other users of the disk.
+     *
+     * @param file           the file to write to
+     * @param writeMethod    writes the content to the stream
+     * @param bufferSize     the size of each of the two buffers
+     * @param bytesPerSecond the maximum number of bytes written to the file per second, or 0 for no limit
+     * @throws IOException if the file exists or something goes wrong while writing
+     */
+    public static void writeAndFlush(
+            @NonNull final Path file,
+            @NonNull final IOConsumer<MerkleDataOutputStream> writeMethod,
+            final int bufferSize,
+            final long bytesPerSecond)
+            throws IOException {
+
+        throwIfFileExists(file);
+
+        try (final FileOutputStream fileOut = new FileOutputStream(file.toFile())) {
+            final OutputStream throttledOut = bytesPerSecond > 0
+                    ? extendOutputStream(fileOut, new ThrottleStreamExtension(bytesPerSecond))
+                    : fileOut;
+            try (final MerkleDataOutputStream out =
+                    new MerkleDataOutputStream(new DoubleBufferedOutputStream(throttledOut, bufferSize))) {
+
+                writeMethod.accept(out);
+
+                // flush all the data to the file stream
+                out.flush();
+                // make sure the data is actually written to disk
+                fileOut.getFD().sync();
+            }
+        }
+    }
+
     /**
      * Returns the user directory path specified by the {@code user.dir} system property.
      *
@@ -31,7 +31,6 @@ import com.swirlds.common.merkle.hash.MerkleHashBuilder;
 import com.swirlds.common.threading.manager.ThreadManager;
 import com.swirlds.logging.LogMarker;
 import java.security.NoSuchAlgorithmException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Future;
 
@@ -104,16 +103,16 @@ public class MerkleCryptoEngine implements MerkleCryptography {
      */
     @Override
     public Hash digestSync(final MerkleInternal node, final DigestType digestType, boolean setHash) {
-        List<Hash> childHashes = new ArrayList<>(node.getNumberOfChildren());
-        for (int childIndex = 0; childIndex < node.getNumberOfChildren(); childIndex++) {
-            MerkleNode child = node.getChild(childIndex);
-            if (child == null) {
-                childHashes.add(basicCryptoEngine.getNullHash(digestType));
-            } else {
-                childHashes.add(child.getHash());
+        try {
+            final Hash hash = merkleInternalDigestProvider.compute(
+                    node, basicCryptoEngine.getNullHash(digestType), MERKLE_DIGEST_TYPE);
+            if (setHash) {
+                node.setHash(hash);
             }
+            return hash;
+        } catch (final NoSuchAlgorithmException e) {
+            throw new CryptographyException(e, LogMarker.EXCEPTION);
         }
-        return digestSync(node, childHashes, setHash);
     }
 
     /**
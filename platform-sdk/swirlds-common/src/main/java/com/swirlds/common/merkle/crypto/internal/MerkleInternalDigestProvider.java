@@ -27,6 +27,7 @@ import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.exceptions.IllegalChildHashException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -40,6 +41,18 @@ public class MerkleInternalDigestProvider
 
     private static final Logger logger = LogManager.getLogger(MerkleInternalDigestProvider.class);
 
+    /**
+     * The number of bytes the class ID and the version of a node take up in the data that is hashed.
+     */
+    private static final int HEADER_SIZE = Long.BYTES + Integer.BYTES;
+
+    /**
+     * A buffer per thread, which the class ID, the version and the child hashes of a node are copied into so that they
+     * can be passed to the digest at once. It grows to fit the node with the most children hashed on the thread.
+     */
+    private final ThreadLocal<byte[]> buffers =
+            ThreadLocal.withInitial(() -> new byte[HEADER_SIZE + 4 * DigestType.SHA_384.digestLength()]);
+
     /**
      * {@inheritDoc}
      */
@@ -63,25 +76,100 @@ public class MerkleInternalDigestProvider
         hashBuilder.update(node.getClassId());
         hashBuilder.update(node.getVersion());
         for (int index = 0; index < childHashes.size(); index++) {
-            final Hash childHash = childHashes.get(index);
+            updateChildHash(hashBuilder, node, index, childHashes.get(index));
+        }
 
-            if (childHash == null) {
-                final MerkleNode childNode = node.getChild(index);
-                final String msg = String.format(
-                        "Child has an unexpected null hash "
-                                + "[ parentClass = '%s', childClass = '%s', childRoute = %s ]",
-                        node.getClass().getName(), childNode.getClass().getName(), childNode.getRoute());
+        return hashBuilder.build();
+    }
 
-                logger.trace(TESTING_EXCEPTIONS.getMarker(), msg);
-                throw new IllegalChildHashException(msg);
-            }
+    /**
+     * Add the hash of a child to the hash of its parent.
+     *
+     * @throws IllegalChildHashException
+     * 		if the child hash is null
+     */
+    private static void updateChildHash(
+            final HashBuilder hashBuilder, final MerkleInternal node, final int index, final Hash childHash) {
+
+        requireChildHash(node, index, childHash);
+        hashBuilder.update(childHash);
+    }
+
+    /**
+     * Check that the hash of a child is known.
+     *
+     * @throws IllegalChildHashException
+     * 		if the child hash is null
+     */
+    private static void requireChildHash(final MerkleInternal node, final int index, final Hash childHash) {
+        if (childHash == null) {
+            final MerkleNode childNode = node.getChild(index);
+            final String msg = String.format(
+                    "Child has an unexpected null hash "
+                            + "[ parentClass = '%s', childClass = '%s', childRoute = %s ]",
+                    node.getClass().getName(), childNode.getClass().getName(), childNode.getRoute());
 
-            hashBuilder.update(childHash);
+            logger.trace(TESTING_EXCEPTIONS.getMarker(), msg);
+            throw new IllegalChildHashException(msg);
+        }
+    }
+
+    /**
+     * Compute the hash of a {@link MerkleInternal} from the hashes currently held by its children, without collecting
+     * the child hashes into a list first. The data is collected in a buffer that is reused by every node hashed on
+     * the same thread.
+     *
+     * @param node
+     * 		the node to hash, all of its children must already be hashed
+     * @param nullHash
+     * 		the hash used for null children
+     * @param algorithmType
+     * 		the type of digest to compute
+     * @return the hash of the node
+     * @throws NoSuchAlgorithmException
+     * 		if the digest algorithm is not available
+     */
+    public Hash compute(final MerkleInternal node, final Hash nullHash, final DigestType algorithmType)
+            throws NoSuchAlgorithmException {
+
+        final HashBuilder hashBuilder = loadAlgorithm(algorithmType);
+
+        // the same bytes as HashBuilder.update(long) and update(int) followed by update(Hash) for every child
+        byte[] buffer = buffers.get();
+        int position = writeLittleEndian(buffer, 0, node.getClassId(), Long.BYTES);
+        position = writeLittleEndian(buffer, position, node.getVersion(), Integer.BYTES);
+        for (int index = 0; index < node.getNumberOfChildren(); index++) {
+            final MerkleNode child = node.getChild(index);
+            final Hash childHash = child == null ? nullHash : child.getHash();
+            requireChildHash(node, index, childHash);
+
+            final byte[] value = childHash.getValue();
+            if (position + value.length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(2 * buffer.length, position + value.length));
+                buffers.set(buffer);
+            }
+            System.arraycopy(value, 0, buffer, position, value.length);
+            position += value.length;
         }
 
+        hashBuilder.reset();
+        hashBuilder.updateRaw(buffer, 0, position);
         return hashBuilder.build();
     }
 
+    /**
+     * Write the lowest bytes of a value to a buffer, least significant byte first.
+     *
+     * @return the position after the last byte written
+     */
+    private static int writeLittleEndian(final byte[] buffer, final int position, long value, final int bytes) {
+        for (int i = 0; i < bytes; i++) {
+            buffer[position + i] = (byte) (value & 0xFF);
+            value >>= Byte.SIZE;
+        }
+        return position + bytes;
+    }
+
     /**
      * {@inheritDoc}
      */
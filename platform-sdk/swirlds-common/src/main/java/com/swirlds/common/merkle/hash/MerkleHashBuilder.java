@@ -17,19 +17,17 @@
 package com.swirlds.common.merkle.hash;
 
 import static com.swirlds.common.crypto.engine.CryptoEngine.THREAD_COMPONENT_NAME;
-import static com.swirlds.common.merkle.iterators.MerkleIterationOrder.POST_ORDERED_DEPTH_FIRST_RANDOM;
 import static com.swirlds.common.merkle.utility.MerkleConstants.MERKLE_DIGEST_TYPE;
 import static com.swirlds.logging.LogMarker.EXCEPTION;
 
 import com.swirlds.common.crypto.Cryptography;
 import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.merkle.MerkleInternal;
 import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.crypto.MerkleCryptography;
-import com.swirlds.common.merkle.iterators.MerkleIterator;
 import com.swirlds.common.threading.framework.config.ThreadConfiguration;
 import com.swirlds.common.threading.futures.StandardFuture;
 import com.swirlds.common.threading.manager.ThreadManager;
-import java.util.Iterator;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -40,13 +38,24 @@ import org.apache.logging.log4j.Logger;
 
 /**
  * This class is responsible for hashing a merkle tree.
+ * <p>
+ * Trees are hashed asynchronously by splitting them into tasks. Each task hashes one subtree: it hands every child
+ * subtree that is large enough to be worth sending to another thread to the thread pool as a new task, and hashes the
+ * small ones inline. Self hashing nodes, such as virtual maps, always get a task of their own, so that they are hashed
+ * concurrently. Tasks never wait for each other: whichever thread finishes the last child of a subtree hashes the root
+ * of that subtree. Subtrees that are already hashed are skipped without being visited. Each node is locked while it is
+ * hashed, so that concurrent calls that hash the same subtree do not hash a node twice.
  */
 public class MerkleHashBuilder {
     private static final Logger logger = LogManager.getLogger(MerkleHashBuilder.class);
 
-    private final Executor threadPool;
+    /**
+     * A subtree with at least this many nodes that need hashing is hashed in a separate task. Smaller subtrees are
+     * hashed by the task that finds them, since forking them would cost more than it saves.
+     */
+    private static final int FORK_THRESHOLD = 64;
 
-    private final int cpuThreadCount;
+    private final Executor threadPool;
 
     private final MerkleCryptography merkleCryptography;
 
@@ -69,7 +78,6 @@ public class MerkleHashBuilder {
             final int cpuThreadCount) {
         this.merkleCryptography = merkleCryptography;
         this.cryptography = cryptography;
-        this.cpuThreadCount = cpuThreadCount;
 
         final ThreadFactory threadFactory = new ThreadConfiguration(threadManager)
                 .setDaemon(true)
@@ -85,29 +93,42 @@ public class MerkleHashBuilder {
     }
 
     /**
-     * Only return nodes that require a hash.
+     * Check if a node needs to be hashed by this class. Self hashing nodes and nodes that already have a hash do not.
      */
-    private static boolean filter(MerkleNode node) {
-        if (node == null) {
+    private static boolean requiresHash(final MerkleNode node) {
+        if (node == null || node.isSelfHashing()) {
             return false;
         }
 
-        if (node.isSelfHashing()) {
-            return true;
-        }
-
         return node.getHash() == null;
     }
 
     /**
-     * Don't bother with subtrees that have already been hashed.
+     * Count the nodes in a subtree that need to be hashed, stopping once the count reaches a limit. Hashed subtrees
+     * are not visited, so this is cheap when few nodes have changed. A self hashing node counts as {@code limit}
+     * nodes, so that it is always hashed in a task of its own.
+     *
+     * @param node
+     * 		the root of the subtree
+     * @param limit
+     * 		stop counting when this many nodes have been found
+     * @return the number of nodes that need to be hashed, or a number greater than or equal to {@code limit}
      */
-    private static boolean descendantFilter(final MerkleNode child) {
-        if (child.isSelfHashing()) {
-            return false;
+    private static int estimateDirtySize(final MerkleNode node, final int limit) {
+        if (node != null && node.isSelfHashing()) {
+            return limit;
         }
-
-        return child.getHash() == null;
+        if (!requiresHash(node)) {
+            return 0;
+        }
+        int count = 1;
+        if (!node.isLeaf()) {
+            final MerkleInternal internal = node.asInternal();
+            for (int childIndex = 0; childIndex < internal.getNumberOfChildren() && count < limit; childIndex++) {
+                count += estimateDirtySize(internal.getChild(childIndex), limit - count);
+            }
+        }
+        return count;
     }
 
     /**
@@ -122,10 +143,7 @@ public class MerkleHashBuilder {
             return cryptography.getNullHash(MERKLE_DIGEST_TYPE);
         }
 
-        final Iterator<MerkleNode> iterator = root.treeIterator()
-                .setFilter(MerkleHashBuilder::filter)
-                .setDescendantFilter(MerkleHashBuilder::descendantFilter);
-        hashSubtree(iterator, null);
+        hashSubtree(root);
         return root.getHash();
     }
 
@@ -143,75 +161,148 @@ public class MerkleHashBuilder {
             return new StandardFuture<>(root.getHash());
         } else {
             final FutureMerkleHash result = new FutureMerkleHash();
-            AtomicInteger activeThreadCount = new AtomicInteger(cpuThreadCount);
-            for (int threadIndex = 0; threadIndex < cpuThreadCount; threadIndex++) {
-                threadPool.execute(createHashingRunnable(threadIndex, activeThreadCount, result, root));
-            }
+            threadPool.execute(new HashTask(root, null, result));
             return result;
         }
     }
 
     /**
-     * Create a thread that will attempt to hash the tree starting at the root.
+     * Hash a subtree on the current thread. Self hashing nodes in the subtree are hashed when their parent asks for
+     * their hash.
      *
-     * @param threadId
-     * 		Used to generate a randomized iteration order
+     * @param node
+     * 		the root of the subtree
      */
-    private Runnable createHashingRunnable(
-            final int threadId, AtomicInteger activeThreadCount, final FutureMerkleHash result, final MerkleNode root) {
-
-        return () -> {
-            final MerkleIterator<MerkleNode> it = root.treeIterator()
-                    .setFilter(MerkleHashBuilder::filter)
-                    .setDescendantFilter(MerkleHashBuilder::descendantFilter);
-            if (threadId > 0) {
-                // One thread can iterate in-order, all others will use random order.
-                it.setOrder(POST_ORDERED_DEPTH_FIRST_RANDOM);
+    private void hashSubtree(final MerkleNode node) {
+        if (!requiresHash(node)) {
+            return;
+        }
+
+        if (!node.isLeaf()) {
+            final MerkleInternal internal = node.asInternal();
+            for (int childIndex = 0; childIndex < internal.getNumberOfChildren(); childIndex++) {
+                hashSubtree(internal.getChild(childIndex));
             }
+        }
+        hashNode(node);
+    }
 
-            try {
-                hashSubtree(it, activeThreadCount);
+    /**
+     * Hash a single node, all of its children must already be hashed. Within one call to
+     * {@link #digestTreeAsync(MerkleNode)} every node is hashed by only one task, but another call may hash the same
+     * subtree at the same time, for example a {@link #digestTreeSync(MerkleNode)} of part of a tree that is still being
+     * hashed asynchronously. Locking the node makes sure it is hashed only once. The lock is almost never contended.
+     *
+     * @param node
+     * 		the node to hash
+     */
+    private void hashNode(final MerkleNode node) {
+        synchronized (node) {
+            if (node.getHash() != null) {
+                return;
+            }
 
-                // The last thread to terminate is responsible for setting the future
-                int remainingActiveThreads = activeThreadCount.getAndDecrement() - 1;
-                if (remainingActiveThreads == 0) {
-                    result.set(root.getHash());
-                }
-            } catch (final Throwable t) {
-                result.cancelWithException(t);
+            if (node.isLeaf()) {
+                merkleCryptography.digestSync(node.asLeaf(), MERKLE_DIGEST_TYPE);
+            } else {
+                merkleCryptography.digestSync(node.asInternal(), MERKLE_DIGEST_TYPE);
             }
-        };
+        }
     }
 
     /**
-     * The root of a merkle tree.
-     *
-     * @param it
-     * 		An iterator that walks through the tree.
-     * @param activeThreadCount
-     * 		If single threaded then this is null, otherwise contains the number of threads
-     * 		that are actively hashing. Once the active thread count dips below the maximum,
-     * 		this means that one thread has either finished or exploded.
+     * A task that hashes a subtree, handing large child subtrees and self hashing children to other tasks. The root of
+     * the subtree is hashed once this task and all of its child tasks are done, by whichever thread finishes last.
      */
-    private void hashSubtree(final Iterator<MerkleNode> it, final AtomicInteger activeThreadCount) {
-        while (it.hasNext()) {
-            final MerkleNode node = it.next();
-            // Potential optimization: if this node is currently locked, do not wait here. Skip it and continue.
-            // This would require a lock object that support the "try lock" paradigm.
-            synchronized (node) {
-                if (activeThreadCount != null && activeThreadCount.get() != cpuThreadCount) {
-                    break;
+    private final class HashTask implements Runnable {
+
+        private final MerkleNode node;
+
+        /**
+         * The task of the parent node, or {@code null} if this task hashes the root of the tree.
+         */
+        private final HashTask parent;
+
+        private final FutureMerkleHash result;
+
+        /**
+         * The number of child tasks that are not done yet, plus one while this task is still running.
+         */
+        private final AtomicInteger pending = new AtomicInteger(1);
+
+        private HashTask(final MerkleNode node, final HashTask parent, final FutureMerkleHash result) {
+            this.node = node;
+            this.parent = parent;
+            this.result = result;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void run() {
+            try {
+                if (node.isSelfHashing()) {
+                    node.getHash();
+                } else if (requiresHash(node) && !node.isLeaf()) {
+                    hashChildren(node.asInternal());
+                }
+            } catch (final Throwable t) {
+                result.cancelWithException(t);
+                return;
+            }
+            done();
+        }
+
+        /**
+         * Hand the large child subtrees to other tasks and hash the small ones on this thread.
+         */
+        private void hashChildren(final MerkleInternal internal) {
+            final int childCount = internal.getNumberOfChildren();
+
+            // Fork large subtrees first so that idle threads can pick them up while this thread hashes the small ones.
+            boolean[] forked = null;
+            for (int childIndex = 0; childIndex < childCount; childIndex++) {
+                final MerkleNode child = internal.getChild(childIndex);
+                if (estimateDirtySize(child, FORK_THRESHOLD) >= FORK_THRESHOLD) {
+                    if (forked == null) {
+                        forked = new boolean[childCount];
+                    }
+                    forked[childIndex] = true;
+                    pending.incrementAndGet();
+                    threadPool.execute(new HashTask(child, this, result));
                 }
+            }
 
-                if (node.getHash() != null) {
-                    continue;
+            for (int childIndex = 0; childIndex < childCount; childIndex++) {
+                if (forked == null || !forked[childIndex]) {
+                    hashSubtree(internal.getChild(childIndex));
                 }
+            }
+        }
 
-                if (node.isLeaf()) {
-                    merkleCryptography.digestSync(node.asLeaf(), MERKLE_DIGEST_TYPE);
-                } else {
-                    merkleCryptography.digestSync(node.asInternal(), MERKLE_DIGEST_TYPE);
+        /**
+         * Called when this task or one of its child tasks is done. The last call hashes the node and notifies the
+         * parent.
+         */
+        private void done() {
+            if (pending.decrementAndGet() != 0) {
+                return;
+            }
+
+            try {
+                if (requiresHash(node)) {
+                    hashNode(node);
                 }
+            } catch (final Throwable t) {
+                result.cancelWithException(t);
+                return;
+            }
+
+            if (parent != null) {
+                parent.done();
+            } else {
+                result.set(node.getHash());
             }
         }
     }
@@ -0,0 +1,309 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.metrics;
+
+import static com.swirlds.common.metrics.Metric.ValueType.BUCKETS;
+import static com.swirlds.common.metrics.Metric.ValueType.MAX;
+import static com.swirlds.common.metrics.Metric.ValueType.P50;
+import static com.swirlds.common.metrics.Metric.ValueType.P99;
+import static com.swirlds.common.metrics.Metric.ValueType.P999;
+import static com.swirlds.common.metrics.Metric.ValueType.VALUE;
+
+import com.swirlds.base.utility.ToStringBuilder;
+import java.util.EnumSet;
+import java.util.Objects;
+
+/**
+ * A {@code HistogramMetric} records the distribution of non-negative {@code long} values, e.g. latencies in
+ * nanoseconds, and reports percentiles of that distribution.
+ * <p>
+ * Values are counted in log-linear buckets: every power of two is split into {@code 2^precisionBits} buckets of equal
+ * width, so the relative error of a reported percentile is at most {@code 2^-precisionBits}. Values up to
+ * {@code 2^precisionBits} are counted exactly. Recording a value does not allocate and does not lock.
+ * <p>
+ * The main value ({@link ValueType#VALUE}) is the mean. The percentiles {@link ValueType#P50}, {@link ValueType#P99},
+ * and {@link ValueType#P999} are reported as the highest value that falls into the same bucket as the percentile.
+ */
+public interface HistogramMetric extends Metric {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default MetricType getMetricType() {
+        return MetricType.HISTOGRAM;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default DataType getDataType() {
+        return DataType.FLOAT;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default EnumSet<ValueType> getValueTypes() {
+        return EnumSet.of(VALUE, MAX, P50, P99, P999, BUCKETS);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * All values are calculated over all values recorded since the metric was created or last reset. The value for
+     * {@link ValueType#BUCKETS} is a {@link Distribution}, all other values are {@link Double}s.
+     */
+    @Override
+    Object get(final ValueType valueType);
+
+    /**
+     * Record a value. Negative values are recorded as zero, values larger than the configured maximum are recorded as
+     * the maximum.
+     *
+     * @param value
+     * 		the value to record
+     */
+    void update(final long value);
+
+    /**
+     * Get the number of values recorded since the metric was created or last reset.
+     *
+     * @return the number of values
+     */
+    long getCount();
+
+    /**
+     * Get the mean of the values recorded since the metric was created or last reset.
+     *
+     * @return the mean, or {@code 0.0} if no values were recorded
+     */
+    double getMean();
+
+    /**
+     * Get a percentile of the values recorded since the metric was created or last reset.
+     *
+     * @param percentile
+     * 		the percentile, between {@code 0.0} and {@code 100.0}
+     * @return the percentile, or {@code 0.0} if no values were recorded
+     * @throws IllegalArgumentException
+     * 		if {@code percentile} is not between {@code 0.0} and {@code 100.0}
+     */
+    double getPercentile(final double percentile);
+
+    /**
+     * Get the current distribution of recorded values.
+     *
+     * @return the distribution
+     */
+    Distribution getDistribution();
+
+    /**
+     * The cumulative distribution of the values recorded by a {@link HistogramMetric}, coarsened to one bucket per
+     * power of two so that it can be exported cheaply.
+     *
+     * @param upperBounds
+     * 		the inclusive upper bound of each bucket, in increasing order
+     * @param cumulativeCounts
+     * 		for each bucket, the number of recorded values that are less than or equal to its upper bound
+     * @param count
+     * 		the total number of recorded values
+     * @param sum
+     * 		the sum of all recorded values
+     */
+    record Distribution(long[] upperBounds, long[] cumulativeCounts, long count, long sum) {
+
+        /**
+         * @throws NullPointerException
+         * 		if {@code upperBounds} or {@code cumulativeCounts} is {@code null}
+         * @throws IllegalArgumentException
+         * 		if {@code upperBounds} and {@code cumulativeCounts} have different lengths
+         */
+        public Distribution {
+            Objects.requireNonNull(upperBounds, "upperBounds");
+            Objects.requireNonNull(cumulativeCounts, "cumulativeCounts");
+            if (upperBounds.length != cumulativeCounts.length) {
+                throw new IllegalArgumentException("upperBounds and cumulativeCounts must have the same length");
+            }
+        }
+    }
+
+    /**
+     * Configuration of a {@link HistogramMetric}
+     */
+    final class Config extends MetricConfig<HistogramMetric, HistogramMetric.Config> {
+
+        /**
+         * The default largest value that can be distinguished, enough for about 18 minutes in nanoseconds.
+         */
+        public static final long DEFAULT_MAX_VALUE = 1L << 40;
+
+        /**
+         * The default number of bits of precision, the relative error is at most 1/16.
+         */
+        public static final int DEFAULT_PRECISION_BITS = 4;
+
+        private static final int MAX_PRECISION_BITS = 10;
+
+        private final long maxValue;
+        private final int precisionBits;
+
+        /**
+         * Constructor of {@code HistogramMetric.Config}
+         *
+         * @param category
+         * 		the kind of metric (metrics are grouped or filtered by this)
+         * @param name
+         * 		a short name for the metric
+         * @throws IllegalArgumentException
+         * 		if one of the parameters is {@code null} or consists only of whitespaces
+         */
+        public Config(final String category, final String name) {
+            super(category, name, FloatFormats.FORMAT_DECIMAL_3);
+            this.maxValue = DEFAULT_MAX_VALUE;
+            this.precisionBits = DEFAULT_PRECISION_BITS;
+        }
+
+        private Config(
+                final String category,
+                final String name,
+                final String description,
+                final String unit,
+                final String format,
+                final long maxValue,
+                final int precisionBits) {
+            super(category, name, description, unit, format);
+            if (maxValue < 1) {
+                throw new IllegalArgumentException("maxValue must be positive");
+            }
+            if (precisionBits < 1 || precisionBits > MAX_PRECISION_BITS) {
+                throw new IllegalArgumentException("precisionBits must be between 1 and " + MAX_PRECISION_BITS);
+            }
+            this.maxValue = maxValue;
+            this.precisionBits = precisionBits;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public HistogramMetric.Config withDescription(final String description) {
+            return new HistogramMetric.Config(
+                    getCategory(), getName(), description, getUnit(), getFormat(), getMaxValue(), getPrecisionBits());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public HistogramMetric.Config withUnit(final String unit) {
+            return new HistogramMetric.Config(
+                    getCategory(), getName(), getDescription(), unit, getFormat(), getMaxValue(), getPrecisionBits());
+        }
+
+        /**
+         * Sets the {@link Metric#getFormat() Metric.format} in fluent style.
+         *
+         * @param format
+         * 		the format-string
+         * @return a new configuration-object with updated {@code format}
+         * @throws IllegalArgumentException
+         * 		if {@code format} is {@code null} or consists only of whitespaces
+         */
+        public HistogramMetric.Config withFormat(final String format) {
+            return new HistogramMetric.Config(
+                    getCategory(), getName(), getDescription(), getUnit(), format, getMaxValue(), getPrecisionBits());
+        }
+
+        /**
+         * Getter of the {@code maxValue}, the largest value that can be distinguished from larger values.
+         *
+         * @return the {@code maxValue}
+         */
+        public long getMaxValue() {
+            return maxValue;
+        }
+
+        /**
+         * Fluent-style setter of the {@code maxValue}. Larger values need more buckets.
+         *
+         * @param maxValue
+         * 		the {@code maxValue}
+         * @return a new configuration-object with updated {@code maxValue}
+         * @throws IllegalArgumentException
+         * 		if {@code maxValue} is not positive
+         */
+        public HistogramMetric.Config withMaxValue(final long maxValue) {
+            return new HistogramMetric.Config(
+                    getCategory(), getName(), getDescription(), getUnit(), getFormat(), maxValue, getPrecisionBits());
+        }
+
+        /**
+         * Getter of the {@code precisionBits}, the number of bits used to split each power of two into buckets.
+         *
+         * @return the {@code precisionBits}
+         */
+        public int getPrecisionBits() {
+            return precisionBits;
+        }
+
+        /**
+         * Fluent-style setter of the {@code precisionBits}. Each additional bit halves the relative error and doubles
+         * the number of buckets.
+         *
+         * @param precisionBits
+         * 		the {@code precisionBits}
+         * @return a new configuration-object with updated {@code precisionBits}
+         * @throws IllegalArgumentException
+         * 		if {@code precisionBits} is not between 1 and 10
+         */
+        public HistogramMetric.Config withPrecisionBits(final int precisionBits) {
+            return new HistogramMetric.Config(
+                    getCategory(), getName(), getDescription(), getUnit(), getFormat(), getMaxValue(), precisionBits);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Class<HistogramMetric> getResultClass() {
+            return HistogramMetric.class;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        HistogramMetric create(final MetricsFactory factory) {
+            return factory.createHistogramMetric(this);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .appendSuper(super.toString())
+                    .append("maxValue", maxValue)
+                    .append("precisionBits", precisionBits)
+                    .toString();
+        }
+    }
+}
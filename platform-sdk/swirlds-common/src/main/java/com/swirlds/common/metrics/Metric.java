@@ -30,7 +30,15 @@ public interface Metric {
         VALUE,
         MAX,
         MIN,
-        STD_DEV
+        STD_DEV,
+        /** the 50th percentile of a distribution */
+        P50,
+        /** the 99th percentile of a distribution */
+        P99,
+        /** the 99.9th percentile of a distribution */
+        P999,
+        /** the bucket counts of a distribution, see {@link HistogramMetric.Distribution} */
+        BUCKETS
     }
 
     enum DataType {
@@ -36,6 +36,11 @@ public enum MetricType {
      */
     GAUGE,
 
+    /**
+     * A histogram is a metric that records the distribution of values, e.g. to report percentiles of latencies.
+     */
+    HISTOGRAM,
+
     /**
      * A running average is a metric that calculates trends over short periods of time using a set of data.
      */
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.metrics.noop.internal;
+
+import com.swirlds.common.metrics.HistogramMetric;
+import com.swirlds.common.metrics.MetricConfig;
+
+/**
+ * A no-op implementation of a histogram metric.
+ */
+public class NoOpHistogramMetric extends AbstractNoOpMetric implements HistogramMetric {
+
+    private static final Distribution EMPTY_DISTRIBUTION = new Distribution(new long[0], new long[0], 0, 0);
+
+    public NoOpHistogramMetric(final MetricConfig<?, ?> config) {
+        super(config);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object get(final ValueType valueType) {
+        return valueType == ValueType.BUCKETS ? EMPTY_DISTRIBUTION : 0.0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final long value) {}
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCount() {
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getMean() {
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPercentile(final double percentile) {
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Distribution getDistribution() {
+        return EMPTY_DISTRIBUTION;
+    }
+}
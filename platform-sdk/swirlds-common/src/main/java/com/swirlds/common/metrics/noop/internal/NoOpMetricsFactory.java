@@ -21,6 +21,7 @@ import com.swirlds.common.metrics.DoubleAccumulator;
 import com.swirlds.common.metrics.DoubleGauge;
 import com.swirlds.common.metrics.DurationGauge;
 import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.common.metrics.HistogramMetric;
 import com.swirlds.common.metrics.IntegerAccumulator;
 import com.swirlds.common.metrics.IntegerGauge;
 import com.swirlds.common.metrics.IntegerPairAccumulator;
@@ -76,6 +77,14 @@ public class NoOpMetricsFactory implements MetricsFactory {
         return new NoOpFunctionGauge<>(config, config.getSupplier().get());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HistogramMetric createHistogramMetric(final HistogramMetric.Config config) {
+        return new NoOpHistogramMetric(config);
+    }
+
     /**
      * {@inheritDoc}
      */
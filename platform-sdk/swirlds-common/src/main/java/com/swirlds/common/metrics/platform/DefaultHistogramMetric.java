@@ -0,0 +1,313 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.metrics.platform;
+
+import static com.swirlds.common.metrics.Metric.ValueType.BUCKETS;
+import static com.swirlds.common.metrics.Metric.ValueType.MAX;
+import static com.swirlds.common.metrics.Metric.ValueType.P50;
+import static com.swirlds.common.metrics.Metric.ValueType.P99;
+import static com.swirlds.common.metrics.Metric.ValueType.P999;
+import static com.swirlds.common.metrics.Metric.ValueType.VALUE;
+
+import com.swirlds.base.utility.ToStringBuilder;
+import com.swirlds.common.metrics.HistogramMetric;
+import com.swirlds.common.metrics.platform.Snapshot.SnapshotEntry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Platform-implementation of {@link HistogramMetric}
+ * <p>
+ * Bucket counts are striped: each thread increments counters in one of several stripes, chosen by its thread ID, so
+ * that threads recording values concurrently rarely contend on the same counter. Reading the histogram sums all
+ * stripes.
+ * <p>
+ * The values returned by {@link #get(ValueType)} cover everything recorded since the metric was created or reset.
+ * The values in a snapshot (except {@link ValueType#BUCKETS}) only cover what was recorded since the previous
+ * snapshot, so that consecutive rows of a CSV-file show how the distribution changes over time. The
+ * {@link ValueType#BUCKETS} entry is always cumulative, as expected by Prometheus.
+ */
+public class DefaultHistogramMetric extends DefaultMetric implements HistogramMetric {
+
+    private static final int MAX_STRIPES = 16;
+
+    private final long maxValue;
+    private final int precisionBits;
+    private final int bucketCount;
+    private final int stripeMask;
+
+    /**
+     * Counters of all stripes, stripe {@code s} uses the indices {@code [s * bucketCount, (s + 1) * bucketCount)}.
+     */
+    private final AtomicLongArray counts;
+
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * Indices of the buckets that end at a power of two, used to coarsen the exported distribution.
+     */
+    private final int[] exportedBuckets;
+
+    /**
+     * Bucket counts and sum at the time of the previous snapshot.
+     */
+    private long[] previousCounts;
+
+    private long previousSum;
+
+    public DefaultHistogramMetric(final HistogramMetric.Config config) {
+        super(config);
+        this.maxValue = config.getMaxValue();
+        this.precisionBits = config.getPrecisionBits();
+        this.bucketCount = bucketIndex(maxValue) + 1;
+
+        final int stripeCount = Math.min(
+                MAX_STRIPES, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1));
+        this.stripeMask = stripeCount - 1;
+        this.counts = new AtomicLongArray(stripeCount * bucketCount);
+        this.previousCounts = new long[bucketCount];
+
+        final List<Integer> exported = new ArrayList<>();
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            final long upperBound = bucketUpperBound(bucket);
+            if (((upperBound + 1) & upperBound) == 0 || bucket == bucketCount - 1) {
+                exported.add(bucket);
+            }
+        }
+        this.exportedBuckets = exported.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Get the index of the bucket that counts a value.
+     */
+    private int bucketIndex(final long value) {
+        if (value < (1L << precisionBits)) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - precisionBits;
+        final int subBucket = (int) (value >>> shift) - (1 << precisionBits);
+        return ((shift + 1) << precisionBits) + subBucket;
+    }
+
+    /**
+     * Get the largest value that is counted by a bucket.
+     */
+    private long bucketUpperBound(final int bucket) {
+        if (bucket < (1 << precisionBits)) {
+            return bucket;
+        }
+        final int shift = (bucket >>> precisionBits) - 1;
+        final long subBucket = bucket & ((1 << precisionBits) - 1);
+        final long lowerBound = ((1L << precisionBits) + subBucket) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final long value) {
+        final long clamped = Math.min(Math.max(value, 0), maxValue);
+        final int stripe = (int) mix(Thread.currentThread().getId()) & stripeMask;
+        counts.incrementAndGet(stripe * bucketCount + bucketIndex(clamped));
+        sum.add(clamped);
+    }
+
+    /**
+     * Spread thread IDs, which are usually consecutive, over the stripes.
+     */
+    private static long mix(final long threadId) {
+        final long hash = threadId * 0x9E3779B97F4A7C15L;
+        return hash ^ (hash >>> 32);
+    }
+
+    /**
+     * Sum the counters of all stripes.
+     */
+    private long[] currentCounts() {
+        final long[] result = new long[bucketCount];
+        for (int index = 0; index < counts.length(); index++) {
+            result[index % bucketCount] += counts.get(index);
+        }
+        return result;
+    }
+
+    private static long total(final long[] bucketCounts) {
+        long total = 0;
+        for (final long count : bucketCounts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Calculate a percentile from bucket counts.
+     */
+    private double percentile(final long[] bucketCounts, final long total, final double percentile) {
+        if (total == 0) {
+            return 0.0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < bucketCounts.length; bucket++) {
+            seen += bucketCounts[bucket];
+            if (seen >= rank) {
+                return bucketUpperBound(bucket);
+            }
+        }
+        return bucketUpperBound(bucketCounts.length - 1);
+    }
+
+    /**
+     * Get the largest value with a non-empty bucket.
+     */
+    private double max(final long[] bucketCounts) {
+        for (int bucket = bucketCounts.length - 1; bucket >= 0; bucket--) {
+            if (bucketCounts[bucket] > 0) {
+                return bucketUpperBound(bucket);
+            }
+        }
+        return 0.0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object get(final ValueType valueType) {
+        Objects.requireNonNull(valueType, "valueType must not be null");
+        return switch (valueType) {
+            case VALUE -> getMean();
+            case MAX -> max(currentCounts());
+            case P50 -> getPercentile(50.0);
+            case P99 -> getPercentile(99.0);
+            case P999 -> getPercentile(99.9);
+            case BUCKETS -> getDistribution();
+            default -> throw new IllegalArgumentException("Unsupported ValueType: " + valueType);
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCount() {
+        return total(currentCounts());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getMean() {
+        final long count = getCount();
+        return count == 0 ? 0.0 : (double) sum.sum() / count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPercentile(final double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile);
+        }
+        final long[] bucketCounts = currentCounts();
+        return percentile(bucketCounts, total(bucketCounts), percentile);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Distribution getDistribution() {
+        return toDistribution(currentCounts(), sum.sum());
+    }
+
+    private Distribution toDistribution(final long[] bucketCounts, final long currentSum) {
+        final long[] upperBounds = new long[exportedBuckets.length];
+        final long[] cumulativeCounts = new long[exportedBuckets.length];
+        long cumulative = 0;
+        int bucket = 0;
+        for (int i = 0; i < exportedBuckets.length; i++) {
+            for (; bucket <= exportedBuckets[i]; bucket++) {
+                cumulative += bucketCounts[bucket];
+            }
+            upperBounds[i] = bucketUpperBound(exportedBuckets[i]);
+            cumulativeCounts[i] = cumulative;
+        }
+        return new Distribution(upperBounds, cumulativeCounts, cumulative, currentSum);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized List<SnapshotEntry> takeSnapshot() {
+        final long[] bucketCounts = currentCounts();
+        final long currentSum = sum.sum();
+
+        final long[] intervalCounts = new long[bucketCount];
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            intervalCounts[bucket] = bucketCounts[bucket] - previousCounts[bucket];
+        }
+        final long intervalTotal = total(intervalCounts);
+        final double intervalMean = intervalTotal == 0 ? 0.0 : (double) (currentSum - previousSum) / intervalTotal;
+
+        previousCounts = bucketCounts;
+        previousSum = currentSum;
+
+        return List.of(
+                new SnapshotEntry(VALUE, intervalMean),
+                new SnapshotEntry(MAX, max(intervalCounts)),
+                new SnapshotEntry(P50, percentile(intervalCounts, intervalTotal, 50.0)),
+                new SnapshotEntry(P99, percentile(intervalCounts, intervalTotal, 99.0)),
+                new SnapshotEntry(P999, percentile(intervalCounts, intervalTotal, 99.9)),
+                new SnapshotEntry(BUCKETS, toDistribution(bucketCounts, currentSum)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Values recorded concurrently with a reset may be lost.
+     */
+    @Override
+    public synchronized void reset() {
+        for (int index = 0; index < counts.length(); index++) {
+            counts.set(index, 0);
+        }
+        sum.reset();
+        previousCounts = new long[bucketCount];
+        previousSum = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .appendSuper(super.toString())
+                .append("count", getCount())
+                .append("mean", getMean())
+                .toString();
+    }
+}
@@ -21,6 +21,7 @@ import com.swirlds.common.metrics.DoubleAccumulator;
 import com.swirlds.common.metrics.DoubleGauge;
 import com.swirlds.common.metrics.DurationGauge;
 import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.common.metrics.HistogramMetric;
 import com.swirlds.common.metrics.IntegerAccumulator;
 import com.swirlds.common.metrics.IntegerGauge;
 import com.swirlds.common.metrics.IntegerPairAccumulator;
@@ -82,6 +83,14 @@ public class DefaultMetricsFactory implements MetricsFactory {
         return new DefaultFunctionGauge<>(config);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HistogramMetric createHistogramMetric(final HistogramMetric.Config config) {
+        return new DefaultHistogramMetric(config);
+    }
+
     /**
      * {@inheritDoc}
      */
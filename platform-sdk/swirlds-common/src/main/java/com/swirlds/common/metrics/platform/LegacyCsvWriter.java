@@ -27,6 +27,7 @@ import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 import com.swirlds.base.utility.Pair;
 import com.swirlds.base.utility.ToStringBuilder;
 import com.swirlds.common.config.BasicConfig;
+import com.swirlds.common.metrics.HistogramMetric;
 import com.swirlds.common.metrics.Metric;
 import com.swirlds.common.metrics.Metric.ValueType;
 import com.swirlds.common.metrics.Metrics;
@@ -74,6 +75,9 @@ import org.apache.logging.log4j.Logger;
  *     <dt>verboseStatistics</dt>
  *     <dd>If {@code true}, also secondary values (e.g. minimum and maximum) are written to the CSV-file</dd>
  * </dl>
+ * <p>
+ * The percentiles of a {@link HistogramMetric} are always written, since they are the reason to use a histogram.
+ * The bucket counts of a histogram are never written.
  */
 public class LegacyCsvWriter {
 
@@ -152,7 +156,7 @@ public class LegacyCsvWriter {
         int index = 0;
         for (final Metric metric : filteredMetrics) {
             indexLookup.put(Pair.of(metric.getCategory(), metric.getName()), index++);
-            cellCount.add(showAllEntries(metric) ? metric.getValueTypes().size() : 1);
+            cellCount.add(showAllEntries(metric) ? writtenValueTypeCount(metric) : 1);
         }
 
         try {
@@ -191,7 +195,20 @@ public class LegacyCsvWriter {
 
     private boolean showAllEntries(@NonNull final Metric metric) {
         Objects.requireNonNull(metric, "metric is null");
-        return basicConfig.verboseStatistics() && !metric.getCategory().contains(EXCLUDE_CATEGORY);
+        return metric instanceof HistogramMetric
+                || (basicConfig.verboseStatistics() && !metric.getCategory().contains(EXCLUDE_CATEGORY));
+    }
+
+    // Returns true, if values of the given type can be written to a cell
+    private static boolean isWritten(@NonNull final ValueType valueType) {
+        return valueType != ValueType.BUCKETS;
+    }
+
+    // Returns the number of cells needed to write all values of a metric
+    private static int writtenValueTypeCount(@NonNull final Metric metric) {
+        return (int) metric.getValueTypes().stream()
+                .filter(LegacyCsvWriter::isWritten)
+                .count();
     }
 
     // Add two rows, one with all categories, the other with all names
@@ -221,11 +238,17 @@ public class LegacyCsvWriter {
             final List<String> categories, final List<String> names, final Metric metric) {
 
         for (final ValueType metricType : metric.getValueTypes()) {
+            if (!isWritten(metricType)) {
+                continue;
+            }
             categories.add(metric.getCategory());
             switch (metricType) {
                 case MAX -> names.add(metric.getName() + "Max");
                 case MIN -> names.add(metric.getName() + "Min");
                 case STD_DEV -> names.add(metric.getName() + "Std");
+                case P50 -> names.add(metric.getName() + "P50");
+                case P99 -> names.add(metric.getName() + "P99");
+                case P999 -> names.add(metric.getName() + "P999");
                 default -> names.add(metric.getName());
             }
         }
@@ -282,7 +305,9 @@ public class LegacyCsvWriter {
     private void addSnapshotData(final ContentBuilder builder, final Snapshot snapshot) {
         if (showAllEntries(snapshot.metric())) {
             // add all supported value-types
-            snapshot.entries().forEach(entry -> builder.addCell(format(snapshot.metric(), entry.value())));
+            snapshot.entries().stream()
+                    .filter(entry -> isWritten(entry.valueType()))
+                    .forEach(entry -> builder.addCell(format(snapshot.metric(), entry.value())));
         } else {
             // add only main value
             final List<Snapshot.SnapshotEntry> entries = snapshot.entries();
@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.metrics.platform.prometheus;
+
+import static com.swirlds.common.metrics.platform.prometheus.NameConverter.fix;
+import static com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.AdapterType.GLOBAL;
+import static com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.AdapterType.PLATFORM;
+import static com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.NODE_LABEL;
+import static com.swirlds.common.utility.CommonUtils.throwArgNull;
+
+import com.swirlds.common.metrics.HistogramMetric;
+import com.swirlds.common.metrics.Metric;
+import com.swirlds.common.metrics.platform.Snapshot;
+import com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.AdapterType;
+import com.swirlds.common.system.NodeId;
+import io.prometheus.client.Collector;
+import io.prometheus.client.CollectorRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adapter that exports a {@link HistogramMetric} as a native Prometheus histogram. The buckets are taken from the
+ * {@link Metric.ValueType#BUCKETS} entry of the latest snapshot.
+ */
+public class HistogramAdapter extends AbstractMetricAdapter {
+
+    private static final String BUCKET_LABEL = "le";
+
+    private final HistogramCollector collector;
+
+    /**
+     * Constructor of {@code HistogramAdapter}.
+     *
+     * @param registry
+     * 		The {@link CollectorRegistry} with which the Prometheus {@link Collector} should be registered
+     * @param metric
+     * 		The {@link Metric} which value should be reported to Prometheus
+     * @param adapterType
+     * 		Scope of the {@link Metric}, either {@link AdapterType#GLOBAL} or {@link AdapterType#PLATFORM}
+     * @throws IllegalArgumentException if one of the parameters is {@code null}
+     */
+    public HistogramAdapter(final CollectorRegistry registry, final Metric metric, final AdapterType adapterType) {
+        super(adapterType);
+        throwArgNull(registry, "registry");
+        throwArgNull(metric, "metric");
+        final String unit = metric.getUnit() == null ? "" : fix(metric.getUnit());
+        final String baseName = fix(metric.getCategory()) + "_" + fix(metric.getName());
+        final String name = unit.isEmpty() ? baseName : baseName + "_" + unit;
+        this.collector = new HistogramCollector(name, unit, metric.getDescription(), adapterType == PLATFORM);
+        collector.register(registry);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(final Snapshot snapshot, final NodeId nodeId) {
+        throwArgNull(snapshot, "snapshot");
+        if (adapterType != GLOBAL) {
+            throwArgNull(nodeId, "nodeId");
+        }
+        for (final Snapshot.SnapshotEntry entry : snapshot.entries()) {
+            if (entry.value() instanceof final HistogramMetric.Distribution distribution) {
+                collector.distributions.put(adapterType == GLOBAL ? "" : nodeId.toString(), distribution);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void unregister(final CollectorRegistry registry) {
+        registry.unregister(collector);
+    }
+
+    /**
+     * A Prometheus {@link Collector} that reports the latest distribution of each node.
+     */
+    private static class HistogramCollector extends Collector {
+
+        private final String name;
+        private final String unit;
+        private final String help;
+        private final boolean perNode;
+
+        /**
+         * The latest distribution, by node ID. Global metrics use the empty string as key.
+         */
+        private final Map<String, HistogramMetric.Distribution> distributions = new ConcurrentHashMap<>();
+
+        private HistogramCollector(final String name, final String unit, final String help, final boolean perNode) {
+            this.name = name;
+            this.unit = unit;
+            this.help = help;
+            this.perNode = perNode;
+        }
+
+        @Override
+        public List<MetricFamilySamples> collect() {
+            final List<MetricFamilySamples.Sample> samples = new ArrayList<>();
+            for (final Map.Entry<String, HistogramMetric.Distribution> entry : distributions.entrySet()) {
+                addSamples(samples, entry.getKey(), entry.getValue());
+            }
+            return List.of(new MetricFamilySamples(name, unit, Type.HISTOGRAM, help, samples));
+        }
+
+        private void addSamples(
+                final List<MetricFamilySamples.Sample> samples,
+                final String node,
+                final HistogramMetric.Distribution distribution) {
+            final List<String> labelNames = perNode ? List.of(NODE_LABEL) : List.of();
+            final List<String> labelValues = perNode ? List.of(node) : List.of();
+            final List<String> bucketLabelNames = perNode ? List.of(NODE_LABEL, BUCKET_LABEL) : List.of(BUCKET_LABEL);
+
+            final long[] upperBounds = distribution.upperBounds();
+            final long[] cumulativeCounts = distribution.cumulativeCounts();
+            for (int i = 0; i < upperBounds.length; i++) {
+                samples.add(new MetricFamilySamples.Sample(
+                        name + "_bucket",
+                        bucketLabelNames,
+                        bucketValues(labelValues, doubleToGoString(upperBounds[i])),
+                        cumulativeCounts[i]));
+            }
+            samples.add(new MetricFamilySamples.Sample(
+                    name + "_bucket",
+                    bucketLabelNames,
+                    bucketValues(labelValues, "+Inf"),
+                    distribution.count()));
+            samples.add(new MetricFamilySamples.Sample(name + "_count", labelNames, labelValues, distribution.count()));
+            samples.add(new MetricFamilySamples.Sample(name + "_sum", labelNames, labelValues, distribution.sum()));
+        }
+
+        private static List<String> bucketValues(final List<String> labelValues, final String bucket) {
+            final List<String> values = new ArrayList<>(labelValues);
+            values.add(bucket);
+            return values;
+        }
+    }
+}
@@ -28,6 +28,7 @@ import com.sun.net.httpserver.HttpServer;
 import com.swirlds.common.AutoCloseableNonThrowing;
 import com.swirlds.common.metrics.Counter;
 import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.common.metrics.HistogramMetric;
 import com.swirlds.common.metrics.IntegerPairAccumulator;
 import com.swirlds.common.metrics.Metric;
 import com.swirlds.common.metrics.Metrics;
@@ -171,6 +172,8 @@ public class PrometheusEndpoint implements AutoCloseableNonThrowing {
         final AdapterType adapterType = nodeId == null ? GLOBAL : PLATFORM;
         if (metric instanceof Counter) {
             return new CounterAdapter(registry, metric, adapterType);
+        } else if (metric instanceof HistogramMetric) {
+            return new HistogramAdapter(registry, metric, adapterType);
         } else if (metric instanceof RunningAverageMetric || metric instanceof SpeedometerMetric) {
             return new DistributionAdapter(registry, metric, adapterType);
         } else if (metric instanceof IntegerPairAccumulator<?>
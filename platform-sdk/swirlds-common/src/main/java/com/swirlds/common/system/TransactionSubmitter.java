@@ -16,7 +16,9 @@
 
 package com.swirlds.common.system;
 
+import com.swirlds.common.utility.BatchPrefix;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 
 /**
  * An object that can be used to submit transactions.
@@ -49,4 +51,19 @@ public interface TransactionSubmitter {
      * transaction will ever reach consensus, only that this node will make a best-effort attempt to make that happen.
      */
     boolean createTransaction(@NonNull byte[] transaction);
+
+    /**
+     * Create a batch of new transactions, see {@link #createTransaction(byte[])}. Submitting a batch lets the
+     * implementation reserve room for all of its transactions at once instead of competing for it one transaction at a
+     * time.
+     * <p>
+     * Transactions are accepted in order. If a transaction is rejected, then all transactions that follow it in the
+     * batch are rejected as well, so the caller can retry the rejected suffix later.
+     *
+     * @param transactions the transactions to handle in binary format
+     * @return the number of leading transactions that were accepted
+     */
+    default int createTransactions(@NonNull final List<byte[]> transactions) {
+        return BatchPrefix.acceptPrefix(transactions, this::createTransaction);
+    }
 }
@@ -21,6 +21,12 @@ import java.util.concurrent.BlockingQueue;
 
 /**
  * A thread that continuously takes elements from a queue and handles them.
+ * <p>
+ * If the queue thread was configured with {@code setMpscQueueEnabled(true)} then its queue supports a single consumer,
+ * the queue thread itself. Any thread may add elements, but other threads must not call the consuming methods of
+ * {@link BlockingQueue} ({@link #poll()}, {@link #take()}, {@link #peek()}, {@link #drainTo(java.util.Collection)},
+ * {@link #remove(Object)}, etc.) while the queue thread is running. {@link #clear()} is safe to call from any thread
+ * since it pauses the queue thread while clearing.
  *
  * @param <T>
  * 		the type of the item in the queue
@@ -0,0 +1,33 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.threading.framework;
+
+/**
+ * Describes how a thread waits on a lock-free queue that is not ready, i.e. a consumer waiting for an element or a
+ * producer waiting for space.
+ */
+public enum QueueWaitStrategy {
+    /**
+     * Park the waiting thread right away. Uses the least CPU, but waking up a parked thread adds latency.
+     */
+    PARK,
+    /**
+     * Busy-spin for a short while before parking the waiting thread. Reduces latency when elements arrive in quick
+     * succession, at the cost of some CPU time while spinning.
+     */
+    SPIN_THEN_PARK
+}
@@ -17,6 +17,7 @@
 package com.swirlds.common.threading.framework.internal;
 
 import com.swirlds.common.threading.framework.QueueThread;
+import com.swirlds.common.threading.framework.QueueWaitStrategy;
 import com.swirlds.common.threading.framework.Stoppable;
 import com.swirlds.common.threading.framework.config.QueueThreadMetricsConfiguration;
 import com.swirlds.common.threading.interrupt.InterruptableConsumer;
@@ -60,6 +61,16 @@ public abstract class AbstractQueueThreadConfiguration<C extends AbstractQueueTh
     /** An initialized queue to use. */
     private BlockingQueue<T> queue;
 
+    /**
+     * If true and no queue has been set, the queue is a lock-free {@link MpscArrayBlockingQueue}.
+     */
+    private boolean mpscQueueEnabled;
+
+    /**
+     * How threads wait on the queue if it is a {@link MpscArrayBlockingQueue}.
+     */
+    private QueueWaitStrategy queueWaitStrategy = QueueWaitStrategy.PARK;
+
     private QueueThreadMetricsConfiguration metricsConfiguration;
 
     /**
@@ -97,6 +108,8 @@ public abstract class AbstractQueueThreadConfiguration<C extends AbstractQueueTh
         this.maxBufferSize = that.maxBufferSize;
         this.handler = that.handler;
         this.queue = that.queue;
+        this.mpscQueueEnabled = that.mpscQueueEnabled;
+        this.queueWaitStrategy = that.queueWaitStrategy;
         this.metricsConfiguration = that.metricsConfiguration;
     }
 
@@ -271,6 +284,53 @@ public abstract class AbstractQueueThreadConfiguration<C extends AbstractQueueTh
         return (C) this;
     }
 
+    /**
+     * Get whether a lock-free {@link MpscArrayBlockingQueue} is built if no queue has been set.
+     */
+    public boolean isMpscQueueEnabled() {
+        return mpscQueueEnabled;
+    }
+
+    /**
+     * Use a bounded, lock-free, multi-producer single-consumer ring buffer as the queue instead of the default
+     * {@link LinkedBlockingQueue}. Ignored if a queue has been set with {@link #setQueue(BlockingQueue)}. Requires a
+     * bounded capacity and a single thread consuming from the queue, which is the queue thread. Once it is running,
+     * other threads may add elements to the queue thread but must not call its consuming methods, such as
+     * {@link BlockingQueue#poll()}, {@link BlockingQueue#take()}, {@link BlockingQueue#drainTo(java.util.Collection)}
+     * or {@link BlockingQueue#remove(Object)}. {@link QueueThread#clear()} pauses the queue thread and is always safe.
+     *
+     * @param mpscQueueEnabled true to use a lock-free queue
+     * @return this object
+     */
+    @SuppressWarnings("unchecked")
+    public C setMpscQueueEnabled(final boolean mpscQueueEnabled) {
+        throwIfImmutable();
+        this.mpscQueueEnabled = mpscQueueEnabled;
+        return (C) this;
+    }
+
+    /**
+     * Get how threads wait on the queue when it is empty or full. Only used if the MPSC queue is enabled.
+     */
+    @NonNull
+    public QueueWaitStrategy getQueueWaitStrategy() {
+        return queueWaitStrategy;
+    }
+
+    /**
+     * Set how threads wait on the queue when it is empty or full. Only used if the MPSC queue is enabled, see
+     * {@link #setMpscQueueEnabled(boolean)}.
+     *
+     * @param queueWaitStrategy the wait strategy
+     * @return this object
+     */
+    @SuppressWarnings("unchecked")
+    public C setQueueWaitStrategy(@NonNull final QueueWaitStrategy queueWaitStrategy) {
+        throwIfImmutable();
+        this.queueWaitStrategy = Objects.requireNonNull(queueWaitStrategy);
+        return (C) this;
+    }
+
     public QueueThreadMetricsConfiguration getMetricsConfiguration() {
         return metricsConfiguration;
     }
@@ -103,6 +103,11 @@ public abstract class AbstractThreadConfiguration<C extends AbstractThreadConfig
      */
     private int priority = Thread.NORM_PRIORITY;
 
+    /**
+     * The requested stack size for new threads, in bytes. Zero means the JVM default.
+     */
+    private long stackSize;
+
     /**
      * The classloader for new threads.
      */
@@ -148,6 +153,7 @@ public abstract class AbstractThreadConfiguration<C extends AbstractThreadConfig
         this.threadGroup = that.threadGroup;
         this.daemon = that.daemon;
         this.priority = that.priority;
+        this.stackSize = that.stackSize;
         this.contextClassLoader = that.contextClassLoader;
         this.exceptionHandler = that.exceptionHandler;
         this.runnable = that.runnable;
@@ -213,7 +219,7 @@ public abstract class AbstractThreadConfiguration<C extends AbstractThreadConfig
      */
     protected Thread buildThread(final boolean start) {
         final Runnable runnable = requireNonNull(getRunnable(), "runnable must not be null");
-        final Thread thread = threadManager.createThread(getThreadGroup(), runnable);
+        final Thread thread = threadManager.createThread(getThreadGroup(), runnable, getStackSize());
         configureThread(thread);
 
         if (start) {
@@ -434,6 +440,32 @@ public abstract class AbstractThreadConfiguration<C extends AbstractThreadConfig
         return (C) this;
     }
 
+    /**
+     * Get the requested stack size of new threads, in bytes. Zero means the JVM default.
+     */
+    public long getStackSize() {
+        return stackSize;
+    }
+
+    /**
+     * Set the requested stack size of new threads, in bytes. Zero means the JVM default. Threads that spend their
+     * lives blocked on I/O need far less stack than the JVM default, so a smaller stack reduces the memory reserved
+     * when there are many such threads. The JVM may ignore this value on some platforms. Has no effect on seeds, since
+     * a seed runs on an existing thread.
+     *
+     * @return this object
+     */
+    @SuppressWarnings("unchecked")
+    public C setStackSize(final long stackSize) {
+        throwIfImmutable();
+
+        if (stackSize < 0) {
+            throw new IllegalArgumentException("stack size must not be negative");
+        }
+        this.stackSize = stackSize;
+        return (C) this;
+    }
+
     /**
      * Get the class loader for new threads.
      */
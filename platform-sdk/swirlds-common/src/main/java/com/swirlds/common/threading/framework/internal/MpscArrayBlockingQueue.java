@@ -0,0 +1,381 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.threading.framework.internal;
+
+import com.swirlds.common.threading.framework.QueueWaitStrategy;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>
+ * A bounded, lock-free, multi-producer single-consumer {@link BlockingQueue} backed by a ring buffer.
+ * </p>
+ *
+ * <p>
+ * Producers claim a slot by incrementing the producer index with a CAS and then publish their element into that slot.
+ * The consumer reads slots in order and frees them by advancing the consumer index, which it does only once per batch
+ * in {@link #drainTo(Collection, int)}. Neither side ever takes a lock. How a thread waits when the queue is not ready
+ * is determined by a {@link QueueWaitStrategy}. A waiting consumer is unparked by the next producer, a producer waiting
+ * for space polls with short timed parks since a full queue is the exceptional back-pressure case.
+ * </p>
+ *
+ * <p>
+ * Only one thread may call the consuming methods ({@link #poll()}, {@link #take()}, {@link #peek()},
+ * {@link #drainTo(Collection)}, {@link #clear()}, {@link #remove(Object)}, etc.) at any one time. Any number of threads
+ * may call the producing methods concurrently. {@link #size()} and {@link #isEmpty()} may be called from any thread and
+ * are O(1). Removing an arbitrary element takes time linear in the size of the queue.
+ * </p>
+ *
+ * @param <T> the type of the element in the queue
+ */
+@SuppressWarnings("NullableProblems")
+public class MpscArrayBlockingQueue<T> extends AbstractQueue<T> implements BlockingQueue<T> {
+
+    /**
+     * The number of times a thread spins before parking when using {@link QueueWaitStrategy#SPIN_THEN_PARK}.
+     */
+    private static final int SPIN_TRIES = 1_000;
+
+    /**
+     * The amount of time a producer parks before checking again if space has become available.
+     */
+    private static final long PRODUCER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<T> slots;
+    private final QueueWaitStrategy waitStrategy;
+
+    /**
+     * The index of the next slot to be claimed by a producer.
+     */
+    private final AtomicLong producerIndex = new AtomicLong();
+
+    /**
+     * The index of the next slot to be read by the consumer. Only written by the consumer.
+     */
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    /**
+     * The consumer thread if it is parked (or about to park) waiting for an element, otherwise null.
+     */
+    private volatile Thread waitingConsumer;
+
+    /**
+     * Create a new queue.
+     *
+     * @param capacity     the maximum number of elements in the queue
+     * @param waitStrategy how threads wait when the queue is empty or full
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public MpscArrayBlockingQueue(final int capacity, @NonNull final QueueWaitStrategy waitStrategy) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30, got " + capacity);
+        }
+        this.capacity = capacity;
+        final int slotCount = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = slotCount - 1;
+        this.slots = new AtomicReferenceArray<>(slotCount);
+        this.waitStrategy = Objects.requireNonNull(waitStrategy, "waitStrategy must not be null");
+    }
+
+    private int offset(final long index) {
+        return (int) index & mask;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean offer(final T t) {
+        Objects.requireNonNull(t, "null elements are not supported");
+        while (true) {
+            final long index = producerIndex.get();
+            if (index - consumerIndex.get() >= capacity) {
+                return false;
+            }
+            if (producerIndex.compareAndSet(index, index + 1)) {
+                slots.lazySet(offset(index), t);
+                final Thread consumer = waitingConsumer;
+                if (consumer != null) {
+                    LockSupport.unpark(consumer);
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(final T t) throws InterruptedException {
+        int attempt = 0;
+        while (!offer(t)) {
+            waitForSpace(attempt++);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean offer(final T t, final long timeout, final TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int attempt = 0;
+        while (!offer(t)) {
+            if (deadline - System.nanoTime() <= 0) {
+                return false;
+            }
+            waitForSpace(attempt++);
+        }
+        return true;
+    }
+
+    /**
+     * Wait a little while for the consumer to free up space.
+     *
+     * @param attempt the number of times the calling producer has already waited for the current element
+     */
+    private void waitForSpace(final int attempt) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        if (waitStrategy == QueueWaitStrategy.SPIN_THEN_PARK && attempt < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else {
+            LockSupport.parkNanos(this, PRODUCER_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Read the element at an index that has been claimed by a producer, waiting for the producer to publish it if
+     * necessary. Publishing takes only a few instructions after the claim, so the wait is always short.
+     */
+    private T awaitPublished(final int offset) {
+        T t = slots.get(offset);
+        while (t == null) {
+            Thread.onSpinWait();
+            t = slots.get(offset);
+        }
+        return t;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T poll() {
+        final long index = consumerIndex.get();
+        if (index == producerIndex.get()) {
+            return null;
+        }
+        final int offset = offset(index);
+        final T t = awaitPublished(offset);
+        slots.lazySet(offset, null);
+        consumerIndex.lazySet(index + 1);
+        return t;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T take() throws InterruptedException {
+        return awaitElement(false, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T poll(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return awaitElement(true, unit.toNanos(timeout));
+    }
+
+    /**
+     * Wait for an element to become available and remove it.
+     *
+     * @param timed whether to give up after a timeout
+     * @param nanos the timeout, ignored if not timed
+     * @return the element, or null if the timeout elapsed first
+     */
+    private T awaitElement(final boolean timed, final long nanos) throws InterruptedException {
+        final long deadline = timed ? System.nanoTime() + nanos : 0;
+        int spins = 0;
+        while (true) {
+            final T t = poll();
+            if (t != null) {
+                return t;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            final long remaining = timed ? deadline - System.nanoTime() : Long.MAX_VALUE;
+            if (remaining <= 0) {
+                return null;
+            }
+            if (waitStrategy == QueueWaitStrategy.SPIN_THEN_PARK && spins < SPIN_TRIES) {
+                spins++;
+                Thread.onSpinWait();
+                continue;
+            }
+
+            // Announce that we are about to park before the final check, so that a producer that adds an element
+            // after the check is guaranteed to see us and unpark us.
+            waitingConsumer = Thread.currentThread();
+            if (isEmpty()) {
+                if (timed) {
+                    LockSupport.parkNanos(this, remaining);
+                } else {
+                    LockSupport.park(this);
+                }
+            }
+            waitingConsumer = null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T peek() {
+        final long index = consumerIndex.get();
+        if (index == producerIndex.get()) {
+            return null;
+        }
+        return awaitPublished(offset(index));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int drainTo(final Collection<? super T> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The drained slots are released to producers all at once after the batch has been copied.
+     */
+    @Override
+    public int drainTo(final Collection<? super T> c, final int maxElements) {
+        Objects.requireNonNull(c, "c must not be null");
+        if (c == this) {
+            throw new IllegalArgumentException("can not drain a queue into itself");
+        }
+
+        final long first = consumerIndex.get();
+        final int count = (int) Math.min(producerIndex.get() - first, maxElements);
+        if (count <= 0) {
+            return 0;
+        }
+        for (int i = 0; i < count; i++) {
+            final int offset = offset(first + i);
+            c.add(awaitPublished(offset));
+            slots.lazySet(offset, null);
+        }
+        consumerIndex.lazySet(first + count);
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        final long consumed = consumerIndex.get();
+        final long produced = producerIndex.get();
+        return (int) Math.max(0, Math.min(produced - consumed, capacity));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return consumerIndex.get() >= producerIndex.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This is a consuming method. The elements ahead of the removed one are moved back by one slot, so that the slot
+     * freed for producers is always the one at the head of the queue, just like for {@link #poll()}.
+     */
+    @Override
+    public boolean remove(final Object o) {
+        if (o == null) {
+            return false;
+        }
+        final long first = consumerIndex.get();
+        final long last = producerIndex.get();
+        for (long index = first; index < last; index++) {
+            if (o.equals(awaitPublished(offset(index)))) {
+                // Producers only write slots at or after the producer index, so these slots are all ours
+                for (long i = index; i > first; i--) {
+                    slots.lazySet(offset(i), slots.get(offset(i - 1)));
+                }
+                slots.lazySet(offset(first), null);
+                consumerIndex.lazySet(first + 1);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The iterator is weakly consistent: it returns a snapshot of elements that were published when it was created,
+     * and it does not support removal.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        final long first = consumerIndex.get();
+        final long last = producerIndex.get();
+        final List<T> snapshot = new ArrayList<>((int) Math.min(Math.max(0, last - first), capacity));
+        for (long index = first; index < last && index - first < capacity; index++) {
+            final T t = slots.get(offset(index));
+            if (t != null) {
+                snapshot.add(t);
+            }
+        }
+        return Collections.unmodifiableList(snapshot).iterator();
+    }
+}
@@ -38,7 +38,9 @@ final class ThreadBuildingUtils {
         BlockingQueue<T> queue = config.getQueue();
         if (queue == null) {
             // if no queue is set, build a default queue
-            if (config.getCapacity() > 0) {
+            if (config.isMpscQueueEnabled()) {
+                queue = buildMpscQueue(config);
+            } else if (config.getCapacity() > 0) {
                 queue = new LinkedBlockingQueue<>(config.getCapacity());
             } else {
                 queue = new LinkedBlockingQueue<>();
@@ -60,4 +62,23 @@ final class ThreadBuildingUtils {
         config.setQueue(queue);
         return queue;
     }
+
+    /**
+     * Build a lock-free queue, checking that the configuration is compatible with it.
+     *
+     * @return the new queue
+     * @throws IllegalStateException if the configuration has unlimited capacity or more than one consumer thread
+     */
+    private static <T> BlockingQueue<T> buildMpscQueue(@NonNull final AbstractQueueThreadConfiguration<?, T> config) {
+        if (config.getCapacity() <= 0) {
+            throw new IllegalStateException(
+                    "queue " + config.getThreadName() + " must have a bounded capacity to use an MPSC queue");
+        }
+        if (config instanceof final AbstractQueueThreadPoolConfiguration<?, ?> poolConfig
+                && poolConfig.getThreadCount() > 1) {
+            throw new IllegalStateException(
+                    "queue " + config.getThreadName() + " has more than one consumer and can not use an MPSC queue");
+        }
+        return new MpscArrayBlockingQueue<>(config.getCapacity(), config.getQueueWaitStrategy());
+    }
 }
@@ -63,6 +63,18 @@ public final class AdHocThreadManager implements ThreadManager {
         return new Thread(threadGroup, runnable);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Thread createThread(final ThreadGroup threadGroup, final Runnable runnable, final long stackSize) {
+        if (stackSize == 0) {
+            return new Thread(threadGroup, runnable);
+        }
+        // the name is replaced when the thread is configured
+        return new Thread(threadGroup, runnable, "unnamed", stackSize);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -37,6 +37,19 @@ public class StandardThreadManager implements ThreadManager {
         return new Thread(threadGroup, runnable);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Thread createThread(final ThreadGroup threadGroup, final Runnable runnable, final long stackSize) {
+        throwIfNotInPhase(LifecyclePhase.STARTED);
+        if (stackSize == 0) {
+            return new Thread(threadGroup, runnable);
+        }
+        // the name is replaced when the thread is configured
+        return new Thread(threadGroup, runnable, "unnamed", stackSize);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -36,6 +36,17 @@ public interface ThreadManager extends Lifecycle {
      */
     Thread createThread(ThreadGroup threadGroup, Runnable runnable);
 
+    /**
+     * Create a new thread with a requested stack size. Thread is not automatically started.
+     *
+     * @param threadGroup the thread group into which the thread is placed
+     * @param runnable    the runnable that will be executed on the thread
+     * @param stackSize   the requested stack size in bytes, or zero to use the JVM default
+     * @return a new Thread
+     * @throws LifecycleException if called before the thread manager has been started
+     */
+    Thread createThread(ThreadGroup threadGroup, Runnable runnable, long stackSize);
+
     /**
      * Create a new thread factory. Thread factory will throw {@link MutabilityException MutabilityException} if it is
      * used to create a thread before the thread manager is started.
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.utility;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Utilities for batches that are accepted in order. When an element of such a batch is rejected, the elements after
+ * it are rejected as well, so the outcome of the whole batch is described by the number of leading elements that were
+ * accepted.
+ */
+public final class BatchPrefix {
+
+    private BatchPrefix() {}
+
+    /**
+     * Offer the elements of a batch one at a time, in order, until one of them is not accepted.
+     *
+     * @param batch
+     * 		the elements to offer
+     * @param offer
+     * 		offers a single element, returns true if it was accepted
+     * @param <T>
+     * 		the type of the elements
+     * @return the number of leading elements that were accepted
+     */
+    public static <T> int acceptPrefix(
+            @NonNull final List<? extends T> batch, @NonNull final Predicate<? super T> offer) {
+        Objects.requireNonNull(batch, "batch must not be null");
+        Objects.requireNonNull(offer, "offer must not be null");
+        int accepted = 0;
+        while (accepted < batch.size() && offer.test(batch.get(accepted))) {
+            accepted++;
+        }
+        return accepted;
+    }
+
+    /**
+     * Report the outcome of a batch of which the leading elements were accepted.
+     *
+     * @param size
+     * 		the number of elements in the batch
+     * @param accepted
+     * 		the number of leading elements that were accepted
+     * @param onAccepted
+     * 		called with the index of every accepted element, in order
+     * @param onRejected
+     * 		called with the index of every rejected element, in order, after all accepted elements
+     */
+    public static void forEachOutcome(
+            final int size,
+            final int accepted,
+            @NonNull final IntConsumer onAccepted,
+            @NonNull final IntConsumer onRejected) {
+        Objects.requireNonNull(onAccepted, "onAccepted must not be null");
+        Objects.requireNonNull(onRejected, "onRejected must not be null");
+        if (accepted < 0 || accepted > size) {
+            throw new IllegalArgumentException(
+                    "accepted must be between 0 and " + size + " (inclusive), but is " + accepted);
+        }
+        for (int i = 0; i < accepted; i++) {
+            onAccepted.accept(i);
+        }
+        for (int i = accepted; i < size; i++) {
+            onRejected.accept(i);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.crypto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("VerificationCache Tests")
+class VerificationCacheTest {
+
+    private static final int MESSAGE_LENGTH = 100;
+    private static final int SIGNATURE_LENGTH = 64;
+    private static final int KEY_LENGTH = 32;
+
+    private static byte[] randomContents(final Random random) {
+        final byte[] contents = new byte[MESSAGE_LENGTH + SIGNATURE_LENGTH + KEY_LENGTH];
+        random.nextBytes(contents);
+        return contents;
+    }
+
+    private static TransactionSignature signatureOf(final byte[] contents) {
+        return new TransactionSignature(
+                contents,
+                MESSAGE_LENGTH,
+                SIGNATURE_LENGTH,
+                MESSAGE_LENGTH + SIGNATURE_LENGTH,
+                KEY_LENGTH,
+                0,
+                MESSAGE_LENGTH);
+    }
+
+    @Test
+    @DisplayName("Added signatures are found, equal copies included")
+    void addedSignaturesAreFound() {
+        final Random random = new Random(42);
+        final VerificationCache cache = new VerificationCache(1024);
+        final byte[] contents = randomContents(random);
+
+        assertFalse(cache.contains(signatureOf(contents)), "an empty cache should not contain anything");
+        cache.add(signatureOf(contents));
+        assertTrue(cache.contains(signatureOf(contents.clone())), "an identical signature should be found");
+
+        assertEquals(1, cache.getHitCount(), "unexpected number of hits");
+        assertEquals(1, cache.getMissCount(), "unexpected number of misses");
+        assertEquals(0.5, cache.getHitRatio(), "unexpected hit ratio");
+    }
+
+    @Test
+    @DisplayName("Any changed byte is a miss")
+    void changedSignaturesAreNotFound() {
+        final Random random = new Random(43);
+        final VerificationCache cache = new VerificationCache(1024);
+        final byte[] contents = randomContents(random);
+        cache.add(signatureOf(contents));
+
+        for (final int index : new int[] {0, MESSAGE_LENGTH, MESSAGE_LENGTH + SIGNATURE_LENGTH}) {
+            final byte[] changed = contents.clone();
+            changed[index] ^= 1;
+            assertFalse(cache.contains(signatureOf(changed)), "a modified signature must not be found");
+        }
+    }
+
+    @Test
+    @DisplayName("Cache size is bounded")
+    void cacheIsBounded() {
+        final Random random = new Random(44);
+        final VerificationCache cache = new VerificationCache(10);
+        assertEquals(16, cache.getCapacity(), "capacity should be rounded up to a power of two");
+
+        final byte[][] contents = new byte[1000][];
+        for (int i = 0; i < contents.length; i++) {
+            contents[i] = randomContents(random);
+            cache.add(signatureOf(contents[i]));
+        }
+
+        int found = 0;
+        for (final byte[] content : contents) {
+            if (cache.contains(signatureOf(content))) {
+                found++;
+            }
+        }
+        assertTrue(found <= cache.getCapacity(), "the cache should not hold more entries than its capacity");
+        assertTrue(cache.contains(signatureOf(contents[contents.length - 1])), "the latest entry should be cached");
+
+        cache.clear();
+        assertFalse(cache.contains(signatureOf(contents[contents.length - 1])), "the cache should be empty");
+    }
+
+    @Test
+    @DisplayName("Invalid capacity is rejected")
+    void invalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new VerificationCache(0));
+        assertThrows(IllegalArgumentException.class, () -> new VerificationCache(-1));
+    }
+}
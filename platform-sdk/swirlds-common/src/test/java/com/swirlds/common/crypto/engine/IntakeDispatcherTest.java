@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.crypto.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("IntakeDispatcher Tests")
+class IntakeDispatcherTest {
+
+    private static List<Integer> range(final int from, final int to) {
+        return IntStream.range(from, to).boxed().toList();
+    }
+
+    private static List<Integer> flatten(final List<List<Integer>> batches) {
+        final List<Integer> result = new ArrayList<>();
+        batches.forEach(result::addAll);
+        return result;
+    }
+
+    @Test
+    @DisplayName("Small lists are merged into one batch per thread")
+    void smallListsAreMerged() {
+        final List<List<Integer>> pending = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            pending.add(List.of(i));
+        }
+
+        final List<List<Integer>> batches = IntakeDispatcher.partition(pending, 2, 256);
+
+        assertEquals(2, batches.size(), "the items should be spread over both threads");
+        assertEquals(range(0, 8), flatten(batches), "the order of the items should be preserved");
+    }
+
+    @Test
+    @DisplayName("Large lists are split across threads")
+    void largeListsAreSplit() {
+        final List<List<Integer>> pending = List.of(range(0, 100));
+
+        final List<List<Integer>> batches = IntakeDispatcher.partition(pending, 4, 256);
+
+        assertEquals(4, batches.size(), "the list should be split over all threads");
+        batches.forEach(batch -> assertEquals(25, batch.size(), "batches should have equal size"));
+        assertEquals(range(0, 100), flatten(batches), "the order of the items should be preserved");
+    }
+
+    @Test
+    @DisplayName("Batches never exceed the maximum batch size")
+    void maxBatchSizeIsRespected() {
+        final List<List<Integer>> pending = List.of(range(0, 10), range(10, 1000), range(1000, 1003));
+
+        final List<List<Integer>> batches = IntakeDispatcher.partition(pending, 2, 64);
+
+        batches.forEach(batch -> assertTrue(batch.size() <= 64, "batch exceeds the maximum size"));
+        batches.forEach(batch -> assertTrue(!batch.isEmpty(), "batches should never be empty"));
+        assertEquals(range(0, 1003), flatten(batches), "the order of the items should be preserved");
+    }
+
+    @Test
+    @DisplayName("Lists of the right size are not copied")
+    void rightSizedListsAreReused() {
+        final List<Integer> first = range(0, 10);
+        final List<Integer> second = range(10, 20);
+
+        final List<List<Integer>> batches = IntakeDispatcher.partition(List.of(first, second), 2, 256);
+
+        assertEquals(2, batches.size(), "each list should be its own batch");
+        assertSame(first, batches.get(0), "the first list should be reused");
+        assertSame(second, batches.get(1), "the second list should be reused");
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.io.streams;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DoubleBufferedOutputStream Tests")
+class DoubleBufferedOutputStreamTests {
+
+    @Test
+    @DisplayName("All bytes are written in order")
+    void bytesAreWrittenInOrder() throws IOException {
+        final Random random = new Random(42);
+        final byte[] data = new byte[100_000];
+        random.nextBytes(data);
+
+        final ByteArrayOutputStream target = new ByteArrayOutputStream();
+        try (final DoubleBufferedOutputStream out = new DoubleBufferedOutputStream(target, 1000)) {
+            int position = 0;
+            while (position < data.length) {
+                if (random.nextBoolean()) {
+                    out.write(data[position++]);
+                } else {
+                    final int length = Math.min(data.length - position, random.nextInt(3000));
+                    out.write(data, position, length);
+                    position += length;
+                }
+            }
+            out.flush();
+            assertEquals(data.length, target.size(), "flush should write all buffered bytes");
+        }
+
+        assertArrayEquals(data, target.toByteArray(), "bytes should be written unchanged and in order");
+    }
+
+    @Test
+    @DisplayName("Close closes the underlying stream")
+    void closeClosesTarget() throws IOException {
+        final boolean[] closed = new boolean[1];
+        final OutputStream target = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+
+        final DoubleBufferedOutputStream out = new DoubleBufferedOutputStream(target, 16);
+        out.write(new byte[100]);
+        out.close();
+        out.close();
+
+        assertTrue(closed[0], "the underlying stream should be closed");
+        assertThrows(IOException.class, () -> out.write(1), "writing to a closed stream should fail");
+    }
+
+    @Test
+    @DisplayName("Background failures are rethrown")
+    void failuresAreRethrown() {
+        final OutputStream target = new OutputStream() {
+            @Override
+            public void write(final int b) throws IOException {
+                throw new IOException("disk full");
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+
+        final DoubleBufferedOutputStream out = new DoubleBufferedOutputStream(target, 16);
+        assertThrows(
+                IOException.class,
+                () -> {
+                    out.write(new byte[1000]);
+                    out.flush();
+                },
+                "a failure on the background thread should be rethrown");
+        assertThrows(IOException.class, out::close, "close should report the failure");
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.metrics.platform;
+
+import static com.swirlds.common.metrics.Metric.ValueType.BUCKETS;
+import static com.swirlds.common.metrics.Metric.ValueType.MAX;
+import static com.swirlds.common.metrics.Metric.ValueType.P50;
+import static com.swirlds.common.metrics.Metric.ValueType.P99;
+import static com.swirlds.common.metrics.Metric.ValueType.P999;
+import static com.swirlds.common.metrics.Metric.ValueType.VALUE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.metrics.HistogramMetric;
+import com.swirlds.common.metrics.MetricType;
+import com.swirlds.common.metrics.platform.Snapshot.SnapshotEntry;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DefaultHistogramMetricTest {
+
+    private static final String CATEGORY = "CaTeGoRy";
+    private static final String NAME = "NaMe";
+    private static final String DESCRIPTION = "DeScRiPtIoN";
+    private static final String UNIT = "UnIt";
+    private static final double EPSILON = 1e-6;
+
+    @Test
+    @DisplayName("Constructor should store values")
+    void testConstructor() {
+        final HistogramMetric.Config config = new HistogramMetric.Config(CATEGORY, NAME)
+                .withDescription(DESCRIPTION)
+                .withUnit(UNIT);
+        final DefaultHistogramMetric metric = new DefaultHistogramMetric(config);
+
+        assertEquals(CATEGORY, metric.getCategory(), "The category was not set correctly in the constructor");
+        assertEquals(NAME, metric.getName(), "The name was not set correctly in the constructor");
+        assertEquals(DESCRIPTION, metric.getDescription(), "The description was not set correctly");
+        assertEquals(UNIT, metric.getUnit(), "The unit was not set correctly in the constructor");
+        assertEquals(MetricType.HISTOGRAM, metric.getMetricType(), "The metric type is wrong");
+        assertEquals(0, metric.getCount(), "The count was not initialized correctly");
+        assertEquals(0.0, metric.getMean(), EPSILON, "The mean was not initialized correctly");
+        assertEquals(
+                EnumSet.of(VALUE, MAX, P50, P99, P999, BUCKETS),
+                metric.getValueTypes(),
+                "ValueTypes should be [VALUE, MAX, P50, P99, P999, BUCKETS]");
+    }
+
+    @Test
+    @DisplayName("Config should reject illegal bucket settings")
+    void testIllegalConfig() {
+        final HistogramMetric.Config config = new HistogramMetric.Config(CATEGORY, NAME);
+        assertThrows(IllegalArgumentException.class, () -> config.withMaxValue(0), "maxValue must be positive");
+        assertThrows(IllegalArgumentException.class, () -> config.withPrecisionBits(0), "precision too low");
+        assertThrows(IllegalArgumentException.class, () -> config.withPrecisionBits(11), "precision too high");
+    }
+
+    @Test
+    @DisplayName("Small values should be counted exactly")
+    void testExactValues() {
+        final DefaultHistogramMetric metric = new DefaultHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME));
+        for (int i = 1; i <= 10; i++) {
+            metric.update(i);
+        }
+
+        assertEquals(10, metric.getCount(), "All values should have been counted");
+        assertEquals(5.5, metric.getMean(), EPSILON, "The mean should be exact");
+        assertEquals(5.0, metric.getPercentile(50.0), EPSILON, "Small values should be counted exactly");
+        assertEquals(10.0, metric.getPercentile(100.0), EPSILON, "Small values should be counted exactly");
+        assertEquals(10.0, (Double) metric.get(MAX), EPSILON, "Small values should be counted exactly");
+        assertThrows(IllegalArgumentException.class, () -> metric.getPercentile(101.0), "percentile out of range");
+    }
+
+    @Test
+    @DisplayName("Large values should be counted within the configured precision")
+    void testRelativeError() {
+        final DefaultHistogramMetric metric = new DefaultHistogramMetric(
+                new HistogramMetric.Config(CATEGORY, NAME).withPrecisionBits(4));
+        final long[] values = {17, 1_000, 123_456, 987_654_321L};
+        for (final long value : values) {
+            final DefaultHistogramMetric single = new DefaultHistogramMetric(
+                    new HistogramMetric.Config(CATEGORY, NAME).withPrecisionBits(4));
+            single.update(value);
+            final double reported = single.getPercentile(50.0);
+            assertTrue(reported >= value, "The reported value must not be smaller than the recorded value");
+            assertTrue(reported <= value * (1.0 + 1.0 / 16), "The reported value exceeds the relative error");
+            metric.update(value);
+        }
+        assertEquals(values.length, metric.getCount(), "All values should have been counted");
+    }
+
+    @Test
+    @DisplayName("Values out of range should be clamped")
+    void testClamping() {
+        final DefaultHistogramMetric metric =
+                new DefaultHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME).withMaxValue(1_000));
+        metric.update(-5);
+        metric.update(Long.MAX_VALUE);
+
+        assertEquals(2, metric.getCount(), "All values should have been counted");
+        assertEquals(0.0, metric.getPercentile(0.0), EPSILON, "Negative values should be recorded as zero");
+        assertTrue(metric.getPercentile(100.0) >= 1_000, "Large values should be recorded as the maximum");
+    }
+
+    @Test
+    @DisplayName("Snapshots should only cover the values since the previous snapshot")
+    void testSnapshot() {
+        final DefaultHistogramMetric metric = new DefaultHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME));
+        metric.update(2);
+        metric.update(4);
+
+        final List<SnapshotEntry> first = metric.takeSnapshot();
+        assertEquals(VALUE, first.get(0).valueType(), "The first entry should be the main value");
+        assertEquals(3.0, (Double) first.get(0).value(), EPSILON, "The mean of the first interval is wrong");
+
+        metric.update(10);
+        final List<SnapshotEntry> second = metric.takeSnapshot();
+        assertEquals(10.0, (Double) second.get(0).value(), EPSILON, "The mean of the second interval is wrong");
+        assertEquals(10.0, (Double) second.get(2).value(), EPSILON, "The median of the second interval is wrong");
+
+        final HistogramMetric.Distribution distribution =
+                (HistogramMetric.Distribution) second.get(5).value();
+        assertEquals(3, distribution.count(), "The distribution should be cumulative");
+        assertEquals(16, distribution.sum(), "The distribution should be cumulative");
+        final long[] counts = distribution.cumulativeCounts();
+        assertEquals(3, counts[counts.length - 1], "The last bucket should contain all values");
+        assertEquals(4.0, (Double) metric.get(P50), EPSILON, "get() should cover all values");
+    }
+
+    @Test
+    @DisplayName("Values recorded concurrently should all be counted")
+    void testConcurrentUpdates() throws InterruptedException {
+        final DefaultHistogramMetric metric = new DefaultHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME));
+        final int threadCount = 8;
+        final int updatesPerThread = 10_000;
+        final CountDownLatch done = new CountDownLatch(threadCount);
+        for (int t = 0; t < threadCount; t++) {
+            new Thread(() -> {
+                        for (int i = 0; i < updatesPerThread; i++) {
+                            metric.update(i);
+                        }
+                        done.countDown();
+                    })
+                    .start();
+        }
+        done.await();
+
+        assertEquals((long) threadCount * updatesPerThread, metric.getCount(), "No update should be lost");
+    }
+
+    @Test
+    @DisplayName("Reset should discard all values")
+    void testReset() {
+        final DefaultHistogramMetric metric = new DefaultHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME));
+        metric.update(42);
+        metric.reset();
+
+        assertEquals(0, metric.getCount(), "The count should be reset");
+        assertEquals(0.0, metric.getMean(), EPSILON, "The mean should be reset");
+        assertArrayEquals(
+                new long[metric.getDistribution().cumulativeCounts().length],
+                metric.getDistribution().cumulativeCounts(),
+                "All buckets should be empty");
+    }
+}
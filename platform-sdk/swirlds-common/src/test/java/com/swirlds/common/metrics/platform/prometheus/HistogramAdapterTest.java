@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.metrics.platform.prometheus;
+
+import static com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.AdapterType.GLOBAL;
+import static com.swirlds.common.metrics.platform.prometheus.PrometheusEndpoint.AdapterType.PLATFORM;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.swirlds.common.metrics.HistogramMetric;
+import com.swirlds.common.metrics.Metric;
+import com.swirlds.common.metrics.platform.DefaultHistogramMetric;
+import com.swirlds.common.metrics.platform.Snapshot;
+import com.swirlds.common.system.NodeId;
+import io.prometheus.client.Collector;
+import io.prometheus.client.CollectorRegistry;
+import org.junit.jupiter.api.Test;
+
+class HistogramAdapterTest {
+
+    private static final String CATEGORY = "CaTeGoRy";
+    private static final String NAME = "NaMe";
+    private static final String MAPPING_NAME = "CaTeGoRy_NaMe";
+    private static final String DESCRIPTION = "DeScRiPtIoN";
+
+    @Test
+    void testCreateGlobalMetric() {
+        // given
+        final CollectorRegistry registry = new CollectorRegistry();
+        final Metric metric = new DefaultHistogramMetric(
+                new HistogramMetric.Config(CATEGORY, NAME).withDescription(DESCRIPTION));
+
+        // when
+        new HistogramAdapter(registry, metric, GLOBAL);
+
+        // then
+        final Collector.MetricFamilySamples mapping =
+                registry.metricFamilySamples().nextElement();
+        assertThat(mapping.type).isEqualTo(Collector.Type.HISTOGRAM);
+        assertThat(mapping.name).isEqualTo(MAPPING_NAME);
+        assertThat(mapping.help).isEqualTo(DESCRIPTION);
+    }
+
+    @Test
+    void testConstructorWithNullParameters() {
+        // given
+        final CollectorRegistry registry = new CollectorRegistry();
+        final Metric metric = new DefaultHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME));
+
+        // then
+        assertThatThrownBy(() -> new HistogramAdapter(null, metric, GLOBAL))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HistogramAdapter(registry, null, GLOBAL))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HistogramAdapter(registry, metric, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testUpdateGlobalMetric() {
+        // given
+        final CollectorRegistry registry = new CollectorRegistry();
+        final DefaultHistogramMetric metric = new DefaultHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME));
+        metric.update(1);
+        metric.update(5);
+        metric.update(100);
+        final HistogramAdapter adapter = new HistogramAdapter(registry, metric, GLOBAL);
+
+        // when
+        adapter.update(Snapshot.of(metric), null);
+
+        // then
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_count")).isEqualTo(3.0);
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_sum")).isEqualTo(106.0);
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_bucket", new String[] {"le"}, new String[] {"1.0"}))
+                .isEqualTo(1.0);
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_bucket", new String[] {"le"}, new String[] {"7.0"}))
+                .isEqualTo(2.0);
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_bucket", new String[] {"le"}, new String[] {"+Inf"}))
+                .isEqualTo(3.0);
+    }
+
+    @Test
+    void testUpdatePlatformMetric() {
+        // given
+        final CollectorRegistry registry = new CollectorRegistry();
+        final DefaultHistogramMetric metric = new DefaultHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME));
+        metric.update(3);
+        final HistogramAdapter adapter = new HistogramAdapter(registry, metric, PLATFORM);
+
+        // when
+        adapter.update(Snapshot.of(metric), new NodeId(1L));
+
+        // then
+        assertThat(registry.getSampleValue(MAPPING_NAME + "_count", new String[] {"node"}, new String[] {"1"}))
+                .isEqualTo(1.0);
+        assertThat(registry.getSampleValue(
+                        MAPPING_NAME + "_bucket", new String[] {"node", "le"}, new String[] {"1", "3.0"}))
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void testUpdateWithNullParameters() {
+        // given
+        final CollectorRegistry registry = new CollectorRegistry();
+        final DefaultHistogramMetric metric = new DefaultHistogramMetric(new HistogramMetric.Config(CATEGORY, NAME));
+        final HistogramAdapter adapter = new HistogramAdapter(registry, metric, PLATFORM);
+
+        // then
+        assertThatThrownBy(() -> adapter.update(null, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> adapter.update(Snapshot.of(metric), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
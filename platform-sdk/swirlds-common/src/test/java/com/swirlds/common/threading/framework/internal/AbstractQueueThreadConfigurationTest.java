@@ -20,6 +20,7 @@ import static com.swirlds.common.metrics.Metrics.INTERNAL_CATEGORY;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -183,7 +184,7 @@ class AbstractQueueThreadConfigurationTest {
         final InterruptableRunnable waitForItemRunnable = mock(InterruptableRunnable.class);
 
         // when
-        when(threadManager.createThread(any(ThreadGroup.class), any(Runnable.class)))
+        when(threadManager.createThread(any(ThreadGroup.class), any(Runnable.class), anyLong()))
                 .thenReturn(new Thread());
         final DummyQueueThreadConfiguration<String> configuration = new DummyQueueThreadConfiguration<String>(
                         threadManager)
@@ -0,0 +1,199 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.threading.framework.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+import com.swirlds.common.threading.framework.QueueWaitStrategy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+@DisplayName("Testing MpscArrayBlockingQueue")
+class MpscArrayBlockingQueueTest {
+
+    @Test
+    @DisplayName("Capacity is respected")
+    void capacityIsRespected() {
+        final MpscArrayBlockingQueue<Integer> queue = new MpscArrayBlockingQueue<>(3, QueueWaitStrategy.PARK);
+
+        assertThat(queue.offer(1)).isTrue();
+        assertThat(queue.offer(2)).isTrue();
+        assertThat(queue.offer(3)).isTrue();
+        assertThat(queue.offer(4)).isFalse();
+        assertThat(queue.size()).isEqualTo(3);
+        assertThat(queue.remainingCapacity()).isZero();
+
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.remainingCapacity()).isEqualTo(1);
+        assertThat(queue.offer(4)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Elements are returned in order across wrap-around")
+    void elementsAreReturnedInOrder() {
+        final MpscArrayBlockingQueue<Integer> queue = new MpscArrayBlockingQueue<>(5, QueueWaitStrategy.PARK);
+
+        int next = 0;
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 4; i++) {
+                queue.add(round * 4 + i);
+            }
+            for (int i = 0; i < 4; i++) {
+                assertThat(queue.peek()).isEqualTo(next);
+                assertThat(queue.poll()).isEqualTo(next++);
+            }
+        }
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Drain respects the maximum number of elements")
+    void drainRespectsMaximum() {
+        final MpscArrayBlockingQueue<Integer> queue = new MpscArrayBlockingQueue<>(10, QueueWaitStrategy.PARK);
+        for (int i = 0; i < 7; i++) {
+            queue.add(i);
+        }
+
+        final List<Integer> buffer = new ArrayList<>();
+        assertThat(queue.drainTo(buffer, 5)).isEqualTo(5);
+        assertThat(buffer).containsExactly(0, 1, 2, 3, 4);
+        assertThat(queue.drainTo(buffer)).isEqualTo(2);
+        assertThat(buffer).containsExactly(0, 1, 2, 3, 4, 5, 6);
+        assertThat(queue.drainTo(buffer)).isZero();
+    }
+
+    @Test
+    @DisplayName("Arbitrary elements can be removed across wrap-around")
+    void removeArbitraryElements() {
+        final MpscArrayBlockingQueue<Integer> queue = new MpscArrayBlockingQueue<>(5, QueueWaitStrategy.PARK);
+        // Move the head so that the elements wrap around the end of the ring
+        for (int i = 0; i < 6; i++) {
+            queue.add(-1);
+            queue.poll();
+        }
+        for (int i = 0; i < 5; i++) {
+            queue.add(i);
+        }
+
+        assertThat(queue.remove(7)).isFalse();
+        assertThat(queue.remove((Object) null)).isFalse();
+        assertThat(queue.remove(3)).isTrue();
+        assertThat(queue.remove(0)).isTrue();
+        assertThat(queue.size()).isEqualTo(3);
+
+        // The freed slots can be used by producers again
+        assertThat(queue.offer(5)).isTrue();
+        assertThat(queue.offer(6)).isTrue();
+        assertThat(queue.offer(7)).isFalse();
+
+        final List<Integer> buffer = new ArrayList<>();
+        queue.drainTo(buffer);
+        assertThat(buffer).containsExactly(1, 2, 4, 5, 6);
+    }
+
+    @Test
+    @DisplayName("Unsupported operations")
+    void unsupportedOperations() {
+        final MpscArrayBlockingQueue<Integer> queue = new MpscArrayBlockingQueue<>(10, QueueWaitStrategy.PARK);
+        queue.add(1);
+
+        assertThatThrownBy(() -> queue.offer(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new MpscArrayBlockingQueue<>(0, QueueWaitStrategy.PARK))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @EnumSource(QueueWaitStrategy.class)
+    @DisplayName("A waiting consumer is woken up by a producer")
+    void waitingConsumerIsWokenUp(final QueueWaitStrategy waitStrategy) throws InterruptedException {
+        final MpscArrayBlockingQueue<Integer> queue = new MpscArrayBlockingQueue<>(10, waitStrategy);
+        assertThat(queue.poll(10, TimeUnit.MILLISECONDS)).isNull();
+
+        final AtomicReference<Integer> taken = new AtomicReference<>();
+        final CountDownLatch done = new CountDownLatch(1);
+        final Thread consumer = new Thread(() -> {
+            try {
+                taken.set(queue.take());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            done.countDown();
+        });
+        consumer.start();
+
+        queue.put(42);
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(taken.get()).isEqualTo(42);
+    }
+
+    @ParameterizedTest
+    @EnumSource(QueueWaitStrategy.class)
+    @DisplayName("All elements from concurrent producers are delivered")
+    void concurrentProducers(final QueueWaitStrategy waitStrategy) throws InterruptedException {
+        final int producerCount = 4;
+        final int elementsPerProducer = 10_000;
+        final MpscArrayBlockingQueue<Integer> queue = new MpscArrayBlockingQueue<>(64, waitStrategy);
+
+        final List<Thread> producers = new ArrayList<>();
+        for (int producer = 0; producer < producerCount; producer++) {
+            final int base = producer * elementsPerProducer;
+            final Thread thread = new Thread(() -> {
+                try {
+                    for (int i = 0; i < elementsPerProducer; i++) {
+                        queue.put(base + i);
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            producers.add(thread);
+            thread.start();
+        }
+
+        // elements of each producer must arrive in the order they were added
+        final int[] nextExpected = new int[producerCount];
+        final List<Integer> buffer = new ArrayList<>();
+        int received = 0;
+        while (received < producerCount * elementsPerProducer) {
+            if (queue.drainTo(buffer, 16) == 0) {
+                final Integer element = queue.poll(5, TimeUnit.SECONDS);
+                assertThat(element).isNotNull();
+                buffer.add(element);
+            }
+            for (final int element : buffer) {
+                final int producer = element / elementsPerProducer;
+                assertThat(element % elementsPerProducer).isEqualTo(nextExpected[producer]++);
+            }
+            received += buffer.size();
+            buffer.clear();
+        }
+
+        for (final Thread producer : producers) {
+            producer.join();
+        }
+        assertThat(queue.isEmpty()).isTrue();
+    }
+}
@@ -109,4 +109,25 @@ class ThreadManagerTests {
         manager.stop();
         assertThrows(LifecycleException.class, () -> factory.newThread(() -> {}), "manager is not started yet");
     }
+
+    @Test
+    @DisplayName("Custom Stack Size Test")
+    void customStackSizeTest() throws InterruptedException {
+        final ThreadManager manager = new StandardThreadManager();
+        assertThrows(
+                LifecycleException.class,
+                () -> manager.createThread(null, () -> {}, 256 * 1024),
+                "manager is not started yet");
+
+        manager.start();
+
+        final AtomicBoolean executed = new AtomicBoolean(false);
+        final Thread thread = manager.createThread(null, () -> executed.set(true), 256 * 1024);
+        thread.start();
+        assertEventuallyTrue(executed::get, Duration.ofSeconds(1), "thread should have run by now");
+        thread.join(1_000);
+        assertFalse(thread.isAlive(), "thread should have terminated");
+
+        manager.stop();
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.common.utility;
+
+import static com.swirlds.common.utility.BatchPrefix.acceptPrefix;
+import static com.swirlds.common.utility.BatchPrefix.forEachOutcome;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BatchPrefix Tests")
+class BatchPrefixTests {
+
+    @Test
+    @DisplayName("Elements after the first rejected element are not offered")
+    void acceptPrefixStopsAtFirstRejection() {
+        final List<Integer> offered = new ArrayList<>();
+
+        final int accepted = acceptPrefix(List.of(1, 2, 30, 4, 5), element -> {
+            offered.add(element);
+            return element < 10;
+        });
+
+        assertEquals(2, accepted, "only the elements before the rejected one should be accepted");
+        assertEquals(List.of(1, 2, 30), offered, "no element after the rejected one should be offered");
+    }
+
+    @Test
+    @DisplayName("Whole and empty batches")
+    void acceptPrefixWholeAndEmptyBatches() {
+        assertEquals(3, acceptPrefix(List.of(1, 2, 3), element -> true), "all elements should be accepted");
+        assertEquals(0, acceptPrefix(List.of(1, 2, 3), element -> false), "no element should be accepted");
+        assertEquals(0, acceptPrefix(List.of(), element -> true), "an empty batch has nothing to accept");
+    }
+
+    @Test
+    @DisplayName("Outcomes are reported in order")
+    void forEachOutcomeReportsInOrder() {
+        final List<String> outcomes = new ArrayList<>();
+
+        forEachOutcome(5, 2, i -> outcomes.add("accepted " + i), i -> outcomes.add("rejected " + i));
+
+        assertEquals(
+                List.of("accepted 0", "accepted 1", "rejected 2", "rejected 3", "rejected 4"),
+                outcomes,
+                "accepted elements should be reported first, each element exactly once");
+    }
+
+    @Test
+    @DisplayName("The accepted count must fit the batch")
+    void forEachOutcomeRejectsInvalidCount() {
+        assertThrows(IllegalArgumentException.class, () -> forEachOutcome(3, 4, i -> {}, i -> {}));
+        assertThrows(IllegalArgumentException.class, () -> forEachOutcome(3, -1, i -> {}, i -> {}));
+    }
+}
@@ -73,8 +73,10 @@ import java.util.LongSummaryStatistics;
 import java.util.Objects;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -314,53 +316,76 @@ public final class MerkleDbDataSource<K extends VirtualKey, V extends VirtualVal
         final VirtualHashRecordSerializer virtualHashRecordSerializer = new VirtualHashRecordSerializer();
         final VirtualLeafRecordSerializer<K, V> leafRecordSerializer = new VirtualLeafRecordSerializer<>(tableConfig);
 
-        // create path to disk location index
+        // Load the indices in parallel on the snapshot threads, which are idle while the data source is being
+        // created. Stores that depend on an index are created as soon as that index is available.
         final boolean forceIndexRebuilding = config.indexRebuildingEnforced();
-        if (tableConfig.isPreferDiskBasedIndices()) {
-            pathToDiskLocationInternalNodes = new LongListDisk(dbPaths.pathToDiskLocationInternalNodesFile);
-        } else if (Files.exists(dbPaths.pathToDiskLocationInternalNodesFile) && !forceIndexRebuilding) {
-            pathToDiskLocationInternalNodes = new LongListOffHeap(dbPaths.pathToDiskLocationInternalNodesFile);
-        } else {
-            pathToDiskLocationInternalNodes = new LongListOffHeap();
-        }
+        // create path to disk location index
+        final Future<LongList> internalNodesIndexLoader = snapshotExecutor.submit(() -> {
+            if (tableConfig.isPreferDiskBasedIndices()) {
+                return new LongListDisk(dbPaths.pathToDiskLocationInternalNodesFile);
+            } else if (Files.exists(dbPaths.pathToDiskLocationInternalNodesFile) && !forceIndexRebuilding) {
+                return new LongListOffHeap(dbPaths.pathToDiskLocationInternalNodesFile);
+            } else {
+                return new LongListOffHeap();
+            }
+        });
         // path to disk location index, leaf nodes
-        if (tableConfig.isPreferDiskBasedIndices()) {
-            pathToDiskLocationLeafNodes = new LongListDisk(dbPaths.pathToDiskLocationLeafNodesFile);
-        } else if (Files.exists(dbPaths.pathToDiskLocationLeafNodesFile) && !forceIndexRebuilding) {
-            pathToDiskLocationLeafNodes = new LongListOffHeap(dbPaths.pathToDiskLocationLeafNodesFile);
-        } else {
-            pathToDiskLocationLeafNodes = new LongListOffHeap(config.reservedBufferLengthForLeafList());
-        }
-
-        // internal node hashes store, RAM
-        if (tableConfig.getHashesRamToDiskThreshold() > 0) {
-            if (Files.exists(dbPaths.hashStoreRamFile)) {
-                hashStoreRam = new HashListByteBuffer(dbPaths.hashStoreRamFile);
+        final Future<LongList> leafNodesIndexLoader = snapshotExecutor.submit(() -> {
+            if (tableConfig.isPreferDiskBasedIndices()) {
+                return new LongListDisk(dbPaths.pathToDiskLocationLeafNodesFile);
+            } else if (Files.exists(dbPaths.pathToDiskLocationLeafNodesFile) && !forceIndexRebuilding) {
+                return new LongListOffHeap(dbPaths.pathToDiskLocationLeafNodesFile);
             } else {
-                hashStoreRam = new HashListByteBuffer();
+                return new LongListOffHeap(config.reservedBufferLengthForLeafList());
             }
-        } else {
-            hashStoreRam = null;
-        }
+        });
+
+        // internal node hashes store, RAM
+        final Future<HashList> hashStoreRamLoader = tableConfig.getHashesRamToDiskThreshold() > 0
+                ? snapshotExecutor.submit(() -> Files.exists(dbPaths.hashStoreRamFile)
+                        ? new HashListByteBuffer(dbPaths.hashStoreRamFile)
+                        : new HashListByteBuffer())
+                : null;
+
+        // key to path store, if it has its own files
+        isLongKeyMode = tableConfig.getKeySerializer().getIndexType() == KeyIndexType.SEQUENTIAL_INCREMENTING_LONGS;
+        final Future<LongList> longKeyToPathLoader = isLongKeyMode && Files.exists(dbPaths.longKeyToPathFile)
+                ? snapshotExecutor.submit(() -> new LongListOffHeap(dbPaths.longKeyToPathFile))
+                : null;
+        final Future<HalfDiskHashMap<K>> objectKeyToPathLoader = isLongKeyMode
+                ? null
+                : snapshotExecutor.submit(() -> {
+                    final HalfDiskHashMap<K> map = new HalfDiskHashMap<>(
+                            tableConfig.getMaxNumberOfKeys(),
+                            tableConfig.getKeySerializer(),
+                            dbPaths.objectKeyToPathDirectory,
+                            tableName + "_objectkeytopath",
+                            tableName + ":objectKeyToPath",
+                            tableConfig.isPreferDiskBasedIndices());
+                    map.printStats();
+                    return map;
+                });
+
         // internal node hashes store, on disk
+        final LongList internalNodesIndex = awaitLoaded(internalNodesIndexLoader);
+        pathToDiskLocationInternalNodes = internalNodesIndex;
         hasDiskStoreForHashes = tableConfig.getHashesRamToDiskThreshold() < Long.MAX_VALUE;
-        hashStoreDisk = hasDiskStoreForHashes
-                ? new MemoryIndexDiskKeyValueStore<>(
+        final Future<MemoryIndexDiskKeyValueStore<VirtualHashRecord>> hashStoreDiskLoader = hasDiskStoreForHashes
+                ? snapshotExecutor.submit(() -> new MemoryIndexDiskKeyValueStore<>(
                         dbPaths.hashStoreDiskDirectory,
                         tableName + "_internalhashes",
                         tableName + ":internalHashes",
                         virtualHashRecordSerializer,
                         null,
-                        pathToDiskLocationInternalNodes)
+                        internalNodesIndex))
                 : null;
 
         // key to path store
         final DataFileCollection.LoadedDataCallback loadedDataCallback;
-        if (tableConfig.getKeySerializer().getIndexType() == KeyIndexType.SEQUENTIAL_INCREMENTING_LONGS) {
-            isLongKeyMode = true;
+        if (isLongKeyMode) {
             objectKeyToPath = null;
-            if (Files.exists(dbPaths.longKeyToPathFile)) {
-                longKeyToPath = new LongListOffHeap(dbPaths.longKeyToPathFile);
+            if (longKeyToPathLoader != null) {
+                longKeyToPath = awaitLoaded(longKeyToPathLoader);
                 // we do not need callback longKeyToPath was written to disk, so we can load it
                 // directly
                 loadedDataCallback = null;
@@ -375,21 +400,14 @@ public final class MerkleDbDataSource<K extends VirtualKey, V extends VirtualVal
                 };
             }
         } else {
-            isLongKeyMode = false;
             longKeyToPath = null;
-            objectKeyToPath = new HalfDiskHashMap<>(
-                    tableConfig.getMaxNumberOfKeys(),
-                    tableConfig.getKeySerializer(),
-                    dbPaths.objectKeyToPathDirectory,
-                    tableName + "_objectkeytopath",
-                    tableName + ":objectKeyToPath",
-                    tableConfig.isPreferDiskBasedIndices());
-            objectKeyToPath.printStats();
+            objectKeyToPath = awaitLoaded(objectKeyToPathLoader);
             // we do not need callback as HalfDiskHashMap loads its own data from disk
             loadedDataCallback = null;
         }
 
         // Create path to key/value store, this will create new or load if files exist
+        pathToDiskLocationLeafNodes = awaitLoaded(leafNodesIndexLoader);
         pathToKeyValue = new MemoryIndexDiskKeyValueStore<>(
                 dbPaths.pathToKeyValueDirectory,
                 tableName + "_pathtohashkeyvalue",
@@ -398,6 +416,9 @@ public final class MerkleDbDataSource<K extends VirtualKey, V extends VirtualVal
                 loadedDataCallback,
                 pathToDiskLocationLeafNodes);
 
+        hashStoreRam = awaitLoaded(hashStoreRamLoader);
+        hashStoreDisk = awaitLoaded(hashStoreDiskLoader);
+
         // Leaf records cache
         leafRecordCacheSize = config.leafRecordCacheSize();
         leafRecordCache = (leafRecordCacheSize > 0) ? new VirtualLeafRecord[leafRecordCacheSize] : null;
@@ -1167,6 +1188,32 @@ public final class MerkleDbDataSource<K extends VirtualKey, V extends VirtualVal
         }
     }
 
+    /**
+     * Wait for an index or store that is loaded in the background while the data source is created.
+     *
+     * @param loader the loading task, or null if nothing is loaded
+     * @return the loaded index or store, or null if {@code loader} is null
+     * @throws IOException if loading failed or was interrupted
+     */
+    private static <T> T awaitLoaded(final Future<T> loader) throws IOException {
+        if (loader == null) {
+            return null;
+        }
+        try {
+            return loader.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading MerkleDB indices", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            } else if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException("Failed to load MerkleDB indices", e.getCause());
+        }
+    }
+
     /**
      * Run a runnable on background thread using snapshot ExecutorService, counting down latch when
      * done.
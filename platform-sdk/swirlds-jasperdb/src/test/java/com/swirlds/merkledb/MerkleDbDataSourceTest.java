@@ -421,6 +421,59 @@ class MerkleDbDataSourceTest {
                 0L, MerkleDbDataSource::getCountOfOpenDatabases, Duration.ofSeconds(1), "Expected no open dbs");
     }
 
+    @ParameterizedTest
+    @MethodSource("provideReopenParameters")
+    void reopenLoadsAllIndices(
+            final TestType testType, final long hashesRamToDiskThreshold, final boolean preferDiskBasedIndexes)
+            throws IOException {
+        final int count = 10_000;
+        final String tableName = "reopenLoadsAllIndices";
+        final String dbName =
+                "merkledb-reopen-" + testType + "-" + hashesRamToDiskThreshold + "-" + preferDiskBasedIndexes;
+        final Path originalDbPath = testDirectory.resolve(dbName);
+        final MerkleDbDataSource<VirtualLongKey, ExampleByteArrayVirtualValue> dataSource = testType.dataType()
+                .createDataSource(
+                        originalDbPath, tableName, count, hashesRamToDiskThreshold, false, preferDiskBasedIndexes);
+        // hashes for all internal nodes and leaves, so that both hash stores are used if the threshold splits them
+        dataSource.saveRecords(
+                count,
+                count * 2,
+                IntStream.range(0, count * 2).mapToObj(i -> testType.dataType().createVirtualInternalRecord(i)),
+                IntStream.range(count, count * 2)
+                        .mapToObj(i -> testType.dataType().createVirtualLeafRecord(i)),
+                Stream.empty());
+        final Path snapshotDbPath = testDirectory.resolve(dbName + "_SNAPSHOT");
+        dataSource.getDatabase().snapshot(snapshotDbPath, dataSource);
+        dataSource.closeAndDelete();
+
+        // the indices are loaded concurrently while the data source is opened, every one of them must be complete
+        final MerkleDbDataSource<VirtualLongKey, ExampleByteArrayVirtualValue> reopened =
+                testType.dataType().getDataSource(snapshotDbPath, tableName, false);
+        try {
+            assertEquals(count, reopened.getFirstLeafPath(), "first leaf path should be restored");
+            assertEquals(count * 2, reopened.getLastLeafPath(), "last leaf path should be restored");
+            for (int i = 0; i < count; i++) {
+                assertEquals(hash(i), reopened.loadHash(i), "hash for path " + i + " should be restored");
+            }
+            IntStream.range(count, count * 2).forEach(i -> assertLeaf(testType, reopened, i, i));
+        } finally {
+            reopened.closeAndDelete();
+        }
+        assertEventuallyEquals(
+                0L, MerkleDbDataSource::getCountOfOpenDatabases, Duration.ofSeconds(1), "Expected no open dbs");
+    }
+
+    private static Stream<Arguments> provideReopenParameters() {
+        final ArrayList<Arguments> arguments = new ArrayList<>();
+        for (final TestType testType : TestType.values()) {
+            for (final long hashesRamToDiskThreshold : new long[] {0, COUNT / 2L, Long.MAX_VALUE}) {
+                arguments.add(Arguments.of(testType, hashesRamToDiskThreshold, false));
+            }
+            arguments.add(Arguments.of(testType, COUNT / 2L, true));
+        }
+        return arguments.stream();
+    }
+
     @Test
     @Tag(TestQualifierTags.TIME_CONSUMING)
     void preservesInterruptStatusWhenInterruptedClosing() throws IOException, InterruptedException {
@@ -88,6 +88,16 @@ public final class PlatformConstructor {
         return new CachedPoolParallelExecutor(threadManager, "node-sync");
     }
 
+    /**
+     * Create a parallel executor whose threads have a requested stack size.
+     *
+     * @param threadManager responsible for managing thread lifecycles
+     * @param stackSize     the requested stack size in bytes, or zero to use the JVM default
+     */
+    public static ParallelExecutor parallelExecutor(final ThreadManager threadManager, final long stackSize) {
+        return new CachedPoolParallelExecutor(threadManager, "node-sync", stackSize);
+    }
+
     public static SocketFactory socketFactory(
             @NonNull final KeysAndCerts keysAndCerts,
             @NonNull final CryptoConfig cryptoConfig,
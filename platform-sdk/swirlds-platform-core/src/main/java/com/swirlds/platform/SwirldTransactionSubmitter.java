@@ -17,6 +17,7 @@
 package com.swirlds.platform;
 
 import static com.swirlds.common.units.UnitConstants.NANOSECONDS_TO_MICROSECONDS;
+import static com.swirlds.common.utility.BatchPrefix.acceptPrefix;
 
 import com.swirlds.base.function.BooleanFunction;
 import com.swirlds.common.config.TransactionConfig;
@@ -24,6 +25,8 @@ import com.swirlds.common.system.status.PlatformStatus;
 import com.swirlds.common.system.status.PlatformStatusGetter;
 import com.swirlds.common.system.transaction.internal.SwirldTransaction;
 import com.swirlds.platform.metrics.TransactionMetrics;
+import java.util.List;
+import java.util.function.ToIntFunction;
 
 /**
  * Submits valid transactions received from the application to a consumer. Invalid transactions are rejected.
@@ -33,6 +36,7 @@ public class SwirldTransactionSubmitter {
     private final PlatformStatusGetter platformStatusGetter;
     private final TransactionConfig transactionConfig;
     private final BooleanFunction<SwirldTransaction> addToTransactionPool;
+    private final ToIntFunction<List<SwirldTransaction>> addAllToTransactionPool;
     private final TransactionMetrics transactionMetrics;
 
     /**
@@ -52,10 +56,40 @@ public class SwirldTransactionSubmitter {
             final TransactionConfig transactionConfig,
             final BooleanFunction<SwirldTransaction> addToTransactionPool,
             final TransactionMetrics transactionMetrics) {
+        this(
+                platformStatusGetter,
+                transactionConfig,
+                addToTransactionPool,
+                transactions -> acceptPrefix(transactions, addToTransactionPool::apply),
+                transactionMetrics);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param platformStatusGetter
+     * 		supplier of the current status of the platform
+     * @param transactionConfig
+     * 		provider of static settings
+     * @param addToTransactionPool
+     * 		a function that adds the transaction to the transaction pool, if room is available
+     * @param addAllToTransactionPool
+     * 		a function that adds the leading transactions of a batch to the transaction pool, as many as there is room
+     * 		for, and returns how many were added
+     * @param transactionMetrics
+     * 		stats relevant to transactions
+     */
+    public SwirldTransactionSubmitter(
+            final PlatformStatusGetter platformStatusGetter,
+            final TransactionConfig transactionConfig,
+            final BooleanFunction<SwirldTransaction> addToTransactionPool,
+            final ToIntFunction<List<SwirldTransaction>> addAllToTransactionPool,
+            final TransactionMetrics transactionMetrics) {
 
         this.platformStatusGetter = platformStatusGetter;
         this.transactionConfig = transactionConfig;
         this.addToTransactionPool = addToTransactionPool;
+        this.addAllToTransactionPool = addAllToTransactionPool;
         this.transactionMetrics = transactionMetrics;
     }
 
@@ -88,4 +122,34 @@ public class SwirldTransactionSubmitter {
 
         return success;
     }
+
+    /**
+     * Submits a batch of transactions to the consumer. The platform status is checked once for the whole batch.
+     * Transactions are accepted in order: if one fails a validity check or is not accepted by the consumer, then
+     * neither are the transactions that follow it.
+     *
+     * @param transactions
+     * 		the transactions to submit
+     * @return the number of leading transactions that passed all validity checks and were accepted by the consumer
+     */
+    public int submitTransactions(final List<SwirldTransaction> transactions) {
+
+        // if the platform is not active, it is better to reject transactions submitted by the app
+        if (platformStatusGetter.getCurrentStatus() != PlatformStatus.ACTIVE || transactions == null) {
+            return 0;
+        }
+
+        final int valid = acceptPrefix(
+                transactions, trans -> trans != null && trans.getSize() <= transactionConfig.transactionMaxBytes());
+        if (valid == 0) {
+            return 0;
+        }
+
+        final long start = System.nanoTime();
+        final int accepted = addAllToTransactionPool.applyAsInt(
+                valid == transactions.size() ? transactions : transactions.subList(0, valid));
+        transactionMetrics.updateTransSubmitMicros((long) ((System.nanoTime() - start) * NANOSECONDS_TO_MICROSECONDS));
+
+        return accepted;
+    }
 }
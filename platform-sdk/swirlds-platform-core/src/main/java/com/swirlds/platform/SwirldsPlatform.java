@@ -78,6 +78,7 @@ import com.swirlds.common.utility.LoggingClearables;
 import com.swirlds.logging.LogMarker;
 import com.swirlds.platform.components.EventIntake;
 import com.swirlds.platform.components.appcomm.AppCommunicationComponent;
+import com.swirlds.platform.components.common.output.RoundAppliedToStateConsumer;
 import com.swirlds.platform.components.state.StateManagementComponent;
 import com.swirlds.platform.components.transaction.system.ConsensusSystemTransactionManager;
 import com.swirlds.platform.components.transaction.system.PreconsensusSystemTransactionManager;
@@ -103,6 +104,8 @@ import com.swirlds.platform.event.preconsensus.PreconsensusEventStreamSequencer;
 import com.swirlds.platform.event.preconsensus.PreconsensusEventWriter;
 import com.swirlds.platform.event.preconsensus.SyncPreconsensusEventWriter;
 import com.swirlds.platform.event.tipset.AsyncTipsetEventCreationManager;
+import com.swirlds.platform.event.tracing.EventFlowTracer;
+import com.swirlds.platform.event.tracing.EventFlowTracingConfig;
 import com.swirlds.platform.event.validation.AncientValidator;
 import com.swirlds.platform.event.validation.EventDeduplication;
 import com.swirlds.platform.event.validation.EventValidator;
@@ -476,6 +479,21 @@ public class SwirldsPlatform implements Platform {
         stateHashSignQueue = components.add(PlatformConstructor.stateHashSignQueue(
                 threadManager, selfId, stateManagementComponent::newSignedStateFromTransactions, metrics));
 
+        final EventFlowTracingConfig eventFlowTracingConfig =
+                platformContext.getConfiguration().getConfigData(EventFlowTracingConfig.class);
+        final EventFlowTracer eventFlowTracer = eventFlowTracingConfig.enabled()
+                ? components.add(new EventFlowTracer(platformContext, threadManager, time, selfId))
+                : null;
+        final RoundAppliedToStateConsumer roundAppliedToStateConsumer;
+        if (eventFlowTracer == null) {
+            roundAppliedToStateConsumer = stateManagementComponent::roundAppliedToState;
+        } else {
+            roundAppliedToStateConsumer = round -> {
+                eventFlowTracer.roundHandled(round);
+                stateManagementComponent.roundAppliedToState(round);
+            };
+        }
+
         final ThreadConfig threadConfig = platformContext.getConfiguration().getConfigData(ThreadConfig.class);
         final PreConsensusEventHandler preConsensusEventHandler = components.add(new PreConsensusEventHandler(
                 metrics, threadManager, selfId, swirldStateManager, consensusMetrics, threadConfig));
@@ -489,7 +507,7 @@ public class SwirldsPlatform implements Platform {
                 stateHashSignQueue,
                 preconsensusEventWriter::waitUntilDurable,
                 platformStatusManager,
-                stateManagementComponent::roundAppliedToState,
+                roundAppliedToStateConsumer,
                 appVersion));
 
         final AddedEventMetrics addedEventMetrics = new AddedEventMetrics(this.selfId, metrics);
@@ -517,6 +535,9 @@ public class SwirldsPlatform implements Platform {
                             preconsensusEventWriter::requestFlush,
                             "Interrupted while requesting preconsensus event flush");
                 });
+        if (eventFlowTracer != null) {
+            eventObserverDispatcher.addObserver(eventFlowTracer);
+        }
 
         final List<Predicate<EventDescriptor>> isDuplicateChecks = new ArrayList<>();
         isDuplicateChecks.add(d -> shadowGraph.isHashInGraph(d.getHash()));
@@ -594,12 +615,14 @@ public class SwirldsPlatform implements Platform {
                 eventObserverDispatcher,
                 platformStatusManager::getCurrentStatus,
                 latestReconnectRound::get,
-                stateManagementComponent::getLatestSavedStateRound);
+                stateManagementComponent::getLatestSavedStateRound,
+                eventFlowTracer);
 
         transactionSubmitter = new SwirldTransactionSubmitter(
                 platformStatusManager::getCurrentStatus,
                 transactionConfig,
                 swirldStateManager::submitTransaction,
+                swirldStateManager::submitTransactions,
                 new TransactionMetrics(metrics));
 
         final boolean startedFromGenesis = initialState.isGenesisState();
@@ -664,6 +687,7 @@ public class SwirldsPlatform implements Platform {
         }
 
         final Clearable pauseEventCreation = tipsetEventCreator::pauseEventCreation;
+        final Clearable clearEventFlowTracer = eventFlowTracer == null ? () -> {} : eventFlowTracer;
 
         clearAllPipelines = new LoggingClearables(
                 RECONNECT.getMarker(),
@@ -672,7 +696,8 @@ public class SwirldsPlatform implements Platform {
                         Pair.of(gossip, "gossip"),
                         Pair.of(preConsensusEventHandler, "preConsensusEventHandler"),
                         Pair.of(consensusRoundHandler, "consensusRoundHandler"),
-                        Pair.of(swirldStateManager, "swirldStateManager")));
+                        Pair.of(swirldStateManager, "swirldStateManager"),
+                        Pair.of(clearEventFlowTracer, "eventFlowTracer")));
 
         // To be removed once the GUI component is better integrated with the platform.
         GuiPlatformAccessor.getInstance().setShadowGraph(selfId, shadowGraph);
@@ -1063,6 +1088,18 @@ public class SwirldsPlatform implements Platform {
         return transactionSubmitter.submitTransaction(new SwirldTransaction(transaction));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int createTransactions(@NonNull final List<byte[]> transactions) {
+        final List<SwirldTransaction> swirldTransactions = new ArrayList<>(transactions.size());
+        for (final byte[] transaction : transactions) {
+            swirldTransactions.add(new SwirldTransaction(transaction));
+        }
+        return transactionSubmitter.submitTransactions(swirldTransactions);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -19,6 +19,7 @@ package com.swirlds.platform.config;
 import com.swirlds.common.threading.framework.StoppableThread;
 import com.swirlds.config.api.ConfigData;
 import com.swirlds.config.api.ConfigProperty;
+import com.swirlds.config.api.validation.annotation.Min;
 import java.time.Duration;
 
 /**
@@ -37,6 +38,10 @@ import java.time.Duration;
  * 		period of generating thread dump file in the unit of milliseconds
  * @param threadDumpLogDir
  * 		thread dump files will be generated in this directory
+ * @param gossipThreadStackSize
+ * 		the requested stack size, in bytes, of the threads that run gossip protocols with each peer. These threads
+ * 		spend most of their time blocked on socket I/O and need little stack, so on large address books a small value
+ * 		reduces the memory reserved per peer. 0 means the JVM default.
  */
 @ConfigData("thread")
 public record ThreadConfig(
@@ -45,4 +50,5 @@ public record ThreadConfig(
         @ConfigProperty(defaultValue = "5") int threadPrioritySync,
         @ConfigProperty(defaultValue = "5") int threadPriorityNonSync,
         @ConfigProperty(defaultValue = "0") long threadDumpPeriodMs,
-        @ConfigProperty(defaultValue = "data/threadDump") String threadDumpLogDir) {}
+        @ConfigProperty(defaultValue = "data/threadDump") String threadDumpLogDir,
+        @Min(0) @ConfigProperty(defaultValue = "0") long gossipThreadStackSize) {}
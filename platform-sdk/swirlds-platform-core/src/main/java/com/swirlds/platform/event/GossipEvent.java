@@ -25,8 +25,10 @@ import com.swirlds.common.system.events.BaseEventUnhashedData;
 import com.swirlds.common.system.events.EventDescriptor;
 import com.swirlds.platform.EventStrings;
 import com.swirlds.platform.gossip.chatter.protocol.messages.ChatterEvent;
+import com.swirlds.platform.network.EventCompressor;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.Objects;
@@ -52,6 +54,19 @@ public class GossipEvent implements BaseEvent, ChatterEvent {
      */
     private NodeId senderId;
 
+    /**
+     * The serialized hashed and unhashed data of this event. Lazily populated the first time the event is sent to a
+     * peer, so that an event is only serialized once no matter how many peers it is sent to.
+     */
+    private volatile byte[] serializedData;
+
+    /**
+     * The {@link #serializedData} compressed into a frame by an {@link EventCompressor}. Lazily populated the first
+     * time the event is sent to a peer over a connection that negotiated compression, so that an event is only
+     * compressed once no matter how many peers it is sent to.
+     */
+    private volatile byte[] compressedFrame;
+
     @SuppressWarnings("unused") // needed for RuntimeConstructable
     public GossipEvent() {}
 
@@ -87,6 +102,50 @@ public class GossipEvent implements BaseEvent, ChatterEvent {
         timeReceived = Instant.now();
     }
 
+    /**
+     * Get the serialized form of this event's hashed and unhashed data, exactly as they are written by
+     * {@link #serialize(SerializableDataOutputStream)}. The bytes are computed once and then cached. The returned array
+     * must not be modified.
+     *
+     * @return the serialized hashed and unhashed data
+     * @throws IOException if the data can not be serialized
+     */
+    @NonNull
+    public byte[] getSerializedData() throws IOException {
+        byte[] data = serializedData;
+        if (data == null) {
+            final ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+            try (final SerializableDataOutputStream out = new SerializableDataOutputStream(byteStream)) {
+                out.writeSerializable(hashedData, false);
+                out.writeSerializable(unhashedData, false);
+            }
+            data = byteStream.toByteArray();
+            serializedData = data;
+        }
+        return data;
+    }
+
+    /**
+     * Get the serialized hashed and unhashed data of this event compressed into a frame, see
+     * {@link #getSerializedData()}. The frame is created with the first compressor this method is called with and then
+     * cached. All connections of a node compress with the same settings, so the frame can be written to any of them.
+     * The returned array must not be modified.
+     *
+     * @param compressor the compressor used if the frame is not cached yet
+     * @return the compressed frame
+     * @throws IOException if the data can not be serialized or compressed
+     */
+    @NonNull
+    public byte[] getCompressedFrame(@NonNull final EventCompressor compressor) throws IOException {
+        Objects.requireNonNull(compressor);
+        byte[] frame = compressedFrame;
+        if (frame == null) {
+            frame = compressor.compressFrame(getSerializedData());
+            compressedFrame = frame;
+        }
+        return frame;
+    }
+
     /**
      * Get the hashed data for the event.
      */
@@ -346,10 +346,15 @@ public final class PreconsensusEventFile implements Comparable<PreconsensusEvent
             return;
         }
 
+        final Path indexPath = PreconsensusEventFileIndex.getIndexPath(path);
         if (recycleBin == null) {
             Files.delete(path);
+            Files.deleteIfExists(indexPath);
         } else {
             recycleBin.recycle(path);
+            if (Files.exists(indexPath)) {
+                recycleBin.recycle(indexPath);
+            }
         }
 
         // Delete parent directories if they are empty
@@ -382,6 +387,20 @@ public final class PreconsensusEventFile implements Comparable<PreconsensusEvent
         return new PreconsensusEventFileIterator(this, minimumGeneration);
     }
 
+    /**
+     * Get an iterator that walks over the events in this file. The iterator will only return events that have a
+     * generation equal to or greater to the minimum generation.
+     *
+     * @param minimumGeneration the minimum generation of the events to return
+     * @param bufferSize        the size of the read buffer, in bytes
+     * @return an iterator over the events in this file
+     */
+    @NonNull
+    public PreconsensusEventFileIterator iterator(final long minimumGeneration, final int bufferSize)
+            throws IOException {
+        return new PreconsensusEventFileIterator(this, minimumGeneration, bufferSize);
+    }
+
     /**
      * Build the parent directory for a new event file.
      *
@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.event.preconsensus;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * A sidecar index for a preconsensus event file. The index allows a reader to skip directly to the first event that
+ * may have a generation greater than or equal to a given generation, instead of deserializing every event that comes
+ * before it.
+ * <p>
+ * The index file has the same name as the event file with {@link #INDEX_FILE_EXTENSION} appended. It contains a version
+ * number followed by a sequence of (generation, byte offset) entries. An entry is written each time an event is written
+ * with a generation higher than all events previously written to the file. Entries are therefore sorted by strictly
+ * increasing generation, and every event that comes before an entry's byte offset has a generation smaller than that
+ * entry's generation.
+ * <p>
+ * The index is an optimization only. If the index is missing, truncated, or unreadable then readers fall back to
+ * reading the event file from the beginning.
+ */
+public final class PreconsensusEventFileIndex {
+
+    /**
+     * The extension appended to the name of an event file to get the name of its index file.
+     */
+    public static final String INDEX_FILE_EXTENSION = ".idx";
+
+    /**
+     * The version written at the beginning of each index file.
+     */
+    public static final int INDEX_FILE_VERSION = 1;
+
+    /**
+     * Returned by {@link #findSeekOffset(Path, long)} when the index can not be used.
+     */
+    public static final long NO_SEEK_OFFSET = -1;
+
+    /**
+     * The number of bytes in the index file header.
+     */
+    private static final int HEADER_SIZE = Integer.BYTES;
+
+    /**
+     * The number of bytes in each index entry.
+     */
+    private static final int ENTRY_SIZE = 2 * Long.BYTES;
+
+    private PreconsensusEventFileIndex() {}
+
+    /**
+     * Get the path of the index file for an event file.
+     *
+     * @param eventFilePath the path to the event file
+     * @return the path to the index file
+     */
+    @NonNull
+    public static Path getIndexPath(@NonNull final Path eventFilePath) {
+        Objects.requireNonNull(eventFilePath);
+        return eventFilePath.resolveSibling(eventFilePath.getFileName().toString() + INDEX_FILE_EXTENSION);
+    }
+
+    /**
+     * Check if a path refers to an index file.
+     *
+     * @param path the path to check
+     * @return true if the path refers to an index file
+     */
+    public static boolean isIndexFile(@NonNull final Path path) {
+        return path.toString().endsWith(INDEX_FILE_EXTENSION);
+    }
+
+    /**
+     * Find the byte offset in an event file where a reader may begin reading if it is only interested in events with a
+     * generation greater than or equal to a given generation. All events before the returned offset are guaranteed to
+     * have a smaller generation. The index file is memory mapped while it is searched.
+     *
+     * @param eventFilePath     the path to the event file
+     * @param minimumGeneration the minimum generation the reader is interested in
+     * @return the byte offset to seek to, or {@link #NO_SEEK_OFFSET} if the index is missing or can not be used
+     */
+    public static long findSeekOffset(@NonNull final Path eventFilePath, final long minimumGeneration) {
+        final Path indexPath = getIndexPath(eventFilePath);
+        if (!Files.exists(indexPath)) {
+            return NO_SEEK_OFFSET;
+        }
+
+        try (final FileChannel channel = FileChannel.open(indexPath, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            // A partially written trailing entry (possible after a crash) is ignored.
+            final long entryCount = (size - HEADER_SIZE) / ENTRY_SIZE;
+            if (size < HEADER_SIZE || entryCount == 0) {
+                return NO_SEEK_OFFSET;
+            }
+
+            final MappedByteBuffer buffer =
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE + entryCount * ENTRY_SIZE);
+            if (buffer.getInt(0) != INDEX_FILE_VERSION) {
+                return NO_SEEK_OFFSET;
+            }
+
+            // Find the first entry with a generation greater than or equal to the minimum generation.
+            int low = 0;
+            int high = (int) entryCount;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (buffer.getLong(entryPosition(middle)) < minimumGeneration) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+
+            // If no entry is high enough, then everything before the last entry can still be skipped.
+            final int entry = Math.min(low, (int) entryCount - 1);
+            return buffer.getLong(entryPosition(entry) + Long.BYTES);
+        } catch (final IOException e) {
+            return NO_SEEK_OFFSET;
+        }
+    }
+
+    /**
+     * Get the byte position of an entry in the index file.
+     *
+     * @param entry the index of the entry
+     * @return the byte position of the entry
+     */
+    private static int entryPosition(final int entry) {
+        return HEADER_SIZE + entry * ENTRY_SIZE;
+    }
+
+    /**
+     * Writes an index file alongside an event file as events are appended to the event file.
+     */
+    public static class Writer {
+
+        private final DataOutputStream out;
+        private long highestGeneration = Long.MIN_VALUE;
+
+        /**
+         * Create a new index writer.
+         *
+         * @param eventFilePath the path to the event file being indexed
+         */
+        public Writer(@NonNull final Path eventFilePath) throws IOException {
+            out = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(getIndexPath(eventFilePath).toFile())));
+            out.writeInt(INDEX_FILE_VERSION);
+        }
+
+        /**
+         * Record that an event is about to be written to the event file.
+         *
+         * @param generation the generation of the event
+         * @param offset     the byte offset in the event file where the event begins
+         */
+        public void recordEvent(final long generation, final long offset) throws IOException {
+            if (generation > highestGeneration) {
+                highestGeneration = generation;
+                out.writeLong(generation);
+                out.writeLong(offset);
+            }
+        }
+
+        /**
+         * Flush the index file.
+         */
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        /**
+         * Close the index file.
+         */
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+}
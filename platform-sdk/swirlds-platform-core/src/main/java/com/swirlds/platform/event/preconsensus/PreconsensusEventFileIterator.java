@@ -22,6 +22,7 @@ import com.swirlds.common.io.extendable.extensions.CountingStreamExtension;
 import com.swirlds.common.io.streams.SerializableDataInputStream;
 import com.swirlds.platform.event.GossipEvent;
 import java.io.BufferedInputStream;
+import java.io.DataInputStream;
 import java.io.EOFException;
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -32,6 +33,11 @@ import java.util.NoSuchElementException;
  */
 public class PreconsensusEventFileIterator implements IOIterator<GossipEvent> {
 
+    /**
+     * The size of the read buffer used when no buffer size is specified, in bytes.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8 * 1024;
+
     private final long minimumGeneration;
     private final SerializableDataInputStream stream;
     private boolean hasPartialEvent = false;
@@ -50,19 +56,46 @@ public class PreconsensusEventFileIterator implements IOIterator<GossipEvent> {
      */
     public PreconsensusEventFileIterator(final PreconsensusEventFile fileDescriptor, final long minimumGeneration)
             throws IOException {
+        this(fileDescriptor, minimumGeneration, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Create a new iterator that walks over events in a preconsensus event file.
+     *
+     * @param fileDescriptor
+     * 		describes a preconsensus event file
+     * @param minimumGeneration
+     * 		the minimum generation to return, any events in the file with a smaller
+     * 		generation are ignored and not returned
+     * @param bufferSize
+     * 		the size of the buffer used when reading the file, in bytes. Large buffers
+     * 		allow the file to be read with fewer, larger sequential reads.
+     */
+    public PreconsensusEventFileIterator(
+            final PreconsensusEventFile fileDescriptor, final long minimumGeneration, final int bufferSize)
+            throws IOException {
 
         this.minimumGeneration = minimumGeneration;
+        final FileInputStream fileInputStream = new FileInputStream(fileDescriptor.getPath().toFile());
         counter = new CountingStreamExtension();
-        stream = new SerializableDataInputStream(new ExtendableInputStream(
-                new BufferedInputStream(
-                        new FileInputStream(fileDescriptor.getPath().toFile())),
-                counter));
+        stream = new SerializableDataInputStream(
+                new ExtendableInputStream(new BufferedInputStream(fileInputStream, bufferSize), counter));
 
         try {
-            final int fileVersion = stream.readInt();
+            // The header is read without buffering so that the file can be repositioned before buffered reads begin.
+            final int fileVersion = new DataInputStream(fileInputStream).readInt();
             if (fileVersion != PreconsensusEventMutableFile.FILE_VERSION) {
                 throw new IOException("unsupported file version: " + fileVersion);
             }
+
+            if (minimumGeneration > fileDescriptor.getMinimumGeneration()) {
+                // Use the index (if present) to skip events that are guaranteed to have too small of a generation.
+                final long seekOffset =
+                        PreconsensusEventFileIndex.findSeekOffset(fileDescriptor.getPath(), minimumGeneration);
+                if (seekOffset > Integer.BYTES) {
+                    fileInputStream.getChannel().position(seekOffset);
+                }
+            }
         } catch (final EOFException e) {
             // Empty file. Possible if the node crashed right after it created this file.
             stream.close();
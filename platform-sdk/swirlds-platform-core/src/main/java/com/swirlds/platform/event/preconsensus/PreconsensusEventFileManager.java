@@ -24,6 +24,7 @@ import com.swirlds.common.config.StateConfig;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.io.utility.RecycleBin;
 import com.swirlds.common.system.NodeId;
+import com.swirlds.common.threading.manager.ThreadManager;
 import com.swirlds.common.units.UnitConstants;
 import com.swirlds.common.utility.RandomAccessDeque;
 import com.swirlds.common.utility.UnmodifiableIterator;
@@ -190,6 +191,7 @@ public class PreconsensusEventFileManager {
         try (final Stream<Path> fileStream = Files.walk(databaseDirectory)) {
             fileStream
                     .filter(f -> !Files.isDirectory(f))
+                    .filter(f -> !PreconsensusEventFileIndex.isIndexFile(f))
                     .map(PreconsensusEventFileManager::parseFile)
                     .filter(Objects::nonNull)
                     .sorted()
@@ -501,6 +503,31 @@ public class PreconsensusEventFileManager {
         return new PreconsensusEventMultiFileIterator(minimumGeneration, getFileIterator(minimumGeneration));
     }
 
+    /**
+     * Get an iterator that walks over all events starting with a specified generation. Several files are read and
+     * deserialized concurrently, but events are returned in the same order as by {@link #getEventIterator(long)}. The
+     * returned iterator must be closed when it is no longer needed.
+     * <p>
+     * Note: this method only works at system startup time, using this iterator after startup has undefined behavior.
+     *
+     * @param minimumGeneration  the desired minimum generation, iterator is guaranteed to return all available events
+     *                           with a generation greater or equal to this value. No events with a smaller generation
+     *                           will be returned. A value of {@link #NO_MINIMUM_GENERATION} will cause the returned
+     *                           iterator to walk over all available events.
+     * @param threadManager      responsible for creating the threads that read files
+     * @param readAheadFileCount the maximum number of files that are read concurrently
+     * @param bufferSize         the size of the read buffer used for each file, in bytes
+     * @return an iterator that walks over events
+     */
+    public @NonNull PreconsensusEventReadAheadIterator getReadAheadEventIterator(
+            final long minimumGeneration,
+            @NonNull final ThreadManager threadManager,
+            final int readAheadFileCount,
+            final int bufferSize) {
+        return new PreconsensusEventReadAheadIterator(
+                threadManager, minimumGeneration, getFileIterator(minimumGeneration), readAheadFileCount, bufferSize);
+    }
+
     /**
      * Get the sequence number that should be allocated next.
      *
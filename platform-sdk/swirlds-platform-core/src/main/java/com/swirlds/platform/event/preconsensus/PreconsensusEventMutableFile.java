@@ -26,6 +26,7 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 
 /**
@@ -55,6 +56,11 @@ public class PreconsensusEventMutableFile {
      */
     private final SerializableDataOutputStream out;
 
+    /**
+     * Writes the sidecar index for this file.
+     */
+    private final PreconsensusEventFileIndex.Writer indexWriter;
+
     /**
      * Create a new preconsensus event file that can be written to.
      *
@@ -74,6 +80,7 @@ public class PreconsensusEventMutableFile {
                         new FileOutputStream(descriptor.getPath().toFile())),
                 counter));
         out.writeInt(FILE_VERSION);
+        indexWriter = new PreconsensusEventFileIndex.Writer(descriptor.getPath());
         highestGenerationInFile = descriptor.getMinimumGeneration();
     }
 
@@ -98,6 +105,7 @@ public class PreconsensusEventMutableFile {
                     "Cannot write event " + event.getHashedData().getHash() + " with generation "
                             + event.getGeneration() + " to file " + descriptor);
         }
+        indexWriter.recordEvent(event.getGeneration(), counter.getCount());
         out.writeSerializable(event, false);
         highestGenerationInFile = Math.max(highestGenerationInFile, event.getGeneration());
     }
@@ -121,6 +129,14 @@ public class PreconsensusEventMutableFile {
 
         try {
             Files.move(descriptor.getPath(), newDescriptor.getPath(), StandardCopyOption.ATOMIC_MOVE);
+            // The index is optional, readers fall back to scanning the file if it is missing
+            final Path indexPath = PreconsensusEventFileIndex.getIndexPath(descriptor.getPath());
+            if (Files.exists(indexPath)) {
+                Files.move(
+                        indexPath,
+                        PreconsensusEventFileIndex.getIndexPath(newDescriptor.getPath()),
+                        StandardCopyOption.ATOMIC_MOVE);
+            }
         } catch (final IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -133,6 +149,7 @@ public class PreconsensusEventMutableFile {
      */
     public void flush() throws IOException {
         out.flush();
+        indexWriter.flush();
     }
 
     /**
@@ -140,6 +157,7 @@ public class PreconsensusEventMutableFile {
      */
     public void close() throws IOException {
         out.close();
+        indexWriter.close();
     }
 
     /**
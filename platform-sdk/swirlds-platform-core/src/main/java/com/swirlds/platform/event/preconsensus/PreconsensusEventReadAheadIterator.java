@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.event.preconsensus;
+
+import com.swirlds.common.io.IOIterator;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
+import com.swirlds.common.threading.manager.ThreadManager;
+import com.swirlds.platform.event.GossipEvent;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Iterates over the events in a series of preconsensus event files. Unlike {@link PreconsensusEventMultiFileIterator},
+ * several files are read and deserialized concurrently on background threads. Events are always returned in the same
+ * order as they would be returned by {@link PreconsensusEventMultiFileIterator}; files that finish deserializing early
+ * are held in a bounded reorder buffer until all files before them have been returned.
+ */
+public class PreconsensusEventReadAheadIterator implements IOIterator<GossipEvent> {
+
+    /**
+     * The contents of a fully deserialized file.
+     *
+     * @param events           the events in the file, in file order
+     * @param hasPartialEvent  true if the file ended with a partially written event
+     */
+    private record FileContents(@NonNull List<GossipEvent> events, boolean hasPartialEvent) {}
+
+    private final Iterator<PreconsensusEventFile> fileIterator;
+    private final long minimumGeneration;
+    private final int readAheadFileCount;
+    private final int bufferSize;
+    private final ExecutorService readPool;
+
+    /**
+     * Files that have been scheduled for reading, in file order. Never holds more than {@link #readAheadFileCount}
+     * entries.
+     */
+    private final Deque<Future<FileContents>> pendingFiles = new ArrayDeque<>();
+
+    private Iterator<GossipEvent> currentFile;
+    private int truncatedFileCount = 0;
+    private boolean closed = false;
+
+    /**
+     * Create an iterator that walks over events in a series of event files, reading several files ahead in parallel.
+     *
+     * @param threadManager      responsible for creating the threads that read files
+     * @param minimumGeneration  the minimum generation of events to return, events with lower generations are not
+     *                           returned
+     * @param fileIterator       an iterator that walks over event files
+     * @param readAheadFileCount the maximum number of files that may be read concurrently and held in memory before
+     *                           they are returned by this iterator
+     * @param bufferSize         the size of the buffer used when reading each file, in bytes
+     */
+    public PreconsensusEventReadAheadIterator(
+            @NonNull final ThreadManager threadManager,
+            final long minimumGeneration,
+            @NonNull final Iterator<PreconsensusEventFile> fileIterator,
+            final int readAheadFileCount,
+            final int bufferSize) {
+
+        Objects.requireNonNull(threadManager);
+        this.fileIterator = Objects.requireNonNull(fileIterator);
+        this.minimumGeneration = minimumGeneration;
+        if (readAheadFileCount < 1) {
+            throw new IllegalArgumentException("read ahead file count must be at least 1");
+        }
+        this.readAheadFileCount = readAheadFileCount;
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("buffer size must be at least 1");
+        }
+        this.bufferSize = bufferSize;
+
+        readPool = Executors.newFixedThreadPool(
+                readAheadFileCount,
+                new ThreadConfiguration(threadManager)
+                        .setThreadName("EventReplayPipeline-FileReader")
+                        .buildFactory());
+    }
+
+    /**
+     * Schedule files for reading until the reorder buffer is full or there are no more files.
+     */
+    private void scheduleReads() {
+        while (pendingFiles.size() < readAheadFileCount && fileIterator.hasNext()) {
+            final PreconsensusEventFile file = fileIterator.next();
+            pendingFiles.addLast(readPool.submit(() -> readFile(file)));
+        }
+    }
+
+    /**
+     * Read and deserialize all eligible events in a file.
+     *
+     * @param file the file to read
+     * @return the contents of the file
+     */
+    @NonNull
+    private FileContents readFile(@NonNull final PreconsensusEventFile file) throws IOException {
+        final PreconsensusEventFileIterator iterator = file.iterator(minimumGeneration, bufferSize);
+        final List<GossipEvent> events = new ArrayList<>();
+        while (iterator.hasNext()) {
+            events.add(iterator.next());
+        }
+        return new FileContents(events, iterator.hasPartialEvent());
+    }
+
+    /**
+     * Wait for the next file in order to finish being read.
+     *
+     * @return the contents of the next file
+     */
+    @NonNull
+    private FileContents takeNextFile() throws IOException {
+        final Future<FileContents> future = pendingFiles.removeFirst();
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while waiting for preconsensus event file to be read", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof final IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("unable to read preconsensus event file", e.getCause());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() throws IOException {
+        if (closed) {
+            return false;
+        }
+        while (currentFile == null || !currentFile.hasNext()) {
+            scheduleReads();
+            if (pendingFiles.isEmpty()) {
+                return false;
+            }
+            final FileContents contents = takeNextFile();
+            if (contents.hasPartialEvent()) {
+                truncatedFileCount++;
+            }
+            currentFile = contents.events().iterator();
+            // Start reading the next file as soon as there is room for it in the reorder buffer.
+            scheduleReads();
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GossipEvent next() throws IOException {
+        if (!hasNext()) {
+            throw new NoSuchElementException("iterator is empty, can not get next element");
+        }
+        return currentFile.next();
+    }
+
+    /**
+     * Get the number of files that had partial event data at the end. This can happen if JVM is shut down abruptly
+     * while and event is being written to disk.
+     *
+     * @return the number of files that had partial event data at the end that have been encountered so far
+     */
+    public int getTruncatedFileCount() {
+        return truncatedFileCount;
+    }
+
+    /**
+     * Stop all background reads and release the threads used for reading.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (final Future<FileContents> future : pendingFiles) {
+            future.cancel(true);
+        }
+        pendingFiles.clear();
+        currentFile = null;
+        readPool.shutdownNow();
+    }
+}
@@ -38,7 +38,8 @@ import org.apache.logging.log4j.Logger;
 
 /**
  * Reads events from the preconsensus event stream, hashes them, and passes them to event intake. Reading from disk,
- * hashing, and intake are done on different threads.
+ * hashing, and intake are done on different threads. Events are hashed concurrently, but are always passed to intake
+ * in the order in which they were read.
  */
 public class PreconsensusEventReplayPipeline {
 
@@ -92,8 +93,12 @@ public class PreconsensusEventReplayPipeline {
                 .setHandler(this::handleEvent)
                 .build();
 
+        final int hashPoolSize = config.replayHashPoolSize() > 0
+                ? config.replayHashPoolSize()
+                : Runtime.getRuntime().availableProcessors();
+
         hashPool = Executors.newFixedThreadPool(
-                config.replayHashPoolSize(),
+                hashPoolSize,
                 new ThreadConfiguration(threadManager)
                         .setThreadName("EventReplayPipeline-HashPool")
                         .buildFactory());
@@ -17,6 +17,8 @@
 package com.swirlds.platform.event.preconsensus;
 
 import static com.swirlds.common.formatting.StringFormattingUtils.commaSeparatedNumber;
+import static com.swirlds.common.units.DataUnit.UNIT_BYTES;
+import static com.swirlds.common.units.DataUnit.UNIT_KILOBYTES;
 import static com.swirlds.common.units.TimeUnit.UNIT_MILLISECONDS;
 import static com.swirlds.logging.LogMarker.EXCEPTION;
 import static com.swirlds.logging.LogMarker.STARTUP;
@@ -24,7 +26,6 @@ import static com.swirlds.logging.LogMarker.STARTUP;
 import com.swirlds.base.time.Time;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.formatting.UnitFormatter;
-import com.swirlds.common.io.IOIterator;
 import com.swirlds.common.threading.framework.QueueThread;
 import com.swirlds.common.threading.manager.ThreadManager;
 import com.swirlds.platform.components.state.StateManagementComponent;
@@ -94,12 +95,28 @@ public final class PreconsensusEventReplayWorkflow {
         try {
             final Instant start = time.now();
 
-            final IOIterator<GossipEvent> iterator =
-                    preconsensusEventFileManager.getEventIterator(initialMinimumGenerationNonAncient);
-
-            final PreconsensusEventReplayPipeline eventReplayPipeline =
-                    new PreconsensusEventReplayPipeline(platformContext, threadManager, iterator, eventValidator);
-            eventReplayPipeline.replayEvents();
+            final PreconsensusEventStreamConfig config =
+                    platformContext.getConfiguration().getConfigData(PreconsensusEventStreamConfig.class);
+
+            final PreconsensusEventReplayPipeline eventReplayPipeline;
+            try (final PreconsensusEventReadAheadIterator iterator =
+                    preconsensusEventFileManager.getReadAheadEventIterator(
+                            initialMinimumGenerationNonAncient,
+                            threadManager,
+                            config.replayReadAheadFileCount(),
+                            (int) UNIT_KILOBYTES.convertTo(config.replayReadBufferSizeKilobytes(), UNIT_BYTES))) {
+
+                eventReplayPipeline =
+                        new PreconsensusEventReplayPipeline(platformContext, threadManager, iterator, eventValidator);
+                eventReplayPipeline.replayEvents();
+
+                if (iterator.getTruncatedFileCount() > 0) {
+                    logger.info(
+                            STARTUP.getMarker(),
+                            "{} preconsensus event file(s) ended with a partially written event",
+                            iterator.getTruncatedFileCount());
+                }
+            }
 
             waitForReplayToComplete(intakeQueue, consensusRoundHandler, stateHashSignQueue);
 
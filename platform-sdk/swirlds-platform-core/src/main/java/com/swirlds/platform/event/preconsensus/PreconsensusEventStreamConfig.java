@@ -89,7 +89,16 @@ import java.time.Duration;
  *                                                        rolled back.
  * @param replayQueueSize                                 the size of the queue used for holding preconsensus events
  *                                                        that are waiting to be replayed
- * @param replayHashPoolSize                              the number of threads used for hashing events during replay
+ * @param replayHashPoolSize                              the number of threads used for hashing events during replay.
+ *                                                        If zero or negative, one thread per available processor is
+ *                                                        used.
+ * @param replayReadAheadFileCount                        the number of preconsensus event files that are read and
+ *                                                        deserialized concurrently during replay. Files that finish
+ *                                                        early are buffered in memory until it is their turn to be
+ *                                                        replayed, so this also bounds the number of files held in
+ *                                                        memory at any one time.
+ * @param replayReadBufferSizeKilobytes                   the size of the buffer used for reading each preconsensus
+ *                                                        event file during replay, in kilobytes
  * @param clearOnSoftwareUpgrade                          if true, then delete all preconsensus event files when a
  *                                                        software upgrade is taking place.
  */
@@ -108,5 +117,7 @@ public record PreconsensusEventStreamConfig(
         @ConfigProperty(defaultValue = "true") boolean enableStorage,
         @ConfigProperty(defaultValue = "true") boolean enableReplay,
         @ConfigProperty(defaultValue = "1024") int replayQueueSize,
-        @ConfigProperty(defaultValue = "8") int replayHashPoolSize,
+        @ConfigProperty(defaultValue = "0") int replayHashPoolSize,
+        @Min(1) @ConfigProperty(defaultValue = "4") int replayReadAheadFileCount,
+        @Min(1) @ConfigProperty(defaultValue = "1024") int replayReadBufferSizeKilobytes,
         @ConfigProperty(defaultValue = "true") boolean clearOnSoftwareUpgrade) {}
@@ -34,11 +34,13 @@ import com.swirlds.platform.event.tipset.rules.TipsetBackpressureRule;
 import com.swirlds.platform.event.tipset.rules.TipsetEventCreationRule;
 import com.swirlds.platform.event.tipset.rules.TipsetMaximumRateRule;
 import com.swirlds.platform.event.tipset.rules.TipsetPlatformStatusRule;
+import com.swirlds.platform.event.tracing.EventFlowTracer;
 import com.swirlds.platform.eventhandling.TransactionPool;
 import com.swirlds.platform.observers.ConsensusRoundObserver;
 import com.swirlds.platform.observers.EventObserverDispatcher;
 import com.swirlds.platform.observers.PreConsensusEventObserver;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.Objects;
 import java.util.Random;
 import java.util.function.Supplier;
@@ -66,6 +68,7 @@ public final class TipsetEventCreationManagerFactory {
      * @param platformStatusSupplier    provides the current platform status
      * @param latestReconnectRound      provides the latest reconnect round
      * @param latestSavedStateRound     provides the latest saved state round
+     * @param eventFlowTracer           traces transactions into new events, or null if event flow tracing is disabled
      * @return a new tipset event creation manager
      */
     @NonNull
@@ -82,7 +85,8 @@ public final class TipsetEventCreationManagerFactory {
             @NonNull final EventObserverDispatcher eventObserverDispatcher,
             @NonNull final Supplier<PlatformStatus> platformStatusSupplier,
             @NonNull final Supplier<Long> latestReconnectRound,
-            @NonNull final Supplier<Long> latestSavedStateRound) {
+            @NonNull final Supplier<Long> latestSavedStateRound,
+            @Nullable final EventFlowTracer eventFlowTracer) {
 
         Objects.requireNonNull(platformContext);
         Objects.requireNonNull(threadManager);
@@ -106,7 +110,9 @@ public final class TipsetEventCreationManagerFactory {
                 addressBook,
                 selfId,
                 appVersion,
-                transactionPool);
+                transactionPool,
+                eventFlowTracer);
+        transactionPool.setEventFlowTracer(eventFlowTracer);
 
         final TipsetEventCreationRule eventCreationRules = AggregateTipsetEventCreationRules.of(
                 new TipsetMaximumRateRule(platformContext, time),
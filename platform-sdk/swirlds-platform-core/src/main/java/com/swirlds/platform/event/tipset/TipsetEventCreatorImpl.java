@@ -40,6 +40,7 @@ import com.swirlds.common.utility.throttle.RateLimitedLogger;
 import com.swirlds.platform.components.transaction.TransactionSupplier;
 import com.swirlds.platform.event.EventUtils;
 import com.swirlds.platform.event.GossipEvent;
+import com.swirlds.platform.event.tracing.EventFlowTracer;
 import com.swirlds.platform.internal.EventImpl;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -88,6 +89,11 @@ public class TipsetEventCreatorImpl implements TipsetEventCreator {
 
     private final TipsetMetrics tipsetMetrics;
 
+    /**
+     * Informed about each new self event, or null if event flow tracing is disabled.
+     */
+    private final EventFlowTracer eventFlowTracer;
+
     /**
      * The last event created by this node.
      */
@@ -127,6 +133,32 @@ public class TipsetEventCreatorImpl implements TipsetEventCreator {
             @NonNull final NodeId selfId,
             @NonNull final SoftwareVersion softwareVersion,
             @NonNull final TransactionSupplier transactionSupplier) {
+        this(platformContext, time, random, signer, addressBook, selfId, softwareVersion, transactionSupplier, null);
+    }
+
+    /**
+     * Create a new tipset event creator.
+     *
+     * @param platformContext     the platform context
+     * @param time                provides wall clock time
+     * @param random              a source of randomness, does not need to be cryptographically secure
+     * @param signer              used for signing things with this node's private key
+     * @param addressBook         the current address book
+     * @param selfId              this node's ID
+     * @param softwareVersion     the current software version of the application
+     * @param transactionSupplier provides transactions to be included in new events
+     * @param eventFlowTracer     informed about each new event, or null if event flow tracing is disabled
+     */
+    public TipsetEventCreatorImpl(
+            @NonNull final PlatformContext platformContext,
+            @NonNull final Time time,
+            @NonNull final Random random,
+            @NonNull final Signer signer,
+            @NonNull final AddressBook addressBook,
+            @NonNull final NodeId selfId,
+            @NonNull final SoftwareVersion softwareVersion,
+            @NonNull final TransactionSupplier transactionSupplier,
+            @Nullable final EventFlowTracer eventFlowTracer) {
 
         this.time = Objects.requireNonNull(time);
         this.random = Objects.requireNonNull(random);
@@ -135,6 +167,7 @@ public class TipsetEventCreatorImpl implements TipsetEventCreator {
         this.transactionSupplier = Objects.requireNonNull(transactionSupplier);
         this.softwareVersion = Objects.requireNonNull(softwareVersion);
         this.addressBook = Objects.requireNonNull(addressBook);
+        this.eventFlowTracer = eventFlowTracer;
 
         final EventCreationConfig eventCreationConfig =
                 platformContext.getConfiguration().getConfigData(EventCreationConfig.class);
@@ -442,6 +475,9 @@ public class TipsetEventCreatorImpl implements TipsetEventCreator {
         final GossipEvent event = new GossipEvent(hashedData, unhashedData);
         cryptography.digestSync(event);
         event.buildDescriptor();
+        if (eventFlowTracer != null) {
+            eventFlowTracer.selfEventCreated(event);
+        }
         return event;
     }
 
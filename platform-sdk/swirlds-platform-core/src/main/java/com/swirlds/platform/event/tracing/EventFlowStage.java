@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.event.tracing;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * The stages of the platform pipeline at which a sampled event is stamped by the {@link EventFlowTracer}.
+ */
+public enum EventFlowStage {
+    /**
+     * The transaction that waited longest in the transaction pool of a self event was submitted. Only stamped for self
+     * events that carry transactions.
+     */
+    TRANSACTION_SUBMITTED(null),
+    /**
+     * This node's event creator created the event. Only stamped for self events that carry transactions.
+     */
+    SELF_EVENT_CREATED("transactionSubmittedToSelfEventCreated"),
+    /**
+     * The event was created by its creator. The timestamp is the creator's claimed creation time, so latencies
+     * measured from this stage include clock skew between nodes.
+     */
+    CREATED("eventCreatedToReceived"),
+    /**
+     * The event was received by this node, either from gossip or from the local event creator.
+     */
+    RECEIVED(null),
+    /**
+     * The event was deduplicated and validated.
+     */
+    VALIDATED("eventReceivedToValidated"),
+    /**
+     * The event was linked to its parents and dispatched for pre-consensus handling.
+     */
+    PRE_CONSENSUS("eventReceivedToPreConsensus"),
+    /**
+     * The event was added to the hashgraph.
+     */
+    ADDED("eventReceivedToAdded"),
+    /**
+     * The event reached consensus.
+     */
+    CONSENSUS("eventReceivedToConsensus"),
+    /**
+     * The round containing the event was applied to the state, i.e. its transactions were handled.
+     */
+    HANDLED("eventReceivedToHandled");
+
+    private static final EventFlowStage[] VALUES = values();
+
+    private final String metricName;
+
+    EventFlowStage(final String metricName) {
+        this.metricName = metricName;
+    }
+
+    /**
+     * Get the name of the latency histogram for this stage. The latency of the {@link #SELF_EVENT_CREATED} stage is
+     * measured from the time the oldest transaction of the event was submitted. The latency of the {@link #CREATED}
+     * stage is measured up to the time the event was received, the latency of every later stage is measured from the
+     * time the event was received.
+     *
+     * @return the name of the metric, or null if this stage has no latency histogram
+     */
+    public String getMetricName() {
+        return metricName;
+    }
+
+    /**
+     * Check if this stage has a latency histogram.
+     *
+     * @return true if this stage has a latency histogram
+     */
+    public boolean hasMetric() {
+        return metricName != null;
+    }
+
+    /**
+     * Get a stage by its ordinal.
+     *
+     * @param ordinal the ordinal
+     * @return the stage
+     */
+    @NonNull
+    static EventFlowStage fromOrdinal(final int ordinal) {
+        return VALUES[ordinal];
+    }
+}
@@ -0,0 +1,459 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.event.tracing;
+
+import static com.swirlds.common.metrics.Metrics.PLATFORM_CATEGORY;
+import static com.swirlds.logging.LogMarker.EXCEPTION;
+import static com.swirlds.platform.SwirldsPlatform.PLATFORM_THREAD_POOL_NAME;
+
+import com.swirlds.base.state.Startable;
+import com.swirlds.base.time.Time;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.metrics.HistogramMetric;
+import com.swirlds.common.system.NodeId;
+import com.swirlds.common.threading.framework.StoppableThread;
+import com.swirlds.common.threading.framework.config.StoppableThreadConfiguration;
+import com.swirlds.common.threading.manager.ThreadManager;
+import com.swirlds.common.utility.Clearable;
+import com.swirlds.platform.event.GossipEvent;
+import com.swirlds.platform.internal.ConsensusRound;
+import com.swirlds.platform.internal.EventImpl;
+import com.swirlds.platform.observers.ConsensusRoundObserver;
+import com.swirlds.platform.observers.EventAddedObserver;
+import com.swirlds.platform.observers.EventReceivedObserver;
+import com.swirlds.platform.observers.PreConsensusEventObserver;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Traces sampled events through the platform pipeline. Each time a sampled event passes a stage (see
+ * {@link EventFlowStage}), an entry is stamped into a preallocated ring buffer and the latency of that stage is
+ * recorded in a histogram. The ring buffer can be written as JSON periodically, or on demand by creating a file named
+ * {@value #DUMP_REQUEST_FILE_NAME} in the dump directory.
+ * <p>
+ * Events are sampled by generation, so every node traces the same events and per-node traces can be joined by
+ * (creator, generation). Transactions are traced through the events that carry them. For a sampled self event, the
+ * time the oldest of its transactions was submitted to the transaction pool is stamped together with the time the
+ * event was created, from then on the latency of a transaction is the latency of its event.
+ * <p>
+ * Stamping does not allocate and does not lock. Writers claim a slot by incrementing a shared cursor and then fill in
+ * the slot, so an entry that is being written while the buffer is dumped may appear partially updated. Since traces
+ * are a diagnostic aid, this is accepted in exchange for keeping the pipeline threads free of contention. When tracing
+ * is disabled the tracer is not wired into the pipeline, so it costs nothing.
+ */
+public class EventFlowTracer
+        implements Startable,
+                Clearable,
+                EventReceivedObserver,
+                PreConsensusEventObserver,
+                EventAddedObserver,
+                ConsensusRoundObserver {
+
+    private static final Logger logger = LogManager.getLogger(EventFlowTracer.class);
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /**
+     * If a file with this name exists in the dump directory, it is deleted and the trace buffer is written.
+     */
+    public static final String DUMP_REQUEST_FILE_NAME = "dumpEventTrace";
+
+    /**
+     * The value of {@link #oldestTransactionSubmitted} if no transactions were taken for the next self event.
+     */
+    private static final long NO_TRANSACTIONS = Long.MIN_VALUE;
+
+    private final Time time;
+    private final NodeId selfId;
+    private final int sampleRate;
+    private final Path dumpDirectory;
+    private final StoppableThread dumpThread;
+
+    /**
+     * The period of automatic dumps, or null if the buffer is only dumped on request.
+     */
+    private final Duration dumpPeriod;
+
+    /**
+     * Whether the dump directory is checked for a {@link #DUMP_REQUEST_FILE_NAME} file.
+     */
+    private final boolean dumpRequestsEnabled;
+
+    /**
+     * The earliest time of the next automatic dump. Only used by the dump thread.
+     */
+    private Instant nextDump;
+
+    /**
+     * The time the oldest transaction taken for the next self event was submitted, in epoch nanoseconds, or
+     * {@link #NO_TRANSACTIONS}.
+     */
+    private volatile long oldestTransactionSubmitted = NO_TRANSACTIONS;
+
+    /**
+     * The ring buffer, stored as parallel arrays indexed by {@code cursor & mask}.
+     */
+    private final int mask;
+
+    private final byte[] stages;
+    private final long[] creators;
+    private final long[] generations;
+    private final long[] timestamps;
+    private final AtomicLong cursor = new AtomicLong();
+
+    /**
+     * One latency histogram per stage, indexed by ordinal. Null for stages without a histogram.
+     */
+    private final HistogramMetric[] latencies = new HistogramMetric[EventFlowStage.values().length];
+
+    /**
+     * Sampled events that reached consensus but whose round has not been applied to the state yet, in order of
+     * consensus.
+     */
+    private final ArrayDeque<EventImpl> awaitingHandle;
+
+    private final int maxAwaitingHandle;
+
+    /**
+     * Create a new event flow tracer.
+     *
+     * @param platformContext the platform context
+     * @param threadManager   responsible for creating and managing threads
+     * @param time            provides wall clock time
+     * @param selfId          the ID of this node
+     */
+    public EventFlowTracer(
+            @NonNull final PlatformContext platformContext,
+            @NonNull final ThreadManager threadManager,
+            @NonNull final Time time,
+            @NonNull final NodeId selfId) {
+        Objects.requireNonNull(platformContext);
+        Objects.requireNonNull(threadManager);
+        this.time = Objects.requireNonNull(time);
+        this.selfId = Objects.requireNonNull(selfId);
+
+        final EventFlowTracingConfig config =
+                platformContext.getConfiguration().getConfigData(EventFlowTracingConfig.class);
+        this.sampleRate = config.sampleRate();
+        this.dumpDirectory = Path.of(config.dumpDirectory());
+
+        final int capacity = Integer.highestOneBit(Math.max(1, config.bufferSize()) * 2 - 1);
+        this.mask = capacity - 1;
+        this.stages = new byte[capacity];
+        this.creators = new long[capacity];
+        this.generations = new long[capacity];
+        this.timestamps = new long[capacity];
+
+        this.maxAwaitingHandle = capacity;
+        this.awaitingHandle = new ArrayDeque<>();
+
+        for (final EventFlowStage stage : EventFlowStage.values()) {
+            if (stage.hasMetric()) {
+                latencies[stage.ordinal()] = platformContext
+                        .getMetrics()
+                        .getOrCreate(new HistogramMetric.Config(PLATFORM_CATEGORY, stage.getMetricName())
+                                .withUnit("ns")
+                                .withDescription("latency of sampled events up to the " + stage + " stage"));
+            }
+        }
+
+        this.dumpPeriod = isPositive(config.dumpPeriod()) ? config.dumpPeriod() : null;
+        this.dumpRequestsEnabled = isPositive(config.dumpRequestCheckPeriod());
+        this.nextDump = dumpPeriod == null ? null : time.now().plus(dumpPeriod);
+
+        if (dumpPeriod == null && !dumpRequestsEnabled) {
+            dumpThread = null;
+        } else {
+            final Duration checkPeriod;
+            if (dumpPeriod == null) {
+                checkPeriod = config.dumpRequestCheckPeriod();
+            } else if (dumpRequestsEnabled && config.dumpRequestCheckPeriod().compareTo(dumpPeriod) < 0) {
+                checkPeriod = config.dumpRequestCheckPeriod();
+            } else {
+                checkPeriod = dumpPeriod;
+            }
+            dumpThread = new StoppableThreadConfiguration<>(threadManager)
+                    .setNodeId(selfId)
+                    .setComponent(PLATFORM_THREAD_POOL_NAME)
+                    .setThreadName("event-trace-dump")
+                    .setMinimumPeriod(checkPeriod)
+                    .setWork(this::dumpIfDue)
+                    .build();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start() {
+        if (dumpThread != null) {
+            dumpThread.start();
+        }
+    }
+
+    /**
+     * Check if an event with a given generation is sampled.
+     *
+     * @param generation the generation of the event
+     * @return true if the event is traced
+     */
+    public boolean isSampled(final long generation) {
+        return generation % sampleRate == 0;
+    }
+
+    /**
+     * Called by the transaction pool when it hands transactions to the event creator. The transactions end up in the
+     * next self event.
+     *
+     * @param longestWaitNanos the time the oldest of the transactions spent in the pool, in nanoseconds
+     */
+    public void transactionsTaken(final long longestWaitNanos) {
+        oldestTransactionSubmitted = toEpochNanos(time.now()) - longestWaitNanos;
+    }
+
+    /**
+     * Called by the event creator after it created a self event. If the event is sampled and carries transactions,
+     * the submission of its oldest transaction and the creation of the event are stamped.
+     *
+     * @param event the event that was created
+     */
+    public void selfEventCreated(@NonNull final GossipEvent event) {
+        final long submitted = oldestTransactionSubmitted;
+        oldestTransactionSubmitted = NO_TRANSACTIONS;
+        if (submitted == NO_TRANSACTIONS || !isSampled(event.getGeneration())) {
+            return;
+        }
+        stamp(EventFlowStage.TRANSACTION_SUBMITTED, selfId.id(), event.getGeneration(), submitted, 0);
+        stampNow(EventFlowStage.SELF_EVENT_CREATED, selfId.id(), event.getGeneration(), submitted);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void receivedEvent(@NonNull final GossipEvent event) {
+        if (!isSampled(event.getGeneration())) {
+            return;
+        }
+        final long creator = event.getHashedData().getCreatorId().id();
+        final long created = toEpochNanos(event.getHashedData().getTimeCreated());
+        final long received = toEpochNanos(event.getTimeReceived());
+        if (!selfId.equals(event.getHashedData().getCreatorId())) {
+            stamp(EventFlowStage.CREATED, creator, event.getGeneration(), created, received - created);
+        }
+        stamp(EventFlowStage.RECEIVED, creator, event.getGeneration(), received, 0);
+        stampNow(EventFlowStage.VALIDATED, creator, event.getGeneration(), received);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void preConsensusEvent(@NonNull final EventImpl event) {
+        stampNow(EventFlowStage.PRE_CONSENSUS, event);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void eventAdded(@NonNull final EventImpl event) {
+        stampNow(EventFlowStage.ADDED, event);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void consensusRound(@NonNull final ConsensusRound consensusRound) {
+        for (final EventImpl event : consensusRound.getConsensusEvents()) {
+            if (!isSampled(event.getGeneration())) {
+                continue;
+            }
+            stampNow(EventFlowStage.CONSENSUS, event);
+            synchronized (awaitingHandle) {
+                if (awaitingHandle.size() < maxAwaitingHandle) {
+                    awaitingHandle.addLast(event);
+                }
+            }
+        }
+    }
+
+    /**
+     * Called after a round has been applied to the state. Stamps all sampled events that reached consensus in this
+     * round or an earlier round.
+     *
+     * @param round the round that was applied to the state
+     */
+    public void roundHandled(final long round) {
+        synchronized (awaitingHandle) {
+            while (!awaitingHandle.isEmpty() && awaitingHandle.peekFirst().getRoundReceived() <= round) {
+                stampNow(EventFlowStage.HANDLED, awaitingHandle.pollFirst());
+            }
+        }
+    }
+
+    /**
+     * Forget events waiting to be handled, since their rounds will never be applied after the pipeline is cleared.
+     */
+    @Override
+    public void clear() {
+        synchronized (awaitingHandle) {
+            awaitingHandle.clear();
+        }
+    }
+
+    /**
+     * Stamp the current time for a sampled event.
+     */
+    private void stampNow(@NonNull final EventFlowStage stage, @NonNull final EventImpl event) {
+        if (!isSampled(event.getGeneration())) {
+            return;
+        }
+        stampNow(
+                stage,
+                event.getCreatorId().id(),
+                event.getGeneration(),
+                toEpochNanos(event.getBaseEvent().getTimeReceived()));
+    }
+
+    /**
+     * Stamp the current time, recording the latency since the given start time.
+     */
+    private void stampNow(
+            @NonNull final EventFlowStage stage, final long creator, final long generation, final long start) {
+        final long now = toEpochNanos(time.now());
+        stamp(stage, creator, generation, now, now - start);
+    }
+
+    /**
+     * Write an entry into the ring buffer and record its latency.
+     */
+    private void stamp(
+            @NonNull final EventFlowStage stage,
+            final long creator,
+            final long generation,
+            final long timestamp,
+            final long latency) {
+        final int slot = (int) (cursor.getAndIncrement() & mask);
+        stages[slot] = (byte) stage.ordinal();
+        creators[slot] = creator;
+        generations[slot] = generation;
+        timestamps[slot] = timestamp;
+
+        final HistogramMetric histogram = latencies[stage.ordinal()];
+        if (histogram != null) {
+            histogram.update(latency);
+        }
+    }
+
+    private static long toEpochNanos(@NonNull final Instant instant) {
+        return instant.getEpochSecond() * NANOS_PER_SECOND + instant.getNano();
+    }
+
+    private static boolean isPositive(@NonNull final Duration duration) {
+        return !duration.isZero() && !duration.isNegative();
+    }
+
+    /**
+     * Write the trace buffer if a dump was requested with a {@link #DUMP_REQUEST_FILE_NAME} file or if an automatic
+     * dump is due. Called periodically by the dump thread.
+     */
+    public void dumpIfDue() {
+        boolean due = false;
+        if (dumpRequestsEnabled) {
+            final Path request = dumpDirectory.resolve(DUMP_REQUEST_FILE_NAME);
+            try {
+                due = Files.deleteIfExists(request);
+            } catch (final IOException e) {
+                logger.error(EXCEPTION.getMarker(), "unable to delete event trace dump request {}", request, e);
+            }
+        }
+        if (nextDump != null) {
+            final Instant now = time.now();
+            if (!now.isBefore(nextDump)) {
+                due = true;
+                nextDump = now.plus(dumpPeriod);
+            }
+        }
+        if (due) {
+            dump();
+        }
+    }
+
+    /**
+     * Write the trace buffer to a new file in the dump directory. Errors are logged, not thrown.
+     */
+    public void dump() {
+        try {
+            Files.createDirectories(dumpDirectory);
+            final Path file =
+                    dumpDirectory.resolve("eventTrace_node" + selfId + "_" + time.now().toEpochMilli() + ".json");
+            try (final BufferedWriter writer = Files.newBufferedWriter(file)) {
+                writeJson(writer);
+            }
+        } catch (final IOException e) {
+            logger.error(EXCEPTION.getMarker(), "unable to write event trace to {}", dumpDirectory, e);
+        }
+    }
+
+    /**
+     * Write the entries in the trace buffer as JSON, oldest first.
+     *
+     * @param writer the writer to write to
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeJson(@NonNull final Writer writer) throws IOException {
+        final long end = cursor.get();
+        final long start = Math.max(0, end - stages.length);
+
+        writer.write("{\"nodeId\":");
+        writer.write(Long.toString(selfId.id()));
+        writer.write(",\"sampleRate\":");
+        writer.write(Integer.toString(sampleRate));
+        writer.write(",\"entries\":[");
+        for (long index = start; index < end; index++) {
+            final int slot = (int) (index & mask);
+            if (index > start) {
+                writer.write(',');
+            }
+            writer.write("{\"stage\":\"");
+            writer.write(EventFlowStage.fromOrdinal(stages[slot]).name());
+            writer.write("\",\"creator\":");
+            writer.write(Long.toString(creators[slot]));
+            writer.write(",\"generation\":");
+            writer.write(Long.toString(generations[slot]));
+            writer.write(",\"timestampNanos\":");
+            writer.write(Long.toString(timestamps[slot]));
+            writer.write('}');
+        }
+        writer.write("]}");
+        writer.flush();
+    }
+}
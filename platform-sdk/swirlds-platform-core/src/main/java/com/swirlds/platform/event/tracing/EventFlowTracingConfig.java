@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.event.tracing;
+
+import com.swirlds.config.api.ConfigData;
+import com.swirlds.config.api.ConfigProperty;
+import com.swirlds.config.api.validation.annotation.Min;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Duration;
+
+/**
+ * Configuration for event flow tracing.
+ *
+ * @param enabled                if true, sampled events are traced through the platform pipeline. If false, the tracer
+ *                               is not wired into the pipeline at all.
+ * @param sampleRate             an event is traced if its generation is a multiple of this value. Every node samples
+ *                               the same events, so traces from different nodes can be joined. A value of 1 traces
+ *                               every event.
+ * @param bufferSize             the number of trace entries kept in memory, rounded up to a power of two. When the
+ *                               buffer is full the oldest entries are overwritten.
+ * @param dumpPeriod             if positive, the trace buffer is written to a JSON file at this interval. If zero,
+ *                               traces are only written on demand.
+ * @param dumpDirectory          the directory where trace files are written
+ * @param dumpRequestCheckPeriod if positive, the dump directory is checked at this interval for a file named
+ *                               {@value EventFlowTracer#DUMP_REQUEST_FILE_NAME}. If it exists, the file is deleted
+ *                               and the trace buffer is written, so a trace can be requested on demand by creating the
+ *                               file. If zero, the file is ignored.
+ */
+@ConfigData("event.tracing")
+public record EventFlowTracingConfig(
+        @ConfigProperty(defaultValue = "false") boolean enabled,
+        @Min(1) @ConfigProperty(defaultValue = "16") int sampleRate,
+        @Min(1) @ConfigProperty(defaultValue = "65536") int bufferSize,
+        @ConfigProperty(defaultValue = "0") @NonNull Duration dumpPeriod,
+        @ConfigProperty(defaultValue = "data/eventTraces") @NonNull String dumpDirectory,
+        @ConfigProperty(defaultValue = "1s") @NonNull Duration dumpRequestCheckPeriod) {}
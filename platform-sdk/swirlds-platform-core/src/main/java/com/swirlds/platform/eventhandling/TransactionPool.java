@@ -16,40 +16,73 @@
 
 package com.swirlds.platform.eventhandling;
 
+import com.swirlds.base.time.Time;
 import com.swirlds.common.config.TransactionConfig;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.system.transaction.ConsensusTransaction;
 import com.swirlds.common.system.transaction.internal.ConsensusTransactionImpl;
 import com.swirlds.common.system.transaction.internal.StateSignatureTransaction;
+import com.swirlds.common.utility.BatchPrefix;
 import com.swirlds.platform.components.transaction.TransactionSupplier;
+import com.swirlds.platform.event.tracing.EventFlowTracer;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Store a list of transactions created by self, both system and non-system, for wrapping in the next event to be
  * created.
+ * <p>
+ * Many threads may submit transactions concurrently, but only one thread at a time drains them (the event creator, or
+ * a thread clearing the pool). Submitting is lock-free, so threads submitting transactions never wait for the event
+ * creator, and never wait for each other. Draining and clearing are serialized with a lock that submitters never take.
  */
 public class TransactionPool implements TransactionSupplier {
 
+    /**
+     * A transaction waiting to be put into a self-event, and the time it was submitted.
+     *
+     * @param transaction the transaction
+     * @param submitTime  the time the transaction was submitted, in nanoseconds
+     */
+    private record PendingTransaction(@NonNull ConsensusTransactionImpl transaction, long submitTime) {}
+
     /**
      * A list of transactions created by this node waiting to be put into a self-event.
      */
-    private final Queue<ConsensusTransactionImpl> bufferedTransactions = new LinkedList<>();
+    private final Queue<PendingTransaction> bufferedTransactions = new ConcurrentLinkedQueue<>();
 
     /**
      * A list of high-priority transactions created by this node waiting to be put into a self-event. Transactions in
      * this queue are always inserted into an event before transactions waiting in {@link #bufferedTransactions}.
      */
-    private final Queue<ConsensusTransactionImpl> priorityBufferedTransactions = new LinkedList<>();
+    private final Queue<PendingTransaction> priorityBufferedTransactions = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The number of transactions in {@link #bufferedTransactions}, tracked separately because the size of a
+     * {@link ConcurrentLinkedQueue} is expensive to compute.
+     */
+    private final AtomicInteger bufferedTransactionCount = new AtomicInteger();
+
+    /**
+     * The number of transactions in {@link #priorityBufferedTransactions}.
+     */
+    private final AtomicInteger priorityBufferedTransactionCount = new AtomicInteger();
 
     /**
      * The number of buffered signature transactions waiting to be put into events.
      */
-    private int bufferedSignatureTransactionCount = 0;
+    private final AtomicInteger bufferedSignatureTransactionCount = new AtomicInteger();
+
+    /**
+     * Held while transactions are removed from the queues, so that there is only ever a single consumer.
+     */
+    private final Object consumerLock = new Object();
 
     /**
      * The maximum number of bytes of transactions that can be put in an event.
@@ -67,13 +100,31 @@ public class TransactionPool implements TransactionSupplier {
      */
     private final TransactionPoolMetrics transactionPoolMetrics;
 
+    private final Time time;
+
+    /**
+     * Informed when transactions are taken for a new event, or null if event flow tracing is disabled.
+     */
+    private volatile EventFlowTracer eventFlowTracer;
+
     /**
      * Creates a new transaction pool for transactions waiting to be put in an event.
      *
      * @param platformContext the platform context
      */
     public TransactionPool(@NonNull final PlatformContext platformContext) {
+        this(platformContext, Time.getCurrent());
+    }
+
+    /**
+     * Creates a new transaction pool for transactions waiting to be put in an event.
+     *
+     * @param platformContext the platform context
+     * @param time            provides the time used to measure how long transactions wait in the pool
+     */
+    public TransactionPool(@NonNull final PlatformContext platformContext, @NonNull final Time time) {
         Objects.requireNonNull(platformContext);
+        this.time = Objects.requireNonNull(time);
 
         final TransactionConfig transactionConfig =
                 platformContext.getConfiguration().getConfigData(TransactionConfig.class);
@@ -84,24 +135,39 @@ public class TransactionPool implements TransactionSupplier {
                 platformContext, this::getBufferedTransactionCount, this::getPriorityBufferedTransactionCount);
     }
 
+    /**
+     * Set the tracer that is informed how long the transactions taken for each new event waited in the pool.
+     *
+     * @param eventFlowTracer the tracer, or null to disable tracing
+     */
+    public void setEventFlowTracer(@Nullable final EventFlowTracer eventFlowTracer) {
+        this.eventFlowTracer = eventFlowTracer;
+    }
+
     /**
      * Get the next transaction that should be inserted into an event, or null if there is no available transaction.
+     * Must be called while holding {@link #consumerLock}, so that the transaction at the head of a queue can not be
+     * removed between peeking at it and polling it.
      *
      * @param currentEventSize the current size in bytes of the event being constructed
      * @return the next transaction, or null if no transaction is available
      */
     @Nullable
-    @SuppressWarnings("ConstantConditions")
-    private ConsensusTransactionImpl getNextTransaction(final int currentEventSize) {
+    private PendingTransaction getNextTransaction(final int currentEventSize) {
         final int maxSize = maxTransactionBytesPerEvent - currentEventSize;
 
-        if (!priorityBufferedTransactions.isEmpty()
-                && priorityBufferedTransactions.peek().getSerializedLength() <= maxSize) {
-            return priorityBufferedTransactions.poll();
+        final PendingTransaction priority = priorityBufferedTransactions.peek();
+        if (priority != null && priority.transaction().getSerializedLength() <= maxSize) {
+            priorityBufferedTransactions.poll();
+            priorityBufferedTransactionCount.decrementAndGet();
+            return priority;
         }
 
-        if (!bufferedTransactions.isEmpty() && bufferedTransactions.peek().getSerializedLength() <= maxSize) {
-            return bufferedTransactions.poll();
+        final PendingTransaction regular = bufferedTransactions.peek();
+        if (regular != null && regular.transaction().getSerializedLength() <= maxSize) {
+            bufferedTransactions.poll();
+            bufferedTransactionCount.decrementAndGet();
+            return regular;
         }
 
         return null;
@@ -114,29 +180,42 @@ public class TransactionPool implements TransactionSupplier {
      */
     @NonNull
     @Override
-    public synchronized ConsensusTransactionImpl[] getTransactions() {
+    public ConsensusTransactionImpl[] getTransactions() {
         // Early return due to no transactions waiting
         if (bufferedTransactions.isEmpty() && priorityBufferedTransactions.isEmpty()) {
             return new ConsensusTransactionImpl[0];
         }
 
-        final List<ConsensusTransactionImpl> selectedTrans = new LinkedList<>();
+        final List<ConsensusTransactionImpl> selectedTrans = new ArrayList<>();
         int currEventSize = 0;
-
-        while (true) {
-            final ConsensusTransactionImpl transaction = getNextTransaction(currEventSize);
-
-            if (transaction == null) {
-                // No transaction of suitable size is available
-                break;
+        long longestWait = 0;
+
+        synchronized (consumerLock) {
+            final long now = time.nanoTime();
+            while (true) {
+                final PendingTransaction pending = getNextTransaction(currEventSize);
+
+                if (pending == null) {
+                    // No transaction of suitable size is available
+                    break;
+                }
+
+                final ConsensusTransactionImpl transaction = pending.transaction();
+                currEventSize += transaction.getSerializedLength();
+                selectedTrans.add(transaction);
+                final long wait = now - pending.submitTime();
+                transactionPoolMetrics.recordTimeInPool(wait);
+                longestWait = Math.max(longestWait, wait);
+
+                if (transaction.isSystem() && isSignatureTransaction(transaction)) {
+                    bufferedSignatureTransactionCount.decrementAndGet();
+                }
             }
+        }
 
-            currEventSize += transaction.getSerializedLength();
-            selectedTrans.add(transaction);
-
-            if (transaction.isSystem() && isSignatureTransaction(transaction)) {
-                bufferedSignatureTransactionCount--;
-            }
+        final EventFlowTracer tracer = eventFlowTracer;
+        if (tracer != null && !selectedTrans.isEmpty()) {
+            tracer.transactionsTaken(longestWait);
         }
 
         return selectedTrans.toArray(new ConsensusTransactionImpl[0]);
@@ -158,13 +237,16 @@ public class TransactionPool implements TransactionSupplier {
      *
      * @return true if there are any buffered signature transactions
      */
-    public synchronized boolean hasBufferedSignatureTransactions() {
-        return bufferedSignatureTransactionCount > 0;
+    public boolean hasBufferedSignatureTransactions() {
+        return bufferedSignatureTransactionCount.get() > 0;
     }
 
     /**
      * Add the given transaction to the list of transactions to be submitted to the network. If the queue is full, it
      * does nothing and returns false immediately.
+     * <p>
+     * The queue size limit is checked without locking, so when many threads submit at the same time the queue may
+     * briefly exceed the limit by up to the number of submitting threads.
      *
      * @param transaction The transaction. It must have been created by self.
      * @param priority    if true, then this transaction will be submitted before other waiting transactions that are
@@ -173,45 +255,85 @@ public class TransactionPool implements TransactionSupplier {
      *                    functionalities.
      * @return true if successful
      */
-    @SuppressWarnings("ConstantConditions")
-    public synchronized boolean submitTransaction(
-            @NonNull final ConsensusTransactionImpl transaction, final boolean priority) {
+    public boolean submitTransaction(@NonNull final ConsensusTransactionImpl transaction, final boolean priority) {
 
         Objects.requireNonNull(transaction);
 
         // Always submit system transactions. If it's not a system transaction, then only submit it if we
         // don't violate queue size capacity restrictions.
         if (!transaction.isSystem()
-                && (bufferedTransactions.size() + priorityBufferedTransactions.size()) > throttleTransactionQueueSize) {
+                && (bufferedTransactionCount.get() + priorityBufferedTransactionCount.get())
+                        > throttleTransactionQueueSize) {
             transactionPoolMetrics.recordRejectedAppTransaction();
             return false;
         }
 
         if (transaction.isSystem()) {
             if (isSignatureTransaction(transaction)) {
-                bufferedSignatureTransactionCount++;
+                bufferedSignatureTransactionCount.incrementAndGet();
             }
             transactionPoolMetrics.recordSubmittedPlatformTransaction();
         } else {
             transactionPoolMetrics.recordAcceptedAppTransaction();
         }
 
+        final PendingTransaction pending = new PendingTransaction(transaction, time.nanoTime());
         if (priority) {
-            priorityBufferedTransactions.add(transaction);
+            priorityBufferedTransactionCount.incrementAndGet();
+            priorityBufferedTransactions.add(pending);
         } else {
-            bufferedTransactions.add(transaction);
+            bufferedTransactionCount.incrementAndGet();
+            bufferedTransactions.add(pending);
         }
 
         return true;
     }
 
+    /**
+     * Add a batch of application transactions to the list of transactions to be submitted to the network. Room for the
+     * batch is reserved at once, so the queue size limit is respected exactly no matter how many threads submit.
+     * Transactions are accepted in order: if the queue does not have room for all of them, then the leading
+     * transactions that fit are accepted and the rest are rejected.
+     *
+     * @param transactions the transactions, they must have been created by self and must not be system transactions
+     * @return the number of leading transactions that were accepted
+     */
+    public int submitTransactions(@NonNull final List<? extends ConsensusTransactionImpl> transactions) {
+        Objects.requireNonNull(transactions);
+
+        // A single transaction is accepted if the queue is not larger than the limit before it is added, so the same
+        // number of transactions fit when submitting a batch.
+        int accepted;
+        while (true) {
+            final int buffered = bufferedTransactionCount.get();
+            final long room =
+                    (long) throttleTransactionQueueSize + 1 - buffered - priorityBufferedTransactionCount.get();
+            accepted = (int) Math.max(0, Math.min(room, transactions.size()));
+            if (accepted == 0 || bufferedTransactionCount.compareAndSet(buffered, buffered + accepted)) {
+                break;
+            }
+        }
+
+        final long submitTime = time.nanoTime();
+        BatchPrefix.forEachOutcome(
+                transactions.size(),
+                accepted,
+                i -> {
+                    transactionPoolMetrics.recordAcceptedAppTransaction();
+                    bufferedTransactions.add(new PendingTransaction(transactions.get(i), submitTime));
+                },
+                i -> transactionPoolMetrics.recordRejectedAppTransaction());
+
+        return accepted;
+    }
+
     /**
      * get the number of buffered transactions
      *
      * @return the number of transactions
      */
-    private synchronized int getBufferedTransactionCount() {
-        return bufferedTransactions.size();
+    private int getBufferedTransactionCount() {
+        return bufferedTransactionCount.get();
     }
 
     /**
@@ -219,16 +341,33 @@ public class TransactionPool implements TransactionSupplier {
      *
      * @return the number of transactions
      */
-    private synchronized int getPriorityBufferedTransactionCount() {
-        return priorityBufferedTransactions.size();
+    private int getPriorityBufferedTransactionCount() {
+        return priorityBufferedTransactionCount.get();
     }
 
     /**
-     * Clear all the transactions
+     * Clear all the transactions. Transactions submitted while the pool is being cleared may or may not be removed.
      */
-    public synchronized void clear() {
-        bufferedTransactions.clear();
-        priorityBufferedTransactions.clear();
-        bufferedSignatureTransactionCount = 0;
+    public void clear() {
+        synchronized (consumerLock) {
+            PendingTransaction pending;
+            while ((pending = priorityBufferedTransactions.poll()) != null) {
+                priorityBufferedTransactionCount.decrementAndGet();
+                forget(pending.transaction());
+            }
+            while ((pending = bufferedTransactions.poll()) != null) {
+                bufferedTransactionCount.decrementAndGet();
+                forget(pending.transaction());
+            }
+        }
+    }
+
+    /**
+     * Update the signature transaction count for a transaction that was removed without being put into an event.
+     */
+    private void forget(@NonNull final ConsensusTransactionImpl transaction) {
+        if (transaction.isSystem() && isSignatureTransaction(transaction)) {
+            bufferedSignatureTransactionCount.decrementAndGet();
+        }
     }
 }
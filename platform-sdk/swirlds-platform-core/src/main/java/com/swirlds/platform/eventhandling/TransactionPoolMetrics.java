@@ -19,7 +19,9 @@ package com.swirlds.platform.eventhandling;
 import static com.swirlds.common.metrics.Metrics.PLATFORM_CATEGORY;
 
 import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.metrics.Counter;
 import com.swirlds.common.metrics.FunctionGauge;
+import com.swirlds.common.metrics.HistogramMetric;
 import com.swirlds.common.metrics.Metrics;
 import com.swirlds.common.metrics.SpeedometerMetric;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -46,6 +48,18 @@ public class TransactionPoolMetrics {
                     "Cycled when a platform transaction is submitted (platform transactions are always accepted).");
     private final SpeedometerMetric submittedPlatformTransactions;
 
+    private static final Counter.Config REJECTED_APP_TRANSACTION_COUNT_CONFIG = new Counter.Config(
+                    PLATFORM_CATEGORY, "rejectedAppTransactionCount")
+            .withDescription("The total number of app transactions that were not accepted by the transaction pool.");
+    private final Counter rejectedAppTransactionCount;
+
+    private static final HistogramMetric.Config TIME_IN_POOL_CONFIG = new HistogramMetric.Config(
+                    PLATFORM_CATEGORY, "transactionPoolLatency")
+            .withDescription("The time between submitting a transaction to the transaction pool and putting it into "
+                    + "an event.")
+            .withUnit("ns");
+    private final HistogramMetric timeInPool;
+
     /**
      * Create metrics for the transaction pool.
      *
@@ -63,6 +77,8 @@ public class TransactionPoolMetrics {
         acceptedAppTransactions = metrics.getOrCreate(ACCEPTED_APP_TRANSACTIONS_CONFIG);
         rejectedAppTransactions = metrics.getOrCreate(REJECTED_APP_TRANSACTIONS_CONFIG);
         submittedPlatformTransactions = metrics.getOrCreate(SUBMITTED_PLATFORM_TRANSACTIONS_CONFIG);
+        rejectedAppTransactionCount = metrics.getOrCreate(REJECTED_APP_TRANSACTION_COUNT_CONFIG);
+        timeInPool = metrics.getOrCreate(TIME_IN_POOL_CONFIG);
 
         metrics.getOrCreate(new FunctionGauge.Config<>(
                         PLATFORM_CATEGORY, "bufferedTransactions", Integer.class, getBufferedTransactionCount)
@@ -89,6 +105,7 @@ public class TransactionPoolMetrics {
      */
     public void recordRejectedAppTransaction() {
         rejectedAppTransactions.cycle();
+        rejectedAppTransactionCount.increment();
     }
 
     /**
@@ -97,4 +114,13 @@ public class TransactionPoolMetrics {
     public void recordSubmittedPlatformTransaction() {
         submittedPlatformTransactions.cycle();
     }
+
+    /**
+     * Record how long a transaction waited in the pool before it was put into an event.
+     *
+     * @param nanos the time the transaction waited, in nanoseconds
+     */
+    public void recordTimeInPool(final long nanos) {
+        timeInPool.update(nanos);
+    }
 }
@@ -18,6 +18,8 @@ package com.swirlds.platform.gossip;
 
 import com.swirlds.config.api.ConfigData;
 import com.swirlds.config.api.ConfigProperty;
+import com.swirlds.config.api.validation.annotation.Max;
+import com.swirlds.config.api.validation.annotation.Min;
 
 /**
  * Configuration values that govern behavior of the protocols that execute between pairs of nodes.
@@ -26,8 +28,17 @@ import com.swirlds.config.api.ConfigProperty;
  *                                    connections to peers with different software versions will be severed.
  * @param tolerateMismatchedEpochHash If true, a node will tolerate peers with a different epoch hash. If false,
  *                                    connections to peers with different epoch hashes will be severed.
+ * @param compressEvents              If true, this node offers to compress events sent to its peers. Events are only
+ *                                    compressed on a connection if both nodes offer it.
+ * @param eventCompressionLevel       The deflate level used when compressing events, from 0 (no compression) to 9
+ *                                    (best compression). Low levels trade compression ratio for CPU time.
+ * @param minimumCompressionSize      Serialized events smaller than this many bytes are sent without compression,
+ *                                    since compressing them saves little bandwidth.
  */
 @ConfigData("protocol")
 public record ProtocolConfig(
         @ConfigProperty(defaultValue = "false") boolean tolerateMismatchedVersion,
-        @ConfigProperty(defaultValue = "false") boolean tolerateMismatchedEpochHash) {}
+        @ConfigProperty(defaultValue = "false") boolean tolerateMismatchedEpochHash,
+        @ConfigProperty(defaultValue = "false") boolean compressEvents,
+        @Min(0) @Max(9) @ConfigProperty(defaultValue = "1") int eventCompressionLevel,
+        @Min(0) @ConfigProperty(defaultValue = "1024") int minimumCompressionSize) {}
@@ -48,6 +48,7 @@ import com.swirlds.platform.PlatformConstructor;
 import com.swirlds.platform.components.CriticalQuorum;
 import com.swirlds.platform.components.CriticalQuorumImpl;
 import com.swirlds.platform.components.state.StateManagementComponent;
+import com.swirlds.platform.config.ThreadConfig;
 import com.swirlds.platform.event.GossipEvent;
 import com.swirlds.platform.event.linking.EventLinker;
 import com.swirlds.platform.event.validation.EventValidator;
@@ -64,6 +65,7 @@ import com.swirlds.platform.gossip.shadowgraph.ShadowGraphSynchronizer;
 import com.swirlds.platform.metrics.SyncMetrics;
 import com.swirlds.platform.network.communication.NegotiationProtocols;
 import com.swirlds.platform.network.communication.NegotiatorThread;
+import com.swirlds.platform.network.communication.handshake.EventCompressionHandshake;
 import com.swirlds.platform.network.communication.handshake.HashCompareHandshake;
 import com.swirlds.platform.network.communication.handshake.VersionCompareHandshake;
 import com.swirlds.platform.observers.EventObserverDispatcher;
@@ -194,11 +196,14 @@ public class ChatterGossip extends AbstractGossip {
 
         intakeCycle = new SequenceCycle<>(eventValidator::validateEvent);
 
-        final ParallelExecutor parallelExecutor = new CachedPoolParallelExecutor(threadManager, "chatter");
+        final ThreadConfig threadConfig = platformContext.getConfiguration().getConfigData(ThreadConfig.class);
+        final ParallelExecutor parallelExecutor =
+                new CachedPoolParallelExecutor(threadManager, "chatter", threadConfig.gossipThreadStackSize());
         parallelExecutor.start();
         for (final NodeId otherId : topology.getNeighbors()) {
             final PeerInstance chatterPeer = chatterCore.getPeerInstance(otherId);
-            final ParallelExecutor shadowgraphExecutor = PlatformConstructor.parallelExecutor(threadManager);
+            final ParallelExecutor shadowgraphExecutor =
+                    PlatformConstructor.parallelExecutor(threadManager, threadConfig.gossipThreadStackSize());
             shadowgraphExecutor.start();
             final ShadowGraphSynchronizer chatterSynchronizer = new ShadowGraphSynchronizer(
                     platformContext,
@@ -224,6 +229,7 @@ public class ChatterGossip extends AbstractGossip {
                     .setComponent(PLATFORM_THREAD_POOL_NAME)
                     .setOtherNodeId(otherId)
                     .setThreadName("ChatterReader")
+                    .setStackSize(threadConfig.gossipThreadStackSize())
                     .setHangingThreadPeriod(basicConfig.hangingThreadDuration())
                     .setWork(new NegotiatorThread(
                             connectionManagers.getManager(otherId, topology.shouldConnectTo(otherId)),
@@ -234,7 +240,8 @@ public class ChatterGossip extends AbstractGossip {
                                     new VersionCompareHandshake(
                                             PlatformVersion.locateOrDefault(),
                                             !protocolConfig.tolerateMismatchedVersion()),
-                                    new HashCompareHandshake(epochHash, !protocolConfig.tolerateMismatchedEpochHash())),
+                                    new HashCompareHandshake(epochHash, !protocolConfig.tolerateMismatchedEpochHash()),
+                                    new EventCompressionHandshake(protocolConfig, networkMetrics)),
                             new NegotiationProtocols(List.of(
                                     new EmergencyReconnectProtocol(
                                             threadManager,
@@ -20,6 +20,7 @@ import com.swirlds.common.io.SelfSerializable;
 import com.swirlds.common.threading.pool.ParallelExecutionException;
 import com.swirlds.common.threading.pool.ParallelExecutor;
 import com.swirlds.platform.Utilities;
+import com.swirlds.platform.event.GossipEvent;
 import com.swirlds.platform.gossip.chatter.protocol.MessageProvider;
 import com.swirlds.platform.gossip.chatter.protocol.PeerMessageHandler;
 import com.swirlds.platform.gossip.chatter.protocol.peer.CommunicationState;
@@ -89,6 +90,14 @@ public class ChatterProtocol implements Protocol {
                     final SelfSerializable message = connection.getDis().readSerializable();
                     messageHandler.handleMessage(message);
                 }
+                case Constants.COMPRESSED_PAYLOAD -> {
+                    final SelfSerializable message = connection.getDis().readCompressedSerializable();
+                    messageHandler.handleMessage(message);
+                }
+                case Constants.COMPRESSED_EVENT -> {
+                    final GossipEvent event = connection.getDis().readEventData();
+                    messageHandler.handleMessage(event);
+                }
                 case Constants.END -> {
                     communicationState.receivedEnd();
                     return;
@@ -110,8 +119,17 @@ public class ChatterProtocol implements Protocol {
                 connection.getDos().writeByte(Constants.KEEPALIVE);
                 continue;
             }
-            connection.getDos().writeByte(Constants.PAYLOAD);
-            connection.getDos().writeSerializable(message, true);
+            if (connection.getDos().isEventCompressionEnabled() && message instanceof final GossipEvent event) {
+                // the compressed frame is cached by the event, so it is compressed once for all peers
+                connection.getDos().writeByte(Constants.COMPRESSED_EVENT);
+                connection.getDos().writeCompressedEventData(event);
+            } else if (connection.getDos().isEventCompressionEnabled()) {
+                connection.getDos().writeByte(Constants.COMPRESSED_PAYLOAD);
+                connection.getDos().writeCompressedSerializable(message, true);
+            } else {
+                connection.getDos().writeByte(Constants.PAYLOAD);
+                connection.getDos().writeSerializable(message, true);
+            }
         }
 
         connection.getDos().writeByte(Constants.END);
@@ -26,6 +26,12 @@ public class Constants {
     public static final byte PAYLOAD = 2;
     /** sent to indicate that a chatter session is ending */
     public static final byte END = 3;
+    /** sent to indicate that a compressed payload follows, only used if event compression was negotiated */
+    public static final byte COMPRESSED_PAYLOAD = 4;
+    /**
+     * sent to indicate that an event with a compressed frame follows, only used if event compression was negotiated
+     */
+    public static final byte COMPRESSED_EVENT = 5;
 
     /** the amount of time to sleep if there is no payload to send */
     public static final int NO_PAYLOAD_SLEEP_MS = 10;
@@ -106,6 +106,10 @@ public class ShadowGraphSynchronizer {
      * executed before fetching the tips from the shadowgraph for the second time in phase 3
      */
     private final InterruptableRunnable executePreFetchTips;
+    /**
+     * if true, write events from their cached serialized form
+     */
+    private final boolean cacheSerializedEvents;
 
     public ShadowGraphSynchronizer(
             @NonNull final PlatformContext platformContext,
@@ -132,12 +136,17 @@ public class ShadowGraphSynchronizer {
         this.executor = executor;
         this.sendRecInitBytes = sendRecInitBytes;
         this.executePreFetchTips = executePreFetchTips;
+        this.cacheSerializedEvents = platformContext
+                .getConfiguration()
+                .getConfigData(SyncConfig.class)
+                .cacheSerializedEvents();
         this.eventHandler = buildEventHandler(platformContext, intakeQueue);
     }
 
     /**
      * Construct the event handler for new events. If configured to do so, this handler will also hash events before
-     * passing them down the pipeline.
+     * passing them down the pipeline, and discard events that are already known without passing them down the
+     * pipeline.
      *
      * @param platformContext the platform context
      * @param intakeQueue     the event intake queue
@@ -145,10 +154,9 @@ public class ShadowGraphSynchronizer {
     private Consumer<GossipEvent> buildEventHandler(
             @NonNull final PlatformContext platformContext, @NonNull final QueueThread<GossipEvent> intakeQueue) {
 
-        final boolean hashOnGossipThreads = platformContext
-                .getConfiguration()
-                .getConfigData(SyncConfig.class)
-                .hashOnGossipThreads();
+        final SyncConfig syncConfig = platformContext.getConfiguration().getConfigData(SyncConfig.class);
+        final boolean hashOnGossipThreads = syncConfig.hashOnGossipThreads();
+        final boolean discardKnownEvents = syncConfig.discardKnownEvents();
 
         final Consumer<GossipEvent> wrappedPut = event -> {
             try {
@@ -167,6 +175,13 @@ public class ShadowGraphSynchronizer {
                 cryptography.digestSync(event.getHashedData());
                 event.buildDescriptor();
 
+                if (discardKnownEvents && shadowGraph.isHashInGraph(event.getHashedData().getHash())) {
+                    // This event is already in the hashgraph, intake would discard it as a duplicate anyway.
+                    syncMetrics.knownEventDiscarded();
+                    intakeEventCounter.eventExitedIntakePipeline(event.getSenderId());
+                    return;
+                }
+
                 wrappedPut.accept(event);
             };
         } else {
@@ -374,7 +389,7 @@ public class ShadowGraphSynchronizer {
         final AtomicBoolean writeAborted = new AtomicBoolean(false);
         final Integer eventsRead = readWriteParallel(
                 SyncComms.phase3Read(conn, eventHandler, syncMetrics, eventReadingDone, intakeEventCounter),
-                SyncComms.phase3Write(conn, sendList, eventReadingDone, writeAborted),
+                SyncComms.phase3Write(conn, sendList, eventReadingDone, writeAborted, cacheSerializedEvents),
                 conn);
         if (eventsRead < 0 || writeAborted.get()) {
             // sync was aborted
@@ -176,13 +176,15 @@ public final class SyncComms {
      * @param events           the events to write
      * @param eventReadingDone used to know when the writing thread is done
      * @param writeAborted     set to true if writing is aborted
+     * @param useCachedData    if true, write each event from its cached serialized form instead of serializing it
      * @return A {@link Callable} that executes this part of the sync
      */
     public static Callable<Void> phase3Write(
             final Connection conn,
             final List<EventImpl> events,
             final CountDownLatch eventReadingDone,
-            final AtomicBoolean writeAborted) {
+            final AtomicBoolean writeAborted,
+            final boolean useCachedData) {
         return () -> {
             logger.info(
                     SYNC_INFO.getMarker(),
@@ -199,7 +201,11 @@ public final class SyncComms {
                     break;
                 }
                 conn.getDos().writeByte(ByteConstants.COMM_EVENT_NEXT);
-                conn.getDos().writeEventData(event);
+                if (useCachedData) {
+                    conn.getDos().writeCachedEventData(event);
+                } else {
+                    conn.getDos().writeEventData(event);
+                }
             }
             if (!writeAborted.get()) {
                 conn.getDos().writeByte(ByteConstants.COMM_EVENT_DONE);
@@ -46,6 +46,7 @@ import com.swirlds.platform.PlatformConstructor;
 import com.swirlds.platform.components.CriticalQuorum;
 import com.swirlds.platform.components.CriticalQuorumImpl;
 import com.swirlds.platform.components.state.StateManagementComponent;
+import com.swirlds.platform.config.ThreadConfig;
 import com.swirlds.platform.event.GossipEvent;
 import com.swirlds.platform.event.linking.EventLinker;
 import com.swirlds.platform.gossip.AbstractGossip;
@@ -62,6 +63,7 @@ import com.swirlds.platform.heartbeats.HeartbeatProtocol;
 import com.swirlds.platform.metrics.SyncMetrics;
 import com.swirlds.platform.network.communication.NegotiationProtocols;
 import com.swirlds.platform.network.communication.NegotiatorThread;
+import com.swirlds.platform.network.communication.handshake.EventCompressionHandshake;
 import com.swirlds.platform.network.communication.handshake.HashCompareHandshake;
 import com.swirlds.platform.network.communication.handshake.VersionCompareHandshake;
 import com.swirlds.platform.observers.EventObserverDispatcher;
@@ -182,7 +184,10 @@ public class SyncGossip extends AbstractGossip {
 
         syncConfig = platformContext.getConfiguration().getConfigData(SyncConfig.class);
 
-        final ParallelExecutor shadowgraphExecutor = PlatformConstructor.parallelExecutor(threadManager);
+        final ThreadConfig threadConfig = platformContext.getConfiguration().getConfigData(ThreadConfig.class);
+
+        final ParallelExecutor shadowgraphExecutor =
+                PlatformConstructor.parallelExecutor(threadManager, threadConfig.gossipThreadStackSize());
         thingsToStart.add(shadowgraphExecutor);
         syncShadowgraphSynchronizer = new ShadowGraphSynchronizer(
                 platformContext,
@@ -234,6 +239,7 @@ public class SyncGossip extends AbstractGossip {
                     .setComponent(PLATFORM_THREAD_POOL_NAME)
                     .setOtherNodeId(otherId)
                     .setThreadName("SyncProtocolWith" + otherId)
+                    .setStackSize(threadConfig.gossipThreadStackSize())
                     .setHangingThreadPeriod(hangingThreadDuration)
                     .setWork(new NegotiatorThread(
                             connectionManagers.getManager(otherId, topology.shouldConnectTo(otherId)),
@@ -244,7 +250,8 @@ public class SyncGossip extends AbstractGossip {
                                     new VersionCompareHandshake(
                                             PlatformVersion.locateOrDefault(),
                                             !protocolConfig.tolerateMismatchedVersion()),
-                                    new HashCompareHandshake(epochHash, !protocolConfig.tolerateMismatchedEpochHash())),
+                                    new HashCompareHandshake(epochHash, !protocolConfig.tolerateMismatchedEpochHash()),
+                                    new EventCompressionHandshake(protocolConfig, networkMetrics)),
                             new NegotiationProtocols(List.of(
                                     new HeartbeatProtocol(
                                             otherId,
@@ -20,17 +20,24 @@ import static com.swirlds.common.io.extendable.ExtendableInputStream.extendInput
 
 import com.swirlds.common.crypto.DigestType;
 import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.io.SelfSerializable;
 import com.swirlds.common.io.extendable.extensions.CountingStreamExtension;
 import com.swirlds.common.io.extendable.extensions.HashingStreamExtension;
 import com.swirlds.common.io.streams.SerializableDataInputStream;
+import com.swirlds.common.system.events.BaseEventHashedData;
+import com.swirlds.common.system.events.BaseEventUnhashedData;
 import com.swirlds.platform.event.GossipEvent;
 import com.swirlds.platform.gossip.SyncException;
 import com.swirlds.platform.gossip.shadowgraph.Generations;
 import com.swirlds.platform.network.ByteConstants;
+import com.swirlds.platform.network.EventDecompressor;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
+import java.util.function.Supplier;
 
 public class SyncInputStream extends SerializableDataInputStream {
 
@@ -39,6 +46,8 @@ public class SyncInputStream extends SerializableDataInputStream {
 
     private final CountingStreamExtension syncByteCounter;
     private final HashingStreamExtension hasher;
+    /** if not null, event data read from this stream is compressed, set when compression is negotiated */
+    private volatile EventDecompressor eventDecompressor;
 
     private SyncInputStream(InputStream in, CountingStreamExtension syncByteCounter, HashingStreamExtension hasher) {
         super(in);
@@ -63,6 +72,35 @@ public class SyncInputStream extends SerializableDataInputStream {
         return hasher;
     }
 
+    /**
+     * Set the decompressor used for event data. Both sides of a connection must agree on whether events are compressed.
+     * The stream takes ownership of the decompressor, it is closed when it is replaced or when this stream is closed.
+     *
+     * @param eventDecompressor
+     * 		the decompressor to use, or null if events are not compressed
+     */
+    public void setEventDecompressor(@Nullable final EventDecompressor eventDecompressor) {
+        final EventDecompressor previous = this.eventDecompressor;
+        this.eventDecompressor = eventDecompressor;
+        if (previous != null && previous != eventDecompressor) {
+            previous.close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Also releases the event decompressor, if there is one.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            setEventDecompressor(null);
+        }
+    }
+
     /**
      * Reads a sync request response from the stream
      *
@@ -105,7 +143,73 @@ public class SyncInputStream extends SerializableDataInputStream {
         return readSerializableList(numberOfNodes * MAX_TIPS_PER_NODE, false, Hash::new);
     }
 
+    /**
+     * Read an event written by {@link SyncOutputStream#writeEventData}, {@link SyncOutputStream#writeCachedEventData}
+     * or {@link SyncOutputStream#writeCompressedEventData}.
+     *
+     * @return the event read
+     * @throws IOException
+     * 		if a stream exception occurs or the event is malformed
+     */
     public GossipEvent readEventData() throws IOException {
+        if (eventDecompressor != null) {
+            return readCompressedEventData();
+        }
         return readSerializable(false, GossipEvent::new);
     }
+
+    /**
+     * Read an event written by {@link SyncOutputStream#writeCompressedEventData(GossipEvent)}: the version, a
+     * compressed frame with the hashed and unhashed data, and the round created.
+     */
+    private GossipEvent readCompressedEventData() throws IOException {
+        final int version = readInt();
+        final SerializableDataInputStream data = decompressFrame();
+        final GossipEvent event = new GossipEvent(
+                data.readSerializable(false, BaseEventHashedData::new),
+                data.readSerializable(false, BaseEventUnhashedData::new));
+        validateVersion(event, version);
+        event.setRoundCreated(readLong());
+        return event;
+    }
+
+    /**
+     * Read a compressed frame written by
+     * {@link SyncOutputStream#writeCompressedSerializable(SelfSerializable, boolean)} and deserialize the object it
+     * contains.
+     *
+     * @param readClassId
+     * 		whether the class ID was written with the object
+     * @param serializableConstructor
+     * 		a constructor for the object, used if the class ID was not written
+     * @return the object read
+     * @throws IOException
+     * 		if a stream exception occurs or the frame is malformed
+     */
+    public <T extends SelfSerializable> T readCompressedSerializable(
+            final boolean readClassId, final Supplier<T> serializableConstructor) throws IOException {
+        return decompressFrame().readSerializable(readClassId, serializableConstructor);
+    }
+
+    /**
+     * Read a compressed frame containing an object that was written with its class ID.
+     *
+     * @return the object read
+     * @throws IOException
+     * 		if a stream exception occurs or the frame is malformed
+     */
+    public <T extends SelfSerializable> T readCompressedSerializable() throws IOException {
+        return decompressFrame().readSerializable();
+    }
+
+    /**
+     * Read a compressed frame and return a stream over its uncompressed contents.
+     */
+    private SerializableDataInputStream decompressFrame() throws IOException {
+        final EventDecompressor decompressor = eventDecompressor;
+        if (decompressor == null) {
+            throw new IOException("received compressed data but event compression is not enabled");
+        }
+        return new SerializableDataInputStream(new ByteArrayInputStream(decompressor.readFrame(this)));
+    }
 }
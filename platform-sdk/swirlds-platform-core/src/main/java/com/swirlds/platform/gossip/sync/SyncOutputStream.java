@@ -19,12 +19,17 @@ package com.swirlds.platform.gossip.sync;
 import static com.swirlds.common.io.extendable.ExtendableOutputStream.extendOutputStream;
 
 import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.io.SelfSerializable;
 import com.swirlds.common.io.extendable.extensions.CountingStreamExtension;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import com.swirlds.platform.event.GossipEvent;
 import com.swirlds.platform.gossip.shadowgraph.Generations;
 import com.swirlds.platform.internal.EventImpl;
 import com.swirlds.platform.network.ByteConstants;
+import com.swirlds.platform.network.EventCompressor;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.time.Instant;
@@ -35,6 +40,8 @@ public class SyncOutputStream extends SerializableDataOutputStream {
     private final CountingStreamExtension syncByteCounter;
     private final CountingStreamExtension connectionByteCounter;
     private final AtomicReference<Instant> requestSent;
+    /** if not null, events are compressed before they are written, set when compression is negotiated */
+    private volatile EventCompressor eventCompressor;
 
     protected SyncOutputStream(
             OutputStream out, CountingStreamExtension syncByteCounter, CountingStreamExtension connectionByteCounter) {
@@ -63,6 +70,42 @@ public class SyncOutputStream extends SerializableDataOutputStream {
         return connectionByteCounter;
     }
 
+    /**
+     * Set the compressor used for event data. Both sides of a connection must agree on whether events are compressed.
+     * The stream takes ownership of the compressor, it is closed when it is replaced or when this stream is closed.
+     *
+     * @param eventCompressor
+     * 		the compressor to use, or null to write events uncompressed
+     */
+    public void setEventCompressor(@Nullable final EventCompressor eventCompressor) {
+        final EventCompressor previous = this.eventCompressor;
+        this.eventCompressor = eventCompressor;
+        if (previous != null && previous != eventCompressor) {
+            previous.close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Also releases the event compressor, if there is one.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            setEventCompressor(null);
+        }
+    }
+
+    /**
+     * @return true if event data written to this stream is compressed
+     */
+    public boolean isEventCompressionEnabled() {
+        return eventCompressor != null;
+    }
+
     /**
      * @return the time the last sync request was sent
      */
@@ -130,6 +173,81 @@ public class SyncOutputStream extends SerializableDataOutputStream {
      * 		iff the {@link SyncOutputStream} instance throws
      */
     public void writeEventData(final EventImpl event) throws IOException {
+        if (eventCompressor != null) {
+            writeCompressedEventData(event.getBaseEvent());
+            return;
+        }
         writeSerializable(event.getBaseEvent(), false);
     }
+
+    /**
+     * Write event data using the event's cached serialized form. The bytes written are identical to those written by
+     * {@link #writeEventData(EventImpl)}, but the event is only serialized, and compressed if compression was
+     * negotiated, once no matter how many peers it is sent to.
+     *
+     * @param event
+     * 		the event to write
+     * @throws IOException
+     * 		iff the {@link SyncOutputStream} instance throws
+     */
+    public void writeCachedEventData(final EventImpl event) throws IOException {
+        final GossipEvent gossipEvent = event.getBaseEvent();
+        if (eventCompressor != null) {
+            writeCompressedEventData(gossipEvent);
+            return;
+        }
+        writeInt(gossipEvent.getVersion());
+        write(gossipEvent.getSerializedData());
+        writeLong(gossipEvent.getRoundCreated());
+    }
+
+    /**
+     * Write an event with its serialized hashed and unhashed data in a compressed frame. The frame is cached by the
+     * event, see {@link GossipEvent#getCompressedFrame(EventCompressor)}. The round created is not part of the frame,
+     * since it may be set after the frame was cached. Must only be called once compression has been negotiated. The
+     * event is read with {@link SyncInputStream#readEventData()}.
+     *
+     * @param gossipEvent
+     * 		the event to write
+     * @throws IOException
+     * 		iff the {@link SyncOutputStream} instance throws
+     * @throws IllegalStateException
+     * 		if compression is not enabled on this stream
+     */
+    public void writeCompressedEventData(final GossipEvent gossipEvent) throws IOException {
+        final EventCompressor compressor = eventCompressor;
+        if (compressor == null) {
+            throw new IllegalStateException("event compression is not enabled");
+        }
+        writeInt(gossipEvent.getVersion());
+        write(gossipEvent.getCompressedFrame(compressor));
+        writeLong(gossipEvent.getRoundCreated());
+    }
+
+    /**
+     * Serialize an object and write it as a single compressed frame. Must only be called once compression has been
+     * negotiated. The frame is read with one of the {@code readCompressedSerializable} methods of
+     * {@link SyncInputStream}.
+     *
+     * @param serializable
+     * 		the object to write
+     * @param writeClassId
+     * 		whether to write the class ID of the object
+     * @throws IOException
+     * 		iff the {@link SyncOutputStream} instance throws
+     * @throws IllegalStateException
+     * 		if compression is not enabled on this stream
+     */
+    public void writeCompressedSerializable(final SelfSerializable serializable, final boolean writeClassId)
+            throws IOException {
+        final EventCompressor compressor = eventCompressor;
+        if (compressor == null) {
+            throw new IllegalStateException("event compression is not enabled");
+        }
+        final ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+        final SerializableDataOutputStream serializableStream = new SerializableDataOutputStream(byteStream);
+        serializableStream.writeSerializable(serializable, writeClassId);
+        serializableStream.flush();
+        compressor.writeFrame(this, byteStream.toByteArray());
+    }
 }
@@ -34,6 +34,11 @@ import com.swirlds.config.api.ConfigProperty;
  *                                        pipeline
  * @param criticalQuorumEnabled           if true, use the critical quorum heuristic when deciding if we should sync
  *                                        with a peer
+ * @param cacheSerializedEvents           if true, each event is serialized once and the serialized bytes are reused
+ *                                        every time the event is sent to a peer
+ * @param discardKnownEvents              if true and events are hashed on gossip threads, then events received from a
+ *                                        peer that are already in the shadow graph are discarded on the gossip thread
+ *                                        instead of being passed to the intake queue
  */
 @ConfigData("sync")
 public record SyncConfig(
@@ -42,4 +47,6 @@ public record SyncConfig(
         @ConfigProperty(defaultValue = "1000") int syncProtocolHeartbeatPeriod,
         @ConfigProperty(defaultValue = "true") boolean hashOnGossipThreads,
         @ConfigProperty(defaultValue = "true") boolean waitForEventsInIntake,
-        @ConfigProperty(defaultValue = "false") boolean criticalQuorumEnabled) {}
+        @ConfigProperty(defaultValue = "false") boolean criticalQuorumEnabled,
+        @ConfigProperty(defaultValue = "true") boolean cacheSerializedEvents,
+        @ConfigProperty(defaultValue = "true") boolean discardKnownEvents) {}
@@ -106,6 +106,13 @@ public class SyncMetrics {
             .withFormat(FORMAT_14_7);
     private final CountPerSecond syncsPerSec;
 
+    private static final CountPerSecond.Config DISCARDED_KNOWN_EVENTS_CONFIG = new CountPerSecond.Config(
+                    PLATFORM_CATEGORY, "discardedKnownEvents/sec")
+            .withDescription("Events received through gossip per second that were already known and were discarded "
+                    + "before entering the intake queue")
+            .withFormat(FORMAT_14_7);
+    private final CountPerSecond discardedKnownEventsPerSec;
+
     private final RunningAverageMetric tipsPerSync;
 
     private final AverageStat syncGenerationDiff;
@@ -141,6 +148,7 @@ public class SyncMetrics {
         opportunitiesToInitiateSyncPerSec = new CountPerSecond(metrics, OPPORTUNITIES_TO_INITIATE_SYNC_CONFIG);
         outgoingSyncRequestsPerSec = new CountPerSecond(metrics, OUTGOING_SYNC_REQUESTS_CONFIG);
         syncsPerSec = new CountPerSecond(metrics, SYNCS_PER_SECOND_CONFIG);
+        discardedKnownEventsPerSec = new CountPerSecond(metrics, DISCARDED_KNOWN_EVENTS_CONFIG);
 
         avgSyncDuration = new AverageAndMaxTimeStat(
                 metrics,
@@ -378,4 +386,11 @@ public class SyncMetrics {
     public void outgoingSyncRequestSent() {
         outgoingSyncRequestsPerSec.count();
     }
+
+    /**
+     * Indicate that an event received through gossip was already known and was discarded before entering intake
+     */
+    public void knownEventDiscarded() {
+        discardedKnownEventsPerSec.count();
+    }
 }
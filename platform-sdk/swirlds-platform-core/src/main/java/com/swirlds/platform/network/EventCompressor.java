@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.network;
+
+import com.swirlds.platform.event.GossipEvent;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.zip.Deflater;
+
+/**
+ * Compresses serialized events into frames before they are written to a connection. Each frame consists of the
+ * uncompressed length, the compressed length (or {@link #STORED} if the data was not compressed), and the data itself.
+ * Frames are read by an {@link EventDecompressor}.
+ * <p>
+ * Every frame is compressed on its own rather than as part of a stream, so that the frame of an event can be cached
+ * with the event and sent to every peer without compressing it again, see {@link GossipEvent#getCompressedFrame}.
+ * <p>
+ * This class is not thread safe, each output stream should have its own instance. It holds a native {@link Deflater}
+ * that is only released by {@link #close()}, so it must be closed once the connection it is used for is closed.
+ */
+public class EventCompressor implements AutoCloseable {
+
+    /**
+     * Written in place of the compressed length to indicate that the data in the frame is not compressed.
+     */
+    public static final int STORED = -1;
+
+    /**
+     * The largest frame that may be written or read, in bytes.
+     */
+    public static final int MAXIMUM_FRAME_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * The size of the uncompressed and compressed lengths that precede the data of a frame.
+     */
+    private static final int FRAME_HEADER_SIZE = 2 * Integer.BYTES;
+
+    private final Deflater deflater;
+    private final int minimumCompressionSize;
+    private final NetworkMetrics networkMetrics;
+    private byte[] buffer = new byte[64 * 1024];
+
+    /**
+     * Constructor.
+     *
+     * @param compressionLevel       the deflate compression level, between 0 and 9
+     * @param minimumCompressionSize data smaller than this many bytes is sent without being compressed
+     * @param networkMetrics         compression metrics are reported here, may be null
+     */
+    public EventCompressor(
+            final int compressionLevel,
+            final int minimumCompressionSize,
+            @Nullable final NetworkMetrics networkMetrics) {
+        this.deflater = new Deflater(compressionLevel);
+        this.minimumCompressionSize = minimumCompressionSize;
+        this.networkMetrics = networkMetrics;
+    }
+
+    /**
+     * Write a frame containing the given data.
+     *
+     * @param out  the stream to write to
+     * @param data the uncompressed data
+     * @throws IOException if the data is too large or the stream throws
+     */
+    public void writeFrame(@NonNull final DataOutput out, @NonNull final byte[] data) throws IOException {
+        Objects.requireNonNull(out);
+        out.write(compressFrame(data));
+    }
+
+    /**
+     * Compress the given data into a complete frame, as it would be written by {@link #writeFrame(DataOutput, byte[])}.
+     * Every frame is compressed on its own, so a frame can be cached and written to any number of connections that
+     * negotiated compression.
+     *
+     * @param data the uncompressed data
+     * @return the frame
+     * @throws IOException if the data is too large
+     */
+    @NonNull
+    public byte[] compressFrame(@NonNull final byte[] data) throws IOException {
+        Objects.requireNonNull(data);
+        if (data.length > MAXIMUM_FRAME_SIZE) {
+            throw new IOException("frame of " + data.length + " bytes exceeds maximum of " + MAXIMUM_FRAME_SIZE);
+        }
+
+        if (data.length < minimumCompressionSize) {
+            // frames sent as is still count towards the ratio, otherwise it would only reflect the large frames
+            if (networkMetrics != null) {
+                networkMetrics.recordSkippedEventCompression();
+            }
+            return storedFrame(data);
+        }
+
+        final long start = System.nanoTime();
+        deflater.reset();
+        deflater.setInput(data);
+        deflater.finish();
+        int compressedLength = 0;
+        while (!deflater.finished()) {
+            if (compressedLength == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            compressedLength += deflater.deflate(buffer, compressedLength, buffer.length - compressedLength);
+        }
+        final long elapsed = System.nanoTime() - start;
+
+        if (networkMetrics != null) {
+            networkMetrics.recordEventCompression(data.length, Math.min(compressedLength, data.length), elapsed);
+        }
+
+        if (compressedLength >= data.length) {
+            // incompressible data, sending it as is is cheaper for both sides
+            return storedFrame(data);
+        }
+
+        return ByteBuffer.allocate(FRAME_HEADER_SIZE + compressedLength)
+                .putInt(data.length)
+                .putInt(compressedLength)
+                .put(buffer, 0, compressedLength)
+                .array();
+    }
+
+    /**
+     * Create a frame with uncompressed data.
+     */
+    @NonNull
+    private static byte[] storedFrame(@NonNull final byte[] data) {
+        return ByteBuffer.allocate(FRAME_HEADER_SIZE + data.length)
+                .putInt(data.length)
+                .putInt(STORED)
+                .put(data)
+                .array();
+    }
+
+    /**
+     * Release the native resources of the deflater. Frames may not be written after this method is called.
+     */
+    @Override
+    public void close() {
+        deflater.end();
+    }
+}
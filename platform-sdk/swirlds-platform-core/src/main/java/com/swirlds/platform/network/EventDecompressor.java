@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.network;
+
+import static com.swirlds.platform.network.EventCompressor.MAXIMUM_FRAME_SIZE;
+import static com.swirlds.platform.network.EventCompressor.STORED;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Reads frames written by an {@link EventCompressor}.
+ * <p>
+ * This class is not thread safe, each input stream should have its own instance. It holds a native {@link Inflater}
+ * that is only released by {@link #close()}, so it must be closed once the connection it is used for is closed.
+ */
+public class EventDecompressor implements AutoCloseable {
+
+    private final Inflater inflater = new Inflater();
+    private final NetworkMetrics networkMetrics;
+    private byte[] buffer = new byte[64 * 1024];
+
+    /**
+     * Constructor.
+     *
+     * @param networkMetrics decompression metrics are reported here, may be null
+     */
+    public EventDecompressor(@Nullable final NetworkMetrics networkMetrics) {
+        this.networkMetrics = networkMetrics;
+    }
+
+    /**
+     * Read a frame and return its uncompressed data.
+     *
+     * @param in the stream to read from
+     * @return the uncompressed data
+     * @throws IOException if the frame is malformed or the stream throws
+     */
+    @NonNull
+    public byte[] readFrame(@NonNull final DataInput in) throws IOException {
+        Objects.requireNonNull(in);
+        final int length = in.readInt();
+        final int compressedLength = in.readInt();
+        if (length < 0 || length > MAXIMUM_FRAME_SIZE) {
+            throw new IOException("invalid frame length " + length);
+        }
+
+        final byte[] data = new byte[length];
+        if (compressedLength == STORED) {
+            in.readFully(data);
+            return data;
+        }
+        if (compressedLength < 0 || compressedLength > length) {
+            throw new IOException("invalid compressed frame length " + compressedLength);
+        }
+
+        if (buffer.length < compressedLength) {
+            buffer = new byte[compressedLength];
+        }
+        in.readFully(buffer, 0, compressedLength);
+
+        final long start = System.nanoTime();
+        inflater.reset();
+        inflater.setInput(buffer, 0, compressedLength);
+        try {
+            int inflated = 0;
+            while (inflated < length) {
+                final int count = inflater.inflate(data, inflated, length - inflated);
+                if (count == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("compressed frame is shorter than its declared length " + length);
+                }
+                inflated += count;
+            }
+        } catch (final DataFormatException e) {
+            throw new IOException("malformed compressed frame", e);
+        }
+
+        if (networkMetrics != null) {
+            networkMetrics.recordEventDecompression(System.nanoTime() - start);
+        }
+        return data;
+    }
+
+    /**
+     * Release the native resources of the inflater. Frames may not be read after this method is called.
+     */
+    @Override
+    public void close() {
+        inflater.end();
+    }
+}
@@ -19,7 +19,9 @@ package com.swirlds.platform.network;
 import static com.swirlds.common.metrics.FloatFormats.FORMAT_10_0;
 import static com.swirlds.common.metrics.FloatFormats.FORMAT_16_2;
 import static com.swirlds.common.metrics.FloatFormats.FORMAT_4_2;
+import static com.swirlds.common.metrics.FloatFormats.FORMAT_5_3;
 import static com.swirlds.common.metrics.FloatFormats.FORMAT_7_0;
+import static com.swirlds.common.metrics.FloatFormats.FORMAT_8_1;
 import static com.swirlds.common.metrics.Metrics.INTERNAL_CATEGORY;
 import static com.swirlds.common.metrics.Metrics.PLATFORM_CATEGORY;
 
@@ -61,6 +63,19 @@ public class NetworkMetrics {
             .withDescription("number of times a TLS connections was created")
             .withFormat(FORMAT_10_0)
             .withHalfLife(0.0);
+    private static final RunningAverageMetric.Config EVENT_COMPRESSION_RATIO_CONFIG = new RunningAverageMetric.Config(
+                    PLATFORM_CATEGORY, "eventCompressionRatio")
+            .withDescription("average ratio of compressed to uncompressed size of events sent over the network, "
+                    + "including events too small to be compressed")
+            .withFormat(FORMAT_5_3);
+    private static final RunningAverageMetric.Config EVENT_COMPRESSION_TIME_CONFIG = new RunningAverageMetric.Config(
+                    PLATFORM_CATEGORY, "eventCompressionMicros")
+            .withDescription("average time spent compressing an event sent over the network (in microseconds)")
+            .withFormat(FORMAT_8_1);
+    private static final RunningAverageMetric.Config EVENT_DECOMPRESSION_TIME_CONFIG = new RunningAverageMetric.Config(
+                    PLATFORM_CATEGORY, "eventDecompressionMicros")
+            .withDescription("average time spent decompressing an event received over the network (in microseconds)")
+            .withFormat(FORMAT_8_1);
 
     /** this node's id */
     private final NodeId selfId;
@@ -79,6 +94,12 @@ public class NetworkMetrics {
     private final SpeedometerMetric bytesPerSecondSent;
     /** the average number of connections created per second */
     private final RunningAverageMetric avgConnsCreated;
+    /** the average ratio of compressed to uncompressed event size */
+    private final RunningAverageMetric eventCompressionRatio;
+    /** the average time spent compressing an event */
+    private final RunningAverageMetric eventCompressionMicros;
+    /** the average time spent decompressing an event */
+    private final RunningAverageMetric eventDecompressionMicros;
     /**
      * Number of disconnects per second per peer in the address book.
      */
@@ -101,6 +122,9 @@ public class NetworkMetrics {
         avgPing = metrics.getOrCreate(AVG_PING_CONFIG);
         bytesPerSecondSent = metrics.getOrCreate(BYTES_PER_SECOND_SENT_CONFIG);
         avgConnsCreated = metrics.getOrCreate(AVG_CONNS_CREATED_CONFIG);
+        eventCompressionRatio = metrics.getOrCreate(EVENT_COMPRESSION_RATIO_CONFIG);
+        eventCompressionMicros = metrics.getOrCreate(EVENT_COMPRESSION_TIME_CONFIG);
+        eventDecompressionMicros = metrics.getOrCreate(EVENT_DECOMPRESSION_TIME_CONFIG);
 
         for (final Address address : addressBook) {
             final NodeId nodeId = address.getNodeId();
@@ -153,6 +177,37 @@ public class NetworkMetrics {
         avgPingMilliseconds.get(node).update((pingNanos) / 1_000_000.0);
     }
 
+    /**
+     * Record the compression of an event that is about to be sent
+     *
+     * @param uncompressedSize the size of the event before compression, in bytes
+     * @param compressedSize   the size of the event after compression, in bytes
+     * @param nanos            the time spent compressing, in nanoseconds
+     */
+    public void recordEventCompression(final int uncompressedSize, final int compressedSize, final long nanos) {
+        if (uncompressedSize > 0) {
+            eventCompressionRatio.update((double) compressedSize / uncompressedSize);
+        }
+        eventCompressionMicros.update(nanos / 1_000.0);
+    }
+
+    /**
+     * Record an event that is sent without trying to compress it, because it is too small. It counts towards the
+     * compression ratio, but not towards the compression time.
+     */
+    public void recordSkippedEventCompression() {
+        eventCompressionRatio.update(1.0);
+    }
+
+    /**
+     * Record the decompression of an event that was received
+     *
+     * @param nanos the time spent decompressing, in nanoseconds
+     */
+    public void recordEventDecompression(final long nanos) {
+        eventDecompressionMicros.update(nanos / 1_000.0);
+    }
+
     /**
      * Updates the metrics.
      * <p>
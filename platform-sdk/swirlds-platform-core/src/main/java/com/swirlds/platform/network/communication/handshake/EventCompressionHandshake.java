@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.network.communication.handshake;
+
+import com.swirlds.platform.gossip.ProtocolConfig;
+import com.swirlds.platform.network.Connection;
+import com.swirlds.platform.network.EventCompressor;
+import com.swirlds.platform.network.EventDecompressor;
+import com.swirlds.platform.network.NetworkMetrics;
+import com.swirlds.platform.network.NetworkProtocolException;
+import com.swirlds.platform.network.protocol.ProtocolRunnable;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Negotiates with the peer whether events sent over a connection are compressed. Events are compressed in both
+ * directions only if both nodes have compression enabled, otherwise they are sent uncompressed. Since the negotiation
+ * is repeated on every new connection, compression can be enabled node by node without a coordinated restart.
+ */
+public class EventCompressionHandshake implements ProtocolRunnable {
+    private final ProtocolConfig protocolConfig;
+    private final NetworkMetrics networkMetrics;
+
+    /**
+     * @param protocolConfig
+     * 		the protocol config, determines if this node wants to compress events and how
+     * @param networkMetrics
+     * 		compression metrics are reported here, may be null
+     */
+    public EventCompressionHandshake(
+            @NonNull final ProtocolConfig protocolConfig, @Nullable final NetworkMetrics networkMetrics) {
+        this.protocolConfig = Objects.requireNonNull(protocolConfig);
+        this.networkMetrics = networkMetrics;
+    }
+
+    @Override
+    public void runProtocol(@NonNull final Connection connection)
+            throws NetworkProtocolException, IOException, InterruptedException {
+        connection.getDos().writeBoolean(protocolConfig.compressEvents());
+        connection.getDos().flush();
+        final boolean peerCompressesEvents = connection.getDis().readBoolean();
+
+        if (protocolConfig.compressEvents() && peerCompressesEvents) {
+            connection
+                    .getDos()
+                    .setEventCompressor(new EventCompressor(
+                            protocolConfig.eventCompressionLevel(),
+                            protocolConfig.minimumCompressionSize(),
+                            networkMetrics));
+            connection.getDis().setEventDecompressor(new EventDecompressor(networkMetrics));
+        } else {
+            connection.getDos().setEventCompressor(null);
+            connection.getDis().setEventDecompressor(null);
+        }
+    }
+}
@@ -27,6 +27,7 @@ import com.swirlds.platform.eventhandling.TransactionPool;
 import com.swirlds.platform.internal.ConsensusRound;
 import com.swirlds.platform.internal.EventImpl;
 import com.swirlds.platform.state.signed.LoadableFromSignedState;
+import java.util.List;
 
 /**
  * The methods used to interact with instances of {@link SwirldState}.
@@ -135,6 +136,22 @@ public interface SwirldStateManager extends FreezePeriodChecker, Clearable, Load
      */
     boolean submitTransaction(ConsensusTransactionImpl transaction, boolean priority);
 
+    /**
+     * Submits a batch of self transactions, see {@link #submitTransaction(ConsensusTransactionImpl)}. Transactions are
+     * accepted in order, if one is rejected then so are all that follow it.
+     *
+     * @param transactions
+     * 		the transactions to submit
+     * @return the number of leading transactions that were accepted
+     */
+    default int submitTransactions(final List<? extends ConsensusTransactionImpl> transactions) {
+        int accepted = 0;
+        while (accepted < transactions.size() && submitTransaction(transactions.get(accepted))) {
+            accepted++;
+        }
+        return accepted;
+    }
+
     /**
      * Gets the stop behavior of the threads applying transactions to the state
      *
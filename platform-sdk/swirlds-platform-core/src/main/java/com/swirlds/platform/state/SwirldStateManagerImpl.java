@@ -163,6 +163,14 @@ public class SwirldStateManagerImpl implements SwirldStateManager {
         return transactionPool.submitTransaction(transaction, priority);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int submitTransactions(final List<? extends ConsensusTransactionImpl> transactions) {
+        return transactionPool.submitTransactions(transactions);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -30,6 +30,7 @@ import static com.swirlds.platform.state.signed.SignedStateFileUtils.VERSIONED_F
 import com.swirlds.common.config.StateConfig;
 import com.swirlds.common.config.singleton.ConfigurationHolder;
 import com.swirlds.common.io.streams.MerkleDataOutputStream;
+import com.swirlds.common.io.utility.IORunnable;
 import com.swirlds.common.merkle.utility.MerkleTreeVisualizer;
 import com.swirlds.common.system.NodeId;
 import com.swirlds.common.system.address.AddressBook;
@@ -45,6 +46,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -128,8 +130,17 @@ public final class SignedStateFileWriter {
      * @param signedState the signed state to write
      */
     public static void writeStateFile(final Path directory, final SignedState signedState) throws IOException {
-        writeAndFlush(
-                directory.resolve(SIGNED_STATE_FILE_NAME), out -> writeStateFileToStream(out, directory, signedState));
+        final StateConfig stateConfig = ConfigurationHolder.getConfigData(StateConfig.class);
+        final Path stateFile = directory.resolve(SIGNED_STATE_FILE_NAME);
+        if (stateConfig.stateWriteBufferSize() > 0) {
+            writeAndFlush(
+                    stateFile,
+                    out -> writeStateFileToStream(out, directory, signedState),
+                    stateConfig.stateWriteBufferSize(),
+                    stateConfig.stateWriteBytesPerSecond());
+        } else {
+            writeAndFlush(stateFile, out -> writeStateFileToStream(out, directory, signedState));
+        }
     }
 
     /**
@@ -150,12 +161,55 @@ public final class SignedStateFileWriter {
         Objects.requireNonNull(signedState, "signedState must not be null");
         Objects.requireNonNull(configuration, "configuration must not be null");
 
-        writeStateFile(directory, signedState);
-        writeHashInfoFile(directory, signedState.getState());
-        writeMetadataFile(selfId, directory, signedState);
-        writeEmergencyRecoveryFile(directory, signedState);
-        writeStateAddressBookFile(directory, signedState.getAddressBook());
-        writeSettingsUsed(directory, configuration);
+        final PhaseTimer timer = new PhaseTimer();
+        timer.time("stateFile", () -> writeStateFile(directory, signedState));
+        timer.time("hashInfo", () -> writeHashInfoFile(directory, signedState.getState()));
+        timer.time("metadata", () -> writeMetadataFile(selfId, directory, signedState));
+        timer.time("emergencyRecovery", () -> writeEmergencyRecoveryFile(directory, signedState));
+        timer.time("addressBook", () -> writeStateAddressBookFile(directory, signedState.getAddressBook()));
+        timer.time("settingsUsed", () -> writeSettingsUsed(directory, configuration));
+
+        logger.info(
+                STATE_TO_DISK.getMarker(),
+                "Wrote round {} state files in {} ms: {}",
+                signedState.getRound(),
+                timer.totalMillis(),
+                timer);
+    }
+
+    /**
+     * Measures how long each phase of writing a signed state takes.
+     */
+    private static final class PhaseTimer {
+
+        private final StringBuilder summary = new StringBuilder();
+        private long totalNanos;
+
+        /**
+         * Run a phase and record its duration.
+         *
+         * @param phase the name of the phase
+         * @param work  the work done in the phase
+         */
+        void time(@NonNull final String phase, @NonNull final IORunnable work) throws IOException {
+            final long start = System.nanoTime();
+            work.run();
+            final long elapsed = System.nanoTime() - start;
+            totalNanos += elapsed;
+            if (!summary.isEmpty()) {
+                summary.append(", ");
+            }
+            summary.append(phase).append('=').append(TimeUnit.NANOSECONDS.toMillis(elapsed)).append("ms");
+        }
+
+        long totalMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(totalNanos);
+        }
+
+        @Override
+        public String toString() {
+            return summary.toString();
+        }
     }
 
     /**
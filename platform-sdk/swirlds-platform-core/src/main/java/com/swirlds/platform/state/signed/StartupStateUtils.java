@@ -17,6 +17,7 @@
 package com.swirlds.platform.state.signed;
 
 import static com.swirlds.common.merkle.utility.MerkleUtils.rehashTree;
+import static com.swirlds.common.metrics.Metrics.PLATFORM_CATEGORY;
 import static com.swirlds.logging.LogMarker.EXCEPTION;
 import static com.swirlds.logging.LogMarker.STARTUP;
 import static com.swirlds.platform.state.GenesisStateBuilder.buildGenesisState;
@@ -29,6 +30,8 @@ import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.io.utility.RecycleBin;
 import com.swirlds.common.merkle.crypto.MerkleCryptoFactory;
+import com.swirlds.common.metrics.LongGauge;
+import com.swirlds.common.metrics.Metrics;
 import com.swirlds.common.scratchpad.Scratchpad;
 import com.swirlds.common.system.NodeId;
 import com.swirlds.common.system.SoftwareVersion;
@@ -43,12 +46,15 @@ import com.swirlds.platform.recovery.emergencyfile.EmergencyRecoveryFile;
 import com.swirlds.platform.state.PlatformData;
 import com.swirlds.platform.state.PlatformState;
 import com.swirlds.platform.state.State;
+import com.swirlds.virtualmap.internal.merkle.VirtualRootNode;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -516,6 +522,7 @@ public final class StartupStateUtils {
 
         logger.info(STARTUP.getMarker(), "Loading signed state from disk: {}", savedStateFile.stateFile());
 
+        final long loadStart = System.nanoTime();
         final DeserializedSignedState deserializedSignedState;
         try {
             deserializedSignedState = readStateFile(platformContext, savedStateFile.stateFile());
@@ -533,8 +540,12 @@ public final class StartupStateUtils {
 
         final State state = deserializedSignedState.reservedSignedState().get().getState();
 
+        final long rehashStart = System.nanoTime();
         final Hash oldHash = deserializedSignedState.originalHash();
         final Hash newHash = rehashTree(state);
+        final long rehashEnd = System.nanoTime();
+        recordStartupTimeline(platformContext, rehashStart - loadStart, rehashEnd - rehashStart);
+        spotCheckVirtualMapHashes(platformContext, state);
 
         final SoftwareVersion loadedVersion =
                 state.getPlatformState().getPlatformData().getCreationSoftwareVersion();
@@ -563,6 +574,66 @@ public final class StartupStateUtils {
         return deserializedSignedState.reservedSignedState();
     }
 
+    /**
+     * Log and publish how long the phases of loading the initial state took, restart time is an important operational
+     * property of a node.
+     *
+     * @param platformContext the platform context
+     * @param loadNanos       the time taken to read and deserialize the state file, including opening virtual maps
+     * @param rehashNanos     the time taken to rehash the loaded state
+     */
+    static void recordStartupTimeline(
+            @NonNull final PlatformContext platformContext, final long loadNanos, final long rehashNanos) {
+        final long loadMillis = TimeUnit.NANOSECONDS.toMillis(loadNanos);
+        final long rehashMillis = TimeUnit.NANOSECONDS.toMillis(rehashNanos);
+        logger.info(
+                STARTUP.getMarker(), "Signed state loaded in {} ms and rehashed in {} ms", loadMillis, rehashMillis);
+
+        final Metrics metrics = platformContext.getMetrics();
+        metrics.getOrCreate(new LongGauge.Config(PLATFORM_CATEGORY, "startupStateLoadTime")
+                        .withUnit("ms")
+                        .withDescription("time taken to read and deserialize the initial signed state at startup"))
+                .set(loadMillis);
+        metrics.getOrCreate(new LongGauge.Config(PLATFORM_CATEGORY, "startupStateRehashTime")
+                        .withUnit("ms")
+                        .withDescription("time taken to rehash the initial signed state at startup"))
+                .set(rehashMillis);
+    }
+
+    /**
+     * Virtual maps are not rehashed at startup, the hashes stored in their data sources are trusted. Recompute the
+     * hashes of a random sample of paths in each virtual map and log any that do not match what was persisted.
+     *
+     * @param platformContext the platform context
+     * @param state           the loaded state, must already be hashed
+     */
+    private static void spotCheckVirtualMapHashes(
+            @NonNull final PlatformContext platformContext, @NonNull final State state) {
+        final int sampleSize = platformContext
+                .getConfiguration()
+                .getConfigData(StateConfig.class)
+                .startupHashSampleSize();
+        if (sampleSize <= 0) {
+            return;
+        }
+
+        final Random random = new Random();
+        state.<VirtualRootNode<?, ?>>treeIterator()
+                .setFilter(node -> node instanceof VirtualRootNode)
+                .setDescendantFilter(node -> !(node instanceof VirtualRootNode))
+                .forEachRemaining(root -> {
+                    final int mismatches = root.countSampledHashMismatches(sampleSize, random);
+                    if (mismatches > 0) {
+                        logger.error(
+                                EXCEPTION.getMarker(),
+                                "{} of {} sampled hashes of the virtual map at {} do not match the persisted hashes",
+                                mismatches,
+                                sampleSize,
+                                root.getRoute());
+                    }
+                });
+    }
+
     /**
      * Recycle a state.
      *
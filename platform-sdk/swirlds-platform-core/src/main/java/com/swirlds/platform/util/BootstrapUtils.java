@@ -69,6 +69,7 @@ import com.swirlds.platform.config.internal.PlatformConfigUtils;
 import com.swirlds.platform.dispatch.DispatchConfiguration;
 import com.swirlds.platform.event.preconsensus.PreconsensusEventStreamConfig;
 import com.swirlds.platform.event.tipset.EventCreationConfig;
+import com.swirlds.platform.event.tracing.EventFlowTracingConfig;
 import com.swirlds.platform.gossip.ProtocolConfig;
 import com.swirlds.platform.gossip.chatter.config.ChatterConfig;
 import com.swirlds.platform.gossip.sync.config.SyncConfig;
@@ -172,6 +173,7 @@ public final class BootstrapUtils {
                 .withConfigDataType(RecycleBinConfig.class)
                 .withConfigDataType(EventConfig.class)
                 .withConfigDataType(EventCreationConfig.class)
+                .withConfigDataType(EventFlowTracingConfig.class)
                 .withConfigDataType(PathsConfig.class)
                 .withConfigDataType(SocketConfig.class)
                 .withConfigDataType(PlatformStatusConfig.class)
@@ -115,6 +115,10 @@ module com.swirlds.platform.core {
             com.swirlds.config.impl,
             com.swirlds.common,
             com.hedera.node.test.clients;
+    exports com.swirlds.platform.event.tracing to
+            com.swirlds.config.impl,
+            com.swirlds.common,
+            com.swirlds.platform.test;
 
     opens com.swirlds.platform.cli to
             info.picocli;
@@ -16,6 +16,7 @@
 
 package com.swirlds.platform;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -30,6 +31,7 @@ import com.swirlds.common.test.fixtures.TransactionUtils;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.platform.metrics.TransactionMetrics;
 import com.swirlds.test.framework.config.TestConfigBuilder;
+import java.util.List;
 import java.util.Random;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeAll;
@@ -112,4 +114,18 @@ class SwirldTransactionSubmitterTest {
     void testNullTransactionRejected() {
         assertFalse(transactionSubmitter.submitTransaction(null), "Null transactions should be rejected.");
     }
+
+    @Test
+    @DisplayName("A batch is accepted up to the first oversize transaction")
+    void testBatchStopsAtOversizeTransaction() {
+        final List<SwirldTransaction> batch = List.of(
+                new SwirldTransaction(new byte[10]),
+                new SwirldTransaction(new byte[20]),
+                new SwirldTransaction(new byte[transactionConfig.transactionMaxBytes() + 1]),
+                new SwirldTransaction(new byte[30]));
+        assertEquals(2, transactionSubmitter.submitTransactions(batch), "Only the leading valid transactions count");
+
+        platformStatus = PlatformStatus.CHECKING;
+        assertEquals(0, transactionSubmitter.submitTransactions(batch), "Batches are rejected when not ACTIVE");
+    }
 }
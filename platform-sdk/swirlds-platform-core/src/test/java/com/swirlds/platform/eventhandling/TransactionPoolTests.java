@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.eventhandling;
+
+import static com.swirlds.common.test.fixtures.RandomUtils.getRandomPrintSeed;
+import static com.swirlds.common.test.fixtures.RandomUtils.randomHash;
+import static com.swirlds.common.test.fixtures.RandomUtils.randomSignature;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.system.transaction.internal.ConsensusTransactionImpl;
+import com.swirlds.common.system.transaction.internal.StateSignatureTransaction;
+import com.swirlds.common.system.transaction.internal.SwirldTransaction;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.test.framework.config.TestConfigBuilder;
+import com.swirlds.test.framework.context.TestPlatformContextBuilder;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TransactionPool Tests")
+class TransactionPoolTests {
+
+    private static TransactionPool buildPool(final int maxBytesPerEvent, final int throttleQueueSize) {
+        final Configuration configuration = new TestConfigBuilder()
+                .withValue("transaction.maxTransactionBytesPerEvent", maxBytesPerEvent)
+                .withValue("transaction.throttleTransactionQueueSize", throttleQueueSize)
+                .getOrCreateConfig();
+        final PlatformContext platformContext =
+                TestPlatformContextBuilder.create().withConfiguration(configuration).build();
+        return new TransactionPool(platformContext);
+    }
+
+    private static SwirldTransaction appTransaction(final int size) {
+        return new SwirldTransaction(new byte[size]);
+    }
+
+    @Test
+    @DisplayName("Priority transactions are drained first")
+    void priorityTest() {
+        final TransactionPool pool = buildPool(10_000, 100);
+        final SwirldTransaction regular = appTransaction(10);
+        final SwirldTransaction priority = appTransaction(10);
+
+        assertTrue(pool.submitTransaction(regular, false));
+        assertTrue(pool.submitTransaction(priority, true));
+
+        final ConsensusTransactionImpl[] transactions = pool.getTransactions();
+        assertEquals(2, transactions.length);
+        assertSame(priority, transactions[0]);
+        assertSame(regular, transactions[1]);
+        assertEquals(0, pool.getTransactions().length);
+    }
+
+    @Test
+    @DisplayName("Draining respects the maximum event size")
+    void eventSizeTest() {
+        final SwirldTransaction transaction = appTransaction(100);
+        final int transactionSize = transaction.getSerializedLength();
+        final TransactionPool pool = buildPool(transactionSize * 2, 100);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(pool.submitTransaction(appTransaction(100), false));
+        }
+
+        assertEquals(2, pool.getTransactions().length);
+        assertEquals(2, pool.getTransactions().length);
+        assertEquals(1, pool.getTransactions().length);
+        assertEquals(0, pool.getTransactions().length);
+    }
+
+    @Test
+    @DisplayName("App transactions are throttled, system transactions are not")
+    void throttleTest() {
+        final Random random = getRandomPrintSeed();
+        final TransactionPool pool = buildPool(10_000, 2);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(pool.submitTransaction(appTransaction(10), false));
+        }
+        assertFalse(pool.submitTransaction(appTransaction(10), false));
+
+        final StateSignatureTransaction signature =
+                new StateSignatureTransaction(1, randomSignature(random), randomHash(random));
+        assertTrue(pool.submitTransaction(signature, true));
+        assertTrue(pool.hasBufferedSignatureTransactions());
+
+        pool.clear();
+        assertFalse(pool.hasBufferedSignatureTransactions());
+        assertEquals(0, pool.getTransactions().length);
+        assertTrue(pool.submitTransaction(appTransaction(10), false));
+    }
+
+    @Test
+    @DisplayName("A batch is accepted up to the throttle limit")
+    void batchThrottleTest() {
+        final TransactionPool pool = buildPool(10_000, 2);
+
+        final List<SwirldTransaction> batch =
+                List.of(appTransaction(1), appTransaction(2), appTransaction(3), appTransaction(4), appTransaction(5));
+        assertEquals(3, pool.submitTransactions(batch));
+        assertEquals(0, pool.submitTransactions(batch));
+
+        final ConsensusTransactionImpl[] transactions = pool.getTransactions();
+        assertEquals(3, transactions.length);
+        for (int i = 0; i < transactions.length; i++) {
+            assertSame(batch.get(i), transactions[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Concurrent submissions are all drained exactly once")
+    void concurrentSubmitTest() throws InterruptedException {
+        final int threadCount = 8;
+        final int transactionsPerThread = 1_000;
+        final TransactionPool pool = buildPool(10_000, Integer.MAX_VALUE);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        final CountDownLatch done = new CountDownLatch(threadCount);
+        for (int thread = 0; thread < threadCount; thread++) {
+            executor.submit(() -> {
+                for (int i = 0; i < transactionsPerThread; i++) {
+                    pool.submitTransaction(appTransaction(8), i % 10 == 0);
+                }
+                done.countDown();
+            });
+        }
+
+        final Set<ConsensusTransactionImpl> drained = Collections.newSetFromMap(new IdentityHashMap<>());
+        while (done.getCount() > 0 || drained.size() < threadCount * transactionsPerThread) {
+            for (final ConsensusTransactionImpl transaction : pool.getTransactions()) {
+                assertTrue(drained.add(transaction), "transaction drained twice");
+            }
+        }
+        executor.shutdown();
+
+        assertEquals(threadCount * transactionsPerThread, drained.size());
+        assertEquals(0, pool.getTransactions().length);
+    }
+}
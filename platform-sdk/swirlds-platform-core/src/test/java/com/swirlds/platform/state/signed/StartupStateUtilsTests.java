@@ -21,10 +21,13 @@ import static com.swirlds.common.test.fixtures.RandomUtils.randomHash;
 import static com.swirlds.common.test.fixtures.RandomUtils.randomInstant;
 import static com.swirlds.platform.state.signed.SignedStateFileUtils.getSignedStateDirectory;
 import static com.swirlds.platform.state.signed.SignedStateFileWriter.writeSignedStateToDisk;
+import static com.swirlds.common.metrics.Metrics.PLATFORM_CATEGORY;
 import static com.swirlds.platform.state.signed.StartupStateUtils.doRecoveryCleanup;
+import static com.swirlds.platform.state.signed.StartupStateUtils.recordStartupTimeline;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -41,6 +44,11 @@ import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.io.utility.FileUtils;
 import com.swirlds.common.io.utility.RecycleBin;
+import com.swirlds.common.metrics.Metrics;
+import com.swirlds.common.metrics.config.MetricsConfig;
+import com.swirlds.common.metrics.platform.DefaultMetrics;
+import com.swirlds.common.metrics.platform.DefaultMetricsFactory;
+import com.swirlds.common.metrics.platform.MetricKeyRegistry;
 import com.swirlds.common.scratchpad.Scratchpad;
 import com.swirlds.common.system.BasicSoftwareVersion;
 import com.swirlds.common.system.NodeId;
@@ -67,6 +75,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Random;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.AfterEach;
@@ -120,6 +130,30 @@ class StartupStateUtilsTests {
         return platformContext;
     }
 
+    /**
+     * Build a platform context with metrics that record values, so that published metrics can be checked.
+     */
+    @NonNull
+    private PlatformContext buildContextWithMetrics() {
+        final Configuration configuration = new TestConfigBuilder()
+                .withValue("state.savedStateDirectory", testDirectory.toString())
+                .getOrCreateConfig();
+        final MetricsConfig metricsConfig = configuration.getConfigData(MetricsConfig.class);
+        final MetricKeyRegistry registry = mock(MetricKeyRegistry.class);
+        when(registry.register(any(), any(), any())).thenReturn(true);
+        final Metrics metrics = new DefaultMetrics(
+                selfId,
+                registry,
+                mock(ScheduledExecutorService.class),
+                new DefaultMetricsFactory(metricsConfig),
+                metricsConfig);
+
+        return TestPlatformContextBuilder.create()
+                .withConfiguration(configuration)
+                .withMetrics(metrics)
+                .build();
+    }
+
     /**
      * Write a state to disk in a location that will be discovered by {@link StartupStateUtils}.
      *
@@ -229,6 +263,42 @@ class StartupStateUtilsTests {
         assertEquals(latestState.getState().getHash(), loadedState.getState().getHash());
     }
 
+    @Test
+    @DisplayName("Startup Timeline Is Published Test")
+    void startupTimelineIsPublishedTest() throws IOException, SignedStateLoadingException {
+        final Random random = getRandomPrintSeed();
+        final PlatformContext platformContext = buildContextWithMetrics();
+        writeState(random, platformContext, random.nextInt(1_000, 10_000), null, false);
+
+        StartupStateUtils.loadStateFile(
+                        platformContext,
+                        TestRecycleBin.getInstance(),
+                        selfId,
+                        mainClassName,
+                        swirldName,
+                        new BasicSoftwareVersion(1),
+                        mock(EmergencyRecoveryManager.class))
+                .close();
+
+        final Metrics metrics = platformContext.getMetrics();
+        assertNotNull(metrics.getMetric(PLATFORM_CATEGORY, "startupStateLoadTime"), "load time should be published");
+        assertNotNull(
+                metrics.getMetric(PLATFORM_CATEGORY, "startupStateRehashTime"), "rehash time should be published");
+    }
+
+    @Test
+    @DisplayName("Startup Timeline Values Test")
+    void startupTimelineValuesTest() {
+        final PlatformContext platformContext = buildContextWithMetrics();
+
+        recordStartupTimeline(
+                platformContext, TimeUnit.MILLISECONDS.toNanos(1_500), TimeUnit.MICROSECONDS.toNanos(250_400));
+
+        final Metrics metrics = platformContext.getMetrics();
+        assertEquals(1_500L, metrics.getValue(PLATFORM_CATEGORY, "startupStateLoadTime"), "load time in ms");
+        assertEquals(250L, metrics.getValue(PLATFORM_CATEGORY, "startupStateRehashTime"), "rehash time in ms");
+    }
+
     @Test
     @DisplayName("Corrupted State No Recycling Test")
     void corruptedStateNoRecyclingTest() throws IOException {
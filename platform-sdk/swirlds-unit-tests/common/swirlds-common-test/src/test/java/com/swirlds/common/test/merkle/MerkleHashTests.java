@@ -23,10 +23,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.swirlds.common.crypto.CryptographyHolder;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.merkle.MerkleInternal;
 import com.swirlds.common.merkle.MerkleNode;
@@ -46,9 +48,13 @@ import com.swirlds.test.framework.TestQualifierTags;
 import com.swirlds.test.framework.TestTypeTags;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import org.junit.jupiter.api.BeforeAll;
@@ -339,6 +345,190 @@ class MerkleHashTests {
         assertThrows(ExecutionException.class, future::get, "expected hashing to fail");
     }
 
+    /**
+     * Build a tree with two levels of internal nodes below the root. Each subtree of the root has
+     * {@code groupsPerSubtree} internal nodes with {@code leavesPerGroup} leaves each.
+     */
+    private static DummyMerkleInternal buildWideTree(
+            final int subtreeCount, final int groupsPerSubtree, final int leavesPerGroup) {
+        final DummyMerkleInternal root = new DummyMerkleInternal("root");
+        for (int subtreeIndex = 0; subtreeIndex < subtreeCount; subtreeIndex++) {
+            final DummyMerkleInternal subtree = new DummyMerkleInternal("subtree " + subtreeIndex);
+            for (int groupIndex = 0; groupIndex < groupsPerSubtree; groupIndex++) {
+                final DummyMerkleInternal group = new DummyMerkleInternal("group " + groupIndex);
+                for (int leafIndex = 0; leafIndex < leavesPerGroup; leafIndex++) {
+                    group.setChild(
+                            leafIndex, new ThreadRecordingLeaf(subtreeIndex + "." + groupIndex + "." + leafIndex));
+                }
+                subtree.setChild(groupIndex, group);
+            }
+            root.setChild(subtreeIndex, subtree);
+        }
+        return root;
+    }
+
+    /**
+     * Replace a leaf and invalidate the hashes of its ancestors, like a modification of the tree would.
+     */
+    private static void replaceLeaf(final MerkleInternal root, final DummyMerkleLeaf leaf, final int... steps) {
+        MerkleInternal parent = root;
+        parent.invalidateHash();
+        for (int i = 0; i < steps.length - 1; i++) {
+            parent = parent.getChild(steps[i]).asInternal();
+            parent.invalidateHash();
+        }
+        parent.setChild(steps[steps.length - 1], leaf);
+    }
+
+    @Test
+    @Tag(TestTypeTags.FUNCTIONAL)
+    @Tag(TestComponentTags.MERKLE)
+    @DisplayName("Partially Dirty Tree Test")
+    void partiallyDirtyTreeTest() throws InterruptedException, ExecutionException {
+        final DummyMerkleInternal tree = buildWideTree(4, 8, 16);
+        final DummyMerkleInternal expectedTree = buildWideTree(4, 8, 16);
+        cryptography.digestTreeAsync(tree).get();
+
+        // modify leaves in two of the four subtrees
+        replaceLeaf(tree, new ThreadRecordingLeaf("modified 1"), 0, 3, 5);
+        replaceLeaf(tree, new ThreadRecordingLeaf("modified 2"), 2, 7, 0);
+        replaceLeaf(expectedTree, new ThreadRecordingLeaf("modified 1"), 0, 3, 5);
+        replaceLeaf(expectedTree, new ThreadRecordingLeaf("modified 2"), 2, 7, 0);
+
+        final Map<Integer, Hash> hashes = new HashMap<>();
+        tree.forEachNode((node) -> hashes.put(identityHashCode(node), node.getHash()));
+        final long dirtyNodeCount = hashes.values().stream().filter(Objects::isNull).count();
+        assertEquals(7, dirtyNodeCount, "the root, two subtrees, two groups and two leaves should need a hash");
+
+        assertEquals(
+                cryptography.digestTreeSync(expectedTree),
+                cryptography.digestTreeAsync(tree).get(),
+                "a partially dirty tree should hash like a fresh tree");
+
+        // only the modified paths are hashed, every other node keeps its hash
+        tree.forEachNode((node) -> {
+            final Hash previousHash = hashes.get(identityHashCode(node));
+            if (previousHash != null) {
+                assertSame(previousHash, node.getHash(), "clean nodes should not be rehashed");
+            }
+        });
+    }
+
+    @Test
+    @Tag(TestTypeTags.FUNCTIONAL)
+    @Tag(TestComponentTags.MERKLE)
+    @DisplayName("Clean Subtrees Are Skipped Test")
+    void cleanSubtreesAreSkippedTest() throws InterruptedException, ExecutionException {
+        final DummyMerkleInternal tree = buildWideTree(4, 8, 16);
+        cryptography.digestTreeSync(tree);
+
+        // any attempt to hash a clean leaf again fails
+        tree.forEachNode((node) -> {
+            if (node instanceof final DummyMerkleLeaf leaf) {
+                leaf.setThrowWhenHashed(true);
+            }
+        });
+        replaceLeaf(tree, new ThreadRecordingLeaf("modified"), 1, 2, 3);
+        final Hash cleanSubtreeHash = tree.getChild(3).getHash();
+
+        final Hash hash = cryptography.digestTreeAsync(tree).get();
+
+        assertNotNull(hash, "the tree should be hashed");
+        assertSame(cleanSubtreeHash, tree.getChild(3).getHash(), "the clean subtree should not be rehashed");
+        assertNotSame(
+                Thread.currentThread(),
+                ((ThreadRecordingLeaf) tree.getChild(1).asInternal().getChild(2).asInternal().getChild(3))
+                        .getHashingThread(),
+                "the modified leaf should be hashed asynchronously");
+    }
+
+    @Test
+    @Tag(TestTypeTags.FUNCTIONAL)
+    @Tag(TestComponentTags.MERKLE)
+    @DisplayName("Large Subtrees Are Split Test")
+    void largeSubtreesAreSplitTest() throws InterruptedException, ExecutionException {
+        // four subtrees with well over 64 nodes to hash, and one with only a few
+        final DummyMerkleInternal tree = buildWideTree(4, 8, 16);
+        final DummyMerkleInternal smallSubtree = new DummyMerkleInternal("small subtree");
+        for (int leafIndex = 0; leafIndex < 4; leafIndex++) {
+            smallSubtree.setChild(leafIndex, new ThreadRecordingLeaf("small " + leafIndex));
+        }
+        tree.setChild(4, smallSubtree);
+        tree.setChild(5, new SelfHashingDummyMerkleLeaf("self hashing"));
+
+        final DummyMerkleInternal expectedTree = buildWideTree(4, 8, 16);
+        final DummyMerkleInternal expectedSmallSubtree = new DummyMerkleInternal("small subtree");
+        for (int leafIndex = 0; leafIndex < 4; leafIndex++) {
+            expectedSmallSubtree.setChild(leafIndex, new ThreadRecordingLeaf("small " + leafIndex));
+        }
+        expectedTree.setChild(4, expectedSmallSubtree);
+        expectedTree.setChild(5, new SelfHashingDummyMerkleLeaf("self hashing"));
+
+        assertEquals(
+                cryptography.digestTreeSync(expectedTree),
+                cryptography.digestTreeAsync(tree).get(),
+                "asynchronous hashing should match synchronous hashing");
+
+        // each subtree of the root is hashed by a single task, none of them by the caller
+        for (int subtreeIndex = 0; subtreeIndex < 5; subtreeIndex++) {
+            final Set<Thread> threads = new HashSet<>();
+            tree.getChild(subtreeIndex).forEachNode((node) -> {
+                if (node instanceof final ThreadRecordingLeaf leaf) {
+                    threads.add(leaf.getHashingThread());
+                }
+            });
+            assertEquals(1, threads.size(), "subtree " + subtreeIndex + " should be hashed by one thread");
+            assertNotSame(Thread.currentThread(), threads.iterator().next(), "hashing should be asynchronous");
+        }
+    }
+
+    @Test
+    @Tag(TestTypeTags.FUNCTIONAL)
+    @Tag(TestComponentTags.MERKLE)
+    @DisplayName("Internal Hash Matches Hash Of Child Hash List")
+    void internalHashMatchesHashOfChildHashList() {
+        // enough children to grow the reusable buffer, and a null child
+        final DummyMerkleInternal node = new DummyMerkleInternal("wide");
+        for (int index = 0; index < 40; index++) {
+            node.setChild(index, index == 17 ? null : new DummyMerkleLeaf("leaf " + index));
+        }
+        cryptography.digestTreeSync(node);
+
+        final List<Hash> childHashes = new ArrayList<>();
+        for (int index = 0; index < node.getNumberOfChildren(); index++) {
+            final MerkleNode child = node.getChild(index);
+            childHashes.add(child == null ? CryptographyHolder.get().getNullHash() : child.getHash());
+        }
+
+        assertEquals(
+                cryptography.digestSync(node, childHashes, false),
+                node.getHash(),
+                "hashing from the children should match hashing from a list of child hashes");
+    }
+
+    /**
+     * A leaf that remembers the thread that hashed it.
+     */
+    private static class ThreadRecordingLeaf extends DummyMerkleLeaf {
+        private volatile Thread hashingThread;
+
+        ThreadRecordingLeaf(final String value) {
+            super(value);
+        }
+
+        @Override
+        public void setHash(final Hash hash) {
+            if (hash != null) {
+                hashingThread = Thread.currentThread();
+            }
+            super.setHash(hash);
+        }
+
+        Thread getHashingThread() {
+            return hashingThread;
+        }
+    }
+
     /**
      * This internal node implementation is marked with an annotation that prevents the debug hash string method
      * from iterating to its children.
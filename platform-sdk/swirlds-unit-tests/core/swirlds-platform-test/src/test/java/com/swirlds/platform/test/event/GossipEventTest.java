@@ -16,11 +16,14 @@
 
 package com.swirlds.platform.test.event;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.swirlds.common.constructable.ConstructableRegistry;
 import com.swirlds.common.constructable.ConstructableRegistryException;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.common.system.NodeId;
 import com.swirlds.common.test.fixtures.io.SerializationUtils;
 import com.swirlds.platform.event.GossipEvent;
@@ -28,8 +31,10 @@ import com.swirlds.platform.test.fixtures.event.IndexedEvent;
 import com.swirlds.platform.test.fixtures.event.RandomEventUtils;
 import com.swirlds.platform.test.utils.EqualsVerifier;
 import com.swirlds.test.framework.config.TestConfigBuilder;
+import java.io.ByteArrayOutputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Random;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -51,6 +56,25 @@ class GossipEventTest {
         assertEquals(gossipEvent, copy, "deserialized version should be the same");
     }
 
+    @Test
+    void serializedDataMatchesSerialization() throws IOException {
+        final IndexedEvent indexedEvent = RandomEventUtils.randomEvent(new Random(), new NodeId(0), null, null);
+        final GossipEvent gossipEvent =
+                new GossipEvent(indexedEvent.getBaseEventHashedData(), indexedEvent.getBaseEventUnhashedData());
+        gossipEvent.setRoundCreated(42);
+
+        final ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+        try (final SerializableDataOutputStream out = new SerializableDataOutputStream(byteStream)) {
+            out.writeSerializable(gossipEvent, false);
+        }
+        final byte[] serialized = byteStream.toByteArray();
+
+        // the serialized form is: version, hashed and unhashed data, round created
+        final byte[] expected = Arrays.copyOfRange(serialized, Integer.BYTES, serialized.length - Long.BYTES);
+        assertArrayEquals(expected, gossipEvent.getSerializedData());
+        assertSame(gossipEvent.getSerializedData(), gossipEvent.getSerializedData(), "data should be cached");
+    }
+
     @Test
     void validateEqualsHashCode() {
         assertTrue(EqualsVerifier.verify(EqualsVerifier::randomGossipEvent));
@@ -30,10 +30,13 @@ import com.swirlds.common.constructable.ConstructableRegistryException;
 import com.swirlds.common.io.IOIterator;
 import com.swirlds.common.io.utility.FileUtils;
 import com.swirlds.common.test.fixtures.RandomUtils;
+import com.swirlds.common.threading.manager.AdHocThreadManager;
 import com.swirlds.platform.event.GossipEvent;
 import com.swirlds.platform.event.preconsensus.PreconsensusEventFile;
+import com.swirlds.platform.event.preconsensus.PreconsensusEventFileIndex;
 import com.swirlds.platform.event.preconsensus.PreconsensusEventFileIterator;
 import com.swirlds.platform.event.preconsensus.PreconsensusEventMutableFile;
+import com.swirlds.platform.event.preconsensus.PreconsensusEventReadAheadIterator;
 import com.swirlds.platform.internal.EventImpl;
 import com.swirlds.platform.test.fixtures.event.generator.StandardGraphGenerator;
 import com.swirlds.platform.test.fixtures.event.source.StandardEventSource;
@@ -523,6 +526,62 @@ class PreconsensusEventReadWriteTests {
         }
     }
 
+    @Test
+    @DisplayName("Span Compression Without Index Test")
+    void spanCompressionWithoutIndexTest() throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed(0);
+
+        final StandardGraphGenerator generator = new StandardGraphGenerator(
+                random.nextLong(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource());
+
+        final List<EventImpl> events = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            events.add(generator.generateEvent());
+        }
+
+        long minimumGeneration = Long.MAX_VALUE;
+        long maximumGeneration = Long.MIN_VALUE;
+        for (final EventImpl event : events) {
+            minimumGeneration = Math.min(minimumGeneration, event.getGeneration());
+            maximumGeneration = Math.max(maximumGeneration, event.getGeneration());
+        }
+
+        final PreconsensusEventFile file = PreconsensusEventFile.of(
+                RandomUtils.randomInstant(random),
+                random.nextInt(0, 100),
+                minimumGeneration,
+                maximumGeneration + random.nextInt(1, 10),
+                0,
+                testDirectory);
+
+        final PreconsensusEventMutableFile mutableFile = file.getMutableFile();
+        for (final EventImpl event : events) {
+            mutableFile.writeEvent(event.getBaseEvent());
+        }
+        mutableFile.close();
+
+        // The index is optional, a missing index must not prevent the file from being compressed
+        Files.delete(PreconsensusEventFileIndex.getIndexPath(file.getPath()));
+        final PreconsensusEventFile compressedFile = mutableFile.compressGenerationalSpan(0);
+
+        assertEquals(maximumGeneration, compressedFile.getMaximumGeneration());
+        assertTrue(Files.exists(compressedFile.getPath()));
+        assertFalse(Files.exists(file.getPath()));
+        assertFalse(Files.exists(PreconsensusEventFileIndex.getIndexPath(compressedFile.getPath())));
+
+        final IOIterator<GossipEvent> iterator = compressedFile.iterator(Long.MIN_VALUE);
+        final List<GossipEvent> deserializedEvents = new ArrayList<>();
+        iterator.forEachRemaining(deserializedEvents::add);
+        assertEquals(events.size(), deserializedEvents.size());
+        for (int i = 0; i < events.size(); i++) {
+            assertEventsAreEqual(events.get(i), deserializedEvents.get(i));
+        }
+    }
+
     @Test
     @DisplayName("Empty File Test")
     void emptyFileTest() throws IOException {
@@ -538,4 +597,121 @@ class PreconsensusEventReadWriteTests {
         assertFalse(iterator.hasNext());
         assertThrows(NoSuchElementException.class, iterator::next);
     }
+
+    @Test
+    @DisplayName("Indexed Read Test")
+    void indexedReadTest() throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+
+        final int numEvents = 100;
+
+        final StandardGraphGenerator generator = new StandardGraphGenerator(
+                random.nextLong(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource());
+
+        final List<EventImpl> events = new ArrayList<>();
+        for (int i = 0; i < numEvents; i++) {
+            events.add(generator.generateEvent());
+        }
+
+        long maximumGeneration = Long.MIN_VALUE;
+        for (final EventImpl event : events) {
+            maximumGeneration = Math.max(maximumGeneration, event.getGeneration());
+        }
+
+        final long middle = maximumGeneration / 2;
+
+        final PreconsensusEventFile file = PreconsensusEventFile.of(
+                RandomUtils.randomInstant(random), random.nextInt(0, 100), 0, maximumGeneration, 0, testDirectory);
+
+        final PreconsensusEventMutableFile mutableFile = file.getMutableFile();
+        for (final EventImpl event : events) {
+            mutableFile.writeEvent(event.getBaseEvent());
+        }
+        mutableFile.close();
+
+        final Path indexPath = PreconsensusEventFileIndex.getIndexPath(file.getPath());
+        assertTrue(Files.exists(indexPath));
+
+        // The index should allow the reader to skip at least the first event.
+        final long seekOffset = PreconsensusEventFileIndex.findSeekOffset(file.getPath(), middle);
+        assertTrue(seekOffset > Integer.BYTES);
+        assertTrue(seekOffset < Files.size(file.getPath()));
+
+        final List<GossipEvent> indexedEvents = new ArrayList<>();
+        file.iterator(middle).forEachRemaining(indexedEvents::add);
+
+        // Reading without an index must produce exactly the same events.
+        Files.delete(indexPath);
+        assertEquals(
+                PreconsensusEventFileIndex.NO_SEEK_OFFSET,
+                PreconsensusEventFileIndex.findSeekOffset(file.getPath(), middle));
+        final List<GossipEvent> unindexedEvents = new ArrayList<>();
+        file.iterator(middle).forEachRemaining(unindexedEvents::add);
+
+        assertFalse(indexedEvents.isEmpty());
+        assertEquals(unindexedEvents.size(), indexedEvents.size());
+        for (int i = 0; i < unindexedEvents.size(); i++) {
+            assertEquals(unindexedEvents.get(i), indexedEvents.get(i));
+            assertTrue(indexedEvents.get(i).getGeneration() >= middle);
+        }
+    }
+
+    @Test
+    @DisplayName("Read Ahead Iterator Test")
+    void readAheadIteratorTest() throws IOException {
+        final Random random = RandomUtils.getRandomPrintSeed();
+
+        final int fileCount = 10;
+        final int eventsPerFile = 50;
+
+        final StandardGraphGenerator generator = new StandardGraphGenerator(
+                random.nextLong(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource(),
+                new StandardEventSource());
+
+        final List<EventImpl> events = new ArrayList<>();
+        final List<PreconsensusEventFile> files = new ArrayList<>();
+        final Instant start = RandomUtils.randomInstant(random);
+        for (int fileIndex = 0; fileIndex < fileCount; fileIndex++) {
+            final List<EventImpl> fileEvents = new ArrayList<>();
+            long minimumGeneration = Long.MAX_VALUE;
+            long maximumGeneration = Long.MIN_VALUE;
+            for (int i = 0; i < eventsPerFile; i++) {
+                final EventImpl event = generator.generateEvent();
+                fileEvents.add(event);
+                minimumGeneration = Math.min(minimumGeneration, event.getGeneration());
+                maximumGeneration = Math.max(maximumGeneration, event.getGeneration());
+            }
+
+            final PreconsensusEventFile file = PreconsensusEventFile.of(
+                    start.plusSeconds(fileIndex), fileIndex, minimumGeneration, maximumGeneration, 0, testDirectory);
+            final PreconsensusEventMutableFile mutableFile = file.getMutableFile();
+            for (final EventImpl event : fileEvents) {
+                mutableFile.writeEvent(event.getBaseEvent());
+            }
+            mutableFile.close();
+
+            files.add(file);
+            events.addAll(fileEvents);
+        }
+
+        final List<GossipEvent> deserializedEvents = new ArrayList<>();
+        try (final PreconsensusEventReadAheadIterator iterator = new PreconsensusEventReadAheadIterator(
+                AdHocThreadManager.getStaticThreadManager(), Long.MIN_VALUE, files.iterator(), 3, 1024)) {
+            iterator.forEachRemaining(deserializedEvents::add);
+            assertEquals(0, iterator.getTruncatedFileCount());
+            assertThrows(NoSuchElementException.class, iterator::next);
+        }
+
+        assertEquals(events.size(), deserializedEvents.size());
+        for (int i = 0; i < events.size(); i++) {
+            assertEventsAreEqual(events.get(i), deserializedEvents.get(i));
+        }
+    }
 }
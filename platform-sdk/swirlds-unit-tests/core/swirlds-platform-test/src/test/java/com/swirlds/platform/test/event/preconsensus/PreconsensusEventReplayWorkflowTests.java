@@ -25,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
@@ -37,7 +38,7 @@ import com.swirlds.common.threading.manager.AdHocThreadManager;
 import com.swirlds.platform.components.state.StateManagementComponent;
 import com.swirlds.platform.event.GossipEvent;
 import com.swirlds.platform.event.preconsensus.PreconsensusEventFileManager;
-import com.swirlds.platform.event.preconsensus.PreconsensusEventMultiFileIterator;
+import com.swirlds.platform.event.preconsensus.PreconsensusEventReadAheadIterator;
 import com.swirlds.platform.event.preconsensus.PreconsensusEventWriter;
 import com.swirlds.platform.event.validation.EventValidator;
 import com.swirlds.platform.eventhandling.ConsensusRoundHandler;
@@ -85,12 +86,13 @@ class PreconsensusEventReplayWorkflowTests {
         final Iterator<GossipEvent> eventIterator = events.iterator();
 
         final PreconsensusEventFileManager preconsensusEventFileManager = mock(PreconsensusEventFileManager.class);
-        when(preconsensusEventFileManager.getEventIterator(anyLong())).thenAnswer(invocation -> {
-            final PreconsensusEventMultiFileIterator it = mock(PreconsensusEventMultiFileIterator.class);
-            when(it.hasNext()).thenAnswer(invocation2 -> eventIterator.hasNext());
-            when(it.next()).thenAnswer(invocation2 -> eventIterator.next());
-            return it;
-        });
+        when(preconsensusEventFileManager.getReadAheadEventIterator(anyLong(), any(), anyInt(), anyInt()))
+                .thenAnswer(invocation -> {
+                    final PreconsensusEventReadAheadIterator it = mock(PreconsensusEventReadAheadIterator.class);
+                    when(it.hasNext()).thenAnswer(invocation2 -> eventIterator.hasNext());
+                    when(it.next()).thenAnswer(invocation2 -> eventIterator.next());
+                    return it;
+                });
 
         final EventValidator eventValidator = mock(EventValidator.class);
         final AtomicInteger nextIndex = new AtomicInteger(0);
@@ -0,0 +1,260 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.test.event.tracing;
+
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.swirlds.base.test.fixtures.time.FakeTime;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.system.NodeId;
+import com.swirlds.common.system.events.BaseEventHashedData;
+import com.swirlds.test.framework.context.TestPlatformContextBuilder;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.platform.event.GossipEvent;
+import com.swirlds.platform.event.tracing.EventFlowTracer;
+import com.swirlds.platform.internal.ConsensusRound;
+import com.swirlds.platform.internal.EventImpl;
+import com.swirlds.test.framework.config.TestConfigBuilder;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("EventFlowTracer Tests")
+class EventFlowTracerTest {
+
+    private static final NodeId SELF_ID = new NodeId(0);
+    private static final Pattern ENTRY =
+            Pattern.compile("\\{\"stage\":\"(\\w+)\",\"creator\":(\\d+),\"generation\":(\\d+),\"timestampNanos\":\\d+}");
+
+    private static EventFlowTracer buildTracer(final FakeTime time, final int sampleRate, final int bufferSize) {
+        return buildTracer(time, sampleRate, bufferSize, Path.of("data/eventTraces"));
+    }
+
+    private static EventFlowTracer buildTracer(
+            final FakeTime time, final int sampleRate, final int bufferSize, final Path dumpDirectory) {
+        final Configuration configuration = new TestConfigBuilder()
+                .withValue("event.tracing.enabled", true)
+                .withValue("event.tracing.sampleRate", sampleRate)
+                .withValue("event.tracing.bufferSize", bufferSize)
+                .withValue("event.tracing.dumpDirectory", dumpDirectory.toString())
+                .getOrCreateConfig();
+        final PlatformContext platformContext =
+                TestPlatformContextBuilder.create().withConfiguration(configuration).build();
+        return new EventFlowTracer(platformContext, getStaticThreadManager(), time, SELF_ID);
+    }
+
+    private static GossipEvent gossipEvent(final long creator, final long generation, final Instant received) {
+        final BaseEventHashedData hashedData = mock(BaseEventHashedData.class);
+        when(hashedData.getCreatorId()).thenReturn(new NodeId(creator));
+        when(hashedData.getTimeCreated()).thenReturn(received.minusMillis(10));
+        final GossipEvent event = mock(GossipEvent.class);
+        when(event.getHashedData()).thenReturn(hashedData);
+        when(event.getGeneration()).thenReturn(generation);
+        when(event.getTimeReceived()).thenReturn(received);
+        return event;
+    }
+
+    private static EventImpl event(final GossipEvent baseEvent, final long roundReceived) {
+        final EventImpl event = mock(EventImpl.class);
+        final NodeId creator = baseEvent.getHashedData().getCreatorId();
+        final long generation = baseEvent.getGeneration();
+        when(event.getBaseEvent()).thenReturn(baseEvent);
+        when(event.getCreatorId()).thenReturn(creator);
+        when(event.getGeneration()).thenReturn(generation);
+        when(event.getRoundReceived()).thenReturn(roundReceived);
+        return event;
+    }
+
+    private static List<String> stages(final EventFlowTracer tracer) throws IOException {
+        final StringWriter writer = new StringWriter();
+        tracer.writeJson(writer);
+        final Matcher matcher = ENTRY.matcher(writer.toString());
+        return matcher.results().map(result -> result.group(1)).toList();
+    }
+
+    @Test
+    @DisplayName("Sampled event is stamped at every stage")
+    void fullPipelineTest() throws IOException {
+        final FakeTime time = new FakeTime(Duration.ofMillis(1));
+        final EventFlowTracer tracer = buildTracer(time, 1, 64);
+
+        final GossipEvent gossipEvent = gossipEvent(1, 10, time.now());
+        final EventImpl event = event(gossipEvent, 5);
+        final ConsensusRound round = mock(ConsensusRound.class);
+        when(round.getConsensusEvents()).thenReturn(List.of(event));
+
+        tracer.receivedEvent(gossipEvent);
+        tracer.preConsensusEvent(event);
+        tracer.eventAdded(event);
+        tracer.consensusRound(round);
+        tracer.roundHandled(4);
+        assertFalse(stages(tracer).contains("HANDLED"), "the event's round has not been handled yet");
+        tracer.roundHandled(5);
+
+        assertEquals(
+                List.of("CREATED", "RECEIVED", "VALIDATED", "PRE_CONSENSUS", "ADDED", "CONSENSUS", "HANDLED"),
+                stages(tracer));
+    }
+
+    @Test
+    @DisplayName("Self events have no creation stage")
+    void selfEventTest() throws IOException {
+        final FakeTime time = new FakeTime();
+        final EventFlowTracer tracer = buildTracer(time, 1, 64);
+
+        tracer.receivedEvent(gossipEvent(SELF_ID.id(), 1, time.now()));
+
+        assertEquals(List.of("RECEIVED", "VALIDATED"), stages(tracer));
+    }
+
+    @Test
+    @DisplayName("Only sampled generations are traced")
+    void samplingTest() throws IOException {
+        final FakeTime time = new FakeTime();
+        final EventFlowTracer tracer = buildTracer(time, 4, 64);
+
+        for (long generation = 0; generation < 8; generation++) {
+            tracer.eventAdded(event(gossipEvent(1, generation, time.now()), 0));
+        }
+
+        final StringWriter writer = new StringWriter();
+        tracer.writeJson(writer);
+        final List<String> generations = ENTRY.matcher(writer.toString())
+                .results()
+                .map(result -> result.group(3))
+                .toList();
+        assertEquals(List.of("0", "4"), generations);
+        assertTrue(tracer.isSampled(8));
+        assertFalse(tracer.isSampled(9));
+    }
+
+    @Test
+    @DisplayName("Oldest entries are overwritten when the buffer is full")
+    void wrapAroundTest() throws IOException {
+        final FakeTime time = new FakeTime();
+        final EventFlowTracer tracer = buildTracer(time, 1, 4);
+
+        for (long generation = 0; generation < 10; generation++) {
+            tracer.eventAdded(event(gossipEvent(1, generation, time.now()), 0));
+        }
+
+        final StringWriter writer = new StringWriter();
+        tracer.writeJson(writer);
+        final List<String> generations = ENTRY.matcher(writer.toString())
+                .results()
+                .map(result -> result.group(3))
+                .toList();
+        assertEquals(List.of("6", "7", "8", "9"), generations);
+    }
+
+    @Test
+    @DisplayName("Clearing forgets events waiting to be handled")
+    void clearTest() throws IOException {
+        final FakeTime time = new FakeTime();
+        final EventFlowTracer tracer = buildTracer(time, 1, 64);
+
+        final EventImpl event = event(gossipEvent(1, 3, time.now()), 2);
+        final ConsensusRound round = mock(ConsensusRound.class);
+        when(round.getConsensusEvents()).thenReturn(List.of(event));
+
+        tracer.consensusRound(round);
+        tracer.clear();
+        tracer.roundHandled(2);
+
+        assertEquals(List.of("CONSENSUS"), stages(tracer));
+    }
+
+    @Test
+    @DisplayName("Transactions are traced into sampled self events")
+    void selfEventTransactionsTest() throws IOException {
+        final FakeTime time = new FakeTime();
+        final EventFlowTracer tracer = buildTracer(time, 2, 64);
+
+        // an event without transactions is not stamped
+        tracer.selfEventCreated(gossipEvent(SELF_ID.id(), 2, time.now()));
+        assertEquals(List.of(), stages(tracer));
+
+        // an event that is not sampled is not stamped, and does not keep the transactions for the next event
+        tracer.transactionsTaken(Duration.ofMillis(5).toNanos());
+        tracer.selfEventCreated(gossipEvent(SELF_ID.id(), 3, time.now()));
+        tracer.selfEventCreated(gossipEvent(SELF_ID.id(), 4, time.now()));
+        assertEquals(List.of(), stages(tracer));
+
+        tracer.transactionsTaken(Duration.ofMillis(5).toNanos());
+        time.tick(Duration.ofMillis(1));
+        tracer.selfEventCreated(gossipEvent(SELF_ID.id(), 6, time.now()));
+
+        final StringWriter writer = new StringWriter();
+        tracer.writeJson(writer);
+        final List<Long> timestamps = Pattern.compile("\"timestampNanos\":(\\d+)")
+                .matcher(writer.toString())
+                .results()
+                .map(result -> Long.parseLong(result.group(1)))
+                .toList();
+        assertEquals(List.of("TRANSACTION_SUBMITTED", "SELF_EVENT_CREATED"), stages(tracer));
+        assertEquals(
+                Duration.ofMillis(6).toNanos(),
+                timestamps.get(1) - timestamps.get(0),
+                "the oldest transaction was submitted 5ms before it was taken and 6ms before the event was created");
+    }
+
+    @Test
+    @DisplayName("A dump request file triggers a dump")
+    void dumpRequestTest(@TempDir final Path dumpDirectory) throws IOException {
+        final FakeTime time = new FakeTime();
+        final EventFlowTracer tracer = buildTracer(time, 1, 64, dumpDirectory);
+        tracer.eventAdded(event(gossipEvent(1, 1, time.now()), 0));
+
+        tracer.dumpIfDue();
+        assertEquals(List.of(), listFiles(dumpDirectory), "nothing is dumped without a request");
+
+        final Path request = dumpDirectory.resolve(EventFlowTracer.DUMP_REQUEST_FILE_NAME);
+        Files.createFile(request);
+        tracer.dumpIfDue();
+
+        assertFalse(Files.exists(request), "the request should be consumed");
+        final List<Path> dumps = listFiles(dumpDirectory);
+        assertEquals(1, dumps.size(), "exactly one dump should be written");
+        final String json = Files.readString(dumps.get(0));
+        assertTrue(json.contains("\"stage\":\"ADDED\""), "the dump should contain the trace");
+
+        time.tick(Duration.ofSeconds(1));
+        tracer.dumpIfDue();
+        assertEquals(dumps, listFiles(dumpDirectory), "a request is only served once");
+    }
+
+    private static List<Path> listFiles(final Path directory) throws IOException {
+        try (final Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.platform.test.network;
+
+import static com.swirlds.common.test.fixtures.RandomUtils.getRandomPrintSeed;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.swirlds.common.system.NodeId;
+import com.swirlds.platform.event.GossipEvent;
+import com.swirlds.platform.gossip.sync.SyncInputStream;
+import com.swirlds.platform.gossip.sync.SyncOutputStream;
+import com.swirlds.platform.network.EventCompressor;
+import com.swirlds.platform.network.EventDecompressor;
+import com.swirlds.platform.network.NetworkMetrics;
+import com.swirlds.platform.test.fixtures.event.IndexedEvent;
+import com.swirlds.platform.test.fixtures.event.RandomEventUtils;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.zip.Deflater;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EventCompressorTest {
+
+    @Test
+    @DisplayName("Compressed Frames Round Trip")
+    void compressedFramesRoundTrip() throws IOException {
+        final Random random = getRandomPrintSeed();
+        final NetworkMetrics networkMetrics = mock(NetworkMetrics.class);
+        final EventCompressor compressor = new EventCompressor(Deflater.BEST_SPEED, 64, networkMetrics);
+        final EventDecompressor decompressor = new EventDecompressor(null);
+
+        // repetitive data compresses, random data does not, and tiny data is never compressed
+        final byte[] repetitive = new byte[100_000];
+        for (int i = 0; i < repetitive.length; i++) {
+            repetitive[i] = (byte) (i % 7);
+        }
+        final byte[] randomData = new byte[10_000];
+        random.nextBytes(randomData);
+        final byte[] tiny = new byte[] {1, 2, 3};
+        final byte[][] frames = {repetitive, randomData, tiny, new byte[0], repetitive};
+
+        final ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(byteOut);
+        for (final byte[] frame : frames) {
+            compressor.writeFrame(out, frame);
+        }
+        out.flush();
+        compressor.close();
+
+        final int uncompressedSize = 2 * repetitive.length + randomData.length + tiny.length;
+        assertTrue(byteOut.size() < uncompressedSize, "repetitive data should have been compressed");
+        // frames too small to be compressed must count towards the compression ratio as well
+        verify(networkMetrics, times(3)).recordEventCompression(anyInt(), anyInt(), anyLong());
+        verify(networkMetrics, times(2)).recordSkippedEventCompression();
+
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(byteOut.toByteArray()));
+        for (final byte[] frame : frames) {
+            assertArrayEquals(frame, decompressor.readFrame(in), "frame should match the data that was written");
+        }
+        decompressor.close();
+    }
+
+    @Test
+    @DisplayName("Compressed Events Are Cached")
+    void compressedEventsAreCached() throws IOException {
+        final IndexedEvent indexedEvent = RandomEventUtils.randomEvent(new Random(), new NodeId(0), null, null);
+        final GossipEvent event =
+                new GossipEvent(indexedEvent.getBaseEventHashedData(), indexedEvent.getBaseEventUnhashedData());
+        final NetworkMetrics networkMetrics = mock(NetworkMetrics.class);
+
+        final ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        final SyncOutputStream syncOut = SyncOutputStream.createSyncOutputStream(byteOut, 1024);
+        syncOut.setEventCompressor(new EventCompressor(Deflater.BEST_SPEED, 0, networkMetrics));
+        syncOut.writeCompressedEventData(event);
+        // the round created is set after the frame was cached, it must still be sent
+        event.setRoundCreated(7);
+        syncOut.writeCompressedEventData(event);
+        syncOut.close();
+
+        try (final EventCompressor otherCompressor = new EventCompressor(Deflater.BEST_SPEED, 0, networkMetrics)) {
+            assertSame(
+                    event.getCompressedFrame(otherCompressor),
+                    event.getCompressedFrame(otherCompressor),
+                    "the frame should be cached");
+        }
+        verify(networkMetrics, times(1)).recordEventCompression(anyInt(), anyInt(), anyLong());
+
+        final SyncInputStream syncIn =
+                SyncInputStream.createSyncInputStream(new ByteArrayInputStream(byteOut.toByteArray()), 1024);
+        syncIn.setEventDecompressor(new EventDecompressor(null));
+        final GossipEvent first = syncIn.readEventData();
+        final GossipEvent second = syncIn.readEventData();
+        syncIn.close();
+
+        assertEquals(event.getHashedData(), first.getHashedData(), "hashed data should match");
+        assertEquals(event.getUnhashedData(), first.getUnhashedData(), "unhashed data should match");
+        assertFalse(first.isRoundCreatedSet(), "the round created was not set when the first copy was written");
+        assertEquals(event.getHashedData(), second.getHashedData(), "hashed data should match");
+        assertEquals(7, second.getRoundCreated(), "the round created should be sent with the cached frame");
+    }
+
+    @Test
+    @DisplayName("Sync Streams Release Compression Resources")
+    void syncStreamsReleaseCompressionResources() throws IOException {
+        final byte[] repetitive = new byte[1000];
+        final DataOutputStream out = new DataOutputStream(new ByteArrayOutputStream());
+        final ByteArrayOutputStream frameBytes = new ByteArrayOutputStream();
+        try (final EventCompressor frameCompressor = new EventCompressor(Deflater.BEST_SPEED, 64, null)) {
+            frameCompressor.writeFrame(new DataOutputStream(frameBytes), repetitive);
+        }
+
+        final SyncOutputStream syncOut = SyncOutputStream.createSyncOutputStream(new ByteArrayOutputStream(), 1024);
+        final EventCompressor replaced = new EventCompressor(Deflater.BEST_SPEED, 64, null);
+        final EventCompressor compressor = new EventCompressor(Deflater.BEST_SPEED, 64, null);
+        syncOut.setEventCompressor(replaced);
+        syncOut.setEventCompressor(compressor);
+        assertThrows(
+                NullPointerException.class,
+                () -> replaced.writeFrame(out, repetitive),
+                "a replaced compressor should have been closed");
+        compressor.writeFrame(out, repetitive);
+        syncOut.close();
+        assertThrows(
+                NullPointerException.class,
+                () -> compressor.writeFrame(out, repetitive),
+                "the compressor should have been closed with the stream");
+
+        final SyncInputStream syncIn =
+                SyncInputStream.createSyncInputStream(new ByteArrayInputStream(new byte[0]), 1024);
+        final EventDecompressor decompressor = new EventDecompressor(null);
+        syncIn.setEventDecompressor(decompressor);
+        syncIn.close();
+        assertThrows(
+                NullPointerException.class,
+                () -> decompressor.readFrame(
+                        new DataInputStream(new ByteArrayInputStream(frameBytes.toByteArray()))),
+                "the decompressor should have been closed with the stream");
+    }
+
+    @Test
+    @DisplayName("Malformed Frame Test")
+    void malformedFrameTest() throws IOException {
+        final EventDecompressor decompressor = new EventDecompressor(null);
+
+        final ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(byteOut);
+        out.writeInt(1000);
+        out.writeInt(4);
+        out.writeInt(0xDEADBEEF);
+        out.writeInt(-5);
+        out.writeInt(EventCompressor.STORED);
+        out.flush();
+
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(byteOut.toByteArray()));
+        assertThrows(IOException.class, () -> decompressor.readFrame(in), "garbage data should not decompress");
+        assertThrows(IOException.class, () -> decompressor.readFrame(in), "negative lengths should be rejected");
+        decompressor.close();
+    }
+}
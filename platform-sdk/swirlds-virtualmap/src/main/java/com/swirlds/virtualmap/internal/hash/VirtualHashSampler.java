@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap.internal.hash;
+
+import static com.swirlds.virtualmap.internal.Path.ROOT_PATH;
+import static com.swirlds.virtualmap.internal.Path.getLeftChildPath;
+import static com.swirlds.virtualmap.internal.Path.getRightChildPath;
+
+import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.common.crypto.CryptographyHolder;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.crypto.HashBuilder;
+import com.swirlds.virtualmap.VirtualKey;
+import com.swirlds.virtualmap.VirtualValue;
+import com.swirlds.virtualmap.datasource.VirtualDataSource;
+import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
+import com.swirlds.virtualmap.internal.merkle.VirtualInternalNode;
+import com.swirlds.virtualmap.internal.merkle.VirtualRootNode;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Spot-checks the hashes persisted in a {@link VirtualDataSource}. Rehashing a large virtual map takes a long time, so
+ * after loading a state the persisted hashes are trusted. This class recomputes the hash of a random sample of paths
+ * from the persisted hashes of their children (or, for leaves, from the persisted leaf record) and counts how many of
+ * them do not match, which catches corrupted or inconsistent data at a cost proportional to the sample size.
+ */
+public final class VirtualHashSampler {
+
+    private static final Cryptography CRYPTO = CryptographyHolder.get();
+
+    private VirtualHashSampler() {}
+
+    /**
+     * Check the persisted hashes of a random sample of paths. If the sample is at least as large as the tree, every
+     * path is checked exactly once instead.
+     *
+     * @param dataSource the data source to check
+     * @param sampleSize the number of paths to check
+     * @param random     the source of randomness used to choose the paths
+     * @return the number of sampled paths whose persisted hash is missing or does not match the recomputed hash
+     * @throws IOException if the data source can not be read
+     */
+    public static <K extends VirtualKey, V extends VirtualValue> int countMismatches(
+            @NonNull final VirtualDataSource<K, V> dataSource, final int sampleSize, @NonNull final Random random)
+            throws IOException {
+        Objects.requireNonNull(dataSource, "dataSource must not be null");
+        Objects.requireNonNull(random, "random must not be null");
+
+        final long firstLeafPath = dataSource.getFirstLeafPath();
+        final long lastLeafPath = dataSource.getLastLeafPath();
+        if (firstLeafPath < 0 || lastLeafPath < 0) {
+            // an empty map has nothing to check
+            return 0;
+        }
+
+        final HashBuilder builder = new HashBuilder(Cryptography.DEFAULT_DIGEST_TYPE);
+        int mismatches = 0;
+        if (sampleSize > lastLeafPath) {
+            for (long path = ROOT_PATH; path <= lastLeafPath; path++) {
+                if (isMismatch(dataSource, path, firstLeafPath, lastLeafPath, builder)) {
+                    mismatches++;
+                }
+            }
+            return mismatches;
+        }
+        for (int i = 0; i < sampleSize; i++) {
+            final long path = (long) (random.nextDouble() * (lastLeafPath + 1));
+            if (isMismatch(dataSource, path, firstLeafPath, lastLeafPath, builder)) {
+                mismatches++;
+            }
+        }
+        return mismatches;
+    }
+
+    private static <K extends VirtualKey, V extends VirtualValue> boolean isMismatch(
+            final VirtualDataSource<K, V> dataSource,
+            final long path,
+            final long firstLeafPath,
+            final long lastLeafPath,
+            final HashBuilder builder)
+            throws IOException {
+        final Hash persisted = dataSource.loadHash(path);
+        final Hash recomputed = path >= firstLeafPath
+                ? hashLeaf(dataSource, path)
+                : hashInternal(dataSource, path, lastLeafPath, builder);
+        return persisted == null || !persisted.equals(recomputed);
+    }
+
+    private static <K extends VirtualKey, V extends VirtualValue> Hash hashLeaf(
+            final VirtualDataSource<K, V> dataSource, final long path) throws IOException {
+        final VirtualLeafRecord<K, V> leaf = dataSource.loadLeafRecord(path);
+        return leaf == null ? null : CRYPTO.digestSync(leaf);
+    }
+
+    /**
+     * Hash an internal node the same way as {@link HashJob}.
+     */
+    private static <K extends VirtualKey, V extends VirtualValue> Hash hashInternal(
+            final VirtualDataSource<K, V> dataSource,
+            final long path,
+            final long lastLeafPath,
+            final HashBuilder builder)
+            throws IOException {
+        final Hash left = loadChildHash(dataSource, getLeftChildPath(path), lastLeafPath);
+        final Hash right = loadChildHash(dataSource, getRightChildPath(path), lastLeafPath);
+
+        final long classId = path == ROOT_PATH ? VirtualRootNode.CLASS_ID : VirtualInternalNode.CLASS_ID;
+        final int serId = path == ROOT_PATH
+                ? VirtualRootNode.ClassVersion.CURRENT_VERSION
+                : VirtualInternalNode.SERIALIZATION_VERSION;
+
+        builder.reset();
+        builder.update(classId);
+        builder.update(serId);
+        builder.update(left);
+        builder.update(right);
+        return builder.build();
+    }
+
+    private static <K extends VirtualKey, V extends VirtualValue> Hash loadChildHash(
+            final VirtualDataSource<K, V> dataSource, final long childPath, final long lastLeafPath)
+            throws IOException {
+        final Hash hash = childPath > lastLeafPath ? null : dataSource.loadHash(childPath);
+        return hash == null ? CRYPTO.getNullHash() : hash;
+    }
+}
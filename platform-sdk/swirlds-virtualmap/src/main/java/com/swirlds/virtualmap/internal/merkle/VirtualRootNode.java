@@ -69,6 +69,7 @@ import com.swirlds.virtualmap.internal.RecordAccessor;
 import com.swirlds.virtualmap.internal.VirtualStateAccessor;
 import com.swirlds.virtualmap.internal.cache.VirtualNodeCache;
 import com.swirlds.virtualmap.internal.hash.VirtualHashListener;
+import com.swirlds.virtualmap.internal.hash.VirtualHashSampler;
 import com.swirlds.virtualmap.internal.hash.VirtualHasher;
 import com.swirlds.virtualmap.internal.pipeline.VirtualPipeline;
 import com.swirlds.virtualmap.internal.pipeline.VirtualRoot;
@@ -84,6 +85,7 @@ import java.io.UncheckedIOException;
 import java.nio.channels.ClosedByInterruptException;
 import java.nio.file.Path;
 import java.util.Objects;
+import java.util.Random;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -414,6 +416,23 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
         pipeline.registerCopy(this);
     }
 
+    /**
+     * Spot-check the hashes persisted in the data source of this map, see {@link VirtualHashSampler}. Only meaningful
+     * while all data of this copy is in the data source, e.g. right after the map was loaded from disk.
+     *
+     * @param sampleSize the number of random paths to check
+     * @param random     the source of randomness used to choose the paths
+     * @return the number of sampled paths with a missing or mismatched hash
+     */
+    public int countSampledHashMismatches(final int sampleSize, @NonNull final Random random) {
+        Objects.requireNonNull(dataSource, "Data source must be initialized before checking hashes");
+        try {
+            return VirtualHashSampler.countMismatches(dataSource, sampleSize, random);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Do a full rehash of the persisted leaves of the map if the leaf hashes are absent. To determine if the leaf hashes
      * are available it checks tries to load a hash by the last leaf path.
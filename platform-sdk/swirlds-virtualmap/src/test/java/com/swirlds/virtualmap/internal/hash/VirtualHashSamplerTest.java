@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.swirlds.virtualmap.internal.hash;
+
+import static com.swirlds.virtualmap.VirtualMapTestUtils.createRoot;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.test.framework.TestComponentTags;
+import com.swirlds.test.framework.TestTypeTags;
+import com.swirlds.virtualmap.TestKey;
+import com.swirlds.virtualmap.TestValue;
+import com.swirlds.virtualmap.VirtualTestBase;
+import com.swirlds.virtualmap.datasource.VirtualDataSource;
+import com.swirlds.virtualmap.datasource.VirtualHashRecord;
+import com.swirlds.virtualmap.internal.Path;
+import com.swirlds.virtualmap.internal.merkle.VirtualRootNode;
+import java.io.IOException;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link VirtualHashSampler}.
+ */
+class VirtualHashSamplerTest extends VirtualTestBase {
+
+    private static final int LEAF_COUNT = 100;
+
+    /**
+     * Create a root with {@link #LEAF_COUNT} leaves whose hashes and leaves are all in the data source.
+     */
+    private static VirtualRootNode<TestKey, TestValue> createFlushedRoot() {
+        final VirtualRootNode<TestKey, TestValue> root = createRoot();
+        root.enableFlush();
+        IntStream.range(0, LEAF_COUNT).forEach(index -> root.put(new TestKey(index), new TestValue(index)));
+        root.setImmutable(true);
+        root.computeHash();
+        root.getCache().seal();
+        root.flush();
+        return root;
+    }
+
+    /**
+     * Overwrite the persisted hash of a single path with a hash that does not match the tree.
+     */
+    private static void corruptHash(final VirtualRootNode<TestKey, TestValue> root, final long path)
+            throws IOException {
+        final VirtualDataSource<TestKey, TestValue> dataSource = root.getDataSource();
+        dataSource.saveRecords(
+                dataSource.getFirstLeafPath(),
+                dataSource.getLastLeafPath(),
+                Stream.of(new VirtualHashRecord(path, new Hash(Cryptography.DEFAULT_DIGEST_TYPE))),
+                Stream.empty(),
+                Stream.empty());
+    }
+
+    /**
+     * The number of paths in the tree of {@link #createFlushedRoot()}, a sample of this size checks every path.
+     */
+    private static int pathCount(final VirtualRootNode<TestKey, TestValue> root) {
+        return (int) root.getDataSource().getLastLeafPath() + 1;
+    }
+
+    @Test
+    @Tag(TestTypeTags.FUNCTIONAL)
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("Hashes of an intact tree all match")
+    void noMismatchesWithoutCorruption() {
+        final VirtualRootNode<TestKey, TestValue> root = createFlushedRoot();
+
+        assertEquals(0, root.countSampledHashMismatches(pathCount(root), new Random(42)), "Every path was checked");
+        assertEquals(0, root.countSampledHashMismatches(20, new Random(42)), "A random sample was checked");
+    }
+
+    @Test
+    @Tag(TestTypeTags.FUNCTIONAL)
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("A single corrupted root hash is found exactly once")
+    void corruptedRootHashIsOneMismatch() throws IOException {
+        final VirtualRootNode<TestKey, TestValue> root = createFlushedRoot();
+        corruptHash(root, Path.ROOT_PATH);
+
+        assertEquals(1, root.countSampledHashMismatches(pathCount(root), new Random(42)), "Only the root is corrupt");
+    }
+
+    @Test
+    @Tag(TestTypeTags.FUNCTIONAL)
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("A corrupted leaf hash does not match its leaf nor the hash of its parent")
+    void corruptedLeafHashIsAlsoAParentMismatch() throws IOException {
+        final VirtualRootNode<TestKey, TestValue> root = createFlushedRoot();
+        corruptHash(root, root.getDataSource().getLastLeafPath());
+
+        // The leaf does not match its record, and its parent does not match the hashes of its children
+        assertEquals(2, root.countSampledHashMismatches(pathCount(root), new Random(42)), "Unexpected mismatches");
+    }
+}